@@ -1,14 +1,21 @@
 package com.my.project.controller;
 
 import com.my.project.dto.UserInfo;
+import com.my.project.dto.UserPageQuery;
 import com.my.project.service.UserService;
+import com.spring.sprout.ExportFormat;
+import com.spring.sprout.Page;
 import com.spring.sprout.global.annotation.Autowired;
+import com.spring.sprout.global.annotation.controller.CacheResponse;
 import com.spring.sprout.global.annotation.controller.Controller;
 import com.spring.sprout.global.annotation.controller.GetMapping;
 import com.spring.sprout.global.annotation.controller.PostMapping;
 import com.spring.sprout.global.annotation.controller.RequestBody;
 import com.spring.sprout.global.annotation.controller.RequestMapping;
-import java.util.List;
+import com.spring.sprout.global.web.JsonStreamingResponse;
+import com.spring.sprout.global.web.StreamingResponse;
+import com.spring.sprout.global.web.VersionedResponse;
+import java.util.stream.Stream;
 import lombok.AllArgsConstructor;
 
 @Controller
@@ -30,7 +37,25 @@ public class UserController {
     }
 
     @GetMapping("/users")
-    public List<UserInfo> findAll() {
-        return userService.findAll();
+    @CacheResponse(ttlSeconds = 5, staleWhileRevalidateSeconds = 30)
+    public VersionedResponse findAll() {
+        return VersionedResponse.of(userService.usersVersion(),
+            () -> JsonStreamingResponse.of(userService::writeAll));
+    }
+
+    @GetMapping(value = "/users/stream", timeoutMillis = 0)
+    public Stream<UserInfo> stream() {
+        return userService.streamAll();
+    }
+
+    @PostMapping("/users/page")
+    public Page<UserInfo> findPage(@RequestBody UserPageQuery query) {
+        return userService.findPage(query.token(), query.size());
+    }
+
+    @GetMapping(value = "/users/export", timeoutMillis = 0)
+    public StreamingResponse export() {
+        return StreamingResponse.of(ExportFormat.JSON_LINES.getContentType(), userService::exportAll)
+            .attachment("users.jsonl");
     }
 }
@@ -0,0 +1,5 @@
+package com.my.project.dto;
+
+public record UserPageQuery(String token, int size) {
+
+}
@@ -1,10 +1,15 @@
 package com.my.project.repository;
 
 import com.my.project.domain.User;
+import com.my.project.dto.UserInfo;
 import com.spring.sprout.JpaRepository;
 import com.spring.sprout.global.annotation.db.Repository;
+import java.util.List;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Integer> {
 
+    UserInfo findInfoById(int id);
+
+    List<UserInfo> findAllBy();
 }
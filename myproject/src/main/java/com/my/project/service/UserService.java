@@ -1,15 +1,19 @@
 package com.my.project.service;
 
-import static java.util.stream.Collectors.toList;
-
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.my.project.domain.User;
 import com.my.project.dto.UserInfo;
 import com.my.project.repository.UserRepository;
+import com.spring.sprout.DataExporter;
+import com.spring.sprout.ExportFormat;
+import com.spring.sprout.JdbcTemplate;
+import com.spring.sprout.Page;
+import com.spring.sprout.PageRequest;
 import com.spring.sprout.global.annotation.Autowired;
 import com.spring.sprout.global.annotation.Service;
 import com.spring.sprout.global.annotation.db.Transactional;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.nio.channels.WritableByteChannel;
+import java.util.stream.Stream;
 
 @Service
 public class UserService {
@@ -17,6 +21,12 @@ public class UserService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private DataExporter dataExporter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Transactional
     public void join(UserInfo userInfo) {
         User user = new User(userInfo.name(), userInfo.age());
@@ -24,13 +34,32 @@ public class UserService {
     }
 
     public UserInfo findInfo(int id) {
-        User user = userRepository.findById(id);
-        UserInfo userInfo = new UserInfo(user.getId(), user.getName(), user.getAge());
-        return userInfo;
+        return userRepository.findInfoById(id);
+    }
+
+    /**
+     * 사용자 목록의 버전. 사용자는 추가만 되므로 건수와 최대 ID가 같으면 목록도 같습니다.
+     */
+    public String usersVersion() {
+        return jdbcTemplate.query("SELECT COUNT(*), MAX(id) FROM users",
+            rs -> rs.getLong(1) + ":" + rs.getLong(2)).getFirst();
+    }
+
+    public void writeAll(JsonGenerator generator) {
+        jdbcTemplate.queryForJson("SELECT id, name, age FROM users", generator);
+    }
+
+    public Page<UserInfo> findPage(String token, int size) {
+        return userRepository.findAll(PageRequest.after(token, size))
+            .map(u -> new UserInfo(u.getId(), u.getName(), u.getAge()));
+    }
+
+    public Stream<UserInfo> streamAll() {
+        return userRepository.streamAll().map(u -> new UserInfo(u.getId(), u.getName(), u.getAge()));
     }
 
-    public List<UserInfo> findAll() {
-        return userRepository.findAll().stream()
-            .map(u -> new UserInfo(u.getId(), u.getName(), u.getAge())).collect(toList());
+    public void exportAll(WritableByteChannel channel) {
+        dataExporter.export("SELECT id, name, age FROM users ORDER BY id", ExportFormat.JSON_LINES,
+            channel);
     }
-}
\ No newline at end of file
+}
@@ -4,9 +4,12 @@ import static com.spring.sprout.global.error.ErrorMessage.NO_BEAN_FOUND_WITH_NAM
 import static com.spring.sprout.global.error.ErrorMessage.NO_BEAN_FOUND_WITH_TYPE;
 import static com.spring.sprout.global.error.ErrorMessage.NO_UNIQUE_BEAN_FOUND_WITH_TYPE;
 
+import com.spring.sprout.AsyncJdbcTemplate;
 import com.spring.sprout.JdbcTemplate;
+import com.spring.sprout.RepositoryContext;
 import com.spring.sprout.bundle.BeanPostProcessor;
 import com.spring.sprout.bundle.beanfactory.support.BeanNameGenerator;
+import com.spring.sprout.data.sharding.ShardRouter;
 import com.spring.sprout.data.support.RepositoryHandler;
 import com.spring.sprout.global.annotation.Autowired;
 import com.spring.sprout.global.annotation.Component;
@@ -37,7 +40,7 @@ import java.util.concurrent.ConcurrentHashMap;
  * <ul>
  * <li><b>의존성 주입 (DI):</b> 생성자 주입 및 필드 주입(@Autowired) 지원</li>
  * <li><b>순환 참조 해결:</b> 객체 생성 후 의존성 주입 전 미리 참조를 노출하는 전략 사용</li>
- * <li><b>자동 프록시 생성:</b> @Repository 인터페이스에 대한 동적 프록시 생성 지원</li>
+ * <li><b>자동 프록시 생성:</b> @Repository 인터페이스에 대한 동적 프록시 생성 지원 (생성된 구현체가 있다면 우선 사용)</li>
  * <li><b>빈 후처리기(BPP):</b> {@link BeanPostProcessor}를 통한 빈 생성 후킹 및 변조 지원</li>
  * <li><b>메타 어노테이션 스캔:</b> @Component를 포함한 커스텀 어노테이션 인식</li>
  * </ul>
@@ -239,7 +242,7 @@ public class DefaultBeanFactory implements BeanFactory {
      * 클래스 정보를 바탕으로 인스턴스를 생성합니다.
      *
      * <ul>
-     * <li>인터페이스인 경우: @Repository가 붙어있다면 동적 프록시 생성</li>
+     * <li>인터페이스인 경우: @Repository가 붙어있다면 컴파일 시점에 생성된 구현체, 없으면 동적 프록시 생성</li>
      * <li>클래스인 경우: 생성자 주입(@Autowired) 또는 기본 생성자 사용</li>
      * </ul>
      */
@@ -288,13 +291,24 @@ public class DefaultBeanFactory implements BeanFactory {
 
     /**
      * JDK Dynamic Proxy를 사용하여 인터페이스 기반의 Repository 구현체를 런타임에 생성합니다. 실제 쿼리 실행은
-     * {@link RepositoryHandler}에게 위임됩니다.
+     * {@link RepositoryHandler}에게 위임되며, 파생 쿼리 메서드의 SQL은 이 시점에 미리 생성됩니다.
+     *
+     * <p>어노테이션 프로세서가 생성한 구현체({@code <인터페이스명>_Impl})가 클래스패스에 있다면 프록시 대신 그 구현체를 사용하고,
+     * 핸들러는 생성된 코드가 처리하지 않는 메서드를 위한 {@link RepositoryContext}로 전달합니다.</p>
      */
-    private Object createRepositoryProxy(Class<?> repositoryInterface) {
+    private Object createRepositoryProxy(Class<?> repositoryInterface) throws Exception {
         JdbcTemplate jdbcTemplate = getBean(JdbcTemplate.class);
+        AsyncJdbcTemplate asyncJdbcTemplate = getBean(AsyncJdbcTemplate.class);
+        ShardRouter shardRouter = getBean(ShardRouter.class);
         Class<?> entityType = extractEntityType(repositoryInterface);
-        RepositoryHandler handler = new RepositoryHandler(jdbcTemplate, entityType);
+        // 파생 쿼리 메서드는 핸들러 생성 시점에 한 번만 해석됨 (잘못된 이름은 여기서 즉시 실패)
+        RepositoryHandler handler = new RepositoryHandler(jdbcTemplate, asyncJdbcTemplate,
+            repositoryInterface, entityType, shardRouter);
 
+        Class<?> generated = findGeneratedRepository(repositoryInterface);
+        if (generated != null) {
+            return generated.getConstructor(RepositoryContext.class).newInstance(handler);
+        }
         return Proxy.newProxyInstance(
             repositoryInterface.getClassLoader(),
             new Class[]{repositoryInterface},
@@ -302,6 +316,29 @@ public class DefaultBeanFactory implements BeanFactory {
         );
     }
 
+    /**
+     * 컴파일 시점에 생성된 리포지토리 구현체를 찾습니다. 중첩 인터페이스는 {@code Outer_Inner_Impl} 이름을 사용합니다.
+     *
+     * @return 생성된 구현 클래스 (없으면 null)
+     */
+    private Class<?> findGeneratedRepository(Class<?> repositoryInterface) {
+        String packageName = repositoryInterface.getPackageName();
+        String simpleName = packageName.isEmpty() ? repositoryInterface.getName()
+            : repositoryInterface.getName().substring(packageName.length() + 1);
+        String implName = (packageName.isEmpty() ? "" : packageName + ".")
+            + simpleName.replace('$', '_') + "_Impl";
+        try {
+            Class<?> generated = Class.forName(implName, true, repositoryInterface.getClassLoader());
+            return repositoryInterface.isAssignableFrom(generated) ? generated : null;
+        } catch (ClassNotFoundException e) {
+            return null;
+        } catch (LinkageError e) {
+            // 엔티티가 바뀐 뒤 다시 컴파일되지 않은 구현체 등은 프록시로 대체
+            System.out.println("⚠️ 생성된 리포지토리를 사용할 수 없어 프록시로 대체합니다: " + implName + " (" + e + ")");
+            return null;
+        }
+    }
+
     /**
      * Repository 인터페이스의 제네릭 선언을 분석하여 엔티티 타입을 추출합니다. 예: interface UserRepository extends
      * JpaRepository<User, Long> -> User.class 반환
@@ -0,0 +1,43 @@
+package com.spring.sprout;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * [비동기 JDBC 작업을 위한 템플릿 인터페이스]
+ *
+ * <p>{@link JdbcTemplate}의 작업을 별도의 (가상) 스레드에서 실행하고, 결과를 {@link CompletableFuture}로 돌려줍니다.
+ * 서로 독립적인 여러 쿼리(예: 대시보드 구성)를 순차 실행하지 않고 동시에 실행한 뒤 결과를 조합할 수 있습니다.</p>
+ *
+ * <p>주의 사항:</p>
+ * <ul>
+ * <li><b>동시성 제한:</b> 동시에 실행되는 쿼리 수는 설정된 상한을 넘지 않으며, 초과분은 대기열에서 순서를 기다립니다.</li>
+ * <li><b>트랜잭션 비참여:</b> 작업은 호출 스레드가 아닌 다른 스레드에서 실행되므로, 호출자의 트랜잭션에 참여하지 않습니다.</li>
+ * </ul>
+ *
+ * @see JdbcTemplate
+ */
+public interface AsyncJdbcTemplate {
+
+    /**
+     * SQL 쿼리를 비동기로 실행하고 결과를 객체 리스트로 매핑하여 반환합니다.
+     *
+     * @param sql   실행할 SQL 쿼리
+     * @param clazz 결과 로우(Row)를 매핑할 대상 클래스 타입
+     * @param args  SQL 바인딩 파라미터 (가변 인자)
+     * @param <T>   매핑할 객체의 제네릭 타입
+     * @return 매핑된 객체 리스트로 완료될 Future
+     */
+    <T> CompletableFuture<List<T>> queryAsync(String sql, Class<T> clazz, Object... args);
+
+    /**
+     * 임의의 SQL 작업을 비동기로 수행합니다.
+     *
+     * @param sql      실행할 SQL 쿼리
+     * @param callback PreparedStatement를 전달받아 실행 로직을 정의하는 콜백
+     * @param args     SQL 바인딩 파라미터
+     * @param <T>      반환할 결과 타입
+     * @return 콜백 실행 결과로 완료될 Future
+     */
+    <T> CompletableFuture<T> executeAsync(String sql, StatementCallback<T> callback, Object... args);
+}
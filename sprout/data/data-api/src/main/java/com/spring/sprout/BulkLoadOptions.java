@@ -0,0 +1,83 @@
+package com.spring.sprout;
+
+/**
+ * [대량 적재 설정]
+ *
+ * <p>{@link BulkLoader#load(java.nio.file.Path, Class, BulkLoadOptions)}에 전달되는 불변 객체입니다.
+ * {@link #defaults()}에서 시작하여 필요한 값만 바꾼 새 객체를 만들어 사용합니다.</p>
+ *
+ * <ul>
+ * <li><b>batchSize:</b> {@code executeBatch} 한 번에 보낼 행 수 (기본 1,000)</li>
+ * <li><b>rowsPerTransaction:</b> 한 트랜잭션으로 커밋할 행 수 (기본 10,000). 배치 실패 시 이 단위로 롤백됩니다.</li>
+ * <li><b>parallelism:</b> 파일을 나누어 동시에 파싱·적재할 구간 수 (기본 CPU 코어 수, 최대 커넥션 수를 넘지 않도록 주의)</li>
+ * <li><b>header:</b> 첫 줄이 컬럼 이름인지 여부 (기본 true). false이면 엔티티 필드 선언 순서로 매핑합니다.</li>
+ * <li><b>delimiter:</b> 필드 구분자 (기본 쉼표)</li>
+ * </ul>
+ *
+ * <p><b>주의:</b> 병렬 적재는 줄바꿈 위치로 파일을 나누므로, 따옴표 안에 줄바꿈이 포함된 파일은 {@code parallelism(1)}로 적재해야 합니다.</p>
+ */
+public final class BulkLoadOptions {
+
+    private final int batchSize;
+    private final int rowsPerTransaction;
+    private final int parallelism;
+    private final boolean header;
+    private final char delimiter;
+
+    private BulkLoadOptions(int batchSize, int rowsPerTransaction, int parallelism, boolean header,
+        char delimiter) {
+        if (batchSize <= 0 || rowsPerTransaction <= 0 || parallelism <= 0) {
+            throw new IllegalArgumentException("배치 크기, 트랜잭션 크기, 병렬도는 1 이상이어야 합니다.");
+        }
+        this.batchSize = batchSize;
+        this.rowsPerTransaction = rowsPerTransaction;
+        this.parallelism = parallelism;
+        this.header = header;
+        this.delimiter = delimiter;
+    }
+
+    public static BulkLoadOptions defaults() {
+        return new BulkLoadOptions(1_000, 10_000, Runtime.getRuntime().availableProcessors(), true,
+            ',');
+    }
+
+    public BulkLoadOptions batchSize(int batchSize) {
+        return new BulkLoadOptions(batchSize, rowsPerTransaction, parallelism, header, delimiter);
+    }
+
+    public BulkLoadOptions rowsPerTransaction(int rowsPerTransaction) {
+        return new BulkLoadOptions(batchSize, rowsPerTransaction, parallelism, header, delimiter);
+    }
+
+    public BulkLoadOptions parallelism(int parallelism) {
+        return new BulkLoadOptions(batchSize, rowsPerTransaction, parallelism, header, delimiter);
+    }
+
+    public BulkLoadOptions header(boolean header) {
+        return new BulkLoadOptions(batchSize, rowsPerTransaction, parallelism, header, delimiter);
+    }
+
+    public BulkLoadOptions delimiter(char delimiter) {
+        return new BulkLoadOptions(batchSize, rowsPerTransaction, parallelism, header, delimiter);
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public int getRowsPerTransaction() {
+        return rowsPerTransaction;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public boolean hasHeader() {
+        return header;
+    }
+
+    public char getDelimiter() {
+        return delimiter;
+    }
+}
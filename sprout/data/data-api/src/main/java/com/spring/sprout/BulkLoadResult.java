@@ -0,0 +1,23 @@
+package com.spring.sprout;
+
+import java.util.List;
+
+/**
+ * [대량 적재 결과]
+ *
+ * @param loadedRows      DB에 반영된 행 수
+ * @param rejectedRows    형식 오류 또는 배치 실패로 거부된 행 수
+ * @param elapsedMillis   전체 소요 시간
+ * @param rejectionSamples 거부 사유 예시 (최대 몇 건만 보관)
+ * @see BulkLoader
+ */
+public record BulkLoadResult(long loadedRows, long rejectedRows, long elapsedMillis,
+                             List<String> rejectionSamples) {
+
+    /**
+     * 초당 적재 행 수를 반환합니다.
+     */
+    public long rowsPerSecond() {
+        return elapsedMillis == 0 ? loadedRows : loadedRows * 1_000 / elapsedMillis;
+    }
+}
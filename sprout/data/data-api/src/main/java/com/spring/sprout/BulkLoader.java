@@ -0,0 +1,42 @@
+package com.spring.sprout;
+
+import java.nio.file.Path;
+
+/**
+ * [대량 적재(Bulk Load) 인터페이스]
+ *
+ * <p>CSV 파일을 엔티티 테이블에 대량으로 적재합니다. 행마다 {@code save}를 호출하는 대신,
+ * 파일을 구간별로 병렬 파싱하고 JDBC 배치와 트랜잭션 단위로 묶어 INSERT합니다.</p>
+ *
+ * <p>사용 예시:</p>
+ * <pre>
+ * BulkLoadResult result = bulkLoader.load(Path.of("users.csv"), User.class,
+ *     BulkLoadOptions.defaults().batchSize(2_000));
+ * </pre>
+ *
+ * @see BulkLoadOptions
+ * @see BulkLoadResult
+ */
+public interface BulkLoader {
+
+    /**
+     * 기본 설정({@link BulkLoadOptions#defaults()})으로 CSV 파일을 적재합니다.
+     *
+     * @param csvFile    적재할 CSV 파일
+     * @param entityType 대상 엔티티 클래스 ({@code @Entity})
+     * @return 적재 결과 (성공/거부 행 수, 처리 속도)
+     */
+    default BulkLoadResult load(Path csvFile, Class<?> entityType) {
+        return load(csvFile, entityType, BulkLoadOptions.defaults());
+    }
+
+    /**
+     * CSV 파일을 엔티티 테이블에 적재합니다. 형식이 잘못된 행은 건너뛰고 거부 행으로 집계합니다.
+     *
+     * @param csvFile    적재할 CSV 파일
+     * @param entityType 대상 엔티티 클래스 ({@code @Entity})
+     * @param options    배치 크기, 트랜잭션 크기, 병렬도 등 적재 설정
+     * @return 적재 결과 (성공/거부 행 수, 처리 속도)
+     */
+    BulkLoadResult load(Path csvFile, Class<?> entityType, BulkLoadOptions options);
+}
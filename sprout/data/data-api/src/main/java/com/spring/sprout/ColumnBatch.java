@@ -0,0 +1,147 @@
+package com.spring.sprout;
+
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * [컬럼 단위 조회 결과]
+ *
+ * <p>조회 결과를 행(객체) 단위가 아닌 컬럼 단위로 담습니다. 숫자 컬럼은 원시 타입 배열({@code int[]}, {@code long[]},
+ * {@code double[]})로, 문자열 컬럼은 사전(Dictionary) 인코딩으로 저장하여 행마다 객체를 만들거나 박싱하지 않습니다.
+ * 합계, 평균 등 집계 위주의 분석 코드에서 할당량을 크게 줄일 수 있습니다.</p>
+ *
+ * <p>사용 예시:</p>
+ * <pre>
+ * ColumnBatch batch = jdbcTemplate.queryColumns("SELECT name, age FROM users");
+ * int[] ages = batch.getInts("age");
+ * </pre>
+ *
+ * <p>각 배열의 길이는 {@link #getRowCount()}와 같습니다. NULL 값은 숫자 컬럼에서 0으로 채워지며 {@link #isNull(String, int)}로
+ * 구분할 수 있고, 문자열 컬럼에서는 코드 {@code -1}로 표현됩니다.</p>
+ *
+ * @see JdbcTemplate#queryColumns(String, Object...)
+ */
+public final class ColumnBatch {
+
+    /**
+     * 컬럼 하나의 데이터
+     */
+    public sealed interface Column permits IntColumn, LongColumn, DoubleColumn, StringColumn {
+
+        String name();
+    }
+
+    public record IntColumn(String name, int[] values, BitSet nulls) implements Column {
+
+    }
+
+    public record LongColumn(String name, long[] values, BitSet nulls) implements Column {
+
+    }
+
+    public record DoubleColumn(String name, double[] values, BitSet nulls) implements Column {
+
+    }
+
+    /**
+     * 사전 인코딩된 문자열 컬럼. {@code dictionary.get(codes[row])}가 실제 값이며, 코드 {@code -1}은 NULL입니다.
+     */
+    public record StringColumn(String name, int[] codes, List<String> dictionary) implements Column {
+
+        public String get(int row) {
+            int code = codes[row];
+            return code < 0 ? null : dictionary.get(code);
+        }
+    }
+
+    private final int rowCount;
+    private final Map<String, Column> columns = new LinkedHashMap<>();
+
+    public ColumnBatch(int rowCount, List<Column> columns) {
+        this.rowCount = rowCount;
+        for (Column column : columns) {
+            this.columns.put(column.name().toLowerCase(), column);
+        }
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * 조회 순서대로 모든 컬럼을 반환합니다.
+     */
+    public List<Column> getColumns() {
+        return List.copyOf(columns.values());
+    }
+
+    /**
+     * 이름으로 컬럼을 조회합니다. 대소문자를 구분하지 않습니다.
+     *
+     * @param name 컬럼 이름 (또는 별칭)
+     * @return 컬럼 데이터
+     * @throws IllegalArgumentException 해당 이름의 컬럼이 없는 경우
+     */
+    public Column getColumn(String name) {
+        Column column = columns.get(name.toLowerCase());
+        if (column == null) {
+            throw new IllegalArgumentException("존재하지 않는 컬럼입니다: " + name);
+        }
+        return column;
+    }
+
+    public int[] getInts(String name) {
+        if (getColumn(name) instanceof IntColumn column) {
+            return column.values();
+        }
+        throw typeMismatch(name, "int");
+    }
+
+    public long[] getLongs(String name) {
+        return switch (getColumn(name)) {
+            case LongColumn column -> column.values();
+            case IntColumn column -> widen(column.values());
+            default -> throw typeMismatch(name, "long");
+        };
+    }
+
+    public double[] getDoubles(String name) {
+        if (getColumn(name) instanceof DoubleColumn column) {
+            return column.values();
+        }
+        throw typeMismatch(name, "double");
+    }
+
+    public StringColumn getStrings(String name) {
+        if (getColumn(name) instanceof StringColumn column) {
+            return column;
+        }
+        throw typeMismatch(name, "문자열");
+    }
+
+    /**
+     * 해당 행의 값이 NULL인지 확인합니다.
+     */
+    public boolean isNull(String name, int row) {
+        return switch (getColumn(name)) {
+            case IntColumn column -> column.nulls().get(row);
+            case LongColumn column -> column.nulls().get(row);
+            case DoubleColumn column -> column.nulls().get(row);
+            case StringColumn column -> column.codes()[row] < 0;
+        };
+    }
+
+    private static long[] widen(int[] values) {
+        long[] widened = new long[values.length];
+        for (int i = 0; i < values.length; i++) {
+            widened[i] = values[i];
+        }
+        return widened;
+    }
+
+    private static IllegalArgumentException typeMismatch(String name, String expected) {
+        return new IllegalArgumentException(name + " 컬럼은 " + expected + " 타입이 아닙니다.");
+    }
+}
@@ -0,0 +1,39 @@
+package com.spring.sprout;
+
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+
+/**
+ * [대량 내보내기 인터페이스]
+ *
+ * <p>조회 결과를 메모리에 모으지 않고 CSV 또는 JSON Lines로 채널에 바로 씁니다.
+ * 전방향(Forward-only) 커서로 한 번에 가져오는 행 수(Fetch Size)만큼만 메모리에 올리므로, 테이블 전체를 내보내도 힙 사용량이 일정합니다.</p>
+ *
+ * <p>컨트롤러에서는 {@code StreamingResponse}와 함께 사용하여 HTTP 응답으로 바로 흘려보낼 수 있습니다.</p>
+ *
+ * @see ExportFormat
+ */
+public interface DataExporter {
+
+    /**
+     * 쿼리를 실행하고 결과를 채널에 씁니다. 채널은 닫지 않습니다.
+     *
+     * @param sql     실행할 SELECT 쿼리
+     * @param format  출력 형식
+     * @param channel 결과를 쓸 채널 (파일, 소켓, HTTP 응답 등)
+     * @param args    SQL 바인딩 파라미터
+     * @return 내보낸 행 수
+     */
+    long export(String sql, ExportFormat format, WritableByteChannel channel, Object... args);
+
+    /**
+     * 쿼리를 실행하고 결과를 파일에 씁니다. 파일이 이미 있으면 덮어씁니다.
+     *
+     * @param sql    실행할 SELECT 쿼리
+     * @param format 출력 형식
+     * @param file   결과를 쓸 파일
+     * @param args   SQL 바인딩 파라미터
+     * @return 내보낸 행 수
+     */
+    long export(String sql, ExportFormat format, Path file, Object... args);
+}
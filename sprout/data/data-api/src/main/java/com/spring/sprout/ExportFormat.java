@@ -0,0 +1,32 @@
+package com.spring.sprout;
+
+/**
+ * [내보내기 형식]
+ *
+ * @see DataExporter
+ */
+public enum ExportFormat {
+
+    /**
+     * 첫 줄에 컬럼 이름을 쓰는 RFC 4180 CSV ({@code text/csv})
+     */
+    CSV("text/csv;charset=UTF-8"),
+
+    /**
+     * 한 줄에 JSON 객체 하나를 쓰는 JSON Lines ({@code application/x-ndjson})
+     */
+    JSON_LINES("application/x-ndjson");
+
+    private final String contentType;
+
+    ExportFormat(String contentType) {
+        this.contentType = contentType;
+    }
+
+    /**
+     * HTTP 응답에 사용할 Content-Type을 반환합니다.
+     */
+    public String getContentType() {
+        return contentType;
+    }
+}
@@ -1,6 +1,8 @@
 package com.spring.sprout;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * [JDBC 작업을 위한 핵심 템플릿 인터페이스]
@@ -28,6 +30,81 @@ public interface JdbcTemplate {
      */
     <T> List<T> query(String sql, Class<T> clazz, Object... args);
 
+    /**
+     * SQL 쿼리를 실행하고 각 행을 주어진 {@link RowMapper}로 변환하여 반환합니다.
+     *
+     * @param sql       실행할 SQL 쿼리
+     * @param rowMapper 행 단위 변환 전략 (미리 준비된 매퍼를 재사용 가능)
+     * @param args      SQL 바인딩 파라미터 (가변 인자)
+     * @param <T>       매핑할 객체의 제네릭 타입
+     * @return 매핑된 객체 리스트 (결과가 없으면 빈 리스트 반환)
+     */
+    <T> List<T> query(String sql, RowMapper<T> rowMapper, Object... args);
+
+    /**
+     * SQL 쿼리를 실행하고 결과를 커서 위의 {@link Stream}으로 반환합니다. 행은 스트림이 소비될 때마다 하나씩 읽고 매핑하므로
+     * 결과 크기와 관계없이 메모리 사용량이 일정합니다.
+     *
+     * <p>반환된 스트림은 ResultSet과 커넥션을 붙잡고 있으므로 반드시 닫아야 합니다. (try-with-resources 권장)
+     * 끝까지 소비해도 자동으로 닫히지 않습니다.</p>
+     *
+     * @param sql       실행할 SQL 쿼리
+     * @param rowMapper 행 단위 변환 전략
+     * @param args      SQL 바인딩 파라미터
+     * @param <T>       매핑할 객체의 제네릭 타입
+     * @return 닫을 때 JDBC 리소스를 해제하는 스트림
+     */
+    <T> Stream<T> queryForStream(String sql, RowMapper<T> rowMapper, Object... args);
+
+    /**
+     * SQL 쿼리를 실행하고 결과를 객체 매핑 없이 JSON 배열로 바로 씁니다. 컬럼 라벨이 필드 이름이 되므로
+     * 응답 필드명은 SQL 별칭({@code SELECT user_name AS name})으로 정합니다.
+     *
+     * <p>요청 기한은 쿼리 실행까지만 적용되며, 행을 쓰는 동안의 시간은 클라이언트 속도에 달려 있으므로 기한에 포함하지 않습니다.</p>
+     *
+     * @param sql       실행할 SQL 쿼리
+     * @param generator 결과를 쓸 JSON 생성기 (배열 하나를 쓰고, 닫지 않음)
+     * @param args      SQL 바인딩 파라미터
+     * @return 쓴 행 수
+     */
+    long queryForJson(String sql, JsonGenerator generator, Object... args);
+
+    /**
+     * SQL 쿼리를 실행하고 첫 번째 컬럼을 {@code int} 배열로 반환합니다. 행마다 객체를 만들지 않으므로 대량 집계에 적합합니다.
+     *
+     * @param sql  실행할 SQL 쿼리 (예: "SELECT age FROM users")
+     * @param args SQL 바인딩 파라미터
+     * @return 첫 번째 컬럼 값 배열 (NULL은 0)
+     */
+    int[] queryForIntArray(String sql, Object... args);
+
+    /**
+     * SQL 쿼리를 실행하고 첫 번째 컬럼을 {@code long} 배열로 반환합니다.
+     *
+     * @param sql  실행할 SQL 쿼리
+     * @param args SQL 바인딩 파라미터
+     * @return 첫 번째 컬럼 값 배열 (NULL은 0)
+     */
+    long[] queryForLongArray(String sql, Object... args);
+
+    /**
+     * SQL 쿼리를 실행하고 첫 번째 컬럼을 {@code double} 배열로 반환합니다.
+     *
+     * @param sql  실행할 SQL 쿼리
+     * @param args SQL 바인딩 파라미터
+     * @return 첫 번째 컬럼 값 배열 (NULL은 0)
+     */
+    double[] queryForDoubleArray(String sql, Object... args);
+
+    /**
+     * SQL 쿼리를 실행하고 결과를 컬럼 단위로 반환합니다. 숫자 컬럼은 원시 타입 배열, 문자열 컬럼은 사전 인코딩으로 저장됩니다.
+     *
+     * @param sql  실행할 SQL 쿼리
+     * @param args SQL 바인딩 파라미터
+     * @return 컬럼 단위 조회 결과
+     */
+    ColumnBatch queryColumns(String sql, Object... args);
+
     /**
      * 임의의 SQL 작업을 수행하기 위한 일반화된 메서드입니다. PreparedStatement를 직접 제어해야 하는 복잡한 로직이나 업데이트 작업에 사용됩니다.
      *
@@ -1,6 +1,8 @@
 package com.spring.sprout;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 /**
  * [JPA 스타일의 리포지토리 인터페이스]
@@ -23,11 +25,20 @@ public interface JpaRepository<T, ID> {
      */
     void save(T entity);
 
+    /**
+     * 현재 트랜잭션에서 저장 후 아직 반영되지 않은 INSERT를 즉시 실행합니다.
+     *
+     * <p>트랜잭션 안의 {@link #save(Object)}는 커밋 직전에 엔티티 타입별 배치로 실행되므로, 타입 간 실행 순서가 중요하다면
+     * (외래 키 등) 먼저 반영할 타입을 저장한 뒤 호출합니다. 트랜잭션 밖에서는 아무 일도 하지 않습니다.</p>
+     */
+    void flush();
+
     /**
      * 식별자(ID)를 사용하여 엔티티를 조회합니다.
      *
      * @param id 조회할 엔티티의 기본 키
-     * @return 조회된 엔티티 객체 (존재하지 않을 경우 null 또는 예외 발생 가능)
+     * @return 조회된 엔티티 객체
+     * @throws com.spring.sprout.global.error.SpringException 엔티티가 존재하지 않는 경우 ({@code ENTITY_NOT_FOUND})
      */
     T findById(ID id);
 
@@ -37,4 +48,39 @@ public interface JpaRepository<T, ID> {
      * @return 모든 엔티티 리스트
      */
     List<T> findAll();
+
+    /**
+     * 테이블의 모든 엔티티를 DB 커서 위의 스트림으로 조회합니다. 엔티티는 소비되는 만큼만 읽으므로 행 수와 관계없이 메모리 사용량이 일정합니다.
+     *
+     * <p>스트림은 커넥션을 붙잡고 있으므로 반드시 닫아야 합니다. 컨트롤러가 그대로 반환하면 응답을 다 쓴 뒤 프레임워크가 닫습니다.</p>
+     *
+     * @return 닫을 때 커서와 커넥션을 해제하는 스트림
+     */
+    Stream<T> streamAll();
+
+    /**
+     * 엔티티 목록을 페이지 단위로 조회합니다.
+     *
+     * <p>깊은 페이지까지 일정한 비용으로 조회하려면 {@link PageRequest#first(int)},
+     * {@link PageRequest#after(String, int)}로 생성한 키셋 방식 요청을 사용합니다.</p>
+     *
+     * @param pageRequest 페이지 크기와 페이징 방식
+     * @return 한 페이지 분량의 엔티티와 다음 페이지 정보
+     */
+    Page<T> findAll(PageRequest pageRequest);
+
+    /**
+     * {@link #findById(Object)}를 비동기로 실행합니다. 호출자의 트랜잭션에는 참여하지 않습니다.
+     *
+     * @param id 조회할 엔티티의 기본 키
+     * @return 조회된 엔티티로 완료될 Future (엔티티가 없으면 {@code ENTITY_NOT_FOUND} {@code SpringException}으로 실패)
+     */
+    CompletableFuture<T> findByIdAsync(ID id);
+
+    /**
+     * {@link #findAll()}을 비동기로 실행합니다. 호출자의 트랜잭션에는 참여하지 않습니다.
+     *
+     * @return 모든 엔티티 리스트로 완료될 Future
+     */
+    CompletableFuture<List<T>> findAllAsync();
 }
\ No newline at end of file
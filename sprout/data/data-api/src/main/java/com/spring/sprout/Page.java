@@ -0,0 +1,59 @@
+package com.spring.sprout;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * [페이지 조회 결과]
+ *
+ * <p>한 페이지 분량의 엔티티 목록과 다음 페이지 존재 여부를 담습니다.
+ * 키셋 페이징에서는 다음 페이지를 조회하기 위한 불투명(opaque) 토큰을 함께 제공합니다.</p>
+ *
+ * @param <T> 페이지에 담긴 요소 타입
+ * @see PageRequest
+ */
+public final class Page<T> {
+
+    private final List<T> content;
+    private final boolean hasNext;
+    private final String nextToken;
+
+    public Page(List<T> content, boolean hasNext, String nextToken) {
+        this.content = content;
+        this.hasNext = hasNext;
+        this.nextToken = nextToken;
+    }
+
+    public List<T> getContent() {
+        return content;
+    }
+
+    public boolean hasNext() {
+        return hasNext;
+    }
+
+    public boolean isLast() {
+        return !hasNext;
+    }
+
+    /**
+     * 다음 페이지를 조회하기 위한 토큰을 반환합니다. {@link PageRequest#after(String, int)}에 그대로 전달합니다.
+     *
+     * @return 다음 페이지 토큰 (마지막 페이지이거나 OFFSET 방식이면 null)
+     */
+    public String getNextToken() {
+        return nextToken;
+    }
+
+    /**
+     * 페이지 정보는 유지한 채 요소만 다른 타입으로 변환합니다. (예: 엔티티 -> DTO)
+     *
+     * @param converter 요소 변환 함수
+     * @param <R>       변환 후 요소 타입
+     * @return 변환된 요소를 담은 새 페이지
+     */
+    public <R> Page<R> map(Function<? super T, ? extends R> converter) {
+        List<R> converted = content.stream().<R>map(converter).toList();
+        return new Page<>(converted, hasNext, nextToken);
+    }
+}
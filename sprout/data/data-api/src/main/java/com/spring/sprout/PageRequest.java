@@ -0,0 +1,111 @@
+package com.spring.sprout;
+
+/**
+ * [페이지 조회 요청 정보]
+ *
+ * <p>{@link JpaRepository#findAll(PageRequest)}에 전달되는 불변 객체로, 페이지 크기와 페이징 방식을 표현합니다.</p>
+ *
+ * <p>페이징 방식:</p>
+ * <ul>
+ * <li><b>OFFSET:</b> {@code LIMIT ? OFFSET ?} 방식입니다. 임의의 페이지 번호로 이동할 수 있지만, 페이지가 깊어질수록 건너뛸 행을 모두
+ * 읽어야 하므로 비용이 선형으로 증가합니다.</li>
+ * <li><b>KEYSET:</b> 이전 페이지의 마지막 정렬 키 이후부터 조회({@code WHERE id > ?})합니다. 인덱스를 타고 바로 시작 위치로 이동하므로
+ * 페이지 깊이와 무관하게 페이지 크기만큼의 비용만 듭니다. 다음 페이지는 {@link Page#getNextToken()}으로 이어서 조회합니다.</li>
+ * </ul>
+ *
+ * <p>정렬 프로퍼티의 기본값은 {@code id}입니다. 다른 프로퍼티로 정렬하면 {@code id}가 두 번째 정렬 키로 붙으므로 값이 유일하지 않아도
+ * 페이지 사이에 행이 빠지거나 중복되지 않습니다. 키셋 페이징의 정렬 키와 {@code id}는 {@code Integer}, {@code Long}, {@code String}
+ * 타입이어야 하며, {@code (정렬 컬럼, id)} 인덱스를 두는 것을 권장합니다.</p>
+ *
+ * @see Page
+ */
+public final class PageRequest {
+
+    /**
+     * 페이징 방식
+     */
+    public enum Mode {
+        OFFSET, KEYSET
+    }
+
+    private static final String DEFAULT_SORT_PROPERTY = "id";
+
+    private final Mode mode;
+    private final int size;
+    private final int page;
+    private final String continuationToken;
+    private final String sortProperty;
+
+    private PageRequest(Mode mode, int size, int page, String continuationToken,
+        String sortProperty) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상이어야 합니다: " + size);
+        }
+        if (page < 0) {
+            throw new IllegalArgumentException("페이지 번호는 0 이상이어야 합니다: " + page);
+        }
+        this.mode = mode;
+        this.size = size;
+        this.page = page;
+        this.continuationToken = continuationToken;
+        this.sortProperty = sortProperty;
+    }
+
+    /**
+     * OFFSET 방식의 페이지 요청을 생성합니다.
+     *
+     * @param page 0부터 시작하는 페이지 번호
+     * @param size 페이지 크기
+     */
+    public static PageRequest ofPage(int page, int size) {
+        return new PageRequest(Mode.OFFSET, size, page, null, DEFAULT_SORT_PROPERTY);
+    }
+
+    /**
+     * KEYSET 방식의 첫 페이지 요청을 생성합니다.
+     *
+     * @param size 페이지 크기
+     */
+    public static PageRequest first(int size) {
+        return new PageRequest(Mode.KEYSET, size, 0, null, DEFAULT_SORT_PROPERTY);
+    }
+
+    /**
+     * KEYSET 방식으로 이전 페이지에 이어지는 페이지 요청을 생성합니다.
+     *
+     * @param continuationToken 이전 {@link Page}가 반환한 토큰 (null이면 첫 페이지)
+     * @param size              페이지 크기
+     */
+    public static PageRequest after(String continuationToken, int size) {
+        return new PageRequest(Mode.KEYSET, size, 0, continuationToken, DEFAULT_SORT_PROPERTY);
+    }
+
+    /**
+     * 정렬 기준 프로퍼티를 변경한 새 요청을 반환합니다.
+     *
+     * @param sortProperty 엔티티의 필드명 (NULL이 없는 컬럼이어야 하며, 같은 값은 {@code id} 순으로 정렬됨)
+     */
+    public PageRequest sortBy(String sortProperty) {
+        return new PageRequest(mode, size, page, continuationToken, sortProperty);
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public String getContinuationToken() {
+        return continuationToken;
+    }
+
+    public String getSortProperty() {
+        return sortProperty;
+    }
+}
@@ -0,0 +1,60 @@
+package com.spring.sprout;
+
+import java.lang.reflect.Method;
+import java.util.function.Function;
+
+/**
+ * [생성된 리포지토리 실행 컨텍스트]
+ *
+ * <p>어노테이션 프로세서가 컴파일 시점에 만든 리포지토리 구현체({@code <인터페이스명>_Impl})가 프레임워크의 실행 기능을 사용하기 위한 창구입니다.
+ * 생성된 코드는 SQL과 필드 접근을 직접 가지고 있고, 트랜잭션 작업 단위나 파생 쿼리처럼 런타임 상태가 필요한 부분만 이 컨텍스트에 맡깁니다.</p>
+ *
+ * <p>애플리케이션 코드에서 직접 사용하지 않습니다.</p>
+ *
+ * @param <T> 리포지토리가 관리하는 엔티티 타입
+ */
+public interface RepositoryContext<T> {
+
+    /**
+     * 리포지토리의 기본 데이터소스로 SQL을 실행하는 템플릿을 반환합니다.
+     */
+    JdbcTemplate getJdbcTemplate();
+
+    /**
+     * 엔티티를 INSERT합니다. 트랜잭션 중이라면 작업 단위에 등록하여 커밋 직전에 배치로 실행합니다.
+     *
+     * @param insertSql      바인딩 파라미터를 가진 INSERT 문
+     * @param entity         저장할 엔티티
+     * @param paramExtractor 엔티티에서 INSERT 파라미터를 추출하는 함수
+     */
+    void insert(String insertSql, T entity, Function<T, Object[]> paramExtractor);
+
+    /**
+     * 현재 트랜잭션에서 저장 후 아직 반영되지 않은 엔티티 중 식별자가 일치하는 것을 찾습니다.
+     *
+     * @param id          찾을 식별자
+     * @param idExtractor 엔티티에서 식별자를 읽는 함수
+     * @return 일치하는 대기 엔티티 (없으면 null)
+     */
+    T findPending(Object id, Function<T, Object> idExtractor);
+
+    /**
+     * 이 엔티티 타입에 대기 중인 INSERT를 조회 전에 반영합니다.
+     */
+    void flushPending();
+
+    /**
+     * 현재 트랜잭션에 대기 중인 모든 INSERT를 반영합니다.
+     */
+    void flush();
+
+    /**
+     * 생성되지 않은 메서드(파생 쿼리, 페이징, 비동기 조회 등)를 런타임 구현에 위임합니다.
+     *
+     * @param repository 호출된 리포지토리 구현체
+     * @param method     리포지토리 인터페이스의 메서드
+     * @param args       메서드 인자 (인자가 없으면 null)
+     * @return 메서드 실행 결과
+     */
+    Object delegate(Object repository, Method method, Object[] args);
+}
@@ -0,0 +1,28 @@
+package com.spring.sprout;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * [결과 행 매핑 콜백 인터페이스]
+ *
+ * <p>{@link ResultSet}의 현재 행(Row)을 하나의 객체로 변환하는 전략입니다.
+ * {@link JdbcTemplate}은 커서 이동과 리소스 정리를 담당하고, 행 단위의 변환만 이 콜백에 위임합니다.</p>
+ *
+ * <p>매퍼는 여러 쿼리에 걸쳐 재사용될 수 있으므로, 리플렉션 분석처럼 비용이 큰 준비 작업은
+ * 생성 시점에 한 번만 수행하고 {@code mapRow}에서는 값 추출과 객체 생성만 하는 것이 바람직합니다.</p>
+ *
+ * @param <T> 매핑 결과 타입
+ */
+@FunctionalInterface
+public interface RowMapper<T> {
+
+    /**
+     * ResultSet의 현재 행을 객체로 변환합니다. 커서 이동({@code next()})은 호출자가 관리합니다.
+     *
+     * @param rs 현재 행을 가리키는 ResultSet
+     * @return 변환된 객체
+     * @throws SQLException 컬럼 값 조회 실패 시
+     */
+    T mapRow(ResultSet rs) throws SQLException;
+}
@@ -0,0 +1,79 @@
+package com.spring.sprout.data.bulk;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * [CSV 필드 바인딩 전략]
+ *
+ * <p>엔티티 필드 타입에 맞춰 CSV 필드를 {@link PreparedStatement} 파라미터로 바인딩합니다.
+ * 적재 시작 시 컬럼마다 한 번 결정되며, 숫자·논리 타입은 {@code setInt/setLong} 등 원시 타입 바인딩을 사용하여 박싱을 피합니다.
+ * 빈 필드는 NULL로 바인딩합니다.</p>
+ */
+@FunctionalInterface
+interface ColumnBinder {
+
+    /**
+     * 현재 행의 필드 하나를 파라미터에 바인딩합니다.
+     *
+     * @param ps         대상 Statement
+     * @param paramIndex 1부터 시작하는 파라미터 위치
+     * @param row        현재 행을 가리키는 리더
+     * @param field      0부터 시작하는 CSV 필드 위치
+     * @throws IllegalArgumentException 필드 값이 타입 형식에 맞지 않는 경우 (행 거부)
+     */
+    void bind(PreparedStatement ps, int paramIndex, MappedCsvReader row, int field)
+        throws SQLException;
+
+    /**
+     * 필드 타입에 맞는 바인더를 반환합니다. 지원하지 않는 타입은 문자열로 바인딩하여 드라이버의 변환에 맡깁니다.
+     */
+    static ColumnBinder forType(Class<?> type) {
+        if (type == int.class || type == Integer.class
+            || type == short.class || type == Short.class) {
+            return (ps, i, row, f) -> {
+                if (row.isEmpty(f)) {
+                    ps.setNull(i, Types.INTEGER);
+                } else {
+                    ps.setInt(i, row.getInt(f));
+                }
+            };
+        }
+        if (type == long.class || type == Long.class) {
+            return (ps, i, row, f) -> {
+                if (row.isEmpty(f)) {
+                    ps.setNull(i, Types.BIGINT);
+                } else {
+                    ps.setLong(i, row.getLong(f));
+                }
+            };
+        }
+        if (type == double.class || type == Double.class
+            || type == float.class || type == Float.class) {
+            return (ps, i, row, f) -> {
+                if (row.isEmpty(f)) {
+                    ps.setNull(i, Types.DOUBLE);
+                } else {
+                    ps.setDouble(i, Double.parseDouble(row.getString(f)));
+                }
+            };
+        }
+        if (type == boolean.class || type == Boolean.class) {
+            return (ps, i, row, f) -> {
+                if (row.isEmpty(f)) {
+                    ps.setNull(i, Types.BOOLEAN);
+                } else {
+                    ps.setBoolean(i, row.getBoolean(f));
+                }
+            };
+        }
+        return (ps, i, row, f) -> {
+            if (row.isEmpty(f)) {
+                ps.setNull(i, Types.VARCHAR);
+            } else {
+                ps.setString(i, row.getString(f));
+            }
+        };
+    }
+}
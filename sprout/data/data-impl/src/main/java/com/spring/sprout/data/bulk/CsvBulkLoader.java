@@ -0,0 +1,417 @@
+package com.spring.sprout.data.bulk;
+
+import static com.spring.sprout.data.utils.TranslatorToSnake.translateToSnake;
+
+import com.spring.sprout.BulkLoadOptions;
+import com.spring.sprout.BulkLoadResult;
+import com.spring.sprout.BulkLoader;
+import com.spring.sprout.JdbcTemplate;
+import com.spring.sprout.data.tranaction.TransactionManager;
+import com.spring.sprout.global.annotation.Autowired;
+import com.spring.sprout.global.annotation.Component;
+import com.spring.sprout.global.annotation.db.Entity;
+import com.spring.sprout.global.error.ErrorMessage;
+import com.spring.sprout.global.error.SpringException;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * [메모리 매핑 기반 CSV 대량 적재기]
+ *
+ * <p>{@link BulkLoader}의 표준 구현체입니다. 파일 전체를 힙으로 읽지 않고 {@link FileChannel#map}으로 매핑한 뒤,
+ * 줄바꿈 위치를 기준으로 여러 구간으로 나누어 스레드마다 독립적으로 파싱·적재합니다.</p>
+ *
+ * <p>적재 과정:</p>
+ * <ol>
+ * <li><b>매핑 계획:</b> 헤더(또는 필드 선언 순서)를 엔티티 필드와 맞춰 INSERT 문과 컬럼별 {@link ColumnBinder}를 한 번만 만듭니다.
+ * 헤더 이름은 필드명 또는 스네이크 케이스 컬럼명과 대소문자 구분 없이 비교하며, 일치하지 않는 CSV 컬럼은 무시합니다.</li>
+ * <li><b>구간 분할:</b> 파일을 {@code parallelism}개 구간으로 나누고, 각 경계를 따옴표 밖의 다음 줄바꿈 뒤(행의 시작)로 맞춥니다.
+ * 따옴표 안의 줄바꿈은 행 경계가 아니므로 경계를 찾을 때 파일을 처음부터 한 번 훑어 따옴표 상태를 추적합니다.</li>
+ * <li><b>파싱·바인딩:</b> {@link MappedCsvReader}가 행을 읽으면 바로 PreparedStatement에 바인딩하여 {@code addBatch}합니다.
+ * 중간 객체(엔티티, 파라미터 배열)를 만들지 않습니다.</li>
+ * <li><b>배치·트랜잭션:</b> {@code batchSize}마다 {@code executeBatch}, {@code rowsPerTransaction}마다 커밋합니다.</li>
+ * </ol>
+ *
+ * <p>오류 처리:</p>
+ * <ul>
+ * <li>형식이 맞지 않는 행(숫자 오류, 필드 부족)은 건너뛰고 거부 행으로 집계합니다.</li>
+ * <li>배치 실행이 실패하면 해당 트랜잭션을 롤백하고, 그 트랜잭션에 포함된 행 전체를 거부 행으로 집계한 뒤 다음 구간을 계속 적재합니다.</li>
+ * </ul>
+ *
+ * @see BulkLoadOptions
+ * @see MappedCsvReader
+ */
+@Component
+public class CsvBulkLoader implements BulkLoader {
+
+    /**
+     * 한 번에 매핑할 수 있는 최대 구간 크기. (MappedByteBuffer는 int 범위로 인덱싱)
+     */
+    private static final long MAX_SEGMENT_BYTES = 1L << 30;
+
+    private static final int MAX_REJECTION_SAMPLES = 10;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionManager transactionManager;
+
+    @Autowired
+    public CsvBulkLoader(JdbcTemplate jdbcTemplate, TransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionManager = transactionManager;
+    }
+
+    @Override
+    public BulkLoadResult load(Path csvFile, Class<?> entityType, BulkLoadOptions options) {
+        long startMillis = System.currentTimeMillis();
+        Progress progress = new Progress();
+
+        try (FileChannel channel = FileChannel.open(csvFile, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long dataStart = skipByteOrderMark(channel);
+
+            List<String> header = null;
+            if (options.hasHeader() && dataStart < size) {
+                // 매핑은 지연 적재되므로 헤더가 짧아도 실제로 읽는 페이지는 헤더 부분뿐
+                long scanBytes = Math.min(size - dataStart, MAX_SEGMENT_BYTES);
+                MappedCsvReader reader = new MappedCsvReader(
+                    channel.map(MapMode.READ_ONLY, dataStart, scanBytes), options.getDelimiter());
+                if (reader.nextRow()) {
+                    if (reader.position() == scanBytes && scanBytes < size - dataStart) {
+                        throw new SpringException(ErrorMessage.BULK_LOAD_FAILED,
+                            "헤더 행이 " + MAX_SEGMENT_BYTES + "바이트를 넘습니다.");
+                    }
+                    header = new ArrayList<>();
+                    for (int i = 0; i < reader.getFieldCount(); i++) {
+                        header.add(reader.getString(i).trim());
+                    }
+                }
+                dataStart += reader.position();
+            }
+
+            LoadPlan plan = LoadPlan.create(entityType, header);
+            List<long[]> segments = split(channel, dataStart, size, options.getParallelism(),
+                MAX_SEGMENT_BYTES);
+
+            try (ExecutorService executor = Executors.newFixedThreadPool(
+                Math.min(options.getParallelism(), Math.max(1, segments.size())))) {
+                List<Future<?>> futures = new ArrayList<>();
+                for (long[] segment : segments) {
+                    MappedByteBuffer buffer = channel.map(MapMode.READ_ONLY, segment[0],
+                        segment[1] - segment[0]);
+                    futures.add(executor.submit(() -> loadSegment(
+                        new MappedCsvReader(buffer, options.getDelimiter()), plan, options,
+                        progress)));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            }
+        } catch (IOException e) {
+            throw new SpringException(ErrorMessage.BULK_LOAD_FAILED, e.getMessage());
+        } catch (ExecutionException e) {
+            throw new SpringException(ErrorMessage.BULK_LOAD_FAILED, e.getCause().toString());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SpringException(ErrorMessage.BULK_LOAD_FAILED, "interrupted");
+        }
+
+        BulkLoadResult result = new BulkLoadResult(progress.loaded.sum(), progress.rejected.sum(),
+            System.currentTimeMillis() - startMillis, List.copyOf(progress.samples));
+        System.out.println(">>> Bulk load " + csvFile.getFileName() + ": " + result.loadedRows()
+            + " rows (" + result.rejectedRows() + " rejected) in " + result.elapsedMillis() + "ms, "
+            + result.rowsPerSecond() + " rows/s");
+        return result;
+    }
+
+    /**
+     * 구간 하나를 트랜잭션 단위로 나누어 적재합니다. 작업 스레드마다 별도의 트랜잭션(커넥션)을 사용합니다.
+     */
+    private void loadSegment(MappedCsvReader reader, LoadPlan plan, BulkLoadOptions options,
+        Progress progress) {
+        SegmentCursor cursor = new SegmentCursor(reader);
+        while (!cursor.exhausted) {
+            cursor.transactionRows = 0;
+            transactionManager.begin();
+            try {
+                while (!cursor.exhausted
+                    && cursor.transactionRows < options.getRowsPerTransaction()) {
+                    int limit = Math.min(options.getBatchSize(),
+                        options.getRowsPerTransaction() - cursor.transactionRows);
+                    jdbcTemplate.execute(plan.insertSql,
+                        ps -> plan.fillBatch(ps, cursor, limit, progress), (Object[]) null);
+                }
+                transactionManager.commit();
+                progress.loaded.add(cursor.transactionRows);
+            } catch (RuntimeException e) {
+                transactionManager.rollback();
+                progress.rejected.add(cursor.transactionRows);
+                progress.sample("트랜잭션 롤백 (" + cursor.transactionRows + "행): " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 파일을 행 경계에 맞춘 구간 목록([시작, 끝))으로 나눕니다.
+     *
+     * <p>행 경계는 따옴표 밖의 줄바꿈 바로 뒤입니다. 임의의 위치에서는 따옴표 안인지 알 수 없으므로 {@code dataStart}부터
+     * 순차적으로 읽으며 따옴표 상태를 추적합니다. (연속 따옴표 {@code ""}는 상태를 두 번 바꾸므로 그대로 처리됩니다.)
+     * 구간은 목표 크기를 넘긴 뒤 처음 만나는 행 경계에서 자르되, {@code maxSegmentBytes}를 넘으면 그 직전 행 경계에서
+     * 자릅니다. 한 행이 {@code maxSegmentBytes}보다 크면 적재할 수 없으므로 실패합니다.</p>
+     *
+     * @throws SpringException 한 행이 최대 구간 크기를 넘는 경우
+     */
+    static List<long[]> split(FileChannel channel, long dataStart, long size, int parallelism,
+        long maxSegmentBytes) throws IOException {
+        long dataSize = size - dataStart;
+        List<long[]> segments = new ArrayList<>();
+        if (dataSize <= 0) {
+            return segments;
+        }
+        if (parallelism <= 1 && dataSize <= maxSegmentBytes) {
+            segments.add(new long[]{dataStart, size});
+            return segments;
+        }
+        long count = Math.max(parallelism, (dataSize + maxSegmentBytes - 1) / maxSegmentBytes);
+        long approximate = Math.max(1, dataSize / count);
+
+        ByteBuffer buffer = ByteBuffer.allocate(64 * 1_024);
+        long start = dataStart;
+        long lastBoundary = dataStart;
+        boolean quoted = false;
+        long position = dataStart;
+        while (position < size) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                byte b = buffer.get(i);
+                if (b == '"') {
+                    quoted = !quoted;
+                } else if (b == '\n' && !quoted) {
+                    long boundary = position + i + 1;
+                    if (boundary - start > maxSegmentBytes) {
+                        start = cut(segments, start, lastBoundary, maxSegmentBytes);
+                        if (boundary - start > maxSegmentBytes) {
+                            throw recordTooLarge(start, maxSegmentBytes);
+                        }
+                    }
+                    if (boundary - start >= approximate && boundary < size) {
+                        segments.add(new long[]{start, boundary});
+                        start = boundary;
+                    }
+                    lastBoundary = boundary;
+                }
+            }
+            position += read;
+        }
+        if (size - start > maxSegmentBytes) {
+            start = cut(segments, start, lastBoundary, maxSegmentBytes);
+        }
+        if (size - start > maxSegmentBytes) {
+            throw recordTooLarge(start, maxSegmentBytes);
+        }
+        segments.add(new long[]{start, size});
+        return segments;
+    }
+
+    /**
+     * 구간이 최대 크기를 넘기 직전의 행 경계에서 자르고 다음 구간의 시작을 반환합니다.
+     */
+    private static long cut(List<long[]> segments, long start, long lastBoundary, long maxSegmentBytes) {
+        if (lastBoundary <= start) {
+            throw recordTooLarge(start, maxSegmentBytes);
+        }
+        segments.add(new long[]{start, lastBoundary});
+        return lastBoundary;
+    }
+
+    private static SpringException recordTooLarge(long offset, long maxSegmentBytes) {
+        return new SpringException(ErrorMessage.BULK_LOAD_FAILED,
+            "한 행이 " + maxSegmentBytes + "바이트를 넘습니다 (offset " + offset + ")");
+    }
+
+    private long skipByteOrderMark(FileChannel channel) throws IOException {
+        ByteBuffer bom = ByteBuffer.allocate(3);
+        channel.read(bom, 0);
+        boolean hasBom = bom.position() == 3 && (bom.get(0) & 0xFF) == 0xEF
+            && (bom.get(1) & 0xFF) == 0xBB && (bom.get(2) & 0xFF) == 0xBF;
+        return hasBom ? 3 : 0;
+    }
+
+    /**
+     * 구간 하나의 읽기 위치와 현재 트랜잭션에 포함된 행 수
+     */
+    private static class SegmentCursor {
+
+        private final MappedCsvReader reader;
+        private int transactionRows;
+        private boolean exhausted;
+
+        private SegmentCursor(MappedCsvReader reader) {
+            this.reader = reader;
+        }
+    }
+
+    /**
+     * 적재 중 누적되는 진행 상황. 여러 작업 스레드가 동시에 갱신합니다.
+     */
+    private static class Progress {
+
+        private final LongAdder loaded = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final ConcurrentLinkedQueue<String> samples = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger sampleCount = new AtomicInteger();
+
+        private void sample(String reason) {
+            if (sampleCount.incrementAndGet() <= MAX_REJECTION_SAMPLES) {
+                samples.add(reason);
+            }
+        }
+    }
+
+    /**
+     * CSV 컬럼과 엔티티 필드의 대응 관계, INSERT 문, 필드별 바인더를 담은 적재 계획
+     */
+    private static class LoadPlan {
+
+        private final String insertSql;
+        private final int[] fieldIndexes;
+        private final ColumnBinder[] binders;
+        private final int requiredFieldCount;
+
+        private LoadPlan(String insertSql, int[] fieldIndexes, ColumnBinder[] binders) {
+            this.insertSql = insertSql;
+            this.fieldIndexes = fieldIndexes;
+            this.binders = binders;
+            int max = 0;
+            for (int index : fieldIndexes) {
+                max = Math.max(max, index + 1);
+            }
+            this.requiredFieldCount = max;
+        }
+
+        /**
+         * 헤더가 있으면 이름으로, 없으면 필드 선언 순서로 CSV 컬럼을 엔티티 필드에 대응시킵니다.
+         */
+        private static LoadPlan create(Class<?> entityType, List<String> header) {
+            List<Field> fields = new ArrayList<>();
+            for (Field field : entityType.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
+                    fields.add(field);
+                }
+            }
+
+            List<Integer> csvIndexes = new ArrayList<>();
+            List<Field> targets = new ArrayList<>();
+            if (header == null) {
+                for (int i = 0; i < fields.size(); i++) {
+                    csvIndexes.add(i);
+                    targets.add(fields.get(i));
+                }
+            } else {
+                Map<String, Field> byName = new HashMap<>();
+                for (Field field : fields) {
+                    byName.put(field.getName().toLowerCase(), field);
+                    byName.put(translateToSnake(field.getName()), field);
+                }
+                for (int i = 0; i < header.size(); i++) {
+                    Field field = byName.get(header.get(i).toLowerCase());
+                    if (field != null && !targets.contains(field)) {
+                        csvIndexes.add(i);
+                        targets.add(field);
+                    }
+                }
+            }
+            if (targets.isEmpty()) {
+                throw new SpringException(ErrorMessage.BULK_LOAD_FAILED,
+                    entityType.getSimpleName() + "의 필드와 일치하는 CSV 컬럼이 없습니다");
+            }
+
+            StringBuilder sql = new StringBuilder("INSERT INTO " + tableName(entityType) + " (");
+            StringBuilder values = new StringBuilder("VALUES (");
+            int[] fieldIndexes = new int[targets.size()];
+            ColumnBinder[] binders = new ColumnBinder[targets.size()];
+            for (int i = 0; i < targets.size(); i++) {
+                if (i > 0) {
+                    sql.append(", ");
+                    values.append(", ");
+                }
+                sql.append(translateToSnake(targets.get(i).getName()));
+                values.append("?");
+                fieldIndexes[i] = csvIndexes.get(i);
+                binders[i] = ColumnBinder.forType(targets.get(i).getType());
+            }
+            return new LoadPlan(sql.append(") ").append(values).append(")").toString(),
+                fieldIndexes, binders);
+        }
+
+        private static String tableName(Class<?> entityType) {
+            Entity entity = entityType.getAnnotation(Entity.class);
+            if (entity != null && !entity.table().isEmpty()) {
+                return entity.table();
+            }
+            return translateToSnake(entityType.getSimpleName());
+        }
+
+        /**
+         * 최대 {@code limit}개의 유효한 행을 바인딩하여 배치로 실행합니다. 배치에 넣은 행은 실행 전에
+         * 트랜잭션 행 수에 더해지므로, 실행이 실패해도 롤백 시 거부 행 수에 정확히 반영됩니다.
+         *
+         * @return 배치에 포함된 행 수
+         */
+        private int fillBatch(PreparedStatement ps, SegmentCursor cursor, int limit,
+            Progress progress) throws SQLException {
+            MappedCsvReader reader = cursor.reader;
+            int added = 0;
+            while (added < limit) {
+                if (!reader.nextRow()) {
+                    cursor.exhausted = true;
+                    break;
+                }
+                if (reader.getFieldCount() < requiredFieldCount) {
+                    progress.rejected.increment();
+                    progress.sample("필드 수 부족: " + reader.currentRow());
+                    continue;
+                }
+                try {
+                    for (int i = 0; i < binders.length; i++) {
+                        binders[i].bind(ps, i + 1, reader, fieldIndexes[i]);
+                    }
+                } catch (IllegalArgumentException e) {
+                    progress.rejected.increment();
+                    progress.sample(e.getMessage() + ": " + reader.currentRow());
+                    continue;
+                }
+                ps.addBatch();
+                added++;
+            }
+            cursor.transactionRows += added;
+            if (added > 0) {
+                ps.executeBatch();
+            }
+            return added;
+        }
+    }
+}
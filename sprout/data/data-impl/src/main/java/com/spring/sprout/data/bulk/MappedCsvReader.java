@@ -0,0 +1,261 @@
+package com.spring.sprout.data.bulk;
+
+import java.nio.MappedByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * [메모리 매핑 CSV 행 리더]
+ *
+ * <p>{@link MappedByteBuffer}로 매핑된 파일 구간을 한 행씩 읽습니다. 행을 읽을 때는 각 필드의 시작·끝 위치만 기록하고,
+ * 값은 바인딩 시점에 바이트에서 직접 해석합니다. 숫자 필드는 {@link String}을 만들지 않고 바이트를 바로 정수로 변환하므로
+ * 필드당 할당이 발생하지 않습니다.</p>
+ *
+ * <p>지원 형식 (RFC 4180):</p>
+ * <ul>
+ * <li>따옴표로 감싼 필드, 필드 안의 구분자와 줄바꿈, 연속 따옴표({@code ""}) 이스케이프</li>
+ * <li>LF 및 CRLF 줄바꿈, 빈 줄은 건너뜀</li>
+ * </ul>
+ *
+ * <p>한 구간을 한 스레드가 독점하여 사용하므로 스레드 안전하지 않습니다.</p>
+ */
+final class MappedCsvReader {
+
+    private static final byte QUOTE = '"';
+    private static final byte LF = '\n';
+    private static final byte CR = '\r';
+
+    private final MappedByteBuffer buffer;
+    private final int limit;
+    private final byte delimiter;
+
+    private int position;
+    private int rowStart;
+    private int rowEnd;
+
+    private int fieldCount;
+    private int[] starts = new int[16];
+    private int[] ends = new int[16];
+    private boolean[] escaped = new boolean[16];
+
+    /**
+     * 문자열 필드 디코딩에 재사용하는 버퍼
+     */
+    private byte[] scratch = new byte[256];
+
+    MappedCsvReader(MappedByteBuffer buffer, char delimiter) {
+        this.buffer = buffer;
+        this.limit = buffer.limit();
+        this.delimiter = (byte) delimiter;
+    }
+
+    /**
+     * 다음 행으로 이동합니다.
+     *
+     * @return 읽을 행이 없으면 {@code false}
+     */
+    boolean nextRow() {
+        while (position < limit) {
+            rowStart = position;
+            fieldCount = 0;
+            boolean endOfRow = false;
+            while (!endOfRow) {
+                endOfRow = readField();
+            }
+            rowEnd = position;
+            // 빈 줄(필드 하나, 길이 0)은 건너뜀
+            if (fieldCount > 1 || ends[0] > starts[0] || escaped[0]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 필드 하나를 읽고, 행의 끝에 도달했는지 반환합니다.
+     */
+    private boolean readField() {
+        ensureFieldCapacity();
+        int index = fieldCount++;
+        escaped[index] = false;
+
+        if (position < limit && buffer.get(position) == QUOTE) {
+            int start = ++position;
+            while (position < limit) {
+                byte b = buffer.get(position);
+                if (b == QUOTE) {
+                    if (position + 1 < limit && buffer.get(position + 1) == QUOTE) {
+                        escaped[index] = true;
+                        position += 2;
+                        continue;
+                    }
+                    break;
+                }
+                position++;
+            }
+            starts[index] = start;
+            ends[index] = position;
+            position++; // 닫는 따옴표
+            // 닫는 따옴표 뒤에서 구분자나 줄바꿈까지 이동
+            while (position < limit) {
+                byte b = buffer.get(position);
+                if (b == delimiter || b == LF) {
+                    break;
+                }
+                position++;
+            }
+        } else {
+            int start = position;
+            while (position < limit) {
+                byte b = buffer.get(position);
+                if (b == delimiter || b == LF) {
+                    break;
+                }
+                position++;
+            }
+            int end = position;
+            if (end > start && buffer.get(end - 1) == CR) {
+                end--;
+            }
+            starts[index] = start;
+            ends[index] = end;
+        }
+
+        if (position >= limit) {
+            return true;
+        }
+        byte terminator = buffer.get(position++);
+        return terminator == LF;
+    }
+
+    private void ensureFieldCapacity() {
+        if (fieldCount == starts.length) {
+            starts = Arrays.copyOf(starts, fieldCount * 2);
+            ends = Arrays.copyOf(ends, fieldCount * 2);
+            escaped = Arrays.copyOf(escaped, fieldCount * 2);
+        }
+    }
+
+    int getFieldCount() {
+        return fieldCount;
+    }
+
+    /**
+     * 필드가 비어 있는지 확인합니다. 빈 필드는 NULL로 적재됩니다.
+     */
+    boolean isEmpty(int field) {
+        return ends[field] == starts[field];
+    }
+
+    /**
+     * 필드를 {@code long}으로 해석합니다. 문자열을 만들지 않고 바이트에서 직접 변환합니다.
+     *
+     * @throws NumberFormatException 정수 형식이 아니거나 범위를 벗어난 경우
+     */
+    long getLong(int field) {
+        int pos = starts[field];
+        int end = ends[field];
+        boolean negative = false;
+        if (pos < end && (buffer.get(pos) == '-' || buffer.get(pos) == '+')) {
+            negative = buffer.get(pos) == '-';
+            pos++;
+        }
+        if (pos == end) {
+            throw new NumberFormatException("정수 형식이 아닙니다: " + getString(field));
+        }
+        long value = 0;
+        for (; pos < end; pos++) {
+            int digit = buffer.get(pos) - '0';
+            if (digit < 0 || digit > 9) {
+                throw new NumberFormatException("정수 형식이 아닙니다: " + getString(field));
+            }
+            // 음수 방향으로 누적하여 Long.MIN_VALUE까지 표현
+            if (value < (Long.MIN_VALUE + digit) / 10) {
+                throw new NumberFormatException("범위를 벗어난 값입니다: " + getString(field));
+            }
+            value = value * 10 - digit;
+        }
+        if (!negative) {
+            if (value == Long.MIN_VALUE) {
+                throw new NumberFormatException("범위를 벗어난 값입니다: " + getString(field));
+            }
+            return -value;
+        }
+        return value;
+    }
+
+    /**
+     * 필드를 {@code int}로 해석합니다.
+     *
+     * @throws NumberFormatException 정수 형식이 아니거나 범위를 벗어난 경우
+     */
+    int getInt(int field) {
+        long value = getLong(field);
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new NumberFormatException("범위를 벗어난 값입니다: " + value);
+        }
+        return (int) value;
+    }
+
+    /**
+     * 필드를 {@code boolean}으로 해석합니다. ({@code true/false}, {@code 1/0}, 대소문자 무시)
+     */
+    boolean getBoolean(int field) {
+        int length = ends[field] - starts[field];
+        if (length == 1) {
+            byte b = buffer.get(starts[field]);
+            if (b == '1' || b == '0') {
+                return b == '1';
+            }
+        }
+        String value = getString(field);
+        if (value.equalsIgnoreCase("true") || value.equalsIgnoreCase("false")) {
+            return Boolean.parseBoolean(value);
+        }
+        throw new IllegalArgumentException("boolean 형식이 아닙니다: " + value);
+    }
+
+    /**
+     * 필드를 문자열(UTF-8)로 디코딩합니다. 이스케이프된 따옴표({@code ""})는 하나로 복원합니다.
+     */
+    String getString(int field) {
+        int start = starts[field];
+        int length = ends[field] - start;
+        if (scratch.length < length) {
+            scratch = new byte[Math.max(length, scratch.length * 2)];
+        }
+        if (!escaped[field]) {
+            buffer.get(start, scratch, 0, length);
+            return new String(scratch, 0, length, StandardCharsets.UTF_8);
+        }
+        int size = 0;
+        for (int pos = start; pos < start + length; pos++) {
+            byte b = buffer.get(pos);
+            scratch[size++] = b;
+            if (b == QUOTE) {
+                pos++; // 연속 따옴표 중 하나만 남김
+            }
+        }
+        return new String(scratch, 0, size, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 현재 행의 원문을 반환합니다. 거부 사유 보고에 사용합니다.
+     */
+    String currentRow() {
+        int end = rowEnd;
+        while (end > rowStart && (buffer.get(end - 1) == LF || buffer.get(end - 1) == CR)) {
+            end--;
+        }
+        byte[] bytes = new byte[Math.min(end - rowStart, 200)];
+        buffer.get(rowStart, bytes, 0, bytes.length);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 다음에 읽을 위치(구간 시작 기준 바이트 오프셋)를 반환합니다.
+     */
+    int position() {
+        return position;
+    }
+}
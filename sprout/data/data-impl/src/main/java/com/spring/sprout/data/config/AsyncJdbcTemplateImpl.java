@@ -0,0 +1,123 @@
+package com.spring.sprout.data.config;
+
+import com.spring.sprout.AsyncJdbcTemplate;
+import com.spring.sprout.JdbcTemplate;
+import com.spring.sprout.StatementCallback;
+import com.spring.sprout.bundle.api.Environment;
+import com.spring.sprout.global.annotation.Autowired;
+import com.spring.sprout.global.annotation.Component;
+import com.spring.sprout.global.web.RequestDeadline;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+
+/**
+ * [비동기 JDBC 템플릿의 표준 구현체]
+ *
+ * <p>실제 JDBC 작업은 {@link JdbcTemplate}에 위임하고, 이 클래스는 실행 스레드와 동시성만 관리합니다.
+ * 각 작업은 가상 스레드(Virtual Thread)에서 실행되므로, 커넥션을 기다리며 블로킹되더라도 플랫폼 스레드를 점유하지 않습니다.</p>
+ *
+ * <p>동시성 제어:</p>
+ * <ul>
+ * <li>{@link Semaphore}로 동시에 DB에 접근하는 작업 수를 제한하여, 커넥션 수 이상으로 데이터베이스를 과구독하지 않도록 합니다.</li>
+ * <li>상한은 데이터소스의 동시 커넥션 수({@link SimpleDataSource#getMaxConnections()}, 다른 구현이라면 {@code db.max-connections})에서
+ * 가져옵니다. {@code db.async.max-concurrency}로 그보다 작게 줄여 동기 호출이 쓸 커넥션을 남겨 둘 수 있습니다.</li>
+ * </ul>
+ *
+ * <p>실행기는 JVM 종료 훅에서 {@link #close()}로 닫으며, 실행 중인 작업이 끝날 때까지 기다립니다.</p>
+ *
+ * @see AsyncJdbcTemplate
+ * @see JdbcTemplateImpl
+ */
+@Component
+public class AsyncJdbcTemplateImpl implements AsyncJdbcTemplate {
+
+    /**
+     * 종료 시 실행 중인 작업을 기다리는 최대 시간(초)
+     */
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Semaphore permits;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * 동기 템플릿과 환경 설정을 주입받아 비동기 템플릿을 생성하고, 실행기를 닫을 종료 훅을 등록합니다.
+     *
+     * @param jdbcTemplate 실제 SQL 실행을 담당할 템플릿
+     * @param dataSource   동시 실행 상한의 기준이 될 커넥션 수를 제공할 데이터소스
+     * @param env          상한을 더 줄일 설정({@code db.async.max-concurrency})을 제공할 환경 설정
+     */
+    @Autowired
+    public AsyncJdbcTemplateImpl(JdbcTemplate jdbcTemplate, DataSource dataSource, Environment env) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.permits = new Semaphore(resolveMaxConcurrency(dataSource, env), true);
+        Runtime.getRuntime().addShutdownHook(new Thread(this::close, "async-jdbc-shutdown"));
+    }
+
+    @Override
+    public <T> CompletableFuture<List<T>> queryAsync(String sql, Class<T> clazz, Object... args) {
+        return submit(() -> jdbcTemplate.query(sql, clazz, args));
+    }
+
+    @Override
+    public <T> CompletableFuture<T> executeAsync(String sql, StatementCallback<T> callback,
+        Object... args) {
+        return submit(() -> jdbcTemplate.execute(sql, callback, args));
+    }
+
+    /**
+     * 작업을 가상 스레드에서 실행합니다. 허용량(permit)을 얻을 때까지 가상 스레드가 대기하므로 호출 스레드는 즉시 반환됩니다.
+     * 호출 스레드의 요청 기한은 작업 스레드로 이어집니다.
+     */
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(RequestDeadline.propagate(() -> {
+            permits.acquireUninterruptibly();
+            try {
+                return task.get();
+            } finally {
+                permits.release();
+            }
+        }), executor);
+    }
+
+    /**
+     * 새 작업을 받지 않고, 실행 중인 작업이 끝날 때까지 기다린 뒤 실행기를 닫습니다.
+     */
+    public void close() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                System.out.println("⚠️ 비동기 JDBC 작업이 종료 대기 시간 안에 끝나지 않아 중단합니다.");
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 데이터소스의 동시 커넥션 수를 상한으로 하고, {@code db.async.max-concurrency}가 더 작다면 그 값을 사용합니다.
+     */
+    private static int resolveMaxConcurrency(DataSource dataSource, Environment env) {
+        int connections;
+        if (dataSource instanceof SimpleDataSource simpleDataSource) {
+            connections = simpleDataSource.getMaxConnections();
+        } else {
+            String value = env.getProperty("db.max-connections");
+            connections = value == null || value.isBlank()
+                ? SimpleDataSource.DEFAULT_MAX_CONNECTIONS : Integer.parseInt(value.trim());
+        }
+        String value = env.getProperty("db.async.max-concurrency");
+        if (value == null || value.isBlank()) {
+            return Math.max(1, connections);
+        }
+        return Math.max(1, Math.min(connections, Integer.parseInt(value.trim())));
+    }
+}
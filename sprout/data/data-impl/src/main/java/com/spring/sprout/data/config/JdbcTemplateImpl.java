@@ -1,19 +1,36 @@
 package com.spring.sprout.data.config;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.spring.sprout.ColumnBatch;
 import com.spring.sprout.JdbcTemplate;
+import com.spring.sprout.RowMapper;
+import com.spring.sprout.data.export.JsonResultWriter;
+import com.spring.sprout.data.metrics.SqlMetrics;
+import com.spring.sprout.data.support.ColumnarResultReader;
 import com.spring.sprout.data.support.DataSourceUtils;
+import com.spring.sprout.data.support.StatementCanceller;
 import com.spring.sprout.global.annotation.Autowired;
 import com.spring.sprout.global.annotation.Component;
 import com.spring.sprout.data.support.EntityMapper;
 import com.spring.sprout.StatementCallback;
 import com.spring.sprout.global.error.ErrorMessage;
 import com.spring.sprout.global.error.SpringException;
+import com.spring.sprout.global.web.RequestDeadline;
+import java.io.IOException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import javax.sql.DataSource;
 
 /**
@@ -27,6 +44,8 @@ import javax.sql.DataSource;
  * <li><b>자원 관리:</b> Connection 획득 및 반환, Statement 닫기 등을 안전하게 처리 (try-catch-finally)</li>
  * <li><b>예외 변환:</b> 체크드 예외인 {@link SQLException}을 런타임 예외인 {@link SpringException}으로 변환</li>
  * <li><b>객체 매핑:</b> {@link EntityMapper}를 통해 ResultSet을 자바 객체로 자동 변환</li>
+ * <li><b>지표 수집:</b> 모든 실행의 커넥션 획득 시간, 실행 시간, 반환 행 수를 {@link SqlMetrics}에 기록</li>
+ * <li><b>요청 기한:</b> 현재 스레드에 {@link RequestDeadline}이 있으면 남은 시간만큼만 쿼리를 실행하고, 기한이 지나면 취소</li>
  * </ul>
  *
  * @see JdbcTemplate
@@ -35,16 +54,24 @@ import javax.sql.DataSource;
 @Component
 public class JdbcTemplateImpl implements JdbcTemplate {
 
+    /**
+     * 스트림 조회 시 드라이버가 한 번에 가져올 행 수 (MySQL은 URL에 {@code useCursorFetch=true}가 있어야 따름)
+     */
+    private static final int STREAM_FETCH_SIZE = 1_000;
+
     private final DataSource dataSource;
+    private final SqlMetrics sqlMetrics;
 
     /**
      * 데이터소스(커넥션 풀)를 주입받아 템플릿 인스턴스를 생성합니다.
      *
      * @param dataSource DB 연결을 제공할 데이터소스
+     * @param sqlMetrics SQL 실행 지표 수집기
      */
     @Autowired
-    public JdbcTemplateImpl(DataSource dataSource) {
+    public JdbcTemplateImpl(DataSource dataSource, SqlMetrics sqlMetrics) {
         this.dataSource = dataSource;
+        this.sqlMetrics = sqlMetrics;
     }
 
     /**
@@ -60,19 +87,135 @@ public class JdbcTemplateImpl implements JdbcTemplate {
      */
     @Override
     public <T> List<T> query(String sql, Class<T> clazz, Object... args) {
-        EntityMapper<T> mapper = new EntityMapper<>(clazz);
+        return query(sql, new EntityMapper<>(clazz), args);
+    }
 
+    /**
+     * SELECT 쿼리를 실행하고 각 행을 주어진 {@link RowMapper}로 변환하여 반환합니다.
+     *
+     * @param sql       실행할 SQL 쿼리
+     * @param rowMapper 행 단위 변환 전략
+     * @param args      바인딩할 파라미터들
+     * @return 매핑된 객체 리스트 (결과가 없으면 빈 리스트)
+     */
+    @Override
+    public <T> List<T> query(String sql, RowMapper<T> rowMapper, Object... args) {
         // execute 메서드에 ResultSet 처리를 위임
-        return execute(sql, ps -> {
-            List<T> results = new ArrayList<>();
+        List<T> results = execute(sql, ps -> {
+            List<T> rows = new ArrayList<>();
 
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
-                    results.add(mapper.mapRow(rs));
+                    rows.add(rowMapper.mapRow(rs));
                 }
             }
-            return results;
+            return rows;
+        }, args);
+        sqlMetrics.recordRows(sql, results.size());
+        return results;
+    }
+
+    /**
+     * SELECT 쿼리를 실행하고 열린 커서를 스트림으로 감싸 반환합니다.
+     *
+     * <p>{@link #execute}와 달리 메서드가 반환된 뒤에도 ResultSet, Statement, 커넥션이 열려 있으며, 스트림을 닫을 때
+     * 순서대로 해제하고 {@link SqlMetrics}에 실행 시간과 읽은 행 수를 기록합니다.
+     * 실행 시간과 요청 기한은 {@code executeQuery}가 반환될 때까지만 셉니다. 이후 행을 흘려보내는 시간은 클라이언트 속도에
+     * 달려 있기 때문입니다.</p>
+     *
+     * @param sql       실행할 SQL 쿼리
+     * @param rowMapper 행 단위 변환 전략
+     * @param args      바인딩할 파라미터들
+     * @return 닫을 때 JDBC 리소스를 해제하는 스트림
+     */
+    @Override
+    public <T> Stream<T> queryForStream(String sql, RowMapper<T> rowMapper, Object... args) {
+        ResultSetSpliterator<T> spliterator = new ResultSetSpliterator<>(sql, args, openCursor(sql, args),
+            rowMapper);
+        return StreamSupport.stream(spliterator, false).onClose(spliterator::close);
+    }
+
+    /**
+     * SELECT 쿼리를 실행하고 각 행을 {@link JsonResultWriter}로 생성기에 바로 씁니다. 행 객체를 만들지 않으며,
+     * 컬럼별 getter는 메타데이터로 한 번만 결정합니다.
+     *
+     * <p>{@link #queryForStream}과 마찬가지로 요청 기한과 실행 시간 지표는 {@code executeQuery}까지만 적용합니다.
+     * 응답을 쓰는 동안 느린 클라이언트 때문에 쿼리가 취소되거나 느린 SQL로 기록되지 않습니다.</p>
+     *
+     * @param sql       실행할 SQL 쿼리
+     * @param generator 결과를 쓸 JSON 생성기
+     * @param args      바인딩할 파라미터들
+     * @return 쓴 행 수
+     * @throws SpringException 출력 실패(클라이언트 연결 종료 등) 시 {@code EXPORT_FAILED}
+     */
+    @Override
+    public long queryForJson(String sql, JsonGenerator generator, Object... args) {
+        OpenCursor cursor = openCursor(sql, args);
+        long rows = 0;
+        boolean failed = false;
+        try {
+            rows = JsonResultWriter.of(cursor.rs()).writeArray(cursor.rs(), generator);
+            return rows;
+        } catch (SQLException e) {
+            failed = true;
+            throw new SpringException(ErrorMessage.SQL_EXECUTION_FILED, describe(e));
+        } catch (IOException e) {
+            throw new SpringException(ErrorMessage.EXPORT_FAILED, e.getMessage());
+        } finally {
+            closeCursor(sql, args, cursor, failed, rows);
+        }
+    }
+
+    @Override
+    public int[] queryForIntArray(String sql, Object... args) {
+        int[] values = execute(sql, ps -> {
+            try (ResultSet rs = ps.executeQuery()) {
+                return ColumnarResultReader.readInts(rs);
+            }
+        }, args);
+        sqlMetrics.recordRows(sql, values.length);
+        return values;
+    }
+
+    @Override
+    public long[] queryForLongArray(String sql, Object... args) {
+        long[] values = execute(sql, ps -> {
+            try (ResultSet rs = ps.executeQuery()) {
+                return ColumnarResultReader.readLongs(rs);
+            }
         }, args);
+        sqlMetrics.recordRows(sql, values.length);
+        return values;
+    }
+
+    @Override
+    public double[] queryForDoubleArray(String sql, Object... args) {
+        double[] values = execute(sql, ps -> {
+            try (ResultSet rs = ps.executeQuery()) {
+                return ColumnarResultReader.readDoubles(rs);
+            }
+        }, args);
+        sqlMetrics.recordRows(sql, values.length);
+        return values;
+    }
+
+    /**
+     * SELECT 쿼리를 실행하고 결과를 컬럼 단위로 반환합니다. 행 객체를 만들지 않고 {@link ColumnarResultReader}가
+     * ResultSet에서 원시 타입 배열로 바로 읽어 들입니다.
+     *
+     * @param sql  실행할 SQL 쿼리
+     * @param args 바인딩할 파라미터들
+     * @return 컬럼 단위 조회 결과
+     */
+    @Override
+    public ColumnBatch queryColumns(String sql, Object... args) {
+        ColumnBatch batch = execute(sql, ps -> {
+            try (ResultSet rs = ps.executeQuery()) {
+                return ColumnarResultReader.readColumns(rs);
+            }
+        }, args);
+        sqlMetrics.recordRows(sql, batch.getRowCount());
+        return batch;
     }
 
     /**
@@ -87,8 +230,15 @@ public class JdbcTemplateImpl implements JdbcTemplate {
      * <li>PreparedStatement 생성 및 파라미터 바인딩</li>
      * <li>Callback 실행 (SQL 수행)</li>
      * <li>리소스 정리 및 예외 처리</li>
+     * <li>커넥션 획득 시간과 실행 시간을 {@link SqlMetrics}에 기록</li>
      * </ol>
      *
+     * <p>요청 기한이 있으면 남은 시간을 {@code setQueryTimeout}(초 단위 올림)으로 지정하고, 밀리초 단위로 정확히 끊기 위해
+     * {@link StatementCanceller}로 취소를 예약합니다. 실행 전에 이미 기한이 지났다면 DB에 보내지 않고
+     * {@code DEADLINE_EXCEEDED}를, 실행 중 기한을 넘겨 취소되면 {@code QUERY_TIMEOUT}을 던집니다.
+     * 기한은 콜백 전체에 걸리므로 콜백 안에서 클라이언트로 응답을 쓰면 안 됩니다. 결과를 흘려보내야 한다면 실행 단계에만 기한을 거는
+     * {@link #queryForStream} 또는 {@link #queryForJson}을 사용합니다.</p>
+     *
      * @param sql      실행할 SQL
      * @param callback 실행할 콜백 로직 (람다)
      * @param args     바인딩 파라미터
@@ -99,27 +249,159 @@ public class JdbcTemplateImpl implements JdbcTemplate {
     public <T> T execute(String sql, StatementCallback<T> callback, Object... args) {
         Connection connection = null;
         PreparedStatement preparedStatement = null;
+        long startNanos = System.nanoTime();
+        long acquiredNanos = startNanos;
+        boolean failed = true;
+        RequestDeadline deadline = RequestDeadline.current();
+        ScheduledFuture<?> cancellation = null;
         try {
+            checkDeadline(deadline, sql);
             // 1. 트랜잭션 매니저와 연동 가능한 커넥션 획득
             connection = DataSourceUtils.getConnection(dataSource);
+            acquiredNanos = System.nanoTime();
             preparedStatement = connection.prepareStatement(sql);
 
             // 2. 파라미터 바인딩
             setParameters(preparedStatement, args);
 
-            // 3. 콜백 실행 (비즈니스 로직 수행)
-            return callback.doInStatement(preparedStatement);
+            // 3. 남은 요청 시간만큼 타임아웃 설정 (커넥션 대기로 기한이 소진되었다면 실행하지 않음)
+            cancellation = scheduleCancellation(preparedStatement, deadline, sql);
+
+            // 4. 콜백 실행 (비즈니스 로직 수행)
+            T result = callback.doInStatement(preparedStatement);
+            failed = false;
+            return result;
 
         } catch (SQLException e) {
-            e.printStackTrace(); // 로깅으로 대체 권장
-            throw new SpringException(ErrorMessage.SQL_EXECUTION_FILED);
+            throw translate(e, deadline, sql);
         } finally {
+            if (cancellation != null) {
+                cancellation.cancel(false);
+            }
             closePreparedStatement(preparedStatement);
             // 커넥션은 닫지 않고 DataSourceUtils에게 반환 (트랜잭션 유지 등을 위해)
             DataSourceUtils.releaseConnection(connection, dataSource);
+            sqlMetrics.record(sql, acquiredNanos - startNanos, System.nanoTime() - acquiredNanos,
+                failed, args);
         }
     }
 
+    /**
+     * 요청 기한이 남아 있는지 확인합니다.
+     *
+     * @return 남은 시간 (기한이 없으면 {@link Long#MAX_VALUE})
+     * @throws SpringException 기한이 이미 지난 경우 ({@code DEADLINE_EXCEEDED})
+     */
+    private long checkDeadline(RequestDeadline deadline, String sql) {
+        if (deadline == null) {
+            return Long.MAX_VALUE;
+        }
+        long remainingNanos = deadline.remainingNanos();
+        if (remainingNanos <= 0) {
+            throw new SpringException(ErrorMessage.DEADLINE_EXCEEDED,
+                deadline.getTimeoutMillis() + "ms: " + sql);
+        }
+        return remainingNanos;
+    }
+
+    /**
+     * 요청 기한이 있으면 남은 시간을 쿼리 타임아웃으로 지정하고, 밀리초 단위 취소를 예약합니다.
+     *
+     * @return 예약된 취소 작업 (기한이 없으면 null)
+     * @throws SpringException 기한이 이미 지난 경우 ({@code DEADLINE_EXCEEDED})
+     */
+    private ScheduledFuture<?> scheduleCancellation(PreparedStatement preparedStatement, RequestDeadline deadline,
+        String sql) throws SQLException {
+        if (deadline == null) {
+            return null;
+        }
+        long remainingNanos = checkDeadline(deadline, sql);
+        preparedStatement.setQueryTimeout(
+            (int) Math.max(1, TimeUnit.NANOSECONDS.toSeconds(remainingNanos + 999_999_999L)));
+        return StatementCanceller.schedule(preparedStatement, remainingNanos);
+    }
+
+    /**
+     * SQLException을 SpringException으로 변환합니다. 기한 초과로 취소된 경우 {@code QUERY_TIMEOUT}, 그 외에는 SQLState와
+     * 드라이버 메시지를 담은 {@code SQL_EXECUTION_FILED}입니다.
+     */
+    private SpringException translate(SQLException e, RequestDeadline deadline, String sql) {
+        if (deadline != null && (e instanceof SQLTimeoutException || deadline.isExpired())) {
+            return new SpringException(ErrorMessage.QUERY_TIMEOUT, deadline.getTimeoutMillis() + "ms: " + sql);
+        }
+        return new SpringException(ErrorMessage.SQL_EXECUTION_FILED, describe(e));
+    }
+
+    private static String describe(SQLException e) {
+        return "SQLState " + e.getSQLState() + ": " + e.getMessage();
+    }
+
+    /**
+     * 커서 기반 조회(스트림, JSON)의 실행 단계입니다. 커넥션을 얻어 쿼리를 실행하고 열린 ResultSet을 돌려줍니다.
+     *
+     * <p>요청 기한은 {@code executeQuery}가 반환될 때까지만 적용하고, 그 직후 예약된 취소를 해제합니다. 취소가 이미 실행된
+     * 경우에는 커서를 닫고 {@code QUERY_TIMEOUT}을 던집니다. 실행 단계에서 실패하면 리소스를 모두 해제하고 지표를 남깁니다.</p>
+     *
+     * @return 열린 커서 (호출자가 {@link #closeCursor}로 해제)
+     */
+    private OpenCursor openCursor(String sql, Object[] args) {
+        Connection connection = null;
+        PreparedStatement preparedStatement = null;
+        long startNanos = System.nanoTime();
+        long acquiredNanos = startNanos;
+        RequestDeadline deadline = RequestDeadline.current();
+        ScheduledFuture<?> cancellation = null;
+        boolean opened = false;
+        try {
+            checkDeadline(deadline, sql);
+            connection = DataSourceUtils.getConnection(dataSource);
+            acquiredNanos = System.nanoTime();
+            preparedStatement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY,
+                ResultSet.CONCUR_READ_ONLY);
+            preparedStatement.setFetchSize(STREAM_FETCH_SIZE);
+            setParameters(preparedStatement, args);
+            cancellation = scheduleCancellation(preparedStatement, deadline, sql);
+
+            ResultSet rs = preparedStatement.executeQuery();
+            long executedNanos = System.nanoTime();
+            if (cancellation != null && !cancellation.cancel(false)) {
+                // 실행이 끝난 직후 취소가 발동했다면 이후 fetch가 실패하므로 여기서 시간 초과로 처리
+                rs.close();
+                throw new SpringException(ErrorMessage.QUERY_TIMEOUT, deadline.getTimeoutMillis() + "ms: " + sql);
+            }
+            opened = true;
+            return new OpenCursor(connection, preparedStatement, rs, acquiredNanos - startNanos,
+                executedNanos - acquiredNanos);
+        } catch (SQLException e) {
+            throw translate(e, deadline, sql);
+        } finally {
+            if (!opened) {
+                if (cancellation != null) {
+                    cancellation.cancel(false);
+                }
+                closePreparedStatement(preparedStatement);
+                DataSourceUtils.releaseConnection(connection, dataSource);
+                sqlMetrics.record(sql, acquiredNanos - startNanos, System.nanoTime() - acquiredNanos, true,
+                    args);
+            }
+        }
+    }
+
+    /**
+     * {@link #openCursor}로 연 커서를 해제하고 실행 단계의 시간과 읽은 행 수를 기록합니다.
+     */
+    private void closeCursor(String sql, Object[] args, OpenCursor cursor, boolean failed, long rows) {
+        try {
+            cursor.rs().close();
+        } catch (SQLException e) {
+            // 리소스 해제 중 오류는 흐름에 영향을 주지 않도록 무시
+        }
+        closePreparedStatement(cursor.preparedStatement());
+        DataSourceUtils.releaseConnection(cursor.connection(), dataSource);
+        sqlMetrics.record(sql, cursor.acquireNanos(), cursor.executeNanos(), failed, args);
+        sqlMetrics.recordRows(sql, rows);
+    }
+
     /**
      * PreparedStatement 리소스를 안전하게 해제합니다. 예외가 발생하더라도 무시하고 로그만 남깁니다.
      */
@@ -133,6 +415,64 @@ public class JdbcTemplateImpl implements JdbcTemplate {
         }
     }
 
+    /**
+     * 실행을 마친 커서와 실행 단계의 시간. {@code acquireNanos}는 커넥션 대기, {@code executeNanos}는 커넥션 획득부터
+     * {@code executeQuery} 반환까지입니다.
+     */
+    private record OpenCursor(Connection connection, PreparedStatement preparedStatement, ResultSet rs,
+                              long acquireNanos, long executeNanos) {
+
+    }
+
+    /**
+     * 열린 ResultSet을 한 행씩 전진시키는 Spliterator. 스트림이 닫힐 때 {@link #close()}로 JDBC 리소스를 해제합니다.
+     */
+    private final class ResultSetSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+
+        private final String sql;
+        private final Object[] args;
+        private final OpenCursor cursor;
+        private final RowMapper<T> rowMapper;
+        private long rows;
+        private boolean failed;
+        private boolean closed;
+
+        ResultSetSpliterator(String sql, Object[] args, OpenCursor cursor, RowMapper<T> rowMapper) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.sql = sql;
+            this.args = args;
+            this.cursor = cursor;
+            this.rowMapper = rowMapper;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (closed) {
+                return false;
+            }
+            ResultSet rs = cursor.rs();
+            try {
+                if (!rs.next()) {
+                    return false;
+                }
+                rows++;
+                action.accept(rowMapper.mapRow(rs));
+                return true;
+            } catch (SQLException e) {
+                failed = true;
+                throw new SpringException(ErrorMessage.SQL_EXECUTION_FILED, describe(e));
+            }
+        }
+
+        void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            closeCursor(sql, args, cursor, failed, rows);
+        }
+    }
+
     /**
      * SQL의 '?' 플레이스홀더에 파라미터를 바인딩합니다. 인덱스는 1부터 시작합니다.
      *
@@ -26,6 +26,8 @@ import javax.sql.DataSource;
  * <li>{@code db.url}: 데이터베이스 접속 URL</li>
  * <li>{@code db.username}: 계정 아이디</li>
  * <li>{@code db.password}: 계정 비밀번호</li>
+ * <li>{@code db.max-connections}: 이 애플리케이션이 동시에 열 수 있는 커넥션 수 (기본 10). 이 구현체는 풀이 없으므로 직접 제한하지 않고,
+ * {@link AsyncJdbcTemplateImpl}처럼 동시 실행 수를 커넥션 수에 맞춰야 하는 컴포넌트가 상한으로 사용합니다.</li>
  * </ul>
  *
  * @see javax.sql.DataSource
@@ -34,10 +36,16 @@ import javax.sql.DataSource;
 @Component
 public class SimpleDataSource implements DataSource {
 
+    /**
+     * {@code db.max-connections} 설정이 없을 때의 동시 커넥션 수
+     */
+    public static final int DEFAULT_MAX_CONNECTIONS = 10;
+
     private final String url;
     private final String username;
     private final String password;
     private final String driverClassName;
+    private final int maxConnections;
 
     /**
      * 환경 설정 객체로부터 DB 접속 정보를 읽어와 초기화합니다. 생성 시점에 JDBC 드라이버 클래스를 로딩하여 연결 준비를 마칩니다.
@@ -47,10 +55,37 @@ public class SimpleDataSource implements DataSource {
      */
     @Autowired
     public SimpleDataSource(Environment env) {
-        this.url = env.getProperty("db.url");
-        this.username = env.getProperty("db.username");
-        this.password = env.getProperty("db.password");
-        this.driverClassName = env.getProperty("db.driver-class-name");
+        this(env.getProperty("db.url"), env.getProperty("db.username"),
+            env.getProperty("db.password"), env.getProperty("db.driver-class-name"),
+            resolveMaxConnections(env.getProperty("db.max-connections")));
+    }
+
+    /**
+     * 접속 정보를 직접 지정하여 초기화합니다. 샤드처럼 기본 설정 키({@code db.url} 등)가 아닌 곳에서 접속 정보를 읽을 때 사용합니다.
+     *
+     * @param url             데이터베이스 접속 URL
+     * @param username        계정 아이디
+     * @param password        계정 비밀번호
+     * @param driverClassName JDBC 드라이버 클래스명
+     * @throws RuntimeException 지정된 JDBC 드라이버 클래스를 찾을 수 없는 경우
+     */
+    public SimpleDataSource(String url, String username, String password, String driverClassName) {
+        this(url, username, password, driverClassName, DEFAULT_MAX_CONNECTIONS);
+    }
+
+    /**
+     * 접속 정보와 동시 커넥션 수를 직접 지정하여 초기화합니다.
+     *
+     * @param maxConnections 이 애플리케이션이 동시에 열 수 있는 커넥션 수
+     * @throws RuntimeException 지정된 JDBC 드라이버 클래스를 찾을 수 없는 경우
+     */
+    public SimpleDataSource(String url, String username, String password, String driverClassName,
+        int maxConnections) {
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.driverClassName = driverClassName;
+        this.maxConnections = Math.max(1, maxConnections);
 
         try {
             // JDBC 드라이버 로딩 (초기화 검증)
@@ -61,6 +96,17 @@ public class SimpleDataSource implements DataSource {
         }
     }
 
+    private static int resolveMaxConnections(String value) {
+        return value == null || value.isBlank() ? DEFAULT_MAX_CONNECTIONS : Integer.parseInt(value.trim());
+    }
+
+    /**
+     * 이 애플리케이션이 동시에 열 수 있는 커넥션 수({@code db.max-connections})를 반환합니다.
+     */
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
     /**
      * 설정된 접속 정보를 사용하여 새로운 데이터베이스 연결을 생성합니다.
      *
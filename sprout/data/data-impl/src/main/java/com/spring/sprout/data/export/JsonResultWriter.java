@@ -0,0 +1,134 @@
+package com.spring.sprout.data.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * [ResultSet 직접 JSON 직렬화기]
+ *
+ * <p>조회 결과를 엔티티나 DTO로 옮기지 않고 {@link JsonGenerator}에 바로 씁니다. 컬럼 라벨이 필드 이름이 되며,
+ * 행은 {@code [{"id":1,"name":"..."}, ...]} 형태의 배열 원소가 됩니다.</p>
+ *
+ * <p>행마다 반복되는 작업을 줄이기 위해 메타데이터를 한 번만 해석합니다.</p>
+ * <ul>
+ * <li><b>필드 이름:</b> 라벨을 미리 인코딩한 {@link SerializedString}으로 보관하여 행마다 이스케이프하지 않습니다.</li>
+ * <li><b>값:</b> 컬럼 타입별 쓰기 함수를 배열로 고정합니다. 정수/실수/불리언은 원시 타입 getter로 읽으므로 박싱이 없고,
+ * DECIMAL은 DB가 표현한 숫자 문자열을 그대로 씁니다.</li>
+ * </ul>
+ */
+public final class JsonResultWriter {
+
+    private final SerializableString[] fieldNames;
+    private final ColumnWriter[] columnWriters;
+
+    private JsonResultWriter(SerializableString[] fieldNames, ColumnWriter[] columnWriters) {
+        this.fieldNames = fieldNames;
+        this.columnWriters = columnWriters;
+    }
+
+    /**
+     * ResultSet의 메타데이터로 컬럼별 쓰기 함수를 결정합니다.
+     */
+    public static JsonResultWriter of(ResultSet rs) throws SQLException {
+        ResultSetMetaData meta = rs.getMetaData();
+        int columnCount = meta.getColumnCount();
+        SerializableString[] fieldNames = new SerializableString[columnCount];
+        ColumnWriter[] columnWriters = new ColumnWriter[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            fieldNames[i] = new SerializedString(meta.getColumnLabel(i + 1));
+            columnWriters[i] = columnWriter(meta.getColumnType(i + 1), i + 1);
+        }
+        return new JsonResultWriter(fieldNames, columnWriters);
+    }
+
+    /**
+     * 남은 행을 모두 JSON 배열로 씁니다.
+     *
+     * @return 쓴 행 수
+     */
+    public long writeArray(ResultSet rs, JsonGenerator generator) throws SQLException, IOException {
+        long rows = 0;
+        generator.writeStartArray();
+        while (rs.next()) {
+            writeRow(rs, generator);
+            rows++;
+        }
+        generator.writeEndArray();
+        return rows;
+    }
+
+    /**
+     * 현재 행을 JSON 객체 하나로 씁니다.
+     */
+    public void writeRow(ResultSet rs, JsonGenerator generator) throws SQLException, IOException {
+        generator.writeStartObject();
+        for (int i = 0; i < columnWriters.length; i++) {
+            generator.writeFieldName(fieldNames[i]);
+            columnWriters[i].write(rs, generator);
+        }
+        generator.writeEndObject();
+    }
+
+    private static ColumnWriter columnWriter(int sqlType, int column) {
+        return switch (sqlType) {
+            case Types.TINYINT, Types.SMALLINT, Types.INTEGER, Types.BIGINT -> (rs, generator) -> {
+                long value = rs.getLong(column);
+                if (rs.wasNull()) {
+                    generator.writeNull();
+                } else {
+                    generator.writeNumber(value);
+                }
+            };
+            case Types.DECIMAL, Types.NUMERIC -> (rs, generator) -> {
+                // 정밀도를 잃지 않도록 DB가 표현한 숫자 문자열을 그대로 사용
+                String value = rs.getString(column);
+                if (value == null) {
+                    generator.writeNull();
+                } else {
+                    generator.writeNumber(value);
+                }
+            };
+            case Types.REAL, Types.FLOAT, Types.DOUBLE -> (rs, generator) -> {
+                double value = rs.getDouble(column);
+                if (rs.wasNull()) {
+                    generator.writeNull();
+                } else if (Double.isFinite(value)) {
+                    generator.writeNumber(value);
+                } else {
+                    generator.writeString(Double.toString(value)); // NaN, Infinity는 JSON 숫자가 아님
+                }
+            };
+            case Types.BOOLEAN, Types.BIT -> (rs, generator) -> {
+                boolean value = rs.getBoolean(column);
+                if (rs.wasNull()) {
+                    generator.writeNull();
+                } else {
+                    generator.writeBoolean(value);
+                }
+            };
+            default -> (rs, generator) -> {
+                String value = rs.getString(column);
+                if (value == null) {
+                    generator.writeNull();
+                } else {
+                    generator.writeString(value);
+                }
+            };
+        };
+    }
+
+    /**
+     * 한 컬럼의 값을 읽어 JSON 값으로 쓰는 함수
+     */
+    @FunctionalInterface
+    private interface ColumnWriter {
+
+        void write(ResultSet rs, JsonGenerator generator) throws SQLException, IOException;
+    }
+}
@@ -0,0 +1,235 @@
+package com.spring.sprout.data.export;
+
+import com.spring.sprout.DataExporter;
+import com.spring.sprout.ExportFormat;
+import com.spring.sprout.JdbcTemplate;
+import com.spring.sprout.bundle.api.Environment;
+import com.spring.sprout.data.metrics.SqlMetrics;
+import com.spring.sprout.global.annotation.Autowired;
+import com.spring.sprout.global.annotation.Component;
+import com.spring.sprout.global.error.ErrorMessage;
+import com.spring.sprout.global.error.SpringException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * [스트리밍 내보내기 구현체]
+ *
+ * <p>{@link DataExporter}의 표준 구현체입니다. 결과를 리스트로 모으지 않고, 커서가 한 행씩 전진할 때마다
+ * {@link Utf8ChannelWriter}를 통해 다이렉트 버퍼에 인코딩하여 채널로 내보냅니다.</p>
+ *
+ * <p>메모리 사용 특성:</p>
+ * <ul>
+ * <li><b>커서:</b> {@code TYPE_FORWARD_ONLY} Statement에 {@code db.export.fetch-size}(기본 1,000)를 지정하여 드라이버가
+ * 한 번에 그만큼만 가져오도록 합니다. (MySQL은 URL에 {@code useCursorFetch=true}가 있어야 Fetch Size를 따릅니다)</li>
+ * <li><b>출력 버퍼:</b> 64KB 다이렉트 버퍼를 풀에 보관하여 재사용합니다. 동시 내보내기 수만큼만 할당됩니다.</li>
+ * <li><b>값 인코딩:</b> 정수 컬럼은 {@code getLong}으로 읽어 자릿수를 직접 쓰므로 박싱이나 문자열 할당이 없습니다.</li>
+ * </ul>
+ *
+ * @see DataExporter
+ * @see Utf8ChannelWriter
+ */
+@Component
+public class StreamingDataExporter implements DataExporter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_POOLED_BUFFERS = 8;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SqlMetrics sqlMetrics;
+    private final int fetchSize;
+
+    private final ConcurrentLinkedQueue<ByteBuffer> bufferPool = new ConcurrentLinkedQueue<>();
+
+    @Autowired
+    public StreamingDataExporter(JdbcTemplate jdbcTemplate, SqlMetrics sqlMetrics,
+        Environment env) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.sqlMetrics = sqlMetrics;
+        String value = env.getProperty("db.export.fetch-size");
+        this.fetchSize = value == null || value.isBlank() ? 1_000 : Integer.parseInt(value.trim());
+    }
+
+    @Override
+    public long export(String sql, ExportFormat format, Path file, Object... args) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            return export(sql, format, channel, args);
+        } catch (IOException e) {
+            throw new SpringException(ErrorMessage.EXPORT_FAILED, e.getMessage());
+        }
+    }
+
+    @Override
+    public long export(String sql, ExportFormat format, WritableByteChannel channel,
+        Object... args) {
+        ByteBuffer buffer = bufferPool.poll();
+        if (buffer == null) {
+            buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        }
+        Utf8ChannelWriter writer = new Utf8ChannelWriter(buffer);
+        writer.reset(channel);
+        try {
+            long rows = jdbcTemplate.execute(sql, ps -> {
+                ps.setFetchSize(fetchSize);
+                try (ResultSet rs = ps.executeQuery()) {
+                    return writeAll(rs, format, writer);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, args);
+            sqlMetrics.recordRows(sql, rows);
+            return rows;
+        } catch (UncheckedIOException e) {
+            // 클라이언트 연결 종료 등 출력 실패
+            throw new SpringException(ErrorMessage.EXPORT_FAILED, e.getCause().getMessage());
+        } finally {
+            if (bufferPool.size() < MAX_POOLED_BUFFERS) {
+                bufferPool.offer(buffer);
+            }
+        }
+    }
+
+    private long writeAll(ResultSet rs, ExportFormat format, Utf8ChannelWriter writer)
+        throws SQLException, IOException {
+        ResultSetMetaData meta = rs.getMetaData();
+        int columnCount = meta.getColumnCount();
+        String[] labels = new String[columnCount];
+        ValueKind[] kinds = new ValueKind[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            labels[i] = meta.getColumnLabel(i + 1);
+            kinds[i] = ValueKind.of(meta.getColumnType(i + 1));
+        }
+
+        if (format == ExportFormat.CSV) {
+            for (int i = 0; i < columnCount; i++) {
+                if (i > 0) {
+                    writer.writeAscii(',');
+                }
+                writer.writeCsvField(labels[i]);
+            }
+            writer.writeAscii("\r\n");
+        }
+
+        long rows = 0;
+        while (rs.next()) {
+            if (format == ExportFormat.CSV) {
+                writeCsvRow(rs, kinds, writer);
+            } else {
+                writeJsonRow(rs, labels, kinds, writer);
+            }
+            rows++;
+        }
+        writer.flush();
+        return rows;
+    }
+
+    private void writeCsvRow(ResultSet rs, ValueKind[] kinds, Utf8ChannelWriter writer)
+        throws SQLException, IOException {
+        for (int i = 0; i < kinds.length; i++) {
+            if (i > 0) {
+                writer.writeAscii(',');
+            }
+            int column = i + 1;
+            switch (kinds[i]) {
+                case INTEGER -> {
+                    long value = rs.getLong(column);
+                    if (!rs.wasNull()) {
+                        writer.writeLong(value);
+                    }
+                }
+                case BOOLEAN -> {
+                    boolean value = rs.getBoolean(column);
+                    if (!rs.wasNull()) {
+                        writer.writeAscii(value ? "true" : "false");
+                    }
+                }
+                default -> {
+                    String value = rs.getString(column);
+                    if (value != null) {
+                        writer.writeCsvField(value);
+                    }
+                }
+            }
+        }
+        writer.writeAscii("\r\n");
+    }
+
+    private void writeJsonRow(ResultSet rs, String[] labels, ValueKind[] kinds,
+        Utf8ChannelWriter writer) throws SQLException, IOException {
+        writer.writeAscii('{');
+        for (int i = 0; i < kinds.length; i++) {
+            if (i > 0) {
+                writer.writeAscii(',');
+            }
+            writer.writeJsonString(labels[i]);
+            writer.writeAscii(':');
+            int column = i + 1;
+            switch (kinds[i]) {
+                case INTEGER -> {
+                    long value = rs.getLong(column);
+                    if (rs.wasNull()) {
+                        writer.writeAscii("null");
+                    } else {
+                        writer.writeLong(value);
+                    }
+                }
+                case BOOLEAN -> {
+                    boolean value = rs.getBoolean(column);
+                    writer.writeAscii(rs.wasNull() ? "null" : value ? "true" : "false");
+                }
+                case DECIMAL -> {
+                    // 정밀도를 잃지 않도록 DB가 표현한 숫자 문자열을 그대로 사용
+                    String value = rs.getString(column);
+                    writer.writeAscii(value == null ? "null" : value);
+                }
+                case FLOATING -> {
+                    double value = rs.getDouble(column);
+                    if (rs.wasNull()) {
+                        writer.writeAscii("null");
+                    } else if (Double.isFinite(value)) {
+                        writer.writeAscii(Double.toString(value));
+                    } else {
+                        writer.writeJsonString(Double.toString(value)); // NaN, Infinity는 JSON 숫자가 아님
+                    }
+                }
+                default -> {
+                    String value = rs.getString(column);
+                    if (value == null) {
+                        writer.writeAscii("null");
+                    } else {
+                        writer.writeJsonString(value);
+                    }
+                }
+            }
+        }
+        writer.writeAscii("}\n");
+    }
+
+    /**
+     * 컬럼 값을 읽고 쓰는 방식
+     */
+    private enum ValueKind {
+        INTEGER, DECIMAL, FLOATING, BOOLEAN, TEXT;
+
+        private static ValueKind of(int sqlType) {
+            return switch (sqlType) {
+                case Types.TINYINT, Types.SMALLINT, Types.INTEGER, Types.BIGINT -> INTEGER;
+                case Types.DECIMAL, Types.NUMERIC -> DECIMAL;
+                case Types.REAL, Types.FLOAT, Types.DOUBLE -> FLOATING;
+                case Types.BOOLEAN, Types.BIT -> BOOLEAN;
+                default -> TEXT;
+            };
+        }
+    }
+}
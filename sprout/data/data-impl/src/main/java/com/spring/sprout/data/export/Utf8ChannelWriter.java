@@ -0,0 +1,197 @@
+package com.spring.sprout.data.export;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * [UTF-8 채널 출력기]
+ *
+ * <p>문자와 숫자를 UTF-8 바이트로 직접 인코딩하여 다이렉트 {@link ByteBuffer}에 쌓고, 버퍼가 차면 채널로 내보냅니다.
+ * 값마다 중간 {@code byte[]}나 {@link String}을 만들지 않으며, 정수는 자릿수를 직접 계산하여 씁니다.</p>
+ *
+ * <p>한 번의 내보내기 동안 한 스레드만 사용합니다.</p>
+ */
+final class Utf8ChannelWriter {
+
+    /**
+     * UTF-8 한 문자의 최대 바이트 수 (서로게이트 쌍)
+     */
+    private static final int MAX_CHAR_BYTES = 4;
+
+    private final ByteBuffer buffer;
+    private WritableByteChannel channel;
+
+    Utf8ChannelWriter(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * 출력 대상 채널을 지정하고 버퍼를 비웁니다. 버퍼를 재사용할 때마다 호출합니다.
+     */
+    void reset(WritableByteChannel channel) {
+        this.channel = channel;
+        buffer.clear();
+    }
+
+    void writeAscii(char c) throws IOException {
+        ensureCapacity(1);
+        buffer.put((byte) c);
+    }
+
+    void writeAscii(String ascii) throws IOException {
+        for (int i = 0; i < ascii.length(); i++) {
+            writeAscii(ascii.charAt(i));
+        }
+    }
+
+    /**
+     * 문자 하나를 UTF-8로 인코딩하여 씁니다. 서로게이트 쌍은 {@link #write(CharSequence)}에서 처리합니다.
+     */
+    private void writeChar(char c) throws IOException {
+        ensureCapacity(MAX_CHAR_BYTES);
+        if (c < 0x80) {
+            buffer.put((byte) c);
+        } else if (c < 0x800) {
+            buffer.put((byte) (0xC0 | (c >> 6)));
+            buffer.put((byte) (0x80 | (c & 0x3F)));
+        } else {
+            buffer.put((byte) (0xE0 | (c >> 12)));
+            buffer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+            buffer.put((byte) (0x80 | (c & 0x3F)));
+        }
+    }
+
+    /**
+     * 문자열을 UTF-8로 인코딩하여 씁니다.
+     */
+    void write(CharSequence text) throws IOException {
+        write(text, 0, text.length());
+    }
+
+    /**
+     * 문자열의 [start, end) 구간을 UTF-8로 인코딩하여 씁니다.
+     */
+    void write(CharSequence text, int start, int end) throws IOException {
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (Character.isHighSurrogate(c) && i + 1 < end
+                && Character.isLowSurrogate(text.charAt(i + 1))) {
+                writeCodePoint(Character.toCodePoint(c, text.charAt(++i)));
+            } else {
+                writeChar(c);
+            }
+        }
+    }
+
+    /**
+     * CSV 필드를 씁니다. 쉼표, 따옴표, 줄바꿈이 포함된 경우에만 따옴표로 감싸고 내부 따옴표를 두 번 씁니다.
+     */
+    void writeCsvField(String value) throws IOException {
+        boolean needsQuote = false;
+        for (int i = 0; i < value.length() && !needsQuote; i++) {
+            char c = value.charAt(i);
+            needsQuote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!needsQuote) {
+            write(value);
+            return;
+        }
+        writeAscii('"');
+        int from = 0;
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) == '"') {
+                write(value, from, i + 1);
+                writeAscii('"');
+                from = i + 1;
+            }
+        }
+        write(value, from, value.length());
+        writeAscii('"');
+    }
+
+    /**
+     * JSON 문자열 리터럴(따옴표 포함)을 씁니다. 따옴표, 역슬래시, 제어 문자를 이스케이프합니다.
+     */
+    void writeJsonString(String value) throws IOException {
+        writeAscii('"');
+        int from = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c != '"' && c != '\\' && c >= 0x20) {
+                continue;
+            }
+            write(value, from, i);
+            switch (c) {
+                case '"' -> writeAscii("\\\"");
+                case '\\' -> writeAscii("\\\\");
+                case '\n' -> writeAscii("\\n");
+                case '\r' -> writeAscii("\\r");
+                case '\t' -> writeAscii("\\t");
+                default -> {
+                    writeAscii("\\u00");
+                    writeAscii(Character.forDigit(c >> 4, 16));
+                    writeAscii(Character.forDigit(c & 0xF, 16));
+                }
+            }
+            from = i + 1;
+        }
+        write(value, from, value.length());
+        writeAscii('"');
+    }
+
+    void writeCodePoint(int codePoint) throws IOException {
+        if (codePoint < 0x10000) {
+            writeChar((char) codePoint);
+            return;
+        }
+        ensureCapacity(MAX_CHAR_BYTES);
+        buffer.put((byte) (0xF0 | (codePoint >> 18)));
+        buffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+        buffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+        buffer.put((byte) (0x80 | (codePoint & 0x3F)));
+    }
+
+    /**
+     * 정수를 10진수 문자열 할당 없이 씁니다.
+     */
+    void writeLong(long value) throws IOException {
+        if (value == Long.MIN_VALUE) {
+            writeAscii(Long.toString(value));
+            return;
+        }
+        ensureCapacity(20);
+        if (value < 0) {
+            buffer.put((byte) '-');
+            value = -value;
+        }
+        int start = buffer.position();
+        do {
+            buffer.put((byte) ('0' + (value % 10)));
+            value /= 10;
+        } while (value > 0);
+        // 뒤집어 쓴 자릿수를 제자리에서 반전
+        for (int i = start, j = buffer.position() - 1; i < j; i++, j--) {
+            byte tmp = buffer.get(i);
+            buffer.put(i, buffer.get(j));
+            buffer.put(j, tmp);
+        }
+    }
+
+    /**
+     * 버퍼에 남은 내용을 모두 채널로 내보냅니다.
+     */
+    void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private void ensureCapacity(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+}
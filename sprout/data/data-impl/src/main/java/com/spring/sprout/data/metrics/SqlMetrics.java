@@ -0,0 +1,243 @@
+package com.spring.sprout.data.metrics;
+
+import com.spring.sprout.bundle.api.Environment;
+import com.spring.sprout.global.annotation.Autowired;
+import com.spring.sprout.global.annotation.Component;
+import com.spring.sprout.global.metrics.LatencyHistogram;
+import com.spring.sprout.global.metrics.MetricsSource;
+import com.spring.sprout.global.metrics.PrometheusWriter;
+import com.spring.sprout.global.metrics.QueryTracker;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import javax.sql.DataSource;
+
+/**
+ * [SQL 실행 지표 수집기]
+ *
+ * <p>{@link com.spring.sprout.data.config.JdbcTemplateImpl}을 통해 실행되는 모든 SQL에 대해
+ * 정규화된 SQL 형태별로 실행 횟수, 지연 시간 분포(p50/p99/max), 반환 행 수, 커넥션 획득 시간, 실패 횟수를 집계합니다.</p>
+ *
+ * <p>느린 쿼리 로그:</p>
+ * <ul>
+ * <li>실행 시간이 {@code db.metrics.slow-query-threshold-ms}(기본 1000ms) 이상이면 로그를 남깁니다. 0 이하로 설정하면 비활성화됩니다.</li>
+ * <li>{@code db.metrics.explain-slow-queries=true}이면 느린 SELECT의 실행 계획({@code EXPLAIN})을 별도 가상 스레드에서 조회하여
+ * 함께 출력합니다. 같은 SQL 형태에 대해서는 1분에 한 번만 수행합니다.</li>
+ * </ul>
+ *
+ * <p>집계 경로는 {@link LongAdder}와 {@link LatencyHistogram}만 사용하여 락 없이 동작합니다.
+ * 현재 스레드에 요청 단위 {@link QueryTracker}가 바인딩되어 있다면 같은 정규화 결과로 함께 기록합니다.</p>
+ *
+ * <p>집계 결과는 정규화된 SQL을 레이블로 하여 {@code /metrics}에 노출합니다. SQL 형태 수가 {@code MAX_STATEMENTS}로 제한되므로
+ * 레이블 종류도 그 이상 늘지 않습니다.</p>
+ *
+ * @see SqlNormalizer
+ * @see LatencyHistogram
+ * @see QueryTracker
+ */
+@Component
+public class SqlMetrics implements MetricsSource {
+
+    /**
+     * 집계할 SQL 형태의 최대 개수. 이를 넘는 형태는 하나의 버킷으로 합산하여 메모리 사용을 제한합니다.
+     */
+    private static final int MAX_STATEMENTS = 1_000;
+    private static final String OVERFLOW_KEY = "(other)";
+    private static final long EXPLAIN_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    private final DataSource dataSource;
+    private final long slowQueryThresholdNanos;
+    private final boolean explainSlowQueries;
+
+    private final Map<String, StatementStats> statistics = new ConcurrentHashMap<>();
+
+    @Autowired
+    public SqlMetrics(Environment env, DataSource dataSource) {
+        this.dataSource = dataSource;
+        this.slowQueryThresholdNanos = TimeUnit.MILLISECONDS.toNanos(
+            parseLong(env.getProperty("db.metrics.slow-query-threshold-ms"), 1_000));
+        this.explainSlowQueries = Boolean.parseBoolean(
+            env.getProperty("db.metrics.explain-slow-queries"));
+    }
+
+    /**
+     * SQL 한 건의 실행 결과를 기록합니다. 느린 쿼리라면 로그를 남기고, 설정에 따라 실행 계획을 조회합니다.
+     *
+     * @param sql          실행한 SQL (원본)
+     * @param acquireNanos 커넥션 획득에 걸린 시간
+     * @param elapsedNanos Statement 준비부터 콜백 완료까지 걸린 시간
+     * @param failed       SQL 실행 중 예외 발생 여부
+     * @param args         바인딩 파라미터 (실행 계획 조회에만 사용)
+     */
+    public void record(String sql, long acquireNanos, long elapsedNanos, boolean failed,
+        Object[] args) {
+        String key = SqlNormalizer.normalize(sql);
+        StatementStats stats = statsFor(key);
+
+        stats.latency.record(elapsedNanos);
+        stats.acquireNanos.add(acquireNanos);
+        if (failed) {
+            stats.errors.increment();
+        }
+
+        QueryTracker tracker = QueryTracker.current();
+        if (tracker != null) {
+            tracker.record(key);
+        }
+
+        if (slowQueryThresholdNanos > 0 && elapsedNanos >= slowQueryThresholdNanos) {
+            System.out.println("⚠️ [SLOW SQL] " + TimeUnit.NANOSECONDS.toMillis(elapsedNanos) + "ms"
+                + " (connection " + TimeUnit.NANOSECONDS.toMillis(acquireNanos) + "ms): " + key);
+            if (explainSlowQueries && shouldExplain(sql, stats)) {
+                Thread.ofVirtual().name("sql-explain").start(() -> explain(sql, args));
+            }
+        }
+    }
+
+    /**
+     * 조회 쿼리가 반환한 행 수를 기록합니다.
+     *
+     * @param sql  실행한 SQL (원본)
+     * @param rows 반환된 행 수
+     */
+    public void recordRows(String sql, long rows) {
+        statsFor(SqlNormalizer.normalize(sql)).rows.add(rows);
+    }
+
+    /**
+     * 현재까지 집계된 SQL 형태별 지표의 스냅샷을 반환합니다.
+     *
+     * @return SQL 형태별 지표 목록
+     */
+    public List<StatementSnapshot> snapshot() {
+        List<StatementSnapshot> result = new ArrayList<>();
+        for (Map.Entry<String, StatementStats> entry : statistics.entrySet()) {
+            StatementStats stats = entry.getValue();
+            LatencyHistogram latency = stats.latency;
+            result.add(new StatementSnapshot(
+                entry.getKey(),
+                latency.getCount(),
+                stats.errors.sum(),
+                stats.rows.sum(),
+                latency.percentileNanos(0.5),
+                latency.percentileNanos(0.99),
+                latency.getMaxNanos(),
+                stats.acquireNanos.sum()));
+        }
+        return result;
+    }
+
+    /**
+     * SQL 형태 하나에 대한 집계 결과
+     *
+     * @param sql                 정규화된 SQL
+     * @param count               실행 횟수
+     * @param errors              실패 횟수
+     * @param rows                반환된 행 수 합계
+     * @param p50Nanos            지연 시간 중앙값 (근사)
+     * @param p99Nanos            지연 시간 99분위수 (근사)
+     * @param maxNanos            최대 지연 시간
+     * @param totalAcquireNanos   커넥션 획득 시간 합계
+     */
+    public record StatementSnapshot(String sql, long count, long errors, long rows, long p50Nanos,
+                                    long p99Nanos, long maxNanos, long totalAcquireNanos) {
+
+    }
+
+    @Override
+    public void writeMetrics(PrometheusWriter writer) {
+        writer.family("sprout_sql_duration_seconds", "histogram", "SQL 형태별 실행 시간");
+        statistics.forEach((sql, stats) ->
+            writer.histogram("sprout_sql_duration_seconds", PrometheusWriter.labels("sql", sql), stats.latency));
+        writer.family("sprout_sql_errors_total", "counter", "SQL 형태별 실행 실패 횟수");
+        statistics.forEach((sql, stats) ->
+            writer.sample("sprout_sql_errors_total", PrometheusWriter.labels("sql", sql), stats.errors.sum()));
+        writer.family("sprout_sql_rows_total", "counter", "SQL 형태별 반환 행 수 합계");
+        statistics.forEach((sql, stats) ->
+            writer.sample("sprout_sql_rows_total", PrometheusWriter.labels("sql", sql), stats.rows.sum()));
+        writer.family("sprout_sql_connection_acquire_seconds_total", "counter", "SQL 형태별 커넥션 획득 시간 합계");
+        statistics.forEach((sql, stats) -> writer.sample("sprout_sql_connection_acquire_seconds_total",
+            PrometheusWriter.labels("sql", sql), stats.acquireNanos.sum() / 1e9));
+    }
+
+    private StatementStats statsFor(String key) {
+        StatementStats stats = statistics.get(key);
+        if (stats != null) {
+            return stats;
+        }
+        if (statistics.size() >= MAX_STATEMENTS) {
+            return statistics.computeIfAbsent(OVERFLOW_KEY, k -> new StatementStats());
+        }
+        return statistics.computeIfAbsent(key, k -> new StatementStats());
+    }
+
+    private boolean shouldExplain(String sql, StatementStats stats) {
+        if (!sql.stripLeading().regionMatches(true, 0, "SELECT", 0, 6)) {
+            return false;
+        }
+        long now = System.currentTimeMillis();
+        long last = stats.lastExplainMillis;
+        if (now - last < EXPLAIN_INTERVAL_MILLIS) {
+            return false;
+        }
+        stats.lastExplainMillis = now;
+        return true;
+    }
+
+    /**
+     * 별도 커넥션으로 EXPLAIN을 실행하여 실행 계획을 출력합니다. 진단용이므로 실패해도 요청 처리에 영향을 주지 않습니다.
+     */
+    private void explain(String sql, Object[] args) {
+        try (Connection conn = dataSource.getConnection();
+            PreparedStatement ps = conn.prepareStatement("EXPLAIN " + sql)) {
+            if (args != null) {
+                for (int i = 0; i < args.length; i++) {
+                    ps.setObject(i + 1, args[i]);
+                }
+            }
+            StringBuilder plan = new StringBuilder("[EXPLAIN] " + sql);
+            try (ResultSet rs = ps.executeQuery()) {
+                ResultSetMetaData meta = rs.getMetaData();
+                while (rs.next()) {
+                    plan.append("\n  ");
+                    for (int i = 1; i <= meta.getColumnCount(); i++) {
+                        if (i > 1) {
+                            plan.append(" | ");
+                        }
+                        plan.append(meta.getColumnLabel(i)).append('=').append(rs.getObject(i));
+                    }
+                }
+            }
+            System.out.println(plan);
+        } catch (SQLException e) {
+            System.out.println("[EXPLAIN] 실행 계획 조회 실패: " + e.getMessage());
+        }
+    }
+
+    private static long parseLong(String value, long defaultValue) {
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        return Long.parseLong(value.trim());
+    }
+
+    /**
+     * SQL 형태 하나에 대한 누적 지표
+     */
+    private static class StatementStats {
+
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder acquireNanos = new LongAdder();
+        private volatile long lastExplainMillis;
+    }
+}
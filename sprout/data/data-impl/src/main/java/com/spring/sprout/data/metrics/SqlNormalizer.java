@@ -0,0 +1,57 @@
+package com.spring.sprout.data.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * [SQL 정규화 유틸리티]
+ *
+ * <p>리터럴 값만 다른 SQL을 하나의 형태(Shape)로 묶기 위해 문자열·숫자 리터럴을 {@code ?}로 치환하고 공백을 정리합니다.
+ * 지표 집계와 반복 쿼리 탐지의 그룹 키로 사용됩니다.</p>
+ *
+ * <p>예시: {@code SELECT * FROM users WHERE id IN (1, 2, 3)} -> {@code SELECT * FROM users WHERE id IN (?)}</p>
+ *
+ * <p>프레임워크가 생성하는 SQL은 대부분 이미 바인딩 파라미터를 사용하므로 같은 문자열이 반복해서 들어옵니다.
+ * 따라서 정규화 결과를 원본 문자열 기준으로 캐싱하여 정규식 비용을 최초 1회로 제한합니다.</p>
+ */
+public final class SqlNormalizer {
+
+    /**
+     * 캐시 최대 크기. 리터럴이 박힌 동적 SQL이 무한히 쌓이지 않도록 이를 넘으면 캐싱하지 않습니다.
+     */
+    private static final int MAX_CACHE_SIZE = 10_000;
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final Map<String, String> cache = new ConcurrentHashMap<>();
+
+    private SqlNormalizer() {
+    }
+
+    /**
+     * SQL을 정규화된 형태로 변환합니다.
+     *
+     * @param sql 원본 SQL
+     * @return 리터럴이 제거되고 공백이 정리된 SQL
+     */
+    public static String normalize(String sql) {
+        String normalized = cache.get(sql);
+        if (normalized != null) {
+            return normalized;
+        }
+
+        normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = IN_LIST.matcher(normalized).replaceAll("(?)");
+        normalized = WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+
+        if (cache.size() < MAX_CACHE_SIZE) {
+            cache.put(sql, normalized);
+        }
+        return normalized;
+    }
+}
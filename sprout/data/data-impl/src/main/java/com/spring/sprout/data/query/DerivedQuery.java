@@ -0,0 +1,202 @@
+package com.spring.sprout.data.query;
+
+import com.spring.sprout.JdbcTemplate;
+import com.spring.sprout.RowMapper;
+import com.spring.sprout.StatementCallback;
+import com.spring.sprout.data.sharding.ShardRouter;
+import com.spring.sprout.global.error.ErrorMessage;
+import com.spring.sprout.global.error.SpringException;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * [파생 쿼리 실행 계획]
+ *
+ * <p>{@link DerivedQueryParser}가 리포지토리 메서드 이름을 해석한 결과물입니다.
+ * SQL 문자열, 결과 처리 방식, 반환 타입 변환 규칙이 리포지토리 생성 시점에 모두 확정되어 있으므로, 호출 시점에는 파라미터 바인딩과 실행만 남습니다.</p>
+ *
+ * <p>쿼리 유형:</p>
+ * <ul>
+ * <li><b>FIND:</b> 엔티티(또는 프로젝션) 목록, 단건, 또는 {@link Optional}을 반환합니다. ({@code findByNameAndAge})</li>
+ * <li><b>COUNT:</b> 조건에 맞는 행 수를 반환합니다. ({@code countByAge})</li>
+ * <li><b>EXISTS:</b> 조건에 맞는 행의 존재 여부를 반환합니다. ({@code existsByName})</li>
+ * <li><b>DELETE:</b> 조건에 맞는 행을 삭제하고, 필요 시 삭제된 행 수를 반환합니다. ({@code deleteByAgeLessThan})</li>
+ * </ul>
+ *
+ * <p>샤딩된 엔티티는 {@link #executeOnShards}로 모든 샤드에 실행한 뒤 병합합니다. 조회 결과는 OrderBy 정렬을 결과 객체에서 다시
+ * 적용하여 병합 정렬하므로, 단건/Optional 조회도 전체 샤드 기준의 첫 행을 반환합니다.</p>
+ *
+ * @see DerivedQueryParser
+ */
+public class DerivedQuery {
+
+    /**
+     * 파생 쿼리의 종류
+     */
+    public enum Type {
+        FIND, COUNT, EXISTS, DELETE
+    }
+
+    /**
+     * FIND 쿼리의 결과 형태
+     */
+    enum ResultShape {
+        LIST, SINGLE, OPTIONAL
+    }
+
+    private static final StatementCallback<Long> COUNT_CALLBACK = ps -> {
+        try (ResultSet rs = ps.executeQuery()) {
+            return rs.next() ? rs.getLong(1) : 0L;
+        }
+    };
+
+    private static final StatementCallback<Boolean> EXISTS_CALLBACK = ps -> {
+        try (ResultSet rs = ps.executeQuery()) {
+            return rs.next();
+        }
+    };
+
+    private static final StatementCallback<Integer> UPDATE_CALLBACK = ps -> ps.executeUpdate();
+
+    private final Type type;
+    private final ResultShape resultShape;
+    private final String sql;
+    private final RowMapper<?> rowMapper;
+    private final Class<?> returnType;
+    private final int parameterCount;
+
+    /**
+     * 메서드 이름에 OrderBy가 있는지 여부
+     */
+    private final boolean ordered;
+
+    /**
+     * OrderBy 정렬을 결과 객체에서 재현하는 비교기. 정렬이 없거나, 프로젝션에 정렬 프로퍼티가 없어 재현할 수 없으면 null입니다.
+     */
+    private final Comparator<Object> resultOrder;
+
+    DerivedQuery(Type type, ResultShape resultShape, String sql, RowMapper<?> rowMapper,
+        Class<?> returnType, int parameterCount, boolean ordered, Comparator<Object> resultOrder) {
+        this.type = type;
+        this.resultShape = resultShape;
+        this.sql = sql;
+        this.rowMapper = rowMapper;
+        this.returnType = returnType;
+        this.parameterCount = parameterCount;
+        this.ordered = ordered;
+        this.resultOrder = resultOrder;
+    }
+
+    /**
+     * 미리 조립된 SQL에 인자를 바인딩하여 실행하고, 메서드의 반환 타입에 맞게 결과를 변환합니다.
+     *
+     * @param jdbcTemplate SQL 실행을 담당할 템플릿
+     * @param args         리포지토리 메서드에 전달된 인자 (메서드 이름의 조건 순서와 동일)
+     * @return 메서드 반환 타입에 맞게 변환된 실행 결과
+     */
+    public Object execute(JdbcTemplate jdbcTemplate, Object[] args) {
+        return switch (type) {
+            case COUNT -> toCount(jdbcTemplate.execute(sql, COUNT_CALLBACK, args));
+            case EXISTS -> jdbcTemplate.execute(sql, EXISTS_CALLBACK, args);
+            case DELETE -> toAffected(jdbcTemplate.execute(sql, UPDATE_CALLBACK, args));
+            case FIND -> toResult(jdbcTemplate.query(sql, rowMapper, args));
+        };
+    }
+
+    /**
+     * 모든 샤드에 병렬로 실행하고 결과를 하나로 병합합니다.
+     *
+     * <ul>
+     * <li><b>조회:</b> 샤드별 결과를 모은 뒤 OrderBy 정렬로 다시 정렬합니다. 샤드별 결과가 이미 정렬되어 있으므로 병합 정렬 비용만 듭니다.
+     * 단건/Optional은 병합된 결과의 첫 행입니다. (OrderBy가 없으면 단일 DB와 마찬가지로 어느 행이 첫 행인지 정해지지 않습니다.)</li>
+     * <li><b>COUNT, DELETE 건수:</b> 합산</li>
+     * <li><b>EXISTS:</b> 한 샤드라도 true면 true</li>
+     * </ul>
+     *
+     * <p>문자열 정렬은 Java의 {@link String#compareTo} 순서로 병합하므로, DB 콜레이션이 대소문자를 구분하지 않는다면 샤드 간 순서가
+     * 단일 DB와 다를 수 있습니다.</p>
+     *
+     * @param shardRouter 실행할 샤드 목록을 가진 라우터
+     * @param args        리포지토리 메서드에 전달된 인자
+     * @return 메서드 반환 타입에 맞게 병합된 실행 결과
+     * @throws SpringException OrderBy 정렬을 결과에서 재현할 수 없는 쿼리인 경우 (리포지토리 생성 시 {@link #isShardMergeable()}로 걸러짐)
+     */
+    public Object executeOnShards(ShardRouter shardRouter, Object[] args) {
+        return switch (type) {
+            case COUNT -> {
+                long total = 0;
+                for (Long count : shardRouter.fanOut(template -> template.execute(sql, COUNT_CALLBACK, args))) {
+                    total += count;
+                }
+                yield toCount(total);
+            }
+            case EXISTS -> shardRouter.fanOut(template -> template.execute(sql, EXISTS_CALLBACK, args))
+                .contains(Boolean.TRUE);
+            case DELETE -> {
+                int total = 0;
+                for (Integer affected : shardRouter.fanOut(template -> template.execute(sql, UPDATE_CALLBACK, args))) {
+                    total += affected;
+                }
+                yield toAffected(total);
+            }
+            case FIND -> {
+                if (!isShardMergeable()) {
+                    throw new SpringException(ErrorMessage.INVALID_QUERY_METHOD, "샤드 결과를 정렬할 수 없는 쿼리: " + sql);
+                }
+                List<Object> merged = new ArrayList<>();
+                for (List<?> rows : shardRouter.<List<?>>fanOut(template -> template.query(sql, rowMapper, args))) {
+                    merged.addAll(rows);
+                }
+                if (resultOrder != null) {
+                    merged.sort(resultOrder); // 정렬된 run들을 이어 붙인 목록이므로 TimSort가 병합만 수행
+                }
+                yield toResult(merged);
+            }
+        };
+    }
+
+    /**
+     * 여러 샤드의 결과를 병합할 수 있는지 확인합니다. OrderBy가 있는 조회는 정렬 프로퍼티를 결과 객체에서 읽을 수 있어야 합니다.
+     */
+    public boolean isShardMergeable() {
+        return type != Type.FIND || !ordered || resultOrder != null;
+    }
+
+    private Object toCount(long count) {
+        return isIntType() ? (Object) (int) count : (Object) count;
+    }
+
+    private Object toAffected(int affected) {
+        if (returnType == void.class) {
+            return null;
+        }
+        return isIntType() ? (Object) affected : (Object) (long) affected;
+    }
+
+    private Object toResult(List<?> results) {
+        return switch (resultShape) {
+            case LIST -> results;
+            case SINGLE -> results.isEmpty() ? null : results.getFirst();
+            case OPTIONAL -> results.isEmpty() ? Optional.empty() : Optional.of(results.getFirst());
+        };
+    }
+
+    private boolean isIntType() {
+        return returnType == int.class || returnType == Integer.class;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    public int getParameterCount() {
+        return parameterCount;
+    }
+}
@@ -0,0 +1,462 @@
+package com.spring.sprout.data.query;
+
+import static com.spring.sprout.data.utils.TranslatorToSnake.translateToSnake;
+
+import com.spring.sprout.RowMapper;
+import com.spring.sprout.data.query.DerivedQuery.ResultShape;
+import com.spring.sprout.data.query.DerivedQuery.Type;
+import com.spring.sprout.data.support.EntityMapper;
+import com.spring.sprout.data.support.ProjectionMapper;
+import com.spring.sprout.global.error.ErrorMessage;
+import com.spring.sprout.global.error.SpringException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * [파생 쿼리 메서드 이름 해석기]
+ *
+ * <p>리포지토리 인터페이스에 선언된 메서드 이름(예: {@code findByNameAndAgeGreaterThan})을 분석하여
+ * SQL과 실행 계획({@link DerivedQuery})을 생성합니다. 리포지토리 프록시 생성 시점에 한 번만 수행되며, 해석할 수 없는 이름은 애플리케이션 시작 단계에서
+ * 즉시 예외로 보고됩니다 (Fail-Fast).</p>
+ *
+ * <p>이름 규칙: {@code <접두어>[주어]By<조건>[OrderBy<정렬>]}</p>
+ * <ul>
+ * <li><b>접두어:</b> find/read/get/query (조회), count, exists, delete/remove</li>
+ * <li><b>조건:</b> 프로퍼티명 + 연산자, {@code And}/{@code Or}로 연결
+ * (Is, Equals, Not, GreaterThan, GreaterThanEqual, LessThan, LessThanEqual, Between, Like, IsNull, IsNotNull)</li>
+ * <li><b>정렬:</b> {@code OrderByAgeDescNameAsc} 형식 (조회 쿼리에서만 사용 가능)</li>
+ * </ul>
+ *
+ * <p>조회 메서드의 반환 타입(또는 List/Optional의 요소 타입)이 엔티티가 아닌 record나 인터페이스라면 프로젝션으로 간주하여,
+ * 해당 프로퍼티의 컬럼만 SELECT하고 {@link ProjectionMapper}로 직접 매핑합니다. (예: {@code List<UserInfo> findAllBy()})</p>
+ *
+ * @see DerivedQuery
+ */
+public final class DerivedQueryParser {
+
+    private static final Pattern METHOD_PATTERN = Pattern.compile(
+        "^(find|read|get|query|count|exists|delete|remove)(\\p{Lu}\\w*?)??By(.*)$");
+
+    private static final Pattern CONNECTOR_PATTERN = Pattern.compile("(And|Or)(?=\\p{Lu})");
+
+    private static final String ORDER_BY = "OrderBy";
+
+    /**
+     * 조건 연산자 목록. 접미어가 긴 것부터 검사해야 {@code GreaterThanEqual}이 {@code GreaterThan}보다 우선 적용됩니다.
+     */
+    private enum Operator {
+        IS_NOT_NULL("IsNotNull", " IS NOT NULL", 0),
+        NOT_NULL("NotNull", " IS NOT NULL", 0),
+        IS_NULL("IsNull", " IS NULL", 0),
+        NULL("Null", " IS NULL", 0),
+        GREATER_THAN_EQUAL("GreaterThanEqual", " >= ?", 1),
+        GREATER_THAN("GreaterThan", " > ?", 1),
+        LESS_THAN_EQUAL("LessThanEqual", " <= ?", 1),
+        LESS_THAN("LessThan", " < ?", 1),
+        BETWEEN("Between", " BETWEEN ? AND ?", 2),
+        NOT_LIKE("NotLike", " NOT LIKE ?", 1),
+        LIKE("Like", " LIKE ?", 1),
+        IS_NOT("IsNot", " <> ?", 1),
+        NOT("Not", " <> ?", 1),
+        EQUALS("Equals", " = ?", 1),
+        IS("Is", " = ?", 1);
+
+        private final String suffix;
+        private final String sql;
+        private final int arguments;
+
+        Operator(String suffix, String sql, int arguments) {
+            this.suffix = suffix;
+            this.sql = sql;
+            this.arguments = arguments;
+        }
+    }
+
+    private DerivedQueryParser() {
+    }
+
+    /**
+     * 리포지토리 메서드를 해석하여 실행 계획을 생성합니다.
+     *
+     * @param method     해석할 리포지토리 메서드
+     * @param entityType 리포지토리가 관리하는 엔티티 타입
+     * @param tableName  엔티티에 매핑된 테이블 이름
+     * @return SQL과 결과 변환 규칙이 확정된 실행 계획
+     * @throws SpringException 메서드 이름, 파라미터 수, 반환 타입 중 하나라도 규칙에 맞지 않을 경우
+     */
+    public static DerivedQuery parse(Method method, Class<?> entityType, String tableName) {
+        Matcher matcher = METHOD_PATTERN.matcher(method.getName());
+        if (!matcher.matches()) {
+            throw invalid(method, "지원하지 않는 메서드 이름 형식");
+        }
+
+        Type type = resolveType(matcher.group(1));
+        String criteria = matcher.group(3);
+        String orderBy = "";
+
+        int orderIndex = criteria.indexOf(ORDER_BY);
+        if (orderIndex >= 0) {
+            orderBy = criteria.substring(orderIndex + ORDER_BY.length());
+            criteria = criteria.substring(0, orderIndex);
+            if (type != Type.FIND || orderBy.isEmpty()) {
+                throw invalid(method, "OrderBy는 조회 메서드에서만 사용할 수 있습니다");
+            }
+        }
+
+        // 조건 없는 조회(findAllBy)는 전체 조회로 허용하지만, count/exists/delete는 조건이 반드시 필요
+        if (criteria.isEmpty() && type != Type.FIND) {
+            throw invalid(method, "By 뒤에 조건이 없습니다");
+        }
+
+        Set<String> properties = collectProperties(entityType);
+        StringBuilder where = new StringBuilder();
+        int argumentCount = appendCriteria(method, criteria, properties, where);
+
+        if (argumentCount != method.getParameterCount()) {
+            throw invalid(method,
+                "파라미터 수 불일치 (필요: " + argumentCount + ", 선언: " + method.getParameterCount() + ")");
+        }
+
+        List<OrderKey> orderKeys = orderBy.isEmpty() ? List.of() : orderKeys(method, orderBy, properties);
+
+        ResultShape shape = resolveResultShape(method, type, entityType);
+        RowMapper<?> rowMapper = null;
+        String columns = "*";
+        Class<?> resultType = entityType;
+        if (type == Type.FIND) {
+            Class<?> elementType = resolveElementType(method, shape, entityType);
+            if (elementType.isAssignableFrom(entityType)) {
+                rowMapper = new EntityMapper<>(entityType);
+            } else {
+                resultType = elementType;
+                ProjectionMapper<?> projectionMapper = createProjectionMapper(method, elementType);
+                columns = projectionColumns(method, projectionMapper, properties);
+                rowMapper = projectionMapper;
+            }
+        }
+
+        StringBuilder sql = new StringBuilder(selectClause(type, tableName, columns));
+        if (where.length() > 0) {
+            sql.append(" WHERE ").append(where);
+        }
+        if (!orderKeys.isEmpty()) {
+            sql.append(" ORDER BY ").append(orderClause(orderKeys));
+        }
+        if (type == Type.EXISTS) {
+            sql.append(" LIMIT 1");
+        }
+
+        return new DerivedQuery(type, shape, sql.toString(), rowMapper, method.getReturnType(),
+            argumentCount, !orderKeys.isEmpty(), resultOrder(orderKeys, resultType, entityType));
+    }
+
+    private static Type resolveType(String prefix) {
+        return switch (prefix) {
+            case "count" -> Type.COUNT;
+            case "exists" -> Type.EXISTS;
+            case "delete", "remove" -> Type.DELETE;
+            default -> Type.FIND;
+        };
+    }
+
+    private static String selectClause(Type type, String tableName, String columns) {
+        return switch (type) {
+            case COUNT -> "SELECT COUNT(*) FROM " + tableName;
+            case EXISTS -> "SELECT 1 FROM " + tableName;
+            case DELETE -> "DELETE FROM " + tableName;
+            case FIND -> "SELECT " + columns + " FROM " + tableName;
+        };
+    }
+
+    /**
+     * {@code And}/{@code Or}로 연결된 조건부를 WHERE 절로 변환하고, 필요한 바인딩 인자 수를 반환합니다.
+     */
+    private static int appendCriteria(Method method, String criteria, Set<String> properties,
+        StringBuilder where) {
+        if (criteria.isEmpty()) {
+            return 0;
+        }
+
+        int argumentCount = 0;
+        int start = 0;
+        Matcher connector = CONNECTOR_PATTERN.matcher(criteria);
+        while (true) {
+            boolean found = connector.find();
+            String part = criteria.substring(start, found ? connector.start() : criteria.length());
+            argumentCount += appendPredicate(method, part, properties, where);
+            if (!found) {
+                return argumentCount;
+            }
+            where.append(connector.group(1).equals("And") ? " AND " : " OR ");
+            start = connector.end();
+        }
+    }
+
+    /**
+     * 단일 조건(예: {@code AgeGreaterThan})을 SQL 조건식으로 변환합니다. 연산자 접미어를 제거한 나머지가 엔티티 필드여야 하며, 접미어가 없는
+     * 경우 동등 비교로 간주합니다.
+     */
+    private static int appendPredicate(Method method, String part, Set<String> properties,
+        StringBuilder where) {
+        for (Operator operator : Operator.values()) {
+            if (!part.endsWith(operator.suffix) || part.length() == operator.suffix.length()) {
+                continue;
+            }
+            String property = decapitalize(part.substring(0, part.length() - operator.suffix.length()));
+            if (properties.contains(property)) {
+                where.append(translateToSnake(property)).append(operator.sql);
+                return operator.arguments;
+            }
+        }
+
+        String property = decapitalize(part);
+        if (!properties.contains(property)) {
+            throw invalid(method, "엔티티에 존재하지 않는 프로퍼티: " + part);
+        }
+        where.append(translateToSnake(property)).append(" = ?");
+        return 1;
+    }
+
+    /**
+     * OrderBy의 정렬 키 하나
+     *
+     * @param property   정렬할 엔티티 프로퍼티
+     * @param descending 내림차순 여부
+     */
+    private record OrderKey(String property, boolean descending) {
+
+    }
+
+    /**
+     * {@code AgeDescNameAsc} 형식의 정렬부를 정렬 키 목록으로 해석합니다. 방향이 생략되면 오름차순입니다.
+     */
+    private static List<OrderKey> orderKeys(Method method, String orderBy, Set<String> properties) {
+        List<OrderKey> keys = new ArrayList<>();
+        for (String part : orderBy.split("(?<=Asc|Desc)(?=\\p{Lu})")) {
+            boolean descending = false;
+            String property = part;
+            if (part.endsWith("Desc")) {
+                descending = true;
+                property = part.substring(0, part.length() - 4);
+            } else if (part.endsWith("Asc")) {
+                property = part.substring(0, part.length() - 3);
+            }
+
+            property = decapitalize(property);
+            if (!properties.contains(property)) {
+                throw invalid(method, "정렬할 수 없는 프로퍼티: " + part);
+            }
+            keys.add(new OrderKey(property, descending));
+        }
+        return keys;
+    }
+
+    private static String orderClause(List<OrderKey> keys) {
+        List<String> orders = new ArrayList<>();
+        for (OrderKey key : keys) {
+            orders.add(translateToSnake(key.property()) + (key.descending() ? " DESC" : " ASC"));
+        }
+        return String.join(", ", orders);
+    }
+
+    /**
+     * 정렬 키를 결과 객체(엔티티, record, 인터페이스 프로젝션)에서 읽어 ORDER BY와 같은 순서를 만드는 비교기를 생성합니다.
+     * 샤드별 결과를 병합할 때 사용합니다. NULL은 오름차순에서 앞, 내림차순에서 뒤에 둡니다. (MySQL, H2 기본 동작)
+     *
+     * @return 비교기 (정렬이 없거나, 결과 객체에 정렬 프로퍼티가 없거나, 비교할 수 없는 타입이면 null)
+     */
+    private static Comparator<Object> resultOrder(List<OrderKey> keys, Class<?> resultType, Class<?> entityType) {
+        Comparator<Object> order = null;
+        for (OrderKey key : keys) {
+            Function<Object, Object> reader = propertyReader(resultType, key.property());
+            if (reader == null || !isComparable(entityType, key.property())) {
+                return null;
+            }
+            Comparator<Object> byKey = (a, b) -> compareValues(reader.apply(a), reader.apply(b));
+            if (key.descending()) {
+                byKey = byKey.reversed();
+            }
+            order = order == null ? byKey : order.thenComparing(byKey);
+        }
+        return order;
+    }
+
+    /**
+     * 결과 객체에서 프로퍼티 값을 읽는 함수를 만듭니다. 엔티티는 필드를, 프로젝션은 접근자 메서드를 사용합니다.
+     */
+    private static Function<Object, Object> propertyReader(Class<?> resultType, String property) {
+        Method accessor = null;
+        if (resultType.isRecord() || resultType.isInterface()) {
+            String capitalized = Character.toUpperCase(property.charAt(0)) + property.substring(1);
+            for (String name : List.of(property, "get" + capitalized, "is" + capitalized)) {
+                try {
+                    accessor = resultType.getMethod(name);
+                    break;
+                } catch (NoSuchMethodException e) {
+                    // 다음 이름 규칙 확인
+                }
+            }
+            if (accessor == null) {
+                return null;
+            }
+            accessor.setAccessible(true);
+            Method resolved = accessor;
+            return row -> {
+                try {
+                    return resolved.invoke(row);
+                } catch (ReflectiveOperationException e) {
+                    throw new SpringException(ErrorMessage.ENTITY_MAPPING_FILED, property);
+                }
+            };
+        }
+        try {
+            Field field = resultType.getDeclaredField(property);
+            field.setAccessible(true);
+            return row -> {
+                try {
+                    return field.get(row);
+                } catch (IllegalAccessException e) {
+                    throw new SpringException(ErrorMessage.ENTITY_MAPPING_FILED, property);
+                }
+            };
+        } catch (NoSuchFieldException e) {
+            return null;
+        }
+    }
+
+    private static boolean isComparable(Class<?> entityType, String property) {
+        try {
+            Class<?> type = entityType.getDeclaredField(property).getType();
+            return type.isPrimitive() || Comparable.class.isAssignableFrom(type);
+        } catch (NoSuchFieldException e) {
+            return false;
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compareValues(Object a, Object b) {
+        if (a == b) {
+            return 0;
+        }
+        if (a == null) {
+            return -1;
+        }
+        if (b == null) {
+            return 1;
+        }
+        return ((Comparable) a).compareTo(b);
+    }
+
+    /**
+     * 메서드 반환 타입이 쿼리 유형과 호환되는지 검증하고, 조회 쿼리의 결과 형태를 결정합니다.
+     */
+    private static ResultShape resolveResultShape(Method method, Type type, Class<?> entityType) {
+        Class<?> returnType = method.getReturnType();
+        switch (type) {
+            case COUNT -> {
+                if (returnType == long.class || returnType == Long.class
+                    || returnType == int.class || returnType == Integer.class) {
+                    return null;
+                }
+            }
+            case EXISTS -> {
+                if (returnType == boolean.class || returnType == Boolean.class) {
+                    return null;
+                }
+            }
+            case DELETE -> {
+                if (returnType == void.class || returnType == long.class || returnType == Long.class
+                    || returnType == int.class || returnType == Integer.class) {
+                    return null;
+                }
+            }
+            case FIND -> {
+                if (returnType.isAssignableFrom(List.class) && Collection.class.isAssignableFrom(returnType)) {
+                    return ResultShape.LIST;
+                }
+                if (returnType == Optional.class) {
+                    return ResultShape.OPTIONAL;
+                }
+                if (returnType != void.class && !returnType.isPrimitive()) {
+                    return ResultShape.SINGLE;
+                }
+            }
+        }
+        throw invalid(method, "지원하지 않는 반환 타입: " + returnType.getSimpleName());
+    }
+
+    /**
+     * 조회 결과의 요소 타입을 결정합니다. List/Optional은 제네릭 인자를, 단건은 반환 타입 자체를 사용합니다.
+     */
+    private static Class<?> resolveElementType(Method method, ResultShape shape, Class<?> entityType) {
+        if (shape == ResultShape.SINGLE) {
+            return method.getReturnType();
+        }
+        if (method.getGenericReturnType() instanceof ParameterizedType pt
+            && pt.getActualTypeArguments()[0] instanceof Class<?> elementType) {
+            return elementType;
+        }
+        // 원시 타입(raw type)이나 와일드카드라면 엔티티로 간주
+        return entityType;
+    }
+
+    private static ProjectionMapper<?> createProjectionMapper(Method method, Class<?> elementType) {
+        if (!elementType.isRecord() && !elementType.isInterface()) {
+            throw invalid(method, "엔티티가 아닌 반환 타입은 record 또는 인터페이스여야 합니다: "
+                + elementType.getSimpleName());
+        }
+        return new ProjectionMapper<>(elementType);
+    }
+
+    /**
+     * 프로젝션 프로퍼티를 SELECT 절 컬럼 목록으로 변환합니다. 모든 프로퍼티는 엔티티 필드와 대응되어야 합니다.
+     */
+    private static String projectionColumns(Method method, ProjectionMapper<?> projectionMapper,
+        Set<String> properties) {
+        List<String> columns = new ArrayList<>();
+        for (String property : projectionMapper.getProperties()) {
+            if (!properties.contains(property)) {
+                throw invalid(method, "엔티티에 존재하지 않는 프로젝션 프로퍼티: " + property);
+            }
+            columns.add(translateToSnake(property));
+        }
+        if (columns.isEmpty()) {
+            throw invalid(method, "프로젝션에 조회할 프로퍼티가 없습니다");
+        }
+        return String.join(", ", columns);
+    }
+
+    private static Set<String> collectProperties(Class<?> entityType) {
+        Set<String> properties = new HashSet<>();
+        for (Field field : entityType.getDeclaredFields()) {
+            if (!Modifier.isStatic(field.getModifiers())) {
+                properties.add(field.getName());
+            }
+        }
+        return properties;
+    }
+
+    private static String decapitalize(String name) {
+        if (name.isEmpty()) {
+            return name;
+        }
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static SpringException invalid(Method method, String reason) {
+        return new SpringException(ErrorMessage.INVALID_QUERY_METHOD,
+            method.getDeclaringClass().getSimpleName() + "." + method.getName() + ": " + reason);
+    }
+}
@@ -0,0 +1,219 @@
+package com.spring.sprout.data.sharding;
+
+import com.spring.sprout.JdbcTemplate;
+import com.spring.sprout.bundle.api.Environment;
+import com.spring.sprout.data.config.JdbcTemplateImpl;
+import com.spring.sprout.data.config.SimpleDataSource;
+import com.spring.sprout.data.metrics.SqlMetrics;
+import com.spring.sprout.global.annotation.Autowired;
+import com.spring.sprout.global.annotation.Component;
+import com.spring.sprout.global.error.ErrorMessage;
+import com.spring.sprout.global.error.SpringException;
+import com.spring.sprout.global.web.RequestDeadline;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import javax.sql.DataSource;
+
+/**
+ * [샤드 라우터]
+ *
+ * <p>{@code @Entity(shardKey = ...)}로 선언된 엔티티를 여러 데이터소스에 수평 분할하기 위한 라우팅 테이블입니다.
+ * 샤드 키 값을 일관된 해싱(Consistent Hashing) 링에 올려 담당 샤드를 결정하고, 전체 조회는 모든 샤드에 병렬로 실행합니다.</p>
+ *
+ * <p>라우팅 방식:</p>
+ * <ul>
+ * <li><b>가상 노드:</b> 샤드마다 {@code db.shards.virtual-nodes}(기본 160)개의 지점을 링에 배치하여 키를 고르게 분산합니다.
+ * 샤드를 추가해도 전체 키의 약 1/N만 담당 샤드가 바뀝니다.</li>
+ * <li><b>키 정규화:</b> 정수형 키는 타입과 무관하게 같은 값이면 같은 샤드로 갑니다. ({@code int 1}과 {@code Long 1L})</li>
+ * <li><b>팬아웃:</b> 각 샤드의 쿼리를 가상 스레드에서 동시에 실행하고, 결과를 샤드 설정 순서대로 반환합니다.</li>
+ * </ul>
+ *
+ * <p>설정 (application.properties):</p>
+ * <ul>
+ * <li>{@code db.shards}: 쉼표로 구분한 샤드 이름 목록 (예: {@code s0,s1}). 비어 있으면 샤딩을 사용하지 않습니다.</li>
+ * <li>{@code db.shards.<이름>.url}, {@code .username}, {@code .password}: 샤드 접속 정보</li>
+ * <li>{@code db.shards.<이름>.driver-class-name}: 생략 시 {@code db.driver-class-name}을 사용합니다.</li>
+ * </ul>
+ *
+ * <p>테스트에서는 {@code jdbc:h2:mem:shard0;DB_CLOSE_DELAY=-1}처럼 이름이 다른 H2 인메모리 DB를 샤드로 사용할 수 있습니다.</p>
+ *
+ * <p><b>주의:</b> 샤드 데이터소스의 커넥션은 {@code @Transactional} 트랜잭션에 참여하지 않고 문장 단위로 자동 커밋됩니다.
+ * 여러 샤드에 걸친 원자적 쓰기는 지원하지 않습니다.</p>
+ *
+ * @see com.spring.sprout.data.support.RepositoryHandler
+ */
+@Component
+public class ShardRouter {
+
+    private static final int DEFAULT_VIRTUAL_NODES = 160;
+
+    private final List<Shard> shards = new ArrayList<>();
+    private final TreeMap<Long, Shard> ring = new TreeMap<>();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Autowired
+    public ShardRouter(Environment env, SqlMetrics sqlMetrics) {
+        String names = env.getProperty("db.shards");
+        if (names == null || names.isBlank()) {
+            return;
+        }
+        String defaultDriver = env.getProperty("db.driver-class-name");
+        for (String name : names.split(",")) {
+            name = name.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            String prefix = "db.shards." + name + ".";
+            String url = env.getProperty(prefix + "url");
+            if (url == null || url.isBlank()) {
+                throw new SpringException(ErrorMessage.INVALID_SHARD_CONFIG, prefix + "url");
+            }
+            String driver = env.getProperty(prefix + "driver-class-name");
+            DataSource dataSource = new SimpleDataSource(url, env.getProperty(prefix + "username"),
+                env.getProperty(prefix + "password"), driver == null ? defaultDriver : driver);
+            shards.add(new Shard(name, dataSource, new JdbcTemplateImpl(dataSource, sqlMetrics)));
+        }
+
+        String virtualNodes = env.getProperty("db.shards.virtual-nodes");
+        int pointsPerShard = virtualNodes == null || virtualNodes.isBlank()
+            ? DEFAULT_VIRTUAL_NODES : Integer.parseInt(virtualNodes.trim());
+        for (Shard shard : shards) {
+            for (int i = 0; i < pointsPerShard; i++) {
+                ring.put(hash(shard.name() + "#" + i), shard);
+            }
+        }
+        System.out.println("Sharding enabled: " + shards.size() + " shards " + shardNames());
+    }
+
+    /**
+     * 샤드가 하나 이상 설정되어 있는지 확인합니다.
+     */
+    public boolean isEnabled() {
+        return !shards.isEmpty();
+    }
+
+    /**
+     * 설정 순서대로 정렬된 샤드 목록을 반환합니다.
+     */
+    public List<Shard> getShards() {
+        return List.copyOf(shards);
+    }
+
+    /**
+     * 샤드 키 값을 담당하는 샤드를 반환합니다.
+     *
+     * @param shardKey 엔티티의 샤드 키 값
+     * @return 링에서 키 해시 이후 처음 만나는 샤드
+     * @throws SpringException 키가 null이거나 샤드가 설정되지 않은 경우
+     */
+    public Shard route(Object shardKey) {
+        if (shardKey == null) {
+            throw new SpringException(ErrorMessage.INVALID_SHARD_KEY, "샤드 키 값이 null입니다.");
+        }
+        if (ring.isEmpty()) {
+            throw new SpringException(ErrorMessage.INVALID_SHARD_CONFIG, "db.shards");
+        }
+        Map.Entry<Long, Shard> entry = ring.ceilingEntry(hash(normalize(shardKey)));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    /**
+     * 모든 샤드에 같은 작업을 병렬로 실행하고, 결과를 샤드 설정 순서대로 반환합니다.
+     *
+     * <p>한 샤드라도 실패하면 나머지 결과를 버리고 첫 번째 예외를 던집니다.</p>
+     *
+     * @param action 샤드의 템플릿으로 실행할 작업
+     * @return 샤드별 실행 결과 (null 결과 포함)
+     */
+    public <T> List<T> fanOut(Function<JdbcTemplate, T> action) {
+        if (shards.size() == 1) {
+            List<T> single = new ArrayList<>(1);
+            single.add(action.apply(shards.getFirst().jdbcTemplate()));
+            return single;
+        }
+        List<CompletableFuture<T>> futures = new ArrayList<>(shards.size());
+        for (Shard shard : shards) {
+            futures.add(CompletableFuture.supplyAsync(
+                RequestDeadline.propagate(() -> action.apply(shard.jdbcTemplate())), executor));
+        }
+        List<T> results = new ArrayList<>(shards.size());
+        try {
+            for (CompletableFuture<T> future : futures) {
+                results.add(future.join());
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new SpringException(ErrorMessage.SHARD_QUERY_FAILED, String.valueOf(e.getCause()));
+        }
+        return results;
+    }
+
+    /**
+     * 샤드 작업을 실행할 가상 스레드 실행기를 반환합니다. 비동기 조회 메서드에서 사용합니다.
+     */
+    public ExecutorService getExecutor() {
+        return executor;
+    }
+
+    private List<String> shardNames() {
+        List<String> names = new ArrayList<>(shards.size());
+        for (Shard shard : shards) {
+            names.add(shard.name());
+        }
+        return names;
+    }
+
+    /**
+     * 정수형 키는 박싱 타입과 무관하게 같은 문자열로 정규화합니다.
+     */
+    private static String normalize(Object key) {
+        if (key instanceof Integer || key instanceof Long || key instanceof Short
+            || key instanceof Byte || key instanceof BigInteger) {
+            return key.toString();
+        }
+        if (key instanceof BigDecimal decimal) {
+            return decimal.stripTrailingZeros().toPlainString();
+        }
+        return String.valueOf(key);
+    }
+
+    /**
+     * 64비트 FNV-1a 해시에 MurmurHash3의 최종 혼합 단계를 적용합니다. 짧고 비슷한 키(연속된 ID 등)도 링 전체에 고르게 퍼집니다.
+     */
+    static long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b & 0xFF;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * 샤드 하나의 접속 정보
+     *
+     * @param name         설정에 선언한 샤드 이름
+     * @param dataSource   샤드 데이터소스
+     * @param jdbcTemplate 샤드 데이터소스로 SQL을 실행하는 템플릿
+     */
+    public record Shard(String name, DataSource dataSource, JdbcTemplate jdbcTemplate) {
+
+    }
+}
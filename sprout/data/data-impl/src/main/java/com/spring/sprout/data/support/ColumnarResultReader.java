@@ -0,0 +1,332 @@
+package com.spring.sprout.data.support;
+
+import com.spring.sprout.ColumnBatch;
+import com.spring.sprout.ColumnBatch.Column;
+import com.spring.sprout.ColumnBatch.DoubleColumn;
+import com.spring.sprout.ColumnBatch.IntColumn;
+import com.spring.sprout.ColumnBatch.LongColumn;
+import com.spring.sprout.ColumnBatch.StringColumn;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * [컬럼 단위 ResultSet 리더]
+ *
+ * <p>{@link ResultSet}을 객체로 매핑하지 않고 원시 타입 배열에 바로 읽어 들입니다.
+ * {@code getInt/getLong/getDouble}로 값을 꺼내므로 행마다 박싱이나 엔티티 생성이 일어나지 않으며,
+ * 배열은 두 배씩 늘려 재할당 횟수를 로그 수준으로 유지합니다.</p>
+ *
+ * <p>컬럼 타입 결정 규칙 ({@link #readColumns(ResultSet)}):</p>
+ * <ul>
+ * <li>TINYINT, SMALLINT, INTEGER, BOOLEAN -> {@code int[]}</li>
+ * <li>BIGINT, 소수 자릿수가 0이고 정밀도가 18자리 이하인 DECIMAL/NUMERIC -> {@code long[]}</li>
+ * <li>REAL, FLOAT, DOUBLE, 소수 자릿수가 있고 정밀도가 15자리 이하인 DECIMAL/NUMERIC -> {@code double[]}</li>
+ * <li>정밀도가 위 범위를 넘거나 알 수 없는 DECIMAL/NUMERIC -> 값을 잃지 않도록 {@link BigDecimal#toPlainString()} 문자열</li>
+ * <li>그 외 모든 타입 -> 문자열 사전 인코딩 (같은 값은 한 번만 저장)</li>
+ * </ul>
+ *
+ * @see ColumnBatch
+ */
+public final class ColumnarResultReader {
+
+    private static final int INITIAL_CAPACITY = 1_024;
+
+    private ColumnarResultReader() {
+    }
+
+    /**
+     * {@code long}으로 손실 없이 담을 수 있는 정수 DECIMAL의 최대 정밀도 ({@link Long#MAX_VALUE}는 19자리)
+     */
+    private static final int MAX_LONG_PRECISION = 18;
+
+    /**
+     * {@code double}이 모든 값을 정확히 구분할 수 있는 최대 십진 정밀도
+     */
+    private static final int MAX_DOUBLE_PRECISION = 15;
+
+    /**
+     * 첫 번째 컬럼을 {@code int} 배열로 읽습니다. NULL은 0으로 채워집니다.
+     */
+    public static int[] readInts(ResultSet rs) throws SQLException {
+        int[] values = new int[INITIAL_CAPACITY];
+        int size = 0;
+        while (rs.next()) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = rs.getInt(1);
+        }
+        return Arrays.copyOf(values, size);
+    }
+
+    /**
+     * 첫 번째 컬럼을 {@code long} 배열로 읽습니다. NULL은 0으로 채워집니다.
+     */
+    public static long[] readLongs(ResultSet rs) throws SQLException {
+        long[] values = new long[INITIAL_CAPACITY];
+        int size = 0;
+        while (rs.next()) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = rs.getLong(1);
+        }
+        return Arrays.copyOf(values, size);
+    }
+
+    /**
+     * 첫 번째 컬럼을 {@code double} 배열로 읽습니다. NULL은 0으로 채워집니다.
+     */
+    public static double[] readDoubles(ResultSet rs) throws SQLException {
+        double[] values = new double[INITIAL_CAPACITY];
+        int size = 0;
+        while (rs.next()) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = rs.getDouble(1);
+        }
+        return Arrays.copyOf(values, size);
+    }
+
+    /**
+     * 모든 컬럼을 타입에 맞는 배열로 읽어 {@link ColumnBatch}를 만듭니다.
+     */
+    public static ColumnBatch readColumns(ResultSet rs) throws SQLException {
+        ResultSetMetaData meta = rs.getMetaData();
+        int columnCount = meta.getColumnCount();
+
+        ColumnBuffer[] buffers = new ColumnBuffer[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            buffers[i] = createBuffer(meta, i + 1);
+        }
+
+        int rowCount = 0;
+        while (rs.next()) {
+            for (int i = 0; i < columnCount; i++) {
+                buffers[i].read(rs, i + 1, rowCount);
+            }
+            rowCount++;
+        }
+
+        List<Column> columns = new ArrayList<>(columnCount);
+        for (ColumnBuffer buffer : buffers) {
+            columns.add(buffer.toColumn(rowCount));
+        }
+        return new ColumnBatch(rowCount, columns);
+    }
+
+    private static ColumnBuffer createBuffer(ResultSetMetaData meta, int index)
+        throws SQLException {
+        String name = meta.getColumnLabel(index);
+        return switch (meta.getColumnType(index)) {
+            case Types.TINYINT, Types.SMALLINT, Types.INTEGER, Types.BOOLEAN, Types.BIT ->
+                new IntBuffer(name);
+            case Types.BIGINT -> new LongBuffer(name);
+            case Types.DECIMAL, Types.NUMERIC -> createDecimalBuffer(name, meta.getPrecision(index),
+                meta.getScale(index));
+            case Types.REAL, Types.FLOAT, Types.DOUBLE -> new DoubleBuffer(name);
+            default -> new TextBuffer(name);
+        };
+    }
+
+    /**
+     * DECIMAL/NUMERIC 컬럼은 정밀도까지 확인하여 원시 타입으로 손실 없이 담을 수 있을 때만 원시 배열을 사용합니다.
+     * 드라이버가 정밀도를 알려주지 않으면(0) 문자열로 읽습니다.
+     */
+    private static ColumnBuffer createDecimalBuffer(String name, int precision, int scale) {
+        if (precision > 0 && scale == 0 && precision <= MAX_LONG_PRECISION) {
+            return new LongBuffer(name);
+        }
+        if (precision > 0 && scale > 0 && precision <= MAX_DOUBLE_PRECISION) {
+            return new DoubleBuffer(name);
+        }
+        return new TextBuffer(name, true);
+    }
+
+    /**
+     * 컬럼 하나를 읽어 들이는 가변 길이 버퍼
+     */
+    private interface ColumnBuffer {
+
+        void read(ResultSet rs, int index, int row) throws SQLException;
+
+        Column toColumn(int rowCount);
+    }
+
+    private static final class IntBuffer implements ColumnBuffer {
+
+        private final String name;
+        private final BitSet nulls = new BitSet();
+        private int[] values = new int[INITIAL_CAPACITY];
+
+        private IntBuffer(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public void read(ResultSet rs, int index, int row) throws SQLException {
+            if (row == values.length) {
+                values = Arrays.copyOf(values, row * 2);
+            }
+            values[row] = rs.getInt(index);
+            if (rs.wasNull()) {
+                nulls.set(row);
+            }
+        }
+
+        @Override
+        public Column toColumn(int rowCount) {
+            return new IntColumn(name, Arrays.copyOf(values, rowCount), nulls);
+        }
+    }
+
+    private static final class LongBuffer implements ColumnBuffer {
+
+        private final String name;
+        private final BitSet nulls = new BitSet();
+        private long[] values = new long[INITIAL_CAPACITY];
+
+        private LongBuffer(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public void read(ResultSet rs, int index, int row) throws SQLException {
+            if (row == values.length) {
+                values = Arrays.copyOf(values, row * 2);
+            }
+            values[row] = rs.getLong(index);
+            if (rs.wasNull()) {
+                nulls.set(row);
+            }
+        }
+
+        @Override
+        public Column toColumn(int rowCount) {
+            return new LongColumn(name, Arrays.copyOf(values, rowCount), nulls);
+        }
+    }
+
+    private static final class DoubleBuffer implements ColumnBuffer {
+
+        private final String name;
+        private final BitSet nulls = new BitSet();
+        private double[] values = new double[INITIAL_CAPACITY];
+
+        private DoubleBuffer(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public void read(ResultSet rs, int index, int row) throws SQLException {
+            if (row == values.length) {
+                values = Arrays.copyOf(values, row * 2);
+            }
+            values[row] = rs.getDouble(index);
+            if (rs.wasNull()) {
+                nulls.set(row);
+            }
+        }
+
+        @Override
+        public Column toColumn(int rowCount) {
+            return new DoubleColumn(name, Arrays.copyOf(values, rowCount), nulls);
+        }
+    }
+
+    /**
+     * 문자열 컬럼 버퍼. 같은 값은 사전에 한 번만 저장하고 행에는 사전 인덱스(코드)만 기록합니다.
+     *
+     * <p>값 -> 코드 조회는 {@code int[]} 개방 주소법 해시 테이블로 처리하여 코드가 {@code Integer}로 박싱되지 않습니다.
+     * 테이블 칸에는 {@code 코드 + 1}을 저장하고(0은 빈 칸), 값 비교는 사전의 문자열로 합니다.</p>
+     */
+    private static final class TextBuffer implements ColumnBuffer {
+
+        private static final int INITIAL_TABLE_SIZE = 64;
+
+        private final String name;
+        private final boolean decimal;
+        private final List<String> dictionary = new ArrayList<>();
+        private int[] table = new int[INITIAL_TABLE_SIZE];
+        private int[] codes = new int[INITIAL_CAPACITY];
+
+        private TextBuffer(String name) {
+            this(name, false);
+        }
+
+        private TextBuffer(String name, boolean decimal) {
+            this.name = name;
+            this.decimal = decimal;
+        }
+
+        @Override
+        public void read(ResultSet rs, int index, int row) throws SQLException {
+            if (row == codes.length) {
+                codes = Arrays.copyOf(codes, row * 2);
+            }
+            String value;
+            if (decimal) {
+                BigDecimal number = rs.getBigDecimal(index);
+                value = number == null ? null : number.toPlainString();
+            } else {
+                value = rs.getString(index);
+            }
+            codes[row] = value == null ? -1 : codeOf(value);
+        }
+
+        @Override
+        public Column toColumn(int rowCount) {
+            return new StringColumn(name, Arrays.copyOf(codes, rowCount), List.copyOf(dictionary));
+        }
+
+        /**
+         * 값의 사전 코드를 찾고, 처음 보는 값이면 사전에 추가합니다.
+         */
+        private int codeOf(String value) {
+            int mask = table.length - 1;
+            int slot = spread(value.hashCode()) & mask;
+            while (table[slot] != 0) {
+                int code = table[slot] - 1;
+                if (dictionary.get(code).equals(value)) {
+                    return code;
+                }
+                slot = (slot + 1) & mask;
+            }
+            int code = dictionary.size();
+            dictionary.add(value);
+            table[slot] = code + 1;
+            if (dictionary.size() * 2 > table.length) {
+                resize();
+            }
+            return code;
+        }
+
+        /**
+         * 사용률이 절반을 넘으면 테이블을 두 배로 늘리고 모든 코드를 다시 배치합니다.
+         */
+        private void resize() {
+            int[] resized = new int[table.length * 2];
+            int mask = resized.length - 1;
+            for (int code = 0; code < dictionary.size(); code++) {
+                int slot = spread(dictionary.get(code).hashCode()) & mask;
+                while (resized[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                resized[slot] = code + 1;
+            }
+            table = resized;
+        }
+
+        private static int spread(int hash) {
+            return hash ^ (hash >>> 16);
+        }
+    }
+}
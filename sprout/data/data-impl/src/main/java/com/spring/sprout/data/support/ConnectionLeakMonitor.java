@@ -0,0 +1,86 @@
+package com.spring.sprout.data.support;
+
+import com.spring.sprout.bundle.api.Environment;
+import com.spring.sprout.data.support.ConnectionTracker.HeldConnection;
+import com.spring.sprout.global.annotation.Autowired;
+import com.spring.sprout.global.annotation.Component;
+import com.spring.sprout.global.metrics.MetricsSource;
+import com.spring.sprout.global.metrics.PrometheusWriter;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * [커넥션 누수 감시자]
+ *
+ * <p>애플리케이션 시작 시 {@link ConnectionTracker}의 설정을 적용하고, 백그라운드 데몬 스레드에서 주기적으로
+ * 반환되지 않은 커넥션을 검사합니다. 기준 시간을 넘긴 커넥션은 소유 스레드와 획득 스택(수집된 경우)을 한 번만 로그로 남깁니다.</p>
+ *
+ * <p>설정 (application.properties):</p>
+ * <ul>
+ * <li>{@code db.leak-detection.threshold-ms}: 누수로 의심할 점유 시간 (기본 10000). 0이면 검사하지 않습니다.</li>
+ * <li>{@code db.leak-detection.stack-sample-rate}: 획득 스택을 수집할 비율 (기본 0.1)</li>
+ * </ul>
+ *
+ * <p>같은 기준 시간은 반환된 커넥션의 장시간 점유 경고에도 사용됩니다. 대여 중인 커넥션 수와 점유 시간 분포는 {@code /metrics}로 노출합니다.</p>
+ *
+ * @see ConnectionTracker
+ */
+@Component
+public class ConnectionLeakMonitor implements MetricsSource {
+
+    private final long thresholdMillis;
+
+    @Autowired
+    public ConnectionLeakMonitor(Environment env) {
+        this.thresholdMillis = parseLong(env.getProperty("db.leak-detection.threshold-ms"), 10_000);
+        double sampleRate = parseDouble(env.getProperty("db.leak-detection.stack-sample-rate"), 0.1);
+        ConnectionTracker.configure(sampleRate, thresholdMillis);
+
+        if (thresholdMillis > 0) {
+            Thread monitor = new Thread(this::runMonitor, "connection-leak-monitor");
+            monitor.setDaemon(true);
+            monitor.start();
+        }
+    }
+
+    @Override
+    public void writeMetrics(PrometheusWriter writer) {
+        writer.family("sprout_db_connections_held", "gauge", "현재 대여 중인 커넥션 수");
+        writer.sample("sprout_db_connections_held", "", ConnectionTracker.heldCount());
+        writer.family("sprout_db_connection_hold_seconds", "histogram", "반환된 커넥션의 점유 시간");
+        writer.histogram("sprout_db_connection_hold_seconds", "", ConnectionTracker.getHoldTime());
+    }
+
+    private void runMonitor() {
+        long thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+        // 기준 시간의 절반 간격으로 검사하여 보고 지연을 기준 시간의 1.5배 이내로 유지
+        long intervalMillis = Math.max(100, thresholdMillis / 2);
+        while (true) {
+            try {
+                Thread.sleep(intervalMillis);
+            } catch (InterruptedException e) {
+                return;
+            }
+            List<HeldConnection> suspects = ConnectionTracker.collectLeakSuspects(thresholdNanos);
+            for (HeldConnection suspect : suspects) {
+                System.out.println("⚠️ [CONNECTION LEAK?] " + suspect.heldMillis()
+                    + "ms held by thread '" + suspect.threadName() + "' without release"
+                    + ConnectionTracker.formatStack(suspect.stack()));
+            }
+        }
+    }
+
+    private static long parseLong(String value, long defaultValue) {
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        return Long.parseLong(value.trim());
+    }
+
+    private static double parseDouble(String value, double defaultValue) {
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        return Double.parseDouble(value.trim());
+    }
+}
@@ -0,0 +1,172 @@
+package com.spring.sprout.data.support;
+
+import com.spring.sprout.global.metrics.LatencyHistogram;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * [커넥션 대여 추적기]
+ *
+ * <p>{@link DataSourceUtils}와 트랜잭션 매니저가 내어준 모든 물리 커넥션을 기록하고, 반환 시 점유 시간(Hold Time)을 집계합니다.
+ * 반환되지 않은 커넥션은 {@link ConnectionLeakMonitor}가 주기적으로 검사하여 누수 의심 로그를 남깁니다.</p>
+ *
+ * <p>기록 항목:</p>
+ * <ul>
+ * <li><b>소유 스레드:</b> 커넥션을 획득한 스레드 이름</li>
+ * <li><b>획득 스택:</b> 비용이 크므로 {@code stackSampleRate} 비율로만 수집합니다. 누수 위치를 찾을 때는 1.0으로 설정합니다.</li>
+ * <li><b>점유 시간:</b> 획득부터 반환까지의 시간을 {@link LatencyHistogram}에 누적합니다.</li>
+ * </ul>
+ *
+ * <p>정적 유틸리티인 {@link DataSourceUtils}에서 호출되므로 상태를 정적으로 보관합니다.</p>
+ *
+ * @see ConnectionLeakMonitor
+ */
+public final class ConnectionTracker {
+
+    private static final Map<Connection, Lease> leases = new ConcurrentHashMap<>();
+    private static final LatencyHistogram holdTime = new LatencyHistogram();
+
+    private static volatile double stackSampleRate = 0.1;
+    private static volatile long longHoldThresholdNanos = TimeUnit.SECONDS.toNanos(10);
+
+    private ConnectionTracker() {
+    }
+
+    /**
+     * 추적 설정을 변경합니다. {@link ConnectionLeakMonitor}가 애플리케이션 시작 시 호출합니다.
+     *
+     * @param sampleRate           획득 스택을 수집할 비율 (0.0 ~ 1.0)
+     * @param longHoldThresholdMillis 이 시간 이상 점유 후 반환된 커넥션은 경고 로그를 남김 (0 이하면 비활성화)
+     */
+    static void configure(double sampleRate, long longHoldThresholdMillis) {
+        stackSampleRate = sampleRate;
+        longHoldThresholdNanos = TimeUnit.MILLISECONDS.toNanos(longHoldThresholdMillis);
+    }
+
+    /**
+     * 커넥션 대여를 기록합니다.
+     */
+    public static void acquired(Connection conn) {
+        if (conn == null) {
+            return;
+        }
+        double rate = stackSampleRate;
+        StackTraceElement[] stack = rate > 0 && ThreadLocalRandom.current().nextDouble() < rate
+            ? new Throwable().getStackTrace() : null;
+        leases.put(conn, new Lease(Thread.currentThread().getName(), System.nanoTime(), stack));
+    }
+
+    /**
+     * 커넥션 반환을 기록하고 점유 시간을 집계합니다.
+     */
+    public static void released(Connection conn) {
+        if (conn == null) {
+            return;
+        }
+        Lease lease = leases.remove(conn);
+        if (lease == null) {
+            return;
+        }
+        long heldNanos = System.nanoTime() - lease.acquiredNanos;
+        holdTime.record(heldNanos);
+
+        long threshold = longHoldThresholdNanos;
+        if (threshold > 0 && heldNanos >= threshold) {
+            System.out.println("⚠️ [LONG CONNECTION HOLD] " + TimeUnit.NANOSECONDS.toMillis(heldNanos)
+                + "ms by thread '" + lease.threadName + "'" + formatStack(lease.stack));
+        }
+    }
+
+    /**
+     * 현재 대여 중인 커넥션 목록을 점유 시간이 긴 순서로 반환합니다.
+     */
+    public static List<HeldConnection> snapshot() {
+        long now = System.nanoTime();
+        List<HeldConnection> held = new ArrayList<>();
+        for (Lease lease : leases.values()) {
+            held.add(new HeldConnection(lease.threadName,
+                TimeUnit.NANOSECONDS.toMillis(now - lease.acquiredNanos),
+                lease.stack == null ? List.of() : Arrays.asList(lease.stack)));
+        }
+        held.sort((a, b) -> Long.compare(b.heldMillis(), a.heldMillis()));
+        return held;
+    }
+
+    /**
+     * 현재 대여 중인 커넥션 수를 반환합니다.
+     */
+    public static int heldCount() {
+        return leases.size();
+    }
+
+    /**
+     * 반환된 커넥션들의 점유 시간 분포를 반환합니다.
+     */
+    public static LatencyHistogram getHoldTime() {
+        return holdTime;
+    }
+
+    /**
+     * 주어진 시간 이상 반환되지 않은 커넥션 중 아직 보고하지 않은 것을 찾아 보고 표시 후 반환합니다.
+     */
+    static List<HeldConnection> collectLeakSuspects(long thresholdNanos) {
+        long now = System.nanoTime();
+        List<HeldConnection> suspects = new ArrayList<>();
+        for (Lease lease : leases.values()) {
+            if (!lease.reported && now - lease.acquiredNanos >= thresholdNanos) {
+                lease.reported = true;
+                suspects.add(new HeldConnection(lease.threadName,
+                    TimeUnit.NANOSECONDS.toMillis(now - lease.acquiredNanos),
+                    lease.stack == null ? List.of() : Arrays.asList(lease.stack)));
+            }
+        }
+        return suspects;
+    }
+
+    static String formatStack(StackTraceElement[] stack) {
+        return stack == null ? "" : formatStack(Arrays.asList(stack));
+    }
+
+    static String formatStack(List<StackTraceElement> stack) {
+        if (stack.isEmpty()) {
+            return " (획득 스택 미수집)";
+        }
+        StringBuilder message = new StringBuilder(", acquired at:");
+        for (StackTraceElement element : stack) {
+            message.append("\n\tat ").append(element);
+        }
+        return message.toString();
+    }
+
+    /**
+     * 대여 중인 커넥션 정보
+     *
+     * @param threadName 커넥션을 획득한 스레드
+     * @param heldMillis 현재까지 점유 시간
+     * @param stack      획득 시점의 스택 (수집하지 않았다면 빈 목록)
+     */
+    public record HeldConnection(String threadName, long heldMillis,
+                                 List<StackTraceElement> stack) {
+
+    }
+
+    private static class Lease {
+
+        private final String threadName;
+        private final long acquiredNanos;
+        private final StackTraceElement[] stack;
+        private volatile boolean reported;
+
+        private Lease(String threadName, long acquiredNanos, StackTraceElement[] stack) {
+            this.threadName = threadName;
+            this.acquiredNanos = acquiredNanos;
+            this.stack = stack;
+        }
+    }
+}
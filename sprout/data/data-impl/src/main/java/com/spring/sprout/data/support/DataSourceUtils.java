@@ -1,5 +1,6 @@
 package com.spring.sprout.data.support;
 
+import com.spring.sprout.data.tranaction.ConnectionHolder;
 import com.spring.sprout.data.tranaction.TransactionSynchronizationManager;
 import java.sql.Connection;
 import javax.sql.DataSource;
@@ -17,6 +18,7 @@ import java.sql.SQLException;
  * <li><b>트랜잭션 인식:</b> 현재 스레드에 활성화된 트랜잭션이 있는지 확인합니다.</li>
  * <li><b>커넥션 재사용:</b> 트랜잭션 중이라면 이미 열린 커넥션을 반환하여 원자성(Atomicity)을 보장합니다.</li>
  * <li><b>스마트한 해제:</b> 트랜잭션이 끝나지 않았는데 커넥션을 닫으려 할 경우 이를 무시하고 유지합니다.</li>
+ * <li><b>대여 추적:</b> 내어준 커넥션과 반환을 {@link ConnectionTracker}에 기록하여 누수와 장시간 점유를 탐지합니다.</li>
  * </ul>
  *
  * @see TransactionSynchronizationManager
@@ -28,23 +30,25 @@ public class DataSourceUtils {
      * 주어진 DataSource에서 Connection을 획득합니다.
      *
      * <p>트랜잭션 동기화 매니저({@link TransactionSynchronizationManager})를 확인하여,
-     * 현재 스레드에 이미 바인딩된 커넥션이 있다면 그것을 반환합니다 (트랜잭션 참여). 트랜잭션이 없는 경우, DataSource에서 새로운 커넥션을 가져와
-     * 반환합니다.</p>
+     * 현재 스레드에 트랜잭션이 바인딩되어 있다면 그 커넥션을 반환합니다 (트랜잭션 참여). 트랜잭션의 첫 SQL이라면 이 시점에 비로소 물리 커넥션이
+     * 획득됩니다 (지연 획득). 트랜잭션이 없거나 트랜잭션과 다른 DataSource(샤드 등)라면, DataSource에서 새로운 커넥션을 가져와 반환합니다.</p>
      *
      * @param dataSource 커넥션을 생성할 데이터소스
      * @return 트랜잭션에 바인딩된 커넥션 또는 새로운 커넥션
      * @throws SQLException 커넥션 획득 실패 시
      */
     public static Connection getConnection(DataSource dataSource) throws SQLException {
-        // 1. 트랜잭션 동기화 매니저(ThreadLocal)에 보관된 커넥션이 있는지 확인
-        Connection conn = TransactionSynchronizationManager.getResource();
-        if (conn != null) {
-            // 이미 존재한다는 것은 트랜잭션이 시작되었다는 의미이므로 해당 커넥션을 재사용
-            return conn;
+        // 1. 트랜잭션 동기화 매니저(ThreadLocal)에 보관된 홀더가 있는지 확인
+        ConnectionHolder holder = TransactionSynchronizationManager.getResource();
+        if (holder != null && holder.isFor(dataSource)) {
+            // 이미 존재한다는 것은 트랜잭션이 시작되었다는 의미이므로 해당 커넥션을 재사용 (최초 사용 시 획득)
+            return holder.getConnection();
         }
 
         // 2. 트랜잭션 컨텍스트가 아니라면(일반 조회 등), 물리적으로 새로운 커넥션을 생성하여 반환
-        return dataSource.getConnection();
+        Connection conn = dataSource.getConnection();
+        ConnectionTracker.acquired(conn);
+        return conn;
     }
 
     /**
@@ -60,15 +64,16 @@ public class DataSourceUtils {
     public static void releaseConnection(Connection conn, DataSource dataSource) {
         try {
             // 1. 현재 트랜잭션 동기화 매니저가 관리 중인 커넥션인지 확인
-            Connection holder = TransactionSynchronizationManager.getResource();
+            ConnectionHolder holder = TransactionSynchronizationManager.getResource();
 
             // 관리 중인 커넥션과 동일하다면, 아직 트랜잭션이 끝나지 않았으므로 닫지 않음
-            if (conn == holder) {
+            if (holder != null && holder.isHolding(conn)) {
                 return;
             }
 
             // 2. 트랜잭션과 무관한 커넥션(단순 조회 등)이라면 즉시 리소스 해제
             if (conn != null) {
+                ConnectionTracker.released(conn);
                 conn.close();
             }
         } catch (SQLException e) {
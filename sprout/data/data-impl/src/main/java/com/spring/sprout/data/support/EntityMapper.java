@@ -2,6 +2,7 @@ package com.spring.sprout.data.support;
 
 import static com.spring.sprout.data.utils.TranslatorToSnake.translateToSnake;
 
+import com.spring.sprout.RowMapper;
 import com.spring.sprout.global.error.ErrorMessage;
 import com.spring.sprout.global.error.SpringException;
 import java.lang.reflect.Field;
@@ -23,8 +24,9 @@ import java.sql.SQLException;
  * </ul>
  *
  * @param <T> 매핑할 대상 엔티티 클래스 타입
+ * @see ProjectionMapper
  */
-public class EntityMapper<T> {
+public class EntityMapper<T> implements RowMapper<T> {
 
     private final Class<T> clazz;
 
@@ -51,6 +53,7 @@ public class EntityMapper<T> {
      * @return 데이터가 채워진 엔티티 객체
      * @throws SpringException 객체 생성 실패 또는 매핑 중 치명적인 오류 발생 시
      */
+    @Override
     public T mapRow(ResultSet rs) throws SQLException {
         try {
             // 1. 기본 생성자를 통해 빈 객체 생성 (NoArgsConstructor 필요)
@@ -0,0 +1,94 @@
+package com.spring.sprout.data.support;
+
+import com.spring.sprout.global.error.ErrorMessage;
+import com.spring.sprout.global.error.SpringException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * [키셋 페이징 연속 토큰 인코더/디코더]
+ *
+ * <p>이전 페이지 마지막 행의 키 값(정렬 키, 정렬 키가 {@code id}가 아니면 동점 처리용 {@code id})을 클라이언트가 그대로 돌려줄 수 있는
+ * 불투명(opaque) 문자열로 변환합니다. 토큰에는 정렬 프로퍼티와 값의 타입이 함께 기록되어, 다른 정렬 기준의 토큰이 섞여 들어오는 것을 막고
+ * 원래 타입 그대로 바인딩할 수 있게 합니다.</p>
+ *
+ * <p>형식: {@code Base64Url("<프로퍼티>:<타입>:<Base64Url(값)>[:<타입>:<Base64Url(값)>]")} (타입: i=Integer, l=Long,
+ * s=String). 값을 한 번 더 인코딩하므로 문자열 키에 구분자({@code :})가 들어 있어도 됩니다.</p>
+ */
+public final class KeysetTokenCodec {
+
+    private KeysetTokenCodec() {
+    }
+
+    /**
+     * 키셋 토큰에 담을 수 있는 타입인지 확인합니다. 페이지를 조회하기 전에 정렬 키와 식별자 타입을 검사하는 데 사용합니다.
+     */
+    public static boolean supports(Class<?> type) {
+        return type == Integer.class || type == int.class || type == Long.class || type == long.class
+            || type == String.class;
+    }
+
+    /**
+     * 마지막 행의 키 값을 토큰으로 인코딩합니다.
+     *
+     * @param sortProperty 정렬 기준 프로퍼티
+     * @param values       마지막 행의 키 값 (정렬 키, 동점 처리용 식별자 순)
+     * @return URL에 그대로 실을 수 있는 토큰
+     * @throws SpringException 값이 null이거나 지원하지 않는 키 타입인 경우
+     */
+    public static String encode(String sortProperty, Object... values) {
+        StringBuilder raw = new StringBuilder(sortProperty);
+        for (Object value : values) {
+            String tag;
+            if (value instanceof Integer) {
+                tag = "i";
+            } else if (value instanceof Long) {
+                tag = "l";
+            } else if (value instanceof String) {
+                tag = "s";
+            } else {
+                throw new SpringException(ErrorMessage.INVALID_SORT_PROPERTY, sortProperty);
+            }
+            raw.append(':').append(tag).append(':').append(base64(value.toString()));
+        }
+        return base64(raw.toString());
+    }
+
+    /**
+     * 토큰을 해석하여 키 값을 원래 타입으로 복원합니다.
+     *
+     * @param sortProperty 현재 요청의 정렬 기준 프로퍼티 (토큰과 일치해야 함)
+     * @param valueCount   토큰에 들어 있어야 할 키 값의 수
+     * @param token        클라이언트가 전달한 토큰
+     * @return 바인딩할 키 값 ({@link #encode(String, Object...)}에 전달한 순서)
+     * @throws SpringException 토큰이 손상되었거나 다른 정렬 기준으로 발급된 경우
+     */
+    public static Object[] decode(String sortProperty, int valueCount, String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":", -1);
+            if (parts.length != 1 + valueCount * 2 || !parts[0].equals(sortProperty)) {
+                throw new SpringException(ErrorMessage.INVALID_PAGE_TOKEN);
+            }
+            Object[] values = new Object[valueCount];
+            for (int i = 0; i < valueCount; i++) {
+                String value = new String(Base64.getUrlDecoder().decode(parts[2 + i * 2]),
+                    StandardCharsets.UTF_8);
+                values[i] = switch (parts[1 + i * 2]) {
+                    case "i" -> Integer.valueOf(value);
+                    case "l" -> Long.valueOf(value);
+                    case "s" -> value;
+                    default -> throw new SpringException(ErrorMessage.INVALID_PAGE_TOKEN);
+                };
+            }
+            return values;
+        } catch (IllegalArgumentException e) {
+            // Base64 형식 오류 및 숫자 변환 오류(NumberFormatException 포함)
+            throw new SpringException(ErrorMessage.INVALID_PAGE_TOKEN);
+        }
+    }
+
+    private static String base64(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
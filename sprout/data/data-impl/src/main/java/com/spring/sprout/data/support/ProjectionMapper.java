@@ -0,0 +1,272 @@
+package com.spring.sprout.data.support;
+
+import com.spring.sprout.RowMapper;
+import com.spring.sprout.global.error.ErrorMessage;
+import com.spring.sprout.global.error.SpringException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.RecordComponent;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * [프로젝션 매핑 전략 구현체]
+ *
+ * <p>엔티티 전체가 아닌 일부 컬럼만 필요한 조회 결과를 record 또는 인터페이스로 직접 매핑합니다.
+ * 엔티티를 만든 뒤 DTO로 다시 복사하는 이중 할당을 없애고, SELECT 절에도 필요한 컬럼만 포함되도록 프로퍼티 목록을 제공합니다.</p>
+ *
+ * <p>매핑 전략:</p>
+ * <ul>
+ * <li><b>Record:</b> 컴포넌트 순서대로 컬럼을 읽어 정규 생성자(Canonical Constructor)를 호출합니다.</li>
+ * <li><b>인터페이스:</b> 인자가 없는 getter 메서드(getName, isActive, name 등)를 프로퍼티로 보고, 값 배열을 감싼 JDK 프록시를 생성합니다.
+ * default 메서드는 인터페이스의 구현을 그대로 실행하고, {@code equals}/{@code hashCode}/{@code toString}은 프로퍼티 값으로 구현합니다.</li>
+ * <li><b>사전 해석:</b> 생성자 핸들, 프로퍼티 목록, 컬럼 타입별 추출기는 매퍼 생성 시 한 번만 해석하며, 행마다 리플렉션을 수행하지 않습니다.</li>
+ * </ul>
+ *
+ * <p><b>주의:</b> 컬럼은 이름이 아닌 위치로 읽습니다. 따라서 SELECT 절은 {@link #getProperties()}의 순서와 동일해야 합니다.</p>
+ *
+ * @param <T> 프로젝션 타입 (record 또는 인터페이스)
+ * @see EntityMapper
+ */
+public class ProjectionMapper<T> implements RowMapper<T> {
+
+    /**
+     * 컬럼 위치(1-based)의 값을 대상 타입에 맞게 추출하는 전략
+     */
+    @FunctionalInterface
+    private interface ColumnReader {
+
+        Object read(ResultSet rs, int index) throws SQLException;
+    }
+
+    private final Class<T> projectionType;
+    private final List<String> properties;
+    private final ColumnReader[] readers;
+
+    /**
+     * record 정규 생성자를 Object[] 하나로 호출할 수 있게 변환한 핸들 (인터페이스 프로젝션이면 null)
+     */
+    private final MethodHandle constructor;
+
+    /**
+     * 인터페이스 프로젝션의 getter와 값 배열 인덱스 매핑 (record 프로젝션이면 null)
+     */
+    private final Map<Method, Integer> accessorIndexes;
+
+    /**
+     * 프로젝션 타입을 분석하여 매퍼를 생성합니다.
+     *
+     * @param projectionType record 또는 인터페이스 타입
+     * @throws SpringException record도 인터페이스도 아니거나, 생성자에 접근할 수 없는 경우
+     */
+    public ProjectionMapper(Class<T> projectionType) {
+        this.projectionType = projectionType;
+
+        if (projectionType.isRecord()) {
+            RecordComponent[] components = projectionType.getRecordComponents();
+            Class<?>[] types = new Class<?>[components.length];
+            this.properties = new ArrayList<>();
+            for (int i = 0; i < components.length; i++) {
+                properties.add(components[i].getName());
+                types[i] = components[i].getType();
+            }
+            this.readers = createReaders(types);
+            this.constructor = resolveConstructor(projectionType, types);
+            this.accessorIndexes = null;
+        } else if (projectionType.isInterface()) {
+            List<Method> accessors = new ArrayList<>();
+            for (Method method : projectionType.getMethods()) {
+                if (method.isDefault() || Modifier.isStatic(method.getModifiers()) || isObjectMethod(method)) {
+                    continue;
+                }
+                if (!isAccessor(method)) {
+                    // 값 배열로 답할 수 없는 추상 메서드는 호출 시점이 아닌 생성 시점에 거부
+                    throw new SpringException(ErrorMessage.ENTITY_MAPPING_FILED,
+                        projectionType.getName() + "." + method.getName());
+                }
+                accessors.add(method);
+            }
+            // getMethods()의 순서는 보장되지 않으므로 SELECT 절이 항상 같도록 이름순 정렬
+            accessors.sort((a, b) -> a.getName().compareTo(b.getName()));
+
+            Class<?>[] types = new Class<?>[accessors.size()];
+            this.properties = new ArrayList<>();
+            this.accessorIndexes = new HashMap<>();
+            for (int i = 0; i < accessors.size(); i++) {
+                Method accessor = accessors.get(i);
+                properties.add(propertyName(accessor));
+                types[i] = accessor.getReturnType();
+                accessorIndexes.put(accessor, i);
+            }
+            this.readers = createReaders(types);
+            this.constructor = null;
+        } else {
+            throw new SpringException(ErrorMessage.ENTITY_MAPPING_FILED, projectionType.getName());
+        }
+    }
+
+    /**
+     * 프로젝션이 필요로 하는 프로퍼티 이름 목록을 반환합니다. SELECT 절은 이 순서대로 구성되어야 합니다.
+     *
+     * @return 프로퍼티 이름 목록 (Java 필드명 기준)
+     */
+    public List<String> getProperties() {
+        return properties;
+    }
+
+    /**
+     * 현재 행의 컬럼을 순서대로 읽어 프로젝션 객체를 생성합니다.
+     *
+     * @param rs 프로젝션 컬럼만 SELECT한 ResultSet
+     * @return 생성된 record 인스턴스 또는 인터페이스 프록시
+     * @throws SQLException 컬럼 값 조회 실패 시
+     */
+    @Override
+    public T mapRow(ResultSet rs) throws SQLException {
+        Object[] values = new Object[readers.length];
+        for (int i = 0; i < readers.length; i++) {
+            values[i] = readers[i].read(rs, i + 1);
+        }
+
+        if (constructor == null) {
+            return projectionType.cast(Proxy.newProxyInstance(projectionType.getClassLoader(),
+                new Class[]{projectionType}, new ProjectionHandler(values)));
+        }
+
+        try {
+            return projectionType.cast(constructor.invoke(values));
+        } catch (Throwable e) {
+            throw new SpringException(ErrorMessage.ENTITY_MAPPING_FILED, projectionType.getName());
+        }
+    }
+
+    /**
+     * 정규 생성자를 찾아 {@code (Object[]) -> T} 형태의 핸들로 변환합니다.
+     */
+    private static MethodHandle resolveConstructor(Class<?> recordType, Class<?>[] types) {
+        try {
+            Constructor<?> canonical = recordType.getDeclaredConstructor(types);
+            canonical.setAccessible(true);
+            return MethodHandles.lookup().unreflectConstructor(canonical)
+                .asSpreader(Object[].class, types.length);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            throw new SpringException(ErrorMessage.ENTITY_MAPPING_FILED, recordType.getName());
+        }
+    }
+
+    /**
+     * 대상 타입별 컬럼 추출기를 미리 결정합니다. 기본형은 타입 전용 getter를 사용하여 NULL을 기본값(0, false)으로 받습니다.
+     */
+    private static ColumnReader[] createReaders(Class<?>[] types) {
+        ColumnReader[] readers = new ColumnReader[types.length];
+        for (int i = 0; i < types.length; i++) {
+            Class<?> type = types[i];
+            if (type == int.class) {
+                readers[i] = ResultSet::getInt;
+            } else if (type == long.class) {
+                readers[i] = ResultSet::getLong;
+            } else if (type == double.class) {
+                readers[i] = ResultSet::getDouble;
+            } else if (type == float.class) {
+                readers[i] = ResultSet::getFloat;
+            } else if (type == boolean.class) {
+                readers[i] = ResultSet::getBoolean;
+            } else if (type == short.class) {
+                readers[i] = ResultSet::getShort;
+            } else if (type == byte.class) {
+                readers[i] = ResultSet::getByte;
+            } else if (type == Object.class) {
+                readers[i] = ResultSet::getObject;
+            } else {
+                readers[i] = (rs, index) -> rs.getObject(index, type);
+            }
+        }
+        return readers;
+    }
+
+    private static boolean isAccessor(Method method) {
+        return method.getParameterCount() == 0 && method.getReturnType() != void.class;
+    }
+
+    /**
+     * 인터페이스가 다시 선언한 {@code equals}, {@code hashCode}, {@code toString}인지 확인합니다.
+     */
+    private static boolean isObjectMethod(Method method) {
+        return switch (method.getName()) {
+            case "equals" -> method.getParameterCount() == 1 && method.getParameterTypes()[0] == Object.class;
+            case "hashCode", "toString" -> method.getParameterCount() == 0;
+            default -> false;
+        };
+    }
+
+    private static String propertyName(Method accessor) {
+        String name = accessor.getName();
+        if (name.startsWith("get") && name.length() > 3) {
+            return decapitalize(name.substring(3));
+        }
+        if (name.startsWith("is") && name.length() > 2
+            && (accessor.getReturnType() == boolean.class || accessor.getReturnType() == Boolean.class)) {
+            return decapitalize(name.substring(2));
+        }
+        return name;
+    }
+
+    private static String decapitalize(String name) {
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    /**
+     * 인터페이스 프로젝션 프록시의 호출 핸들러. getter 호출을 값 배열 조회로 변환합니다.
+     *
+     * <p>default 메서드는 {@link InvocationHandler#invokeDefault}로 인터페이스의 구현을 실행하며, 그 안에서 호출한 getter도 이 핸들러를
+     * 거칩니다. 두 프록시는 같은 프로젝션 타입이고 프로퍼티 값이 모두 같으면 동등합니다.</p>
+     */
+    private class ProjectionHandler implements InvocationHandler {
+
+        private final Object[] values;
+
+        private ProjectionHandler(Object[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Integer index = accessorIndexes.get(method);
+            if (index != null) {
+                return values[index];
+            }
+            if (method.isDefault()) {
+                return InvocationHandler.invokeDefault(proxy, method, args);
+            }
+            return switch (method.getName()) {
+                case "equals" -> args[0] != null && projectionType.isInstance(args[0])
+                    && Proxy.isProxyClass(args[0].getClass())
+                    && Proxy.getInvocationHandler(args[0]) instanceof ProjectionMapper<?>.ProjectionHandler other
+                    && Arrays.equals(values, other.values);
+                case "hashCode" -> 31 * projectionType.hashCode() + Arrays.hashCode(values);
+                default -> toDisplayString(); // toString (생성 시점에 그 외 메서드는 거부됨)
+            };
+        }
+
+        private String toDisplayString() {
+            StringBuilder text = new StringBuilder(projectionType.getSimpleName()).append('{');
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    text.append(", ");
+                }
+                text.append(properties.get(i)).append('=').append(values[i]);
+            }
+            return text.append('}').toString();
+        }
+    }
+}
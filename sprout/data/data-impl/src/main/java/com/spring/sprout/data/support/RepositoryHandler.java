@@ -2,13 +2,36 @@ package com.spring.sprout.data.support;
 
 import static com.spring.sprout.data.utils.TranslatorToSnake.translateToSnake;
 
+import com.spring.sprout.AsyncJdbcTemplate;
 import com.spring.sprout.JdbcTemplate;
+import com.spring.sprout.JpaRepository;
+import com.spring.sprout.Page;
+import com.spring.sprout.PageRequest;
+import com.spring.sprout.RepositoryContext;
+import com.spring.sprout.data.query.DerivedQuery;
+import com.spring.sprout.data.query.DerivedQueryParser;
+import com.spring.sprout.data.sharding.ShardRouter;
+import com.spring.sprout.data.tranaction.ConnectionHolder;
+import com.spring.sprout.data.tranaction.TransactionSynchronizationManager;
+import com.spring.sprout.data.tranaction.UnitOfWork;
 import com.spring.sprout.global.annotation.db.Entity;
+import com.spring.sprout.global.annotation.db.WriteBehind;
+import com.spring.sprout.global.error.ErrorMessage;
+import com.spring.sprout.global.error.SpringException;
+import com.spring.sprout.global.web.RequestDeadline;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 /**
  * [리포지토리 프록시 호출 핸들러]
@@ -22,27 +45,174 @@ import java.util.List;
  * <p>작동 원리:</p>
  * <ul>
  * <li><b>메서드 분석:</b> 호출된 메서드 이름(save, findById 등)을 분석하여 실행할 쿼리 유형을 결정합니다.</li>
+ * <li><b>파생 쿼리:</b> {@code findByNameAndAge} 같은 사용자 정의 메서드는 생성 시점에 {@link DerivedQueryParser}로 미리 해석해 둡니다.</li>
  * <li><b>SQL 생성:</b> 엔티티 클래스의 메타데이터(필드명, 어노테이션)를 리플렉션으로 읽어 SQL 문을 조립합니다.</li>
  * <li><b>실행 위임:</b> 생성된 SQL과 파라미터를 {@link JdbcTemplate}에게 전달하여 실행합니다.</li>
+ * <li><b>쓰기 지연:</b> {@link WriteBehind} 엔티티의 save는 {@link WriteBehindBuffer}에 모아 JDBC 배치로 기록합니다.
+ * {@code flush}와 조회 전 자동 플러시는 버퍼도 비우므로 저장한 행을 바로 조회할 수 있습니다.</li>
+ * <li><b>작업 단위:</b> 트랜잭션 안의 save는 {@link UnitOfWork}에 모았다가 커밋 직전에 배치로 INSERT합니다.
+ * 같은 엔티티 타입을 조회하기 전에는 대기 중인 INSERT를 먼저 반영하고, {@code findById}는 대기 중인 엔티티를 바로 반환합니다.</li>
+ * <li><b>샤딩:</b> {@code @Entity(shardKey = ...)} 엔티티는 {@link ShardRouter}가 고른 샤드에 저장합니다. 샤드 키가 {@code id}라면
+ * {@code findById}도 한 샤드로 라우팅하고, 그 외 조회는 모든 샤드에 병렬로 실행한 뒤 결과를 병합합니다. (OrderBy 파생 쿼리는 병합 정렬)</li>
  * </ul>
  *
+ * <p>컴파일 시점에 생성된 구현체({@code <인터페이스명>_Impl})가 있다면 이 핸들러는 프록시 대신 {@link RepositoryContext}로 사용되어,
+ * 생성된 코드가 처리하지 않는 메서드와 작업 단위 연동을 담당합니다.</p>
+ *
  * @see java.lang.reflect.InvocationHandler
  * @see java.lang.reflect.Proxy
  */
-public class RepositoryHandler implements InvocationHandler {
+public class RepositoryHandler implements InvocationHandler, RepositoryContext<Object> {
 
     private final JdbcTemplate jdbcTemplate;
+    private final AsyncJdbcTemplate asyncJdbcTemplate;
     private final Class<?> entityType;
 
     /**
-     * 핸들러 인스턴스를 생성합니다.
+     * 리포지토리 인터페이스에 선언된 파생 쿼리 메서드와 미리 해석된 실행 계획의 매핑
+     */
+    private final Map<Method, DerivedQuery> derivedQueries = new HashMap<>();
+
+    /**
+     * {@link WriteBehind} 엔티티의 save 요청을 모아 배치로 기록하는 버퍼 (일반 엔티티라면 null)
+     */
+    private final WriteBehindBuffer writeBehindBuffer;
+
+    /**
+     * INSERT 컬럼이 되는 인스턴스 필드. 필드 이름순이며, 컴파일 시점 생성 구현체({@code _Impl})도 같은 순서를 사용합니다.
+     */
+    private final Field[] insertFields;
+
+    /**
+     * 엔티티의 모든 필드를 컬럼으로 하는 INSERT 문 (생성 시점에 한 번만 조립)
+     */
+    private final String insertSql;
+
+    /**
+     * 식별자 필드 {@code id} (Read-your-writes 조회용, 없으면 null)
+     */
+    private final Field idField;
+
+    /**
+     * 샤드 라우터 (샤딩하지 않는 엔티티이거나 샤드가 설정되지 않았다면 null)
+     */
+    private final ShardRouter shardRouter;
+
+    /**
+     * {@code @Entity(shardKey = ...)}로 지정된 샤드 키 필드 (샤딩하지 않으면 null)
+     */
+    private final Field shardKeyField;
+
+    /**
+     * 핸들러 인스턴스를 생성합니다. 이 시점에 리포지토리 인터페이스의 파생 쿼리 메서드를 모두 해석합니다.
      *
-     * @param jdbcTemplate DB 쿼리 실행을 담당할 템플릿
-     * @param entityType   이 리포지토리가 관리할 도메인 엔티티 클래스 (테이블 매핑 정보 포함)
+     * @param jdbcTemplate        DB 쿼리 실행을 담당할 템플릿
+     * @param asyncJdbcTemplate   비동기 조회 메서드(findByIdAsync 등)를 실행할 템플릿
+     * @param repositoryInterface 프록시로 구현할 리포지토리 인터페이스
+     * @param entityType          이 리포지토리가 관리할 도메인 엔티티 클래스 (테이블 매핑 정보 포함)
+     * @param shardRouter         샤드 키가 선언된 엔티티를 분산할 라우터 (null이면 샤딩하지 않음)
+     * @throws com.spring.sprout.global.error.SpringException 해석할 수 없는 쿼리 메서드가 선언되었거나 샤드 키가 올바르지 않은 경우
      */
-    public RepositoryHandler(JdbcTemplate jdbcTemplate, Class<?> entityType) {
+    public RepositoryHandler(JdbcTemplate jdbcTemplate, AsyncJdbcTemplate asyncJdbcTemplate,
+        Class<?> repositoryInterface, Class<?> entityType, ShardRouter shardRouter) {
         this.jdbcTemplate = jdbcTemplate;
+        this.asyncJdbcTemplate = asyncJdbcTemplate;
         this.entityType = entityType;
+        parseDerivedQueries(repositoryInterface);
+        this.insertFields = resolveInsertFields();
+        this.insertSql = buildInsertSql();
+        this.idField = resolveIdField();
+
+        this.shardKeyField = shardRouter == null || !shardRouter.isEnabled() ? null : resolveShardKeyField();
+        this.shardRouter = shardKeyField == null ? null : shardRouter;
+        if (this.shardRouter != null) {
+            derivedQueries.forEach((method, query) -> {
+                if (!query.isShardMergeable()) {
+                    throw new SpringException(ErrorMessage.INVALID_QUERY_METHOD,
+                        repositoryInterface.getSimpleName() + "." + method.getName()
+                            + ": 샤딩된 엔티티는 프로젝션 결과에 없는 프로퍼티로 정렬할 수 없습니다");
+                }
+            });
+        }
+
+        WriteBehind writeBehind = entityType.getAnnotation(WriteBehind.class);
+        if (writeBehind != null && this.shardRouter != null) {
+            throw new SpringException(ErrorMessage.INVALID_SHARD_KEY,
+                entityType.getSimpleName() + "은(는) @WriteBehind와 샤딩을 함께 사용할 수 없습니다.");
+        }
+        this.writeBehindBuffer = writeBehind == null ? null
+            : new WriteBehindBuffer(jdbcTemplate, insertSql, writeBehind, getTableName());
+    }
+
+    private Field resolveIdField() {
+        try {
+            Field field = entityType.getDeclaredField("id");
+            field.setAccessible(true);
+            return field;
+        } catch (NoSuchFieldException e) {
+            return null;
+        }
+    }
+
+    /**
+     * {@code @Entity(shardKey = ...)}에 선언된 필드를 찾습니다. 선언하지 않았다면 null을 반환합니다.
+     */
+    private Field resolveShardKeyField() {
+        Entity entity = entityType.getAnnotation(Entity.class);
+        if (entity == null || entity.shardKey().isEmpty()) {
+            return null;
+        }
+        try {
+            Field field = entityType.getDeclaredField(entity.shardKey());
+            field.setAccessible(true);
+            return field;
+        } catch (NoSuchFieldException e) {
+            throw new SpringException(ErrorMessage.INVALID_SHARD_KEY,
+                entityType.getSimpleName() + "." + entity.shardKey());
+        }
+    }
+
+    /**
+     * {@link JpaRepository}가 제공하는 기본 메서드를 제외한 추상 메서드를 파생 쿼리로 해석하여 캐싱합니다.
+     *
+     * <p>{@code static}/{@code default} 메서드는 해석하지 않습니다. 하위 인터페이스에서 {@code findById(Long)}처럼 기본 메서드를
+     * 다시 선언한 경우도 기본 메서드로 보고 제외하여, 쓰기 지연 반영과 샤드 라우팅을 거치는 기본 경로로 처리합니다.
+     * {@code default} 메서드는 호출 시 인터페이스의 구현을 그대로 실행합니다.</p>
+     */
+    private void parseDerivedQueries(Class<?> repositoryInterface) {
+        String tableName = getTableName();
+        for (Method method : repositoryInterface.getMethods()) {
+            if (!Modifier.isAbstract(method.getModifiers()) || isBuiltIn(method)) {
+                continue;
+            }
+            derivedQueries.put(method, DerivedQueryParser.parse(method, entityType, tableName));
+        }
+    }
+
+    /**
+     * {@link JpaRepository}의 메서드이거나 같은 이름과 파라미터 구성으로 다시 선언한 메서드인지 확인합니다.
+     * 타입 파라미터는 소거되어 {@code Object}가 되므로 파라미터 타입은 대입 가능 여부로 비교합니다.
+     */
+    private static boolean isBuiltIn(Method method) {
+        if (method.getDeclaringClass() == JpaRepository.class) {
+            return true;
+        }
+        for (Method builtIn : JpaRepository.class.getMethods()) {
+            if (!builtIn.getName().equals(method.getName())
+                || builtIn.getParameterCount() != method.getParameterCount()) {
+                continue;
+            }
+            Class<?>[] expected = builtIn.getParameterTypes();
+            Class<?>[] actual = method.getParameterTypes();
+            boolean matches = true;
+            for (int i = 0; i < expected.length && matches; i++) {
+                matches = expected[i].isAssignableFrom(actual[i]);
+            }
+            if (matches) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -56,16 +226,59 @@ public class RepositoryHandler implements InvocationHandler {
      */
     @Override
     public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (method.isDefault()) {
+            return InvocationHandler.invokeDefault(proxy, method, args); // 인터페이스의 구현을 실행
+        }
+        DerivedQuery derivedQuery = derivedQueries.get(method);
+        if (derivedQuery != null && shardRouter != null) {
+            return derivedQuery.executeOnShards(shardRouter, args);
+        } else if (derivedQuery != null) {
+            flushPending(); // 파생 쿼리(조회/삭제)가 대기 중인 INSERT를 보도록 먼저 반영
+            return derivedQuery.execute(jdbcTemplate, args);
+        }
+
         String methodName = method.getName();
-        if (methodName.equals("save")) {
+        if (methodName.equals("save") && shardRouter != null) {
+            saveToShard(args[0]);
+            return null;
+        } else if (methodName.equals("save") && writeBehindBuffer != null) {
+            writeBehindBuffer.enqueue(extractInsertParams(args[0])); // 즉시 실행하지 않고 배치 버퍼에 적재
+            return null;
+        } else if (methodName.equals("save")) {
             save(args[0]);
             return null;
+        } else if (methodName.equals("flush")) {
+            flush();
+            return null;
+        } else if (methodName.equals("findById") && shardRouter != null) {
+            return findShardedById(args[0]);
         } else if (methodName.equals("findById")) {
             return findById(args[0]);
+        } else if (methodName.equals("findAll") && args != null && args.length == 1) {
+            flushPending();
+            return findAll((PageRequest) args[0]);
+        } else if (methodName.equals("findAll") && shardRouter != null) {
+            return findAllShards();
         } else if (methodName.equals("findAll")) {
+            flushPending();
             return findAll();
+        } else if (methodName.equals("streamAll") && shardRouter != null) {
+            return streamAllShards();
+        } else if (methodName.equals("streamAll")) {
+            flushPending();
+            return streamAll();
+        } else if (methodName.equals("findByIdAsync") && shardRouter != null) {
+            return CompletableFuture.supplyAsync(
+                RequestDeadline.propagate(() -> findShardedById(args[0])), shardRouter.getExecutor());
+        } else if (methodName.equals("findByIdAsync")) {
+            return findByIdAsync(args[0]);
+        } else if (methodName.equals("findAllAsync") && shardRouter != null) {
+            return CompletableFuture.supplyAsync(
+                RequestDeadline.propagate(this::findAllShards), shardRouter.getExecutor());
+        } else if (methodName.equals("findAllAsync")) {
+            return findAllAsync();
         }
-        // 정의되지 않은 메서드 호출 시 null 반환 (추후 Query Method 파싱 로직 확장 가능)
+        // 정의되지 않은 메서드 호출 시 null 반환 (파생 쿼리는 생성 시점에 모두 해석되므로 여기에 도달하지 않음)
         return null;
     }
 
@@ -84,45 +297,190 @@ public class RepositoryHandler implements InvocationHandler {
     }
 
     /**
-     * 엔티티 객체의 모든 필드를 읽어 INSERT 쿼리를 동적으로 생성하고 실행합니다. 리플렉션을 사용하여 필드명은 컬럼명으로, 필드값은 바인딩 파라미터로 변환합니다.
+     * 엔티티 객체의 모든 필드를 읽어 INSERT 쿼리를 실행합니다. 리플렉션을 사용하여 필드명은 컬럼명으로, 필드값은 바인딩 파라미터로 변환합니다.
+     *
+     * <p>트랜잭션이 진행 중이라면 즉시 실행하지 않고 {@link UnitOfWork}에 등록하여, 커밋 직전에 같은 타입의 INSERT와 함께 배치로 실행합니다.</p>
      */
     private void save(Object entity) {
-        String tableName = getTableName();
+        insert(insertSql, entity, this::extractInsertParams);
+    }
 
-        StringBuilder sql = new StringBuilder("INSERT INTO " + tableName + " (");
+    @Override
+    public JdbcTemplate getJdbcTemplate() {
+        return jdbcTemplate;
+    }
+
+    @Override
+    public void insert(String sql, Object entity, Function<Object, Object[]> paramExtractor) {
+        ConnectionHolder holder = TransactionSynchronizationManager.getResource();
+        if (holder != null) {
+            holder.getUnitOfWork().registerInsert(jdbcTemplate, entityType, sql, paramExtractor, entity);
+            return;
+        }
+        System.out.println(sql);
+        jdbcTemplate.execute(sql, ps -> ps.executeUpdate(), paramExtractor.apply(entity));
+    }
+
+    /**
+     * 현재 트랜잭션에 대기 중인 모든 INSERT를 즉시 실행합니다. {@link WriteBehind} 엔티티라면 쓰기 지연 버퍼도 비우고 기록될 때까지
+     * 기다립니다.
+     *
+     * @throws SpringException 쓰기 지연 버퍼의 기록이 실패하여 재시도를 기다리는 행이 남은 경우
+     */
+    @Override
+    public void flush() {
+        ConnectionHolder holder = TransactionSynchronizationManager.getResource();
+        if (holder != null && holder.hasPendingWrites()) {
+            holder.getUnitOfWork().flush();
+        }
+        if (writeBehindBuffer != null) {
+            writeBehindBuffer.flush();
+        }
+    }
+
+    /**
+     * 이 리포지토리의 엔티티 타입에 대기 중인 INSERT를 조회 전에 실행합니다. (자동 플러시)
+     *
+     * <p>{@link WriteBehind} 엔티티라면 쓰기 지연 버퍼도 비워, 같은 스레드가 저장한 행을 바로 조회할 수 있게 합니다.
+     * 버퍼가 비어 있으면 비용이 없습니다.</p>
+     */
+    @Override
+    public void flushPending() {
+        ConnectionHolder holder = TransactionSynchronizationManager.getResource();
+        if (holder != null && holder.hasPendingWrites()) {
+            holder.getUnitOfWork().flush(entityType);
+        }
+        if (writeBehindBuffer != null) {
+            writeBehindBuffer.flush();
+        }
+    }
+
+    /**
+     * 현재 트랜잭션에서 저장 후 아직 플러시되지 않은 엔티티 중 식별자가 일치하는 것을 찾습니다.
+     *
+     * @return 일치하는 대기 엔티티 (없거나 트랜잭션 밖이라면 null)
+     */
+    @Override
+    public Object findPending(Object id, Function<Object, Object> idExtractor) {
+        ConnectionHolder holder = TransactionSynchronizationManager.getResource();
+        if (holder == null || !holder.hasPendingWrites()) {
+            return null;
+        }
+        List<Object> pending = holder.getUnitOfWork().getPending(entityType);
+        // 같은 식별자로 여러 번 저장했다면 마지막 저장을 우선
+        for (int i = pending.size() - 1; i >= 0; i--) {
+            Object entity = pending.get(i);
+            if (sameId(idExtractor.apply(entity), id)) {
+                return entity;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 생성된 구현체가 처리하지 않는 메서드를 프록시 호출과 같은 경로로 실행합니다.
+     */
+    @Override
+    public Object delegate(Object repository, Method method, Object[] args) {
+        try {
+            return invoke(repository, method, args);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * 식별자를 비교합니다. 필드 타입과 인자 타입이 다른 정수형(int와 Long 등)이어도 같은 값이면 일치로 봅니다.
+     */
+    private static boolean sameId(Object value, Object id) {
+        if (value instanceof Number a && id instanceof Number b
+            && !(value instanceof Double || value instanceof Float)) {
+            return a.longValue() == b.longValue();
+        }
+        return Objects.equals(value, id);
+    }
+
+    /**
+     * INSERT할 인스턴스 필드를 이름순으로 정렬합니다. {@code getDeclaredFields()}의 순서는 명세상 보장되지 않으므로,
+     * 생성 구현체와 같은 SQL을 만들기 위해 명시적인 기준으로 정렬합니다.
+     */
+    private Field[] resolveInsertFields() {
+        List<Field> fields = new ArrayList<>();
+        for (Field field : entityType.getDeclaredFields()) {
+            if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
+                field.setAccessible(true);
+                fields.add(field);
+            }
+        }
+        fields.sort(Comparator.comparing(Field::getName));
+        return fields.toArray(Field[]::new);
+    }
+
+    /**
+     * 엔티티의 모든 필드를 컬럼으로 하는 INSERT 문을 생성합니다. 파라미터 순서는 {@link #extractInsertParams(Object)}와 동일합니다.
+     */
+    private String buildInsertSql() {
+        StringBuilder sql = new StringBuilder("INSERT INTO " + getTableName() + " (");
         StringBuilder values = new StringBuilder("VALUES (");
-        List<Object> params = new ArrayList<>();
 
-        Field[] fields = entityType.getDeclaredFields();
+        Field[] fields = insertFields;
         for (int i = 0; i < fields.length; i++) {
-            fields[i].setAccessible(true);
-            try {
-                sql.append(fields[i].getName()); // 주의: 필드명을 그대로 컬럼명으로 사용 중 (스네이크 변환 필요 가능성)
-                values.append("?");
-                params.add(fields[i].get(entity));
+            sql.append(fields[i].getName()); // 주의: 필드명을 그대로 컬럼명으로 사용 중 (스네이크 변환 필요 가능성)
+            values.append("?");
 
-                if (i < fields.length - 1) {
-                    sql.append(", ");
-                    values.append(", ");
-                }
+            if (i < fields.length - 1) {
+                sql.append(", ");
+                values.append(", ");
+            }
+        }
+        return sql.append(") ").append(values).append(")").toString();
+    }
+
+    /**
+     * 엔티티 객체의 필드값을 INSERT 바인딩 파라미터 배열로 추출합니다.
+     */
+    private Object[] extractInsertParams(Object entity) {
+        Field[] fields = insertFields;
+        Object[] params = new Object[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            try {
+                params[i] = fields[i].get(entity);
             } catch (IllegalAccessException e) {
                 throw new RuntimeException(e);
             }
         }
-        sql.append(") ").append(values).append(")");
-        System.out.println(sql.toString());
-        jdbcTemplate.execute(sql.toString(), ps -> ps.executeUpdate(), params.toArray());
+        return params;
     }
 
     /**
      * PK(id)를 기준으로 단건 조회 쿼리를 생성하여 실행합니다. 현재 구현은 PK 컬럼명을 'id'로 가정하고 있습니다.
+     *
+     * <p>현재 트랜잭션에서 저장 후 아직 플러시되지 않은 엔티티라면 DB를 거치지 않고 그 엔티티를 반환합니다. (Read-your-writes)</p>
      */
     private Object findById(Object id) {
+        Object pending = idField == null ? null : findPending(id, entity -> readField(idField, entity));
+        if (pending != null) {
+            return pending;
+        }
+        flushPending();
         String tableName = getTableName();
         String sql = "SELECT * FROM " + tableName + " WHERE id = ?";
-        // 주의: 결과가 없을 경우 getFirst()에서 예외가 발생할 수 있음
         System.out.println(sql);
-        return jdbcTemplate.query(sql, entityType, id).getFirst();
+        return firstOrNotFound(jdbcTemplate.query(sql, entityType, id), id);
+    }
+
+    /**
+     * 식별자 조회 결과의 첫 행을 반환합니다. 동기, 비동기, 샤드 조회가 같은 예외로 미스를 알리도록 한곳에서 처리합니다.
+     *
+     * @throws SpringException 조회 결과가 없는 경우 ({@link ErrorMessage#ENTITY_NOT_FOUND})
+     */
+    private Object firstOrNotFound(List<?> rows, Object id) {
+        if (rows.isEmpty()) {
+            throw new SpringException(ErrorMessage.ENTITY_NOT_FOUND, getTableName() + " id=" + id);
+        }
+        return rows.getFirst();
     }
 
     /**
@@ -134,4 +492,213 @@ public class RepositoryHandler implements InvocationHandler {
         System.out.println(sql);
         return jdbcTemplate.query(sql, entityType);
     }
+
+    /**
+     * 테이블 전체를 커서 스트림으로 조회합니다. 커넥션은 스트림을 닫을 때 반환됩니다.
+     */
+    private Stream<?> streamAll() {
+        String sql = "SELECT * FROM " + getTableName();
+        System.out.println(sql);
+        return jdbcTemplate.queryForStream(sql, new EntityMapper<>(entityType));
+    }
+
+    /**
+     * {@link #findById(Object)}와 동일한 쿼리를 {@link AsyncJdbcTemplate}을 통해 비동기로 실행합니다. 엔티티가 없으면 동기 조회와 같은
+     * {@link SpringException}으로 실패합니다.
+     */
+    private Object findByIdAsync(Object id) {
+        String tableName = getTableName();
+        String sql = "SELECT * FROM " + tableName + " WHERE id = ?";
+        System.out.println(sql);
+        return asyncJdbcTemplate.queryAsync(sql, entityType, id).thenApply(rows -> firstOrNotFound(rows, id));
+    }
+
+    /**
+     * {@link #findAll()}과 동일한 쿼리를 {@link AsyncJdbcTemplate}을 통해 비동기로 실행합니다.
+     */
+    private Object findAllAsync() {
+        String tableName = getTableName();
+        String sql = "SELECT * FROM " + tableName;
+        System.out.println(sql);
+        return asyncJdbcTemplate.queryAsync(sql, entityType);
+    }
+
+    /**
+     * 샤드 키 값으로 담당 샤드를 골라 즉시 INSERT합니다. 샤드 커넥션은 트랜잭션에 참여하지 않으므로 작업 단위에도 등록하지 않습니다.
+     */
+    private void saveToShard(Object entity) {
+        ShardRouter.Shard shard = shardRouter.route(readField(shardKeyField, entity));
+        System.out.println(insertSql + " [shard " + shard.name() + "]");
+        shard.jdbcTemplate().execute(insertSql, ps -> ps.executeUpdate(), extractInsertParams(entity));
+    }
+
+    /**
+     * 샤드 키가 {@code id}라면 담당 샤드 하나만 조회하고, 아니라면 모든 샤드를 병렬 조회하여 처음 찾은 엔티티를 반환합니다.
+     *
+     * @return 조회된 엔티티
+     * @throws SpringException 모든 샤드에 없는 경우 ({@link ErrorMessage#ENTITY_NOT_FOUND}, 샤딩하지 않은 조회와 동일)
+     */
+    private Object findShardedById(Object id) {
+        String sql = "SELECT * FROM " + getTableName() + " WHERE id = ?";
+        System.out.println(sql);
+        if (shardKeyField.getName().equals("id")) {
+            return firstOrNotFound(shardRouter.route(id).jdbcTemplate().query(sql, entityType, id), id);
+        }
+        for (List<?> rows : shardRouter.fanOut(template -> template.query(sql, entityType, id))) {
+            if (!rows.isEmpty()) {
+                return rows.getFirst();
+            }
+        }
+        return firstOrNotFound(List.of(), id);
+    }
+
+    /**
+     * 모든 샤드의 전체 조회를 병렬로 실행하고, 샤드 설정 순서대로 이어 붙입니다.
+     */
+    private List<Object> findAllShards() {
+        String sql = "SELECT * FROM " + getTableName();
+        System.out.println(sql);
+        List<Object> merged = new ArrayList<>();
+        for (List<?> rows : shardRouter.fanOut(template -> template.query(sql, entityType))) {
+            merged.addAll(rows);
+        }
+        return merged;
+    }
+
+    /**
+     * 샤드를 차례로 스트리밍합니다. 한 번에 한 샤드의 커서만 열려 있으며, 샤드를 다 읽으면 커넥션을 반환하고 다음 샤드로 넘어갑니다.
+     */
+    private Stream<?> streamAllShards() {
+        String sql = "SELECT * FROM " + getTableName();
+        System.out.println(sql);
+        EntityMapper<?> mapper = new EntityMapper<>(entityType);
+        return shardRouter.getShards().stream()
+            .flatMap(shard -> shard.jdbcTemplate().queryForStream(sql, mapper));
+    }
+
+    /**
+     * 한 페이지 분량의 엔티티를 조회합니다. 다음 페이지 존재 여부를 알기 위해 페이지 크기보다 한 건 더 조회합니다.
+     *
+     * <p>정렬 키가 {@code id}가 아니라면 {@code id}를 두 번째 정렬 키로 붙여, 정렬 값이 같은 행이 여러 개여도 순서가 하나로 정해지게 합니다.</p>
+     *
+     * <ul>
+     * <li><b>OFFSET:</b> {@code ORDER BY <정렬>, id LIMIT ? OFFSET ?}</li>
+     * <li><b>KEYSET:</b> {@code WHERE (<정렬> > ? OR (<정렬> = ? AND id > ?)) ORDER BY <정렬>, id LIMIT ?} -
+     * {@code (<정렬>, id)} 인덱스를 타고 바로 시작 위치로 이동하므로 페이지 깊이와 무관하게 일정한 비용이 듭니다.
+     * 토큰에는 마지막 행의 정렬 값과 {@code id}를 함께 담습니다.</li>
+     * </ul>
+     *
+     * <p>샤딩된 엔티티는 모든 샤드에서 정렬된 후보를 가져와 병합 정렬합니다. OFFSET 방식은 샤드마다 {@code offset + size + 1}건을
+     * 읽어야 하므로 깊은 페이지는 KEYSET 방식을 사용해야 합니다.</p>
+     *
+     * @throws SpringException 키셋 방식인데 정렬 키나 {@code id}가 토큰에 담을 수 없는 타입이거나, 동점 처리할 {@code id}가 없는 경우
+     */
+    private Page<Object> findAll(PageRequest pageRequest) {
+        Field sortField = resolveSortField(pageRequest.getSortProperty());
+        String sortColumn = translateToSnake(sortField.getName());
+        boolean tieBreak = !sortField.getName().equals("id");
+        boolean keyset = pageRequest.getMode() == PageRequest.Mode.KEYSET;
+        if (tieBreak && idField == null) {
+            throw new SpringException(ErrorMessage.INVALID_SORT_PROPERTY,
+                sortField.getName() + " (동점 처리할 id 필드가 없습니다)");
+        }
+        if (keyset && (!KeysetTokenCodec.supports(sortField.getType())
+            || tieBreak && !KeysetTokenCodec.supports(idField.getType()))) {
+            throw new SpringException(ErrorMessage.INVALID_SORT_PROPERTY,
+                sortField.getName() + " (키셋 페이징은 Integer, Long, String 키만 지원합니다)");
+        }
+        String orderBy = " ORDER BY " + sortColumn + (tieBreak ? ", id" : "");
+        int fetchSize = pageRequest.getSize() + 1;
+        long offset = keyset ? 0 : (long) pageRequest.getPage() * pageRequest.getSize();
+
+        StringBuilder sql = new StringBuilder("SELECT * FROM " + getTableName());
+        List<Object> params = new ArrayList<>();
+
+        if (keyset) {
+            if (pageRequest.getContinuationToken() != null) {
+                Object[] last = KeysetTokenCodec.decode(sortField.getName(), tieBreak ? 2 : 1,
+                    pageRequest.getContinuationToken());
+                if (tieBreak) {
+                    sql.append(" WHERE (").append(sortColumn).append(" > ? OR (").append(sortColumn)
+                        .append(" = ? AND id > ?))");
+                    params.add(last[0]);
+                    params.add(last[0]);
+                    params.add(last[1]);
+                } else {
+                    sql.append(" WHERE ").append(sortColumn).append(" > ?");
+                    params.add(last[0]);
+                }
+            }
+            sql.append(orderBy).append(" LIMIT ?");
+            params.add(fetchSize);
+        } else if (shardRouter != null) {
+            // 어느 샤드에 앞쪽 행이 있는지 모르므로 각 샤드에서 처음부터 읽어 병합
+            sql.append(orderBy).append(" LIMIT ?");
+            params.add(offset + fetchSize);
+        } else {
+            sql.append(orderBy).append(" LIMIT ? OFFSET ?");
+            params.add(fetchSize);
+            params.add(offset);
+        }
+
+        System.out.println(sql);
+        List<Object> rows;
+        if (shardRouter != null) {
+            rows = new ArrayList<>();
+            for (List<Object> shardRows : shardRouter.fanOut(template -> template.query(
+                sql.toString(), (Class<Object>) entityType, params.toArray()))) {
+                rows.addAll(shardRows);
+            }
+            Comparator<Object> order = Comparator.comparing(
+                row -> (Comparable<Object>) readField(sortField, row),
+                Comparator.nullsFirst(Comparator.naturalOrder()));
+            if (tieBreak) {
+                order = order.thenComparing(row -> (Comparable<Object>) readField(idField, row),
+                    Comparator.nullsFirst(Comparator.naturalOrder()));
+            }
+            rows.sort(order);
+            int from = (int) Math.min(offset, rows.size());
+            int to = (int) Math.min(offset + fetchSize, rows.size());
+            rows = new ArrayList<>(rows.subList(from, to));
+        } else {
+            rows = new ArrayList<>(
+                jdbcTemplate.query(sql.toString(), (Class<Object>) entityType, params.toArray()));
+        }
+
+        boolean hasNext = rows.size() > pageRequest.getSize();
+        if (hasNext) {
+            rows.remove(rows.size() - 1);
+        }
+
+        String nextToken = null;
+        if (hasNext && keyset) {
+            Object lastRow = rows.getLast();
+            nextToken = tieBreak
+                ? KeysetTokenCodec.encode(sortField.getName(), readField(sortField, lastRow),
+                readField(idField, lastRow))
+                : KeysetTokenCodec.encode(sortField.getName(), readField(sortField, lastRow));
+        }
+        return new Page<>(rows, hasNext, nextToken);
+    }
+
+    /**
+     * 정렬 기준 프로퍼티를 엔티티 필드로 해석합니다. 존재하지 않는 필드라면 SQL 인젝션 위험이 있으므로 즉시 거부합니다.
+     */
+    private Field resolveSortField(String sortProperty) {
+        try {
+            Field field = entityType.getDeclaredField(sortProperty);
+            field.setAccessible(true);
+            return field;
+        } catch (NoSuchFieldException e) {
+            throw new SpringException(ErrorMessage.INVALID_SORT_PROPERTY, sortProperty);
+        }
+    }
+
+    private Object readField(Field field, Object entity) {
+        try {
+            return field.get(entity);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+    }
 }
\ No newline at end of file
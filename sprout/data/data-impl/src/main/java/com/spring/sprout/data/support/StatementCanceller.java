@@ -0,0 +1,50 @@
+package com.spring.sprout.data.support;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * [기한 초과 Statement 취소기]
+ *
+ * <p>{@link Statement#setQueryTimeout(int)}은 초 단위라 요청 기한을 밀리초 단위로 지킬 수 없으므로, 남은 시간이 지나는 순간
+ * {@link Statement#cancel()}을 호출하는 작업을 예약합니다. 쿼리가 먼저 끝나면 예약을 취소합니다.</p>
+ *
+ * <p>모든 템플릿이 데몬 스레드 하나를 공유합니다. 취소 호출은 드라이버가 별도 연결로 처리하므로 예약 스레드를 오래 붙잡지 않습니다.</p>
+ */
+public final class StatementCanceller {
+
+    private static final ScheduledThreadPoolExecutor scheduler = createScheduler();
+
+    private StatementCanceller() {
+    }
+
+    /**
+     * 주어진 시간이 지나면 Statement를 취소하도록 예약합니다.
+     *
+     * @param statement  취소할 Statement
+     * @param delayNanos 남은 시간
+     * @return 쿼리가 끝난 뒤 {@code cancel(false)}로 해제할 예약
+     */
+    public static ScheduledFuture<?> schedule(Statement statement, long delayNanos) {
+        return scheduler.schedule(() -> {
+            try {
+                statement.cancel();
+            } catch (SQLException e) {
+                // 이미 닫힌 Statement 등은 취소할 필요가 없음
+            }
+        }, delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static ScheduledThreadPoolExecutor createScheduler() {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, task -> {
+            Thread thread = new Thread(task, "statement-canceller");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.setRemoveOnCancelPolicy(true); // 대부분의 예약은 실행 전에 취소되므로 큐에서 즉시 제거
+        return executor;
+    }
+}
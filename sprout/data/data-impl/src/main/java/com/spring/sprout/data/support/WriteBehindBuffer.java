@@ -0,0 +1,476 @@
+package com.spring.sprout.data.support;
+
+import com.spring.sprout.JdbcTemplate;
+import com.spring.sprout.global.annotation.db.WriteBehind;
+import com.spring.sprout.global.error.ErrorMessage;
+import com.spring.sprout.global.error.SpringException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * [쓰기 지연(Write-Behind) 배치 버퍼]
+ *
+ * <p>{@link WriteBehind}가 선언된 엔티티의 {@code save} 요청을 즉시 실행하지 않고 버퍼에 모았다가,
+ * 백그라운드 플러셔(Flusher) 스레드가 JDBC 배치({@code addBatch/executeBatch})로 한꺼번에 INSERT합니다. 요청당 한 번의 DB 왕복이
+ * 배치당 한 번으로 줄어들어, 처리량이 왕복 지연이 아닌 배치 크기에 비례하게 됩니다.</p>
+ *
+ * <p>동작 규칙:</p>
+ * <ul>
+ * <li><b>플러시 시점:</b> 버퍼가 {@code batchSize}만큼 차거나, 마지막 플러시 후 {@code maxDelayMillis}가 지나면 비웁니다.
+ * {@link #flush()}를 호출하면 플러셔가 즉시 비우고, 호출자는 그때까지 버퍼링된 행이 기록될 때까지 기다립니다.</li>
+ * <li><b>락 프리(Lock-free):</b> 큐는 {@link ConcurrentLinkedQueue}, 용량 관리는 {@link AtomicInteger} CAS로 처리하여 생산자 간 경합을 줄입니다.</li>
+ * <li><b>배압(Backpressure):</b> 버퍼가 {@code capacity}에 도달하면 즉시 플러시를 요청하고, 자리가 날 때까지 생산자를 대기시킵니다.</li>
+ * <li><b>종료 시 플러시:</b> JVM 종료 훅에서 {@link #close()}를 호출하여 남은 데이터를 모두 기록한 뒤 종료합니다.</li>
+ * </ul>
+ *
+ * <p>실패 처리:</p>
+ * <ul>
+ * <li>배치는 하나의 로컬 트랜잭션으로 기록하므로, 실패한 배치는 일부만 반영되지 않고 통째로 다시 시도할 수 있습니다.</li>
+ * <li><b>재시도:</b> 실패한 배치는 버리지 않고 보류한 뒤 지수 백오프({@code 100ms}부터 최대 {@code 10s})로 다시 기록합니다. 보류 중에는
+ * 새 배치를 보내지 않으며, 보류된 행도 용량을 차지합니다. 보류 중에 버퍼가 가득 차면 생산자는 기다리지 않고
+ * {@code WRITE_BEHIND_FAILED}로 실패합니다.</li>
+ * <li><b>격리:</b> 제약 조건 위반처럼 다시 시도해도 성공할 수 없는 오류(SQLState 22, 23)로 실패한 배치는 반으로 나눠 바로 다시 기록하여
+ * 문제가 있는 행만 남깁니다. 그렇게 남은 단일 행은 데드레터로 옮겨 {@link #takeDeadLetters()}로 꺼낼 수 있게 보관합니다.</li>
+ * <li><b>상태 확인:</b> {@link #isHealthy()}, 실패/보류/데드레터 수는 {@link WriteBehindMonitor}가 {@code /metrics}로 노출합니다.</li>
+ * </ul>
+ *
+ * <p><b>주의:</b> 버퍼링된 INSERT는 플러셔 스레드의 별도 커넥션에서 실행되므로, 호출자의 트랜잭션에 참여하지 않습니다.</p>
+ *
+ * @see WriteBehind
+ * @see RepositoryHandler
+ */
+public class WriteBehindBuffer {
+
+    /**
+     * 버퍼가 가득 찼을 때 생산자가 재시도 전 대기하는 시간
+     */
+    private static final long BACKPRESSURE_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private static final long INITIAL_BACKOFF_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long MAX_BACKOFF_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    /**
+     * 종료 시 플러셔를 기다리고 보류된 배치를 다시 시도하는 최대 시간
+     */
+    private static final long SHUTDOWN_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    /**
+     * 생성된 모든 버퍼 ({@link WriteBehindMonitor}가 지표를 읽음)
+     */
+    private static final List<WriteBehindBuffer> BUFFERS = new CopyOnWriteArrayList<>();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String insertSql;
+    private final String name;
+    private final int batchSize;
+    private final int capacity;
+    private final long maxDelayNanos;
+
+    private final ConcurrentLinkedQueue<Object[]> queue = new ConcurrentLinkedQueue<>();
+
+    /**
+     * 예약된(enqueue 중이거나 대기 중이거나 재시도를 위해 보류된) 행 수. 큐의 size()는 O(n)이므로 별도로 관리합니다.
+     */
+    private final AtomicInteger pending = new AtomicInteger();
+
+    /**
+     * {@code running}을 확인한 뒤 아직 큐에 넣지 못한 생산자 수. {@link #close()}는 이 값이 0이 된 뒤 마지막으로 비웁니다.
+     */
+    private final AtomicInteger producers = new AtomicInteger();
+
+    // 실패하여 재시도를 기다리는 배치 (플러셔, 종료 시에는 종료 스레드가 다룸)
+    private final ConcurrentLinkedDeque<List<Object[]>> retries = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger heldRows = new AtomicInteger();
+    private final ConcurrentLinkedQueue<Object[]> deadLetters = new ConcurrentLinkedQueue<>();
+    private final LongAdder failedBatches = new LongAdder();
+    private final LongAdder deadLetterCount = new LongAdder();
+    private volatile String lastFailure;
+    private long backoffNanos = INITIAL_BACKOFF_NANOS;
+    private long nextRetryNanos;
+
+    /**
+     * {@link #flush()} 호출자가 기다리는 요청. 플러셔가 한 번 비운 뒤 결과(모두 기록했는지)로 완료합니다.
+     */
+    private final ConcurrentLinkedQueue<CompletableFuture<Boolean>> flushRequests = new ConcurrentLinkedQueue<>();
+
+    private final Thread flusher;
+    private volatile boolean running = true;
+
+    /**
+     * 버퍼를 생성하고 플러셔 스레드와 종료 훅을 등록합니다.
+     *
+     * @param jdbcTemplate 배치 INSERT를 실행할 템플릿
+     * @param insertSql    바인딩 파라미터를 가진 INSERT 문
+     * @param config       배치 크기, 최대 지연, 용량 설정
+     * @param name         스레드 이름과 지표 레이블에 사용할 식별자 (보통 테이블 이름)
+     */
+    public WriteBehindBuffer(JdbcTemplate jdbcTemplate, String insertSql, WriteBehind config,
+        String name) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.insertSql = insertSql;
+        this.name = name;
+        this.batchSize = Math.max(1, config.batchSize());
+        this.capacity = Math.max(batchSize, config.capacity());
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, config.maxDelayMillis()));
+
+        this.flusher = new Thread(this::runFlusher, "write-behind-" + name);
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+
+        BUFFERS.add(this);
+        Runtime.getRuntime().addShutdownHook(new Thread(this::close, "write-behind-shutdown-" + name));
+    }
+
+    /**
+     * INSERT 파라미터를 버퍼에 추가합니다. 버퍼가 가득 찼다면 자리가 생길 때까지 대기합니다 (배압).
+     *
+     * @param params INSERT 문에 바인딩할 값 (컬럼 순서)
+     * @throws SpringException 버퍼가 이미 종료되었거나({@code WRITE_BEHIND_CLOSED}), 기록 실패로 보류된 행 때문에 버퍼가 가득 찬 경우
+     *                         ({@code WRITE_BEHIND_FAILED})
+     */
+    public void enqueue(Object[] params) {
+        int reserved;
+        producers.incrementAndGet();
+        try {
+            while (true) {
+                if (!running) {
+                    throw new SpringException(ErrorMessage.WRITE_BEHIND_CLOSED);
+                }
+                int current = pending.get();
+                if (current < capacity) {
+                    if (pending.compareAndSet(current, current + 1)) {
+                        reserved = current + 1;
+                        break;
+                    }
+                    continue;
+                }
+                if (heldRows.get() > 0) {
+                    // DB가 기록을 거부하는 동안에는 자리가 나지 않으므로 기다리지 않고 호출자에게 알림
+                    throw new SpringException(ErrorMessage.WRITE_BEHIND_FAILED, name + ": " + lastFailure);
+                }
+                // 가득 참: 플러셔를 깨워 즉시 비우도록 하고 잠시 대기
+                LockSupport.unpark(flusher);
+                LockSupport.parkNanos(BACKPRESSURE_WAIT_NANOS);
+            }
+            queue.offer(params);
+        } finally {
+            producers.decrementAndGet();
+        }
+        if (reserved >= batchSize) {
+            LockSupport.unpark(flusher);
+        }
+    }
+
+    /**
+     * 지금까지 버퍼링된 모든 행을 플러셔가 즉시 기록하게 하고, 끝날 때까지 기다립니다. 기록은 플러셔의 커넥션에서 실행되므로
+     * 호출자가 트랜잭션 안에 있어도 그 트랜잭션에 참여하지 않습니다.
+     *
+     * @throws SpringException 기록에 실패하여 재시도를 위해 보류된 행이 남은 경우 ({@code WRITE_BEHIND_FAILED})
+     */
+    public void flush() {
+        if (pending.get() == 0 || !running) {
+            return; // 종료되었다면 close()가 남은 행을 기록
+        }
+        CompletableFuture<Boolean> request = new CompletableFuture<>();
+        flushRequests.offer(request);
+        LockSupport.unpark(flusher);
+        while (!request.isDone()) {
+            if (!flusher.isAlive()) {
+                request.complete(pending.get() == 0);
+                break;
+            }
+            LockSupport.parkNanos(BACKPRESSURE_WAIT_NANOS);
+        }
+        if (!request.join()) {
+            throw new SpringException(ErrorMessage.WRITE_BEHIND_FAILED, name + ": " + lastFailure);
+        }
+    }
+
+    /**
+     * 새 요청의 수락을 중단하고, 남은 행을 모두 기록한 뒤 플러셔 스레드를 종료합니다.
+     *
+     * <p>보류된 배치는 종료 대기 시간 안에서 계속 다시 시도하며, 그래도 기록하지 못한 행 수와 마지막 오류를 로그로 남깁니다.</p>
+     */
+    public synchronized void close() {
+        if (!running) {
+            return;
+        }
+        long deadline = System.nanoTime() + SHUTDOWN_TIMEOUT_NANOS;
+        running = false;
+        // running을 true로 본 생산자가 큐에 넣기를 마칠 때까지 대기 (마지막 drain이 그 행을 놓치지 않도록)
+        while (producers.get() > 0) {
+            Thread.onSpinWait();
+        }
+        LockSupport.unpark(flusher);
+        try {
+            flusher.join(TimeUnit.NANOSECONDS.toMillis(SHUTDOWN_TIMEOUT_NANOS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 플러셔가 제때 끝나지 못했거나 보류된 배치가 남았다면 기한까지 이 스레드에서 마저 기록
+        while (pending.get() > 0 && System.nanoTime() - deadline < 0) {
+            if (!writeAll(true)) {
+                LockSupport.parkNanos(Math.min(backoffNanos, Math.max(0, deadline - System.nanoTime())));
+            }
+        }
+        completeFlushRequests(pending.get() == 0);
+        if (pending.get() > 0) {
+            System.out.println("⚠️ 쓰기 지연 버퍼 종료: " + pending.get() + "건을 기록하지 못했습니다 (" + name + "): "
+                + lastFailure);
+        }
+    }
+
+    /**
+     * 기록 실패로 재시도를 기다리는 행이 없는지 확인합니다. 데드레터는 재시도하지 않으므로 포함하지 않습니다.
+     */
+    public boolean isHealthy() {
+        return heldRows.get() == 0;
+    }
+
+    /**
+     * 다시 시도해도 성공할 수 없는 오류로 기록하지 못한 행을 꺼냅니다. 꺼낸 행은 버퍼에서 제거됩니다.
+     *
+     * @return INSERT 파라미터 목록 (컬럼 순서)
+     */
+    public List<Object[]> takeDeadLetters() {
+        List<Object[]> taken = new ArrayList<>();
+        Object[] row;
+        while ((row = deadLetters.poll()) != null) {
+            taken.add(row);
+        }
+        return taken;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getPendingRows() {
+        return pending.get();
+    }
+
+    public int getHeldRows() {
+        return heldRows.get();
+    }
+
+    public long getFailedBatches() {
+        return failedBatches.sum();
+    }
+
+    public long getDeadLetterCount() {
+        return deadLetterCount.sum();
+    }
+
+    public String getLastFailure() {
+        return lastFailure;
+    }
+
+    static List<WriteBehindBuffer> buffers() {
+        return BUFFERS;
+    }
+
+    private void runFlusher() {
+        while (running) {
+            // 배치 크기에 도달하거나 flush()가 요청되면 깨어나고, 그렇지 않으면 최대 지연 시간(재시도 대기 중이면 백오프) 후 깨어남
+            if (flushRequests.isEmpty() && (pending.get() - heldRows.get() < batchSize || !retries.isEmpty())) {
+                LockSupport.parkNanos(retries.isEmpty() ? maxDelayNanos
+                    : Math.max(BACKPRESSURE_WAIT_NANOS, nextRetryNanos - System.nanoTime()));
+            }
+            List<CompletableFuture<Boolean>> requests = new ArrayList<>();
+            CompletableFuture<Boolean> request;
+            while ((request = flushRequests.poll()) != null) {
+                requests.add(request);
+            }
+            boolean complete = writeAll(!requests.isEmpty());
+            for (CompletableFuture<Boolean> waiting : requests) {
+                waiting.complete(complete);
+            }
+        }
+        writeAll(true);
+    }
+
+    /**
+     * 보류된 배치를 다시 시도한 뒤, 큐가 빌 때까지 배치 크기 단위로 꺼내 기록합니다. 실패하면 그 배치를 보류하고 멈춥니다.
+     *
+     * @param ignoreBackoff 백오프 대기 시간이 지나지 않았더라도 보류된 배치를 지금 다시 시도할지 여부
+     * @return 보류된 배치 없이 모두 기록했는지 여부
+     */
+    private boolean writeAll(boolean ignoreBackoff) {
+        if (!retries.isEmpty()) {
+            if (!ignoreBackoff && System.nanoTime() - nextRetryNanos < 0) {
+                return false;
+            }
+            if (!retryHeld()) {
+                return false;
+            }
+        }
+        while (true) {
+            List<Object[]> batch = new ArrayList<>(batchSize);
+            Object[] params;
+            while (batch.size() < batchSize && (params = queue.poll()) != null) {
+                batch.add(params);
+            }
+            if (batch.isEmpty()) {
+                return true;
+            }
+            Outcome outcome = writeBatch(batch);
+            if (outcome == Outcome.REJECTED) {
+                // 다시 시도해도 실패할 행이 섞여 있으므로 백오프 없이 바로 나눠서 격리
+                retries.addLast(batch);
+                heldRows.addAndGet(batch.size());
+                if (!retryHeld()) {
+                    return false;
+                }
+            } else if (outcome == Outcome.RETRY) {
+                hold(batch);
+                return false;
+            }
+        }
+    }
+
+    /**
+     * 보류된 배치를 차례로 다시 기록합니다. 여러 행의 배치가 다시 시도해도 성공할 수 없는 오류로 실패하면 반으로 나눠 문제 있는 행을
+     * 좁혀 가고, 일시적인 오류라면 백오프 후 다시 시도하도록 멈춥니다.
+     *
+     * @return 보류된 배치를 모두 기록했는지 여부
+     */
+    private boolean retryHeld() {
+        List<Object[]> batch;
+        while ((batch = retries.pollFirst()) != null) {
+            heldRows.addAndGet(-batch.size());
+            Outcome outcome = writeBatch(batch);
+            if (outcome == Outcome.WRITTEN || outcome == Outcome.DEAD_LETTER) {
+                continue;
+            }
+            if (outcome == Outcome.REJECTED) {
+                int half = batch.size() / 2;
+                retries.addFirst(new ArrayList<>(batch.subList(half, batch.size())));
+                retries.addFirst(new ArrayList<>(batch.subList(0, half)));
+                heldRows.addAndGet(batch.size());
+                continue;
+            }
+            retries.addFirst(batch);
+            heldRows.addAndGet(batch.size());
+            scheduleRetry();
+            return false;
+        }
+        backoffNanos = INITIAL_BACKOFF_NANOS;
+        return true;
+    }
+
+    private void hold(List<Object[]> batch) {
+        retries.addLast(batch);
+        heldRows.addAndGet(batch.size());
+        scheduleRetry();
+    }
+
+    private void scheduleRetry() {
+        nextRetryNanos = System.nanoTime() + backoffNanos;
+        backoffNanos = Math.min(MAX_BACKOFF_NANOS, backoffNanos * 2);
+    }
+
+    private void completeFlushRequests(boolean complete) {
+        CompletableFuture<Boolean> request;
+        while ((request = flushRequests.poll()) != null) {
+            request.complete(complete);
+        }
+    }
+
+    /**
+     * 배치 기록 결과
+     */
+    private enum Outcome {
+        /** 기록됨 */
+        WRITTEN,
+        /** 일시적인 오류 - 같은 배치를 백오프 후 다시 시도 */
+        RETRY,
+        /** 다시 시도해도 실패할 오류가 여러 행 배치에서 발생 - 나눠서 다시 시도 */
+        REJECTED,
+        /** 다시 시도해도 실패할 오류가 단일 행에서 발생 - 데드레터로 옮김 */
+        DEAD_LETTER
+    }
+
+    /**
+     * 배치를 하나의 로컬 트랜잭션으로 기록합니다. 기록했거나 데드레터로 옮긴 행은 예약에서 해제합니다.
+     */
+    private Outcome writeBatch(List<Object[]> batch) {
+        SQLException[] cause = new SQLException[1];
+        try {
+            jdbcTemplate.execute(insertSql, ps -> {
+                Connection connection = ps.getConnection();
+                boolean autoCommit = connection.getAutoCommit();
+                try {
+                    connection.setAutoCommit(false);
+                    for (Object[] row : batch) {
+                        for (int i = 0; i < row.length; i++) {
+                            ps.setObject(i + 1, row[i]);
+                        }
+                        ps.addBatch();
+                    }
+                    int[] counts = ps.executeBatch();
+                    connection.commit();
+                    return counts;
+                } catch (SQLException e) {
+                    cause[0] = e;
+                    rollbackQuietly(connection);
+                    throw e;
+                } finally {
+                    restoreAutoCommit(connection, autoCommit);
+                }
+            });
+            pending.addAndGet(-batch.size());
+            return Outcome.WRITTEN;
+        } catch (RuntimeException e) {
+            // 플러셔 스레드가 죽지 않도록 실패를 기록하고 계속 진행
+            failedBatches.increment();
+            String state = cause[0] == null ? null : cause[0].getSQLState();
+            lastFailure = cause[0] == null ? e.getMessage() : "SQLState " + state + ": " + cause[0].getMessage();
+            if (isPermanent(state) && batch.size() > 1) {
+                return Outcome.REJECTED;
+            }
+            if (isPermanent(state)) {
+                deadLetters.offer(batch.getFirst());
+                deadLetterCount.increment();
+                pending.decrementAndGet();
+                System.out.println("⚠️ 쓰기 지연 행을 데드레터로 옮김 (" + name + "): " + lastFailure);
+                return Outcome.DEAD_LETTER;
+            }
+            System.out.println("⚠️ 쓰기 지연 배치 실패, 재시도 대기 (" + name + ", " + batch.size() + "건): "
+                + lastFailure);
+            return Outcome.RETRY;
+        }
+    }
+
+    private static void rollbackQuietly(Connection connection) {
+        try {
+            connection.rollback();
+        } catch (SQLException ignored) {
+            // 커넥션이 끊긴 경우 - 커밋되지 않았으므로 원래 오류만 보고
+        }
+    }
+
+    private static void restoreAutoCommit(Connection connection, boolean autoCommit) {
+        try {
+            connection.setAutoCommit(autoCommit);
+        } catch (SQLException ignored) {
+            // 커밋 이후의 복원 실패를 배치 실패로 보고하면 같은 행을 다시 기록하게 되므로 무시 (커넥션은 곧 반환됨)
+        }
+    }
+
+    /**
+     * 다시 시도해도 같은 결과가 나오는 오류인지 확인합니다. (22: 데이터 예외, 23: 무결성 제약 조건 위반)
+     */
+    private static boolean isPermanent(String sqlState) {
+        return sqlState != null && (sqlState.startsWith("22") || sqlState.startsWith("23"));
+    }
+}
@@ -0,0 +1,61 @@
+package com.spring.sprout.data.support;
+
+import com.spring.sprout.global.annotation.Component;
+import com.spring.sprout.global.metrics.MetricsSource;
+import com.spring.sprout.global.metrics.PrometheusWriter;
+
+/**
+ * [쓰기 지연 버퍼 상태 노출]
+ *
+ * <p>리포지토리마다 생성된 {@link WriteBehindBuffer}는 빈이 아니므로, 이 빈이 버퍼 목록을 읽어 대기/보류 행 수, 실패한 배치 수,
+ * 데드레터 수를 테이블별로 {@code /metrics}에 노출합니다. {@code sprout_write_behind_healthy}가 0이면 DB가 기록을 거부하고 있어
+ * 재시도를 기다리는 행이 있다는 뜻입니다.</p>
+ *
+ * @see WriteBehindBuffer
+ */
+@Component
+public class WriteBehindMonitor implements MetricsSource {
+
+    /**
+     * 모든 버퍼에 재시도를 기다리는 행이 없는지 확인합니다.
+     */
+    public boolean isHealthy() {
+        for (WriteBehindBuffer buffer : WriteBehindBuffer.buffers()) {
+            if (!buffer.isHealthy()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void writeMetrics(PrometheusWriter writer) {
+        if (WriteBehindBuffer.buffers().isEmpty()) {
+            return;
+        }
+        writer.family("sprout_write_behind_healthy", "gauge", "재시도를 기다리는 행이 없으면 1");
+        for (WriteBehindBuffer buffer : WriteBehindBuffer.buffers()) {
+            writer.sample("sprout_write_behind_healthy", labels(buffer), buffer.isHealthy() ? 1 : 0);
+        }
+        writer.family("sprout_write_behind_pending_rows", "gauge", "기록을 기다리는 행 수 (보류된 행 포함)");
+        for (WriteBehindBuffer buffer : WriteBehindBuffer.buffers()) {
+            writer.sample("sprout_write_behind_pending_rows", labels(buffer), buffer.getPendingRows());
+        }
+        writer.family("sprout_write_behind_held_rows", "gauge", "기록에 실패하여 재시도를 기다리는 행 수");
+        for (WriteBehindBuffer buffer : WriteBehindBuffer.buffers()) {
+            writer.sample("sprout_write_behind_held_rows", labels(buffer), buffer.getHeldRows());
+        }
+        writer.family("sprout_write_behind_failed_batches_total", "counter", "기록에 실패한 배치 수 (재시도 포함)");
+        for (WriteBehindBuffer buffer : WriteBehindBuffer.buffers()) {
+            writer.sample("sprout_write_behind_failed_batches_total", labels(buffer), buffer.getFailedBatches());
+        }
+        writer.family("sprout_write_behind_dead_letters_total", "counter", "다시 시도해도 기록할 수 없어 데드레터로 옮긴 행 수");
+        for (WriteBehindBuffer buffer : WriteBehindBuffer.buffers()) {
+            writer.sample("sprout_write_behind_dead_letters_total", labels(buffer), buffer.getDeadLetterCount());
+        }
+    }
+
+    private static String labels(WriteBehindBuffer buffer) {
+        return PrometheusWriter.labels("table", buffer.getName());
+    }
+}
@@ -0,0 +1,117 @@
+package com.spring.sprout.data.tranaction;
+
+import com.spring.sprout.data.support.ConnectionTracker;
+import java.sql.Connection;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+
+/**
+ * [트랜잭션 커넥션 지연 획득 홀더]
+ *
+ * <p>트랜잭션 시작 시점에 물리적인 커넥션을 미리 잡아두지 않고, 실제로 SQL이 실행되는 순간에
+ * 처음으로 커넥션을 획득하기 위한 핸들입니다. {@link TransactionSynchronizationManager}에는 커넥션 대신 이 홀더가 바인딩됩니다.</p>
+ *
+ * <p>지연 획득의 이점:</p>
+ * <ul>
+ * <li><b>풀 점유 시간 단축:</b> 캐시 조회나 조기 반환(early return)으로 끝나는 트랜잭션 메서드는 커넥션을 전혀 점유하지 않습니다.</li>
+ * <li><b>왕복 비용 절감:</b> SQL이 한 번도 실행되지 않았다면 {@code setAutoCommit}, {@code commit}, {@code rollback} 호출을 모두 생략합니다.</li>
+ * </ul>
+ *
+ * @see TransactionManager
+ * @see com.spring.sprout.data.support.DataSourceUtils
+ */
+public class ConnectionHolder {
+
+    private final DataSource dataSource;
+
+    /**
+     * 최초 사용 시점에 획득된 물리 커넥션 (획득 전에는 null)
+     */
+    private Connection connection;
+
+    /**
+     * 커밋 시 배치로 반영할 지연 INSERT 목록 (최초 저장 시 생성)
+     */
+    private UnitOfWork unitOfWork;
+
+    /**
+     * 커넥션을 획득할 데이터소스를 지정하여 홀더를 생성합니다. 이 시점에는 어떤 DB 통신도 일어나지 않습니다.
+     *
+     * @param dataSource 최초 사용 시 커넥션을 제공할 데이터소스
+     */
+    public ConnectionHolder(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * 트랜잭션 커넥션을 반환합니다. 최초 호출 시에만 데이터소스에서 커넥션을 획득하고 AutoCommit을 해제합니다.
+     *
+     * @return 트랜잭션에 참여 중인(AutoCommit=false) 커넥션
+     * @throws SQLException 커넥션 획득 또는 AutoCommit 설정 실패 시
+     */
+    public Connection getConnection() throws SQLException {
+        if (connection == null) {
+            Connection conn = dataSource.getConnection();
+            ConnectionTracker.acquired(conn);
+            try {
+                conn.setAutoCommit(false); // 오토 커밋 해제 -> 트랜잭션의 실질적 시작
+            } catch (SQLException e) {
+                ConnectionTracker.released(conn);
+                conn.close();
+                throw e;
+            }
+            connection = conn;
+        }
+        return connection;
+    }
+
+    /**
+     * 물리 커넥션이 실제로 획득되었는지 여부를 반환합니다.
+     *
+     * @return SQL 실행을 위해 커넥션을 획득한 적이 있다면 true
+     */
+    public boolean hasConnection() {
+        return connection != null;
+    }
+
+    /**
+     * 주어진 커넥션이 이 홀더가 관리 중인 트랜잭션 커넥션인지 확인합니다.
+     *
+     * @param conn 비교할 커넥션
+     * @return 동일한 커넥션이라면 true
+     */
+    public boolean isHolding(Connection conn) {
+        return connection != null && connection == conn;
+    }
+
+    /**
+     * 이 홀더가 주어진 데이터소스의 트랜잭션을 관리하는지 확인합니다. 샤드 데이터소스처럼 다른 데이터소스의 커넥션 요청은 트랜잭션에 참여하지 않습니다.
+     *
+     * @param dataSource 비교할 데이터소스
+     * @return 트랜잭션을 시작한 데이터소스와 동일하다면 true
+     */
+    public boolean isFor(DataSource dataSource) {
+        return this.dataSource == dataSource;
+    }
+
+    /**
+     * 이 트랜잭션의 작업 단위를 반환합니다. 최초 호출 시에만 생성합니다.
+     *
+     * @return 트랜잭션 범위의 지연 INSERT 목록
+     */
+    public UnitOfWork getUnitOfWork() {
+        if (unitOfWork == null) {
+            unitOfWork = new UnitOfWork();
+        }
+        return unitOfWork;
+    }
+
+    /**
+     * 커밋 전에 반영해야 할 지연 INSERT가 있는지 확인합니다.
+     *
+     * @return 대기 중인 INSERT가 있다면 true
+     */
+    public boolean hasPendingWrites() {
+        return unitOfWork != null && unitOfWork.hasPending();
+    }
+}
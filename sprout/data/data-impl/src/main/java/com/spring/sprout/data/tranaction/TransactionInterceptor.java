@@ -65,7 +65,7 @@ public class TransactionInterceptor implements MethodInterceptor {
 
         // 2. 트랜잭션 경계 설정 (Try-Catch-Finally 블록과 유사)
         try {
-            // 트랜잭션 시작 (AutoCommit false 설정 및 Connection 동기화)
+            // 트랜잭션 시작 (지연 커넥션 홀더 동기화, 실제 커넥션은 첫 SQL 실행 시 획득)
             transactionManager.begin();
 
             // 실제 비즈니스 로직 실행 (CGLIB은 invokeSuper를 통해 원본 로직을 수행함)
@@ -2,6 +2,7 @@ package com.spring.sprout.data.tranaction;
 
 import com.spring.sprout.global.annotation.Autowired;
 import com.spring.sprout.global.annotation.Component;
+import com.spring.sprout.data.support.ConnectionTracker;
 import java.sql.Connection;
 import java.sql.SQLException;
 import javax.sql.DataSource;
@@ -14,8 +15,8 @@ import javax.sql.DataSource;
  *
  * <p>핵심 기능:</p>
  * <ul>
- * <li><b>트랜잭션 시작 (Begin):</b> AutoCommit을 비활성화하고, 커넥션을 스레드 로컬에 동기화합니다.</li>
- * <li><b>커밋 (Commit):</b> 작업이 성공하면 변경 사항을 DB에 영구 반영합니다.</li>
+ * <li><b>트랜잭션 시작 (Begin):</b> 커넥션 홀더를 스레드 로컬에 동기화합니다. 커넥션은 첫 SQL 실행 시 지연 획득됩니다.</li>
+ * <li><b>커밋 (Commit):</b> 작업 단위({@link UnitOfWork})에 쌓인 INSERT를 배치로 반영한 뒤, 변경 사항을 DB에 영구 반영합니다.</li>
  * <li><b>롤백 (Rollback):</b> 예외 발생 시 모든 작업을 취소하고 이전 상태로 되돌립니다.</li>
  * <li><b>리소스 정리 (Cleanup):</b> 커넥션 설정을 원복하고 스레드 로컬을 비웁니다.</li>
  * </ul>
@@ -38,32 +39,49 @@ public class TransactionManager {
      *
      * <p>작동 과정:</p>
      * <ol>
-     * <li>DataSource로부터 새로운 Connection을 획득합니다.</li>
-     * <li>JDBC의 <b>AutoCommit 모드를 false로 설정</b>하여 수동 커밋 모드로 전환합니다. (트랜잭션 시작의 핵심)</li>
-     * <li>동기화 매니저({@link TransactionSynchronizationManager})에 커넥션을 등록하여,
+     * <li>물리 커넥션 대신 지연 획득용 {@link ConnectionHolder}를 생성합니다. (이 시점에는 DB 통신이 없습니다)</li>
+     * <li>동기화 매니저({@link TransactionSynchronizationManager})에 홀더를 등록하여,
      * 이후의 로직(Repository 등)이 동일한 커넥션을 사용하도록 보장합니다.</li>
+     * <li>첫 SQL 실행 시 홀더가 커넥션을 획득하고 <b>AutoCommit 모드를 false로 설정</b>합니다. (트랜잭션의 실질적 시작)</li>
      * </ol>
      */
     public void begin() {
-        try {
-            Connection conn = dataSource.getConnection();
-            conn.setAutoCommit(false); // 오토 커밋 해제 -> 트랜잭션의 실질적 시작
-            TransactionSynchronizationManager.init(conn); // 획득한 커넥션을 현재 스레드에 바인딩
-            System.out.println(">>> Transaction begin");
-        } catch (SQLException e) {
-            throw new RuntimeException("트랜잭션 시작 실패", e);
-        }
+        TransactionSynchronizationManager.init(new ConnectionHolder(dataSource)); // 지연 커넥션 핸들을 현재 스레드에 바인딩
+        System.out.println(">>> Transaction begin");
     }
 
     /**
      * 현재 트랜잭션의 모든 변경 사항을 데이터베이스에 확정(Commit)합니다. 정상적으로 로직이 수행되었을 때 호출됩니다.
+     *
+     * <p>커밋 직전에 {@link UnitOfWork}에 대기 중인 INSERT를 엔티티 타입별 배치로 실행합니다. 플러시가 실패하면 트랜잭션을
+     * 롤백하고 예외를 그대로 던집니다.</p>
+     *
+     * <p>트랜잭션 중 SQL이 한 번도 실행되지 않아 커넥션이 획득되지 않았다면, 커밋 왕복 없이 동기화 정보만 정리합니다.
+     * 시작되지 않은 트랜잭션을 커밋하려 하면 경고만 남기고 무시합니다.</p>
      */
     public void commit() {
-        Connection conn = TransactionSynchronizationManager.getResource();
+        ConnectionHolder holder = TransactionSynchronizationManager.getResource();
+        if (holder == null) {
+            System.out.println("⚠️ 경고: 진행 중인 트랜잭션이 없어 커밋을 무시합니다.");
+            return;
+        }
+        if (holder.hasPendingWrites()) {
+            try {
+                holder.getUnitOfWork().flush(); // 지연된 INSERT를 커밋 전에 배치로 반영
+            } catch (RuntimeException e) {
+                rollback();
+                throw e;
+            }
+        }
         try {
-            conn.commit(); // DB 반영
-            System.out.println(">>> Transaction commit");
-            processCleanup(conn); // 리소스 정리
+            if (holder.hasConnection()) {
+                Connection conn = holder.getConnection();
+                conn.commit(); // DB 반영
+                System.out.println(">>> Transaction commit");
+                processCleanup(conn); // 리소스 정리
+            } else {
+                processCleanup(null); // 사용한 커넥션이 없으므로 동기화 정보만 정리
+            }
         } catch (SQLException e) {
             throw new RuntimeException("커밋 실패", e);
         }
@@ -72,14 +90,20 @@ public class TransactionManager {
     /**
      * 작업 중 예외가 발생했을 때, 트랜잭션 시작 이후의 모든 변경 사항을 취소(Rollback)합니다. 데이터의 일관성(Consistency)을 유지하기 위한
      * 안전장치입니다.
+     *
+     * <p>커넥션이 획득되지 않은 트랜잭션이라면 되돌릴 변경 사항이 없으므로 롤백 왕복을 생략합니다.
+     * 아직 플러시되지 않은 지연 INSERT는 홀더와 함께 버려집니다.</p>
      */
     public void rollback() {
-        Connection conn = TransactionSynchronizationManager.getResource();
+        ConnectionHolder holder = TransactionSynchronizationManager.getResource();
         try {
-            if (conn != null) {
+            if (holder != null && holder.hasConnection()) {
+                Connection conn = holder.getConnection();
                 conn.rollback(); // 되돌리기
                 System.out.println(">>> Transaction rollback");
                 processCleanup(conn); // 리소스 정리
+            } else {
+                processCleanup(null); // 사용한 커넥션이 없으므로 동기화 정보만 정리
             }
         } catch (SQLException e) {
             throw new RuntimeException("롤백 실패", e);
@@ -92,15 +116,22 @@ public class TransactionManager {
      * <p>정리 작업:</p>
      * <ul>
      * <li><b>AutoCommit 복구:</b> 커넥션을 풀(Pool)로 돌려보내기 전에 기본값(true)으로 복구합니다.</li>
-     * <li><b>커넥션 종료:</b> 물리적 연결을 닫거나 풀에 반환합니다.</li>
+     * <li><b>커넥션 종료:</b> 물리적 연결을 닫거나 풀에 반환합니다. AutoCommit 복구에 실패해도 반드시 반환합니다.</li>
      * <li><b>동기화 해제:</b> 스레드 로컬에 저장된 커넥션 정보를 제거하여 메모리 누수를 방지합니다.</li>
      * </ul>
      */
     private void processCleanup(Connection conn) throws SQLException {
-        if (conn != null) {
-            conn.setAutoCommit(true); // 다음 사용자를 위해 상태 복구 (Pooling 환경에서 필수)
-            conn.close(); // Connection Pool로 반환
+        try {
+            if (conn != null) {
+                try {
+                    conn.setAutoCommit(true); // 다음 사용자를 위해 상태 복구 (Pooling 환경에서 필수)
+                } finally {
+                    ConnectionTracker.released(conn); // 점유 시간 기록
+                    conn.close(); // Connection Pool로 반환
+                }
+            }
+        } finally {
+            TransactionSynchronizationManager.clear(); // 스레드 컨텍스트 정리
         }
-        TransactionSynchronizationManager.clear(); // 스레드 컨텍스트 정리
     }
 }
\ No newline at end of file
@@ -1,11 +1,9 @@
 package com.spring.sprout.data.tranaction;
 
-import java.sql.Connection;
-
 /**
  * [트랜잭션 리소스 동기화 매니저]
  *
- * <p>스레드 로컬(ThreadLocal)을 사용하여, 데이터베이스 커넥션과 같은 트랜잭션 리소스를
+ * <p>스레드 로컬(ThreadLocal)을 사용하여, 데이터베이스 커넥션 홀더와 같은 트랜잭션 리소스를
  * 현재 실행 중인 스레드에 바인딩(Binding)하고 관리하는 저장소입니다.</p>
  *
  * <p>핵심 역할:</p>
@@ -16,38 +14,39 @@ import java.sql.Connection;
  * </ul>
  *
  * @see java.lang.ThreadLocal
+ * @see com.spring.sprout.data.tranaction.ConnectionHolder
  * @see com.spring.sprout.data.tranaction.TransactionManager
  * @see com.spring.sprout.data.support.DataSourceUtils
  */
 public class TransactionSynchronizationManager {
 
     /**
-     * 스레드별로 고유하게 할당된 JDBC Connection을 저장하는 컨테이너입니다. ThreadLocal을 사용하므로 동기화(synchronized) 키워드 없이도
+     * 스레드별로 고유하게 할당된 커넥션 홀더를 저장하는 컨테이너입니다. ThreadLocal을 사용하므로 동기화(synchronized) 키워드 없이도
      * 스레드 안전(Thread-safe)합니다.
      */
-    private static final ThreadLocal<Connection> resources = new ThreadLocal<>();
+    private static final ThreadLocal<ConnectionHolder> resources = new ThreadLocal<>();
 
     /**
-     * 트랜잭션이 시작될 때, 생성된 커넥션을 현재 스레드에 보관합니다.
+     * 트랜잭션이 시작될 때, 커넥션 홀더를 현재 스레드에 보관합니다. 물리 커넥션은 홀더가 처음 사용될 때 획득됩니다.
      *
      * <p>이미 진행 중인 트랜잭션이 있다면(리소스가 존재한다면),
      * 중첩 트랜잭션이나 로직 오류일 수 있으므로 경고를 출력하거나 예외를 던져야 합니다.</p>
      *
-     * @param conn 트랜잭션에 사용될 활성화된(AutoCommit=false) 커넥션
+     * @param holder 트랜잭션에 사용될 커넥션 홀더
      */
-    public static void init(Connection conn) {
+    public static void init(ConnectionHolder holder) {
         if (resources.get() != null) {
             System.out.println("⚠️ 경고: 이미 활성화된 트랜잭션이 존재합니다. (중첩 호출 가능성)");
         }
-        resources.set(conn);
+        resources.set(holder);
     }
 
     /**
-     * 현재 스레드에 바인딩된 커넥션을 조회합니다.
+     * 현재 스레드에 바인딩된 커넥션 홀더를 조회합니다.
      *
-     * @return 현재 트랜잭션 중인 커넥션 객체, 트랜잭션이 없다면 null 반환
+     * @return 현재 트랜잭션의 커넥션 홀더, 트랜잭션이 없다면 null 반환
      */
-    public static Connection getResource() {
+    public static ConnectionHolder getResource() {
         return resources.get();
     }
 
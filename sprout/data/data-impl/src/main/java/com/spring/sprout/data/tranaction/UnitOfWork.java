@@ -0,0 +1,129 @@
+package com.spring.sprout.data.tranaction;
+
+import com.spring.sprout.JdbcTemplate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * [작업 단위 (Unit of Work)]
+ *
+ * <p>트랜잭션 안에서 호출된 {@code save}를 즉시 실행하지 않고 엔티티 타입별로 모아 두었다가,
+ * 커밋 직전에 타입마다 JDBC 배치 한 번으로 INSERT합니다. 트랜잭션당 INSERT 왕복 횟수가 저장 횟수가 아닌 엔티티 타입 수로 줄어듭니다.</p>
+ *
+ * <p>동작 규칙:</p>
+ * <ul>
+ * <li><b>플러시 시점:</b> 커밋 직전, {@code JpaRepository.flush()} 호출 시, 같은 타입을 조회하기 직전(자동 플러시),
+ * 한 타입에 {@value #AUTO_FLUSH_THRESHOLD}건이 쌓였을 때</li>
+ * <li><b>플러시 순서:</b> 엔티티 타입이 처음 저장된 순서대로 실행합니다. 외래 키 등 순서가 중요하면 {@code flush()}로 명시합니다.</li>
+ * <li><b>파라미터 추출:</b> 플러시 시점의 필드 값을 사용하므로, 저장 후 커밋 전에 변경한 값도 반영됩니다.</li>
+ * <li><b>롤백:</b> 대기 중인 INSERT는 트랜잭션과 함께 버려집니다.</li>
+ * </ul>
+ *
+ * <p>{@link ConnectionHolder}에 속하므로 트랜잭션과 생명주기가 같고, 한 스레드에서만 사용됩니다.</p>
+ *
+ * @see ConnectionHolder
+ * @see TransactionManager#commit()
+ */
+public class UnitOfWork {
+
+    /**
+     * 한 엔티티 타입에 대기 중인 INSERT가 이 수에 도달하면 즉시 플러시하여 메모리 사용을 제한합니다.
+     */
+    static final int AUTO_FLUSH_THRESHOLD = 1_000;
+
+    private final Map<Class<?>, PendingInserts> pending = new LinkedHashMap<>();
+
+    /**
+     * 엔티티 INSERT를 대기열에 등록합니다.
+     *
+     * @param jdbcTemplate   플러시 시 배치를 실행할 템플릿
+     * @param entityType     엔티티 타입 (플러시 단위)
+     * @param insertSql      바인딩 파라미터를 가진 INSERT 문
+     * @param paramExtractor 엔티티에서 INSERT 파라미터를 추출하는 함수
+     * @param entity         저장할 엔티티
+     */
+    public void registerInsert(JdbcTemplate jdbcTemplate, Class<?> entityType, String insertSql,
+        Function<Object, Object[]> paramExtractor, Object entity) {
+        PendingInserts inserts = pending.computeIfAbsent(entityType,
+            type -> new PendingInserts(jdbcTemplate, insertSql, paramExtractor));
+        inserts.entities.add(entity);
+        if (inserts.entities.size() >= AUTO_FLUSH_THRESHOLD) {
+            inserts.flush();
+        }
+    }
+
+    /**
+     * 해당 타입의 대기 중인 엔티티를 반환합니다. (Read-your-writes 조회용)
+     */
+    public List<Object> getPending(Class<?> entityType) {
+        PendingInserts inserts = pending.get(entityType);
+        return inserts == null ? List.of() : inserts.entities;
+    }
+
+    public boolean hasPending() {
+        for (PendingInserts inserts : pending.values()) {
+            if (!inserts.entities.isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 대기 중인 모든 INSERT를 타입별 배치로 실행합니다.
+     */
+    public void flush() {
+        for (PendingInserts inserts : pending.values()) {
+            inserts.flush();
+        }
+    }
+
+    /**
+     * 해당 타입의 대기 중인 INSERT만 배치로 실행합니다. 조회 직전 자동 플러시에 사용됩니다.
+     */
+    public void flush(Class<?> entityType) {
+        PendingInserts inserts = pending.get(entityType);
+        if (inserts != null) {
+            inserts.flush();
+        }
+    }
+
+    /**
+     * 엔티티 타입 하나에 대해 대기 중인 INSERT 목록
+     */
+    private static class PendingInserts {
+
+        private final JdbcTemplate jdbcTemplate;
+        private final String insertSql;
+        private final Function<Object, Object[]> paramExtractor;
+        private final List<Object> entities = new ArrayList<>();
+
+        private PendingInserts(JdbcTemplate jdbcTemplate, String insertSql,
+            Function<Object, Object[]> paramExtractor) {
+            this.jdbcTemplate = jdbcTemplate;
+            this.insertSql = insertSql;
+            this.paramExtractor = paramExtractor;
+        }
+
+        private void flush() {
+            if (entities.isEmpty()) {
+                return;
+            }
+            List<Object> batch = new ArrayList<>(entities);
+            entities.clear();
+            jdbcTemplate.execute(insertSql, ps -> {
+                for (Object entity : batch) {
+                    Object[] params = paramExtractor.apply(entity);
+                    for (int i = 0; i < params.length; i++) {
+                        ps.setObject(i + 1, params[i]);
+                    }
+                    ps.addBatch();
+                }
+                return ps.executeBatch();
+            });
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.spring.sprout.data.bulk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.spring.sprout.global.error.SpringException;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class CsvBulkLoaderTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void 따옴표_안의_줄바꿈에서는_구간을_자르지_않음() throws IOException {
+        // given
+        StringBuilder csv = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            csv.append(i).append(",\"line1\nline2, \"\"quoted\"\"\nline3\",").append(i * 2).append('\n');
+        }
+        Path file = write(csv.toString());
+
+        // when
+        List<String> rows;
+        List<long[]> segments;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            segments = CsvBulkLoader.split(channel, 0, channel.size(), 4, 1L << 30);
+            rows = readAll(channel, segments);
+        }
+
+        // then
+        assertThat(segments).hasSizeGreaterThan(1);
+        assertThat(rows).hasSize(200);
+        for (int i = 0; i < 200; i++) {
+            assertThat(rows.get(i)).isEqualTo(i + "|line1\nline2, \"quoted\"\nline3|" + i * 2);
+        }
+    }
+
+    @Test
+    public void 최대_구간_크기를_넘으면_직전_행_경계에서_자름() throws IOException {
+        // given
+        StringBuilder csv = new StringBuilder();
+        for (int i = 0; i < 50; i++) {
+            csv.append(i).append(",\"a\nb\",name").append(i).append('\n');
+        }
+        Path file = write(csv.toString());
+
+        // when
+        List<String> rows;
+        List<long[]> segments;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            segments = CsvBulkLoader.split(channel, 0, channel.size(), 1, 64);
+            rows = readAll(channel, segments);
+        }
+
+        // then
+        assertThat(segments).allSatisfy(segment -> assertThat(segment[1] - segment[0]).isLessThanOrEqualTo(64));
+        assertThat(rows).hasSize(50);
+        assertThat(rows.get(49)).isEqualTo("49|a\nb|name49");
+    }
+
+    @Test
+    public void 한_행이_최대_구간_크기보다_크면_실패() throws IOException {
+        // given
+        Path file = write("1,short\n2,\"" + "x".repeat(100) + "\"\n3,short\n");
+
+        // when, then
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            assertThrows(SpringException.class, () -> CsvBulkLoader.split(channel, 0, channel.size(), 1, 64));
+        }
+    }
+
+    private Path write(String content) throws IOException {
+        Path file = dir.resolve("data.csv");
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        return file;
+    }
+
+    private List<String> readAll(FileChannel channel, List<long[]> segments) throws IOException {
+        List<String> rows = new ArrayList<>();
+        for (long[] segment : segments) {
+            MappedCsvReader reader = new MappedCsvReader(
+                channel.map(MapMode.READ_ONLY, segment[0], segment[1] - segment[0]), ',');
+            while (reader.nextRow()) {
+                List<String> fields = new ArrayList<>();
+                for (int i = 0; i < reader.getFieldCount(); i++) {
+                    fields.add(reader.getString(i));
+                }
+                rows.add(String.join("|", fields));
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,128 @@
+package com.spring.sprout.data.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.spring.sprout.JdbcTemplate;
+import com.spring.sprout.data.metrics.SqlMetrics;
+import com.spring.sprout.global.error.ErrorMessage;
+import com.spring.sprout.global.error.SpringException;
+import com.spring.sprout.global.web.RequestDeadline;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class JdbcTemplateDeadlineTest {
+
+    /**
+     * 행마다 10ms씩 쉬는 느린 쿼리. H2는 행 사이에서 취소 여부를 확인하므로 기한 안에 끊깁니다.
+     */
+    private static final String SLOW_SQL = "SELECT PAUSE(10) FROM SYSTEM_RANGE(1, 1000)";
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    public void setUp() {
+        SimpleDataSource dataSource = new SimpleDataSource("jdbc:h2:mem:deadline;DB_CLOSE_DELAY=-1", "sa", "",
+            "org.h2.Driver");
+        jdbcTemplate = new JdbcTemplateImpl(dataSource, new SqlMetrics(key -> null, dataSource));
+        jdbcTemplate.execute("CREATE ALIAS IF NOT EXISTS PAUSE FOR '" + getClass().getName() + ".pause'",
+            ps -> ps.execute());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        RequestDeadline.end();
+    }
+
+    public static int pause(int millis) throws InterruptedException {
+        Thread.sleep(millis);
+        return millis;
+    }
+
+    @Test
+    public void 남은_기한을_쿼리_타임아웃으로_올림하여_전달() {
+        // given
+        int withoutDeadline = jdbcTemplate.execute("SELECT 1", ps -> ps.getQueryTimeout());
+        RequestDeadline.start(1_500);
+
+        // when
+        int withDeadline = jdbcTemplate.execute("SELECT 1", ps -> ps.getQueryTimeout());
+
+        // then
+        assertThat(withoutDeadline).isZero();
+        assertThat(withDeadline).isEqualTo(2);
+    }
+
+    @Test
+    public void 기한을_넘긴_쿼리는_취소하고_QUERY_TIMEOUT() {
+        // given
+        RequestDeadline.start(200);
+        long start = System.nanoTime();
+
+        // when
+        SpringException e = assertThrows(SpringException.class,
+            () -> jdbcTemplate.query(SLOW_SQL, rs -> rs.getInt(1)));
+
+        // then (쿼리 전체는 10초 걸림)
+        assertThat(e.getErrorMessage()).isEqualTo(ErrorMessage.QUERY_TIMEOUT);
+        assertThat(System.nanoTime() - start).isLessThan(3_000_000_000L);
+    }
+
+    @Test
+    public void 이미_지난_기한이면_실행하지_않고_DEADLINE_EXCEEDED() throws InterruptedException {
+        // given
+        RequestDeadline.start(1);
+        Thread.sleep(5);
+
+        // when
+        SpringException e = assertThrows(SpringException.class,
+            () -> jdbcTemplate.query("SELECT 1", rs -> rs.getInt(1)));
+
+        // then
+        assertThat(e.getErrorMessage()).isEqualTo(ErrorMessage.DEADLINE_EXCEEDED);
+    }
+
+    @Test
+    public void 스트림_조회는_실행_이후_행을_읽는_시간에_기한을_적용하지_않음() throws InterruptedException {
+        // given (지연 실행이라 행은 읽을 때 계산되므로, 남아 있는 취소가 있다면 읽는 도중 실패함)
+        SimpleDataSource lazy = new SimpleDataSource(
+            "jdbc:h2:mem:deadline_lazy;DB_CLOSE_DELAY=-1;LAZY_QUERY_EXECUTION=1", "sa", "", "org.h2.Driver");
+        JdbcTemplate lazyTemplate = new JdbcTemplateImpl(lazy, new SqlMetrics(key -> null, lazy));
+        RequestDeadline.start(300);
+        int rows = 0;
+
+        // when (행마다 20ms씩 읽어 기한의 두 배가 걸림)
+        try (Stream<Integer> stream = lazyTemplate.queryForStream("SELECT X FROM SYSTEM_RANGE(1, 30)",
+            rs -> rs.getInt(1))) {
+            Iterator<Integer> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                iterator.next();
+                rows++;
+                Thread.sleep(20);
+            }
+        }
+
+        // then
+        assertThat(rows).isEqualTo(30);
+    }
+
+    @Test
+    public void 스트림_조회도_실행_단계는_기한으로_취소() {
+        // given
+        RequestDeadline.start(200);
+
+        // when
+        SpringException e = assertThrows(SpringException.class, () -> {
+            try (Stream<Integer> stream = jdbcTemplate.queryForStream(SLOW_SQL, rs -> rs.getInt(1))) {
+                stream.forEach(value -> {
+                });
+            }
+        });
+
+        // then
+        assertThat(e.getErrorMessage()).isEqualTo(ErrorMessage.QUERY_TIMEOUT);
+    }
+}
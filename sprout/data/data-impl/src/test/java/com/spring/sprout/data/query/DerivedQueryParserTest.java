@@ -0,0 +1,209 @@
+package com.spring.sprout.data.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.spring.sprout.JdbcTemplate;
+import com.spring.sprout.data.config.JdbcTemplateImpl;
+import com.spring.sprout.data.config.SimpleDataSource;
+import com.spring.sprout.data.metrics.SqlMetrics;
+import com.spring.sprout.data.query.DerivedQuery.Type;
+import com.spring.sprout.global.error.ErrorMessage;
+import com.spring.sprout.global.error.SpringException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class DerivedQueryParserTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    public void setUp() {
+        SimpleDataSource dataSource = new SimpleDataSource("jdbc:h2:mem:derived_query;DB_CLOSE_DELAY=-1", "sa", "",
+            "org.h2.Driver");
+        jdbcTemplate = new JdbcTemplateImpl(dataSource, new SqlMetrics(key -> null, dataSource));
+        jdbcTemplate.execute("DROP TABLE IF EXISTS members", ps -> ps.execute());
+        jdbcTemplate.execute("CREATE TABLE members (id INT PRIMARY KEY, name VARCHAR(255), age INT, "
+            + "nick_name VARCHAR(255))", ps -> ps.execute());
+        jdbcTemplate.execute("INSERT INTO members VALUES (1, 'kim', 20, 'k'), (2, 'lee', 30, NULL), "
+            + "(3, 'park', 40, 'p'), (4, 'kang', 30, NULL)", ps -> ps.execute());
+    }
+
+    @Test
+    public void 조건_연산자를_SQL로_변환() {
+        assertThat(sql("findByName")).isEqualTo("SELECT * FROM members WHERE name = ?");
+        assertThat(sql("findByAgeGreaterThanEqualAndNameLike"))
+            .isEqualTo("SELECT * FROM members WHERE age >= ? AND name LIKE ?");
+        assertThat(sql("findByAgeBetweenOrNickNameIsNull"))
+            .isEqualTo("SELECT * FROM members WHERE age BETWEEN ? AND ? OR nick_name IS NULL");
+        assertThat(sql("findByNameNotAndAgeLessThan"))
+            .isEqualTo("SELECT * FROM members WHERE name <> ? AND age < ?");
+        assertThat(parse("findByAgeBetweenOrNickNameIsNull").getParameterCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void 조건_연산자_실행_결과() {
+        assertThat(ids(execute("findByAgeGreaterThanEqualAndNameLike", 30, "k%"))).containsExactly(4);
+        assertThat(ids(execute("findByAgeBetweenOrNickNameIsNull", 35, 45))).containsExactlyInAnyOrder(2, 3, 4);
+        assertThat(ids(execute("findByNameNotAndAgeLessThan", "kim", 35))).containsExactlyInAnyOrder(2, 4);
+    }
+
+    @Test
+    public void OrderBy는_여러_키와_방향을_순서대로_적용() {
+        // when
+        List<?> members = (List<?>) execute("findAllByOrderByAgeDescNameAsc");
+
+        // then
+        assertThat(sql("findAllByOrderByAgeDescNameAsc"))
+            .isEqualTo("SELECT * FROM members ORDER BY age DESC, name ASC");
+        assertThat(ids(members)).containsExactly(3, 4, 2, 1);
+    }
+
+    @Test
+    public void 프로젝션은_필요한_컬럼만_조회() {
+        // when
+        @SuppressWarnings("unchecked")
+        List<NameAndAge> rows = (List<NameAndAge>) execute("findByAgeOrderByName", 30);
+        @SuppressWarnings("unchecked")
+        Optional<NickNameView> view = (Optional<NickNameView>) execute("findFirstByName", "park");
+
+        // then
+        assertThat(sql("findByAgeOrderByName"))
+            .isEqualTo("SELECT name, age FROM members WHERE age = ? ORDER BY name ASC");
+        assertThat(rows).containsExactly(new NameAndAge("kang", 30), new NameAndAge("lee", 30));
+        assertThat(view).get().extracting(NickNameView::getNickName).isEqualTo("p");
+    }
+
+    @Test
+    public void 집계와_삭제는_반환_타입에_맞춰_변환() {
+        assertThat(parse("countByAge").getType()).isEqualTo(Type.COUNT);
+        assertThat(execute("countByAge", 30)).isEqualTo(2L);
+        assertThat(execute("countByAgeGreaterThan", 25)).isEqualTo(3);
+        assertThat(sql("existsByName")).isEqualTo("SELECT 1 FROM members WHERE name = ? LIMIT 1");
+        assertThat(execute("existsByName", "lee")).isEqualTo(true);
+        assertThat(execute("existsByName", "choi")).isEqualTo(false);
+        assertThat(execute("deleteByAge", 30)).isEqualTo(2L);
+        assertThat(execute("removeByName", "kim")).isNull();
+        assertThat(execute("countByAgeGreaterThan", 0)).isEqualTo(1);
+    }
+
+    @Test
+    public void 단건_조회는_없으면_null() {
+        assertThat(execute("findByName", "choi")).isNull();
+        assertThat(execute("findByName", "kim")).isInstanceOf(Member.class);
+    }
+
+    @Test
+    public void 잘못된_메서드는_생성_시점에_거부() {
+        assertInvalid("fetchByName");
+        assertInvalid("findByUnknown");
+        assertInvalid("findByAgeBetween");
+        assertInvalid("findByNameAndAge");
+        assertInvalid("countBy");
+        assertInvalid("countByNameOrderByAge");
+        assertInvalid("findAllByOrderByUnknown");
+        assertInvalid("countByNickName");
+        assertInvalid("existsByAge");
+        assertInvalid("findByNickName");
+        assertInvalid("findByAge");
+    }
+
+    private static void assertInvalid(String methodName) {
+        SpringException e = assertThrows(SpringException.class, () -> parse(methodName), methodName);
+        assertThat(e.getErrorMessage()).isEqualTo(ErrorMessage.INVALID_QUERY_METHOD);
+    }
+
+    private Object execute(String methodName, Object... args) {
+        return parse(methodName).execute(jdbcTemplate, args);
+    }
+
+    private static String sql(String methodName) {
+        return parse(methodName).getSql();
+    }
+
+    private static DerivedQuery parse(String methodName) {
+        Method method = Arrays.stream(MemberQueries.class.getMethods())
+            .filter(m -> m.getName().equals(methodName))
+            .findFirst()
+            .orElseThrow();
+        return DerivedQueryParser.parse(method, Member.class, "members");
+    }
+
+    private static List<Integer> ids(Object members) {
+        return ((List<?>) members).stream().map(member -> ((Member) member).id).toList();
+    }
+
+    public interface MemberQueries {
+
+        Member findByName(String name);
+
+        List<Member> findByAgeGreaterThanEqualAndNameLike(int age, String name);
+
+        List<Member> findByAgeBetweenOrNickNameIsNull(int from, int to);
+
+        List<Member> findByNameNotAndAgeLessThan(String name, int age);
+
+        List<Member> findAllByOrderByAgeDescNameAsc();
+
+        List<NameAndAge> findByAgeOrderByName(int age);
+
+        Optional<NickNameView> findFirstByName(String name);
+
+        long countByAge(int age);
+
+        int countByAgeGreaterThan(int age);
+
+        boolean existsByName(String name);
+
+        Long deleteByAge(int age);
+
+        void removeByName(String name);
+
+        // 잘못된 선언
+        List<Member> fetchByName(String name);
+
+        List<Member> findByUnknown(String value);
+
+        List<Member> findByAgeBetween(int from);
+
+        List<Member> findByNameAndAge(String name);
+
+        long countBy();
+
+        long countByNameOrderByAge(String name);
+
+        List<Member> findAllByOrderByUnknown();
+
+        String countByNickName(String nickName);
+
+        int existsByAge(int age);
+
+        List<String> findByNickName(String nickName);
+
+        int findByAge(int age);
+    }
+
+    public record NameAndAge(String name, Integer age) {
+
+    }
+
+    public interface NickNameView {
+
+        String getNickName();
+    }
+
+    public static class Member {
+
+        private Integer id;
+        private String name;
+        private Integer age;
+        private String nickName;
+
+        public Member() {
+        }
+    }
+}
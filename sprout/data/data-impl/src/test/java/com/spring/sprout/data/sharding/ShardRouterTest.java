@@ -0,0 +1,80 @@
+package com.spring.sprout.data.sharding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.spring.sprout.data.metrics.SqlMetrics;
+import com.spring.sprout.global.error.SpringException;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class ShardRouterTest {
+
+    @Test
+    public void 같은_정수_키는_박싱_타입과_무관하게_같은_샤드로_라우팅() {
+        // given
+        ShardRouter router = router("s0", "s1", "s2");
+
+        // when, then
+        for (int id = 0; id < 1_000; id++) {
+            assertThat(router.route((long) id).name()).isEqualTo(router.route(id).name());
+        }
+    }
+
+    @Test
+    public void 키가_샤드에_고르게_분산() {
+        // given
+        ShardRouter router = router("s0", "s1", "s2", "s3");
+        Map<String, Integer> counts = new HashMap<>();
+
+        // when
+        for (int id = 0; id < 40_000; id++) {
+            counts.merge(router.route(id).name(), 1, Integer::sum);
+        }
+
+        // then (기대값 10,000건에서 ±20% 이내)
+        assertThat(counts).hasSize(4);
+        assertThat(counts.values()).allSatisfy(count -> assertThat(count).isBetween(8_000, 12_000));
+    }
+
+    @Test
+    public void 샤드를_추가하면_일부_키만_새_샤드로_이동() {
+        // given
+        ShardRouter before = router("s0", "s1", "s2");
+        ShardRouter after = router("s0", "s1", "s2", "s3");
+        int moved = 0;
+
+        // when
+        for (int id = 0; id < 30_000; id++) {
+            String from = before.route(id).name();
+            String to = after.route(id).name();
+            if (!from.equals(to)) {
+                moved++;
+                assertThat(to).isEqualTo("s3"); // 기존 샤드끼리는 키를 주고받지 않음
+            }
+        }
+
+        // then (이론값 1/4 = 7,500건)
+        assertThat(moved).isBetween(6_000, 9_000);
+    }
+
+    @Test
+    public void null_키는_거부() {
+        // given
+        ShardRouter router = router("s0", "s1");
+
+        // when, then
+        assertThrows(SpringException.class, () -> router.route(null));
+    }
+
+    private static ShardRouter router(String... names) {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("db.shards", String.join(",", names));
+        properties.put("db.driver-class-name", "org.h2.Driver");
+        for (String name : names) {
+            properties.put("db.shards." + name + ".url", "jdbc:h2:mem:ring_" + name + ";DB_CLOSE_DELAY=-1");
+        }
+        return new ShardRouter(properties::get, new SqlMetrics(key -> null, null));
+    }
+}
@@ -0,0 +1,61 @@
+package com.spring.sprout.data.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.spring.sprout.ColumnBatch;
+import com.spring.sprout.ColumnBatch.LongColumn;
+import com.spring.sprout.ColumnBatch.StringColumn;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import org.junit.jupiter.api.Test;
+
+public class ColumnarResultReaderTest {
+
+    @Test
+    public void 정밀도가_long_범위를_넘는_정수_DECIMAL은_문자열로_손실_없이_읽음() throws Exception {
+        // given
+        try (Connection conn = DriverManager.getConnection("jdbc:h2:mem:columnar_decimal");
+            Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE TABLE amount (small DECIMAL(10, 0), big DECIMAL(30, 0))");
+            stmt.execute("INSERT INTO amount VALUES (42, 123456789012345678901234567890), (NULL, NULL)");
+
+            // when
+            ColumnBatch batch;
+            try (ResultSet rs = stmt.executeQuery("SELECT small, big FROM amount")) {
+                batch = ColumnarResultReader.readColumns(rs);
+            }
+
+            // then
+            assertThat(batch.getColumn("small")).isInstanceOf(LongColumn.class);
+            assertThat(batch.getLongs("small")[0]).isEqualTo(42L);
+            StringColumn big = batch.getStrings("big");
+            assertThat(big.get(0)).isEqualTo("123456789012345678901234567890");
+            assertThat(batch.isNull("big", 1)).isTrue();
+        }
+    }
+
+    @Test
+    public void 같은_문자열은_사전에_한_번만_저장() throws Exception {
+        // given
+        try (Connection conn = DriverManager.getConnection("jdbc:h2:mem:columnar_text");
+            Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE TABLE city (id INT, name VARCHAR(20))");
+            stmt.execute("INSERT INTO city SELECT X, 'c' || MOD(X, 100) FROM SYSTEM_RANGE(1, 5000)");
+
+            // when
+            StringColumn names;
+            try (ResultSet rs = stmt.executeQuery("SELECT name FROM city ORDER BY id")) {
+                names = ColumnarResultReader.readColumns(rs).getStrings("name");
+            }
+
+            // then
+            assertThat(names.dictionary()).hasSize(100).doesNotHaveDuplicates();
+            assertThat(names.codes()).hasSize(5000);
+            for (int row = 0; row < 5000; row++) {
+                assertThat(names.get(row)).isEqualTo("c" + ((row + 1) % 100));
+            }
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.spring.sprout.data.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.spring.sprout.JdbcTemplate;
+import com.spring.sprout.JpaRepository;
+import com.spring.sprout.Page;
+import com.spring.sprout.PageRequest;
+import com.spring.sprout.data.config.JdbcTemplateImpl;
+import com.spring.sprout.data.config.SimpleDataSource;
+import com.spring.sprout.data.metrics.SqlMetrics;
+import com.spring.sprout.global.error.SpringException;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class KeysetPaginationTest {
+
+    private MemberRepository repository;
+
+    @BeforeEach
+    public void setUp() {
+        SimpleDataSource dataSource = new SimpleDataSource("jdbc:h2:mem:keyset;DB_CLOSE_DELAY=-1", "sa", "",
+            "org.h2.Driver");
+        JdbcTemplate jdbcTemplate = new JdbcTemplateImpl(dataSource, new SqlMetrics(key -> null, dataSource));
+        jdbcTemplate.execute("DROP TABLE IF EXISTS member", ps -> ps.execute());
+        jdbcTemplate.execute("CREATE TABLE member (id INT PRIMARY KEY, name VARCHAR(255), age INT, score DOUBLE)",
+            ps -> ps.execute());
+
+        RepositoryHandler handler = new RepositoryHandler(jdbcTemplate, null, MemberRepository.class,
+            Member.class, null);
+        repository = (MemberRepository) Proxy.newProxyInstance(getClass().getClassLoader(),
+            new Class[]{MemberRepository.class}, handler);
+
+        // 나이가 겹치는 행을 id 순서와 다르게 저장
+        int[] ages = {30, 20, 30, 20, 30, 10, 20, 30, 10, 20};
+        for (int i = 0; i < ages.length; i++) {
+            repository.save(new Member(10 - i, "m" + (10 - i), ages[i]));
+        }
+    }
+
+    @Test
+    public void 정렬_값이_겹쳐도_키셋_페이지가_행을_빠뜨리거나_반복하지_않음() {
+        // given
+        List<Integer> expected = List.of(2, 5, 1, 4, 7, 9, 3, 6, 8, 10); // (age, id) 순
+        List<Integer> visited = new ArrayList<>();
+
+        // when
+        Page<Member> page = repository.findAll(PageRequest.first(3).sortBy("age"));
+        page.getContent().forEach(member -> visited.add(member.id));
+        while (page.hasNext()) {
+            page = repository.findAll(PageRequest.after(page.getNextToken(), 3).sortBy("age"));
+            page.getContent().forEach(member -> visited.add(member.id));
+        }
+
+        // then
+        assertThat(visited).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    public void 오프셋_페이지도_id로_동점을_정렬() {
+        // when
+        Page<Member> second = repository.findAll(PageRequest.ofPage(1, 3).sortBy("age"));
+
+        // then
+        assertThat(second.getContent()).extracting(member -> member.id).containsExactly(4, 7, 9);
+        assertThat(second.hasNext()).isTrue();
+    }
+
+    @Test
+    public void 토큰에_담을_수_없는_정렬_키는_조회_전에_거부() {
+        // given, when, then
+        assertThrows(SpringException.class,
+            () -> repository.findAll(PageRequest.first(3).sortBy("score")));
+    }
+
+    @Test
+    public void 다른_정렬_기준의_토큰은_거부() {
+        // given
+        Page<Member> page = repository.findAll(PageRequest.first(3).sortBy("age"));
+
+        // when, then
+        assertThrows(SpringException.class,
+            () -> repository.findAll(PageRequest.after(page.getNextToken(), 3).sortBy("name")));
+    }
+
+    @Test
+    public void 구분자가_들어간_문자열_키도_토큰으로_복원() {
+        // given
+        String token = KeysetTokenCodec.encode("name", "a:b:c", 7);
+
+        // when
+        Object[] values = KeysetTokenCodec.decode("name", 2, token);
+
+        // then
+        assertThat(values).containsExactly("a:b:c", 7);
+    }
+
+    public interface MemberRepository extends JpaRepository<Member, Integer> {
+
+    }
+
+    public static class Member {
+
+        private Integer id;
+        private String name;
+        private Integer age;
+        private Double score;
+
+        public Member() {
+        }
+
+        Member(int id, String name, int age) {
+            this.id = id;
+            this.name = name;
+            this.age = age;
+            this.score = age / 10.0;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.spring.sprout.data.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.spring.sprout.global.error.SpringException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class ProjectionMapperTest {
+
+    @Test
+    public void 인터페이스_프로젝션의_default_메서드는_인터페이스_구현을_실행() throws Exception {
+        // given
+        List<MemberSummary> rows = map("SELECT 30 AS age, 'kim' AS name");
+
+        // when
+        String label = rows.getFirst().label();
+
+        // then
+        assertThat(label).isEqualTo("kim(30)");
+    }
+
+    @Test
+    public void 인터페이스_프로젝션의_Object_메서드는_프로퍼티_값으로_동작() throws Exception {
+        // given
+        List<MemberSummary> rows = map(
+            "SELECT 30 AS age, 'kim' AS name UNION ALL SELECT 30, 'kim' UNION ALL SELECT 20, 'lee'");
+
+        // when, then
+        assertThat(rows.get(0)).isEqualTo(rows.get(1)).isNotEqualTo(rows.get(2));
+        assertThat(rows.get(0).hashCode()).isEqualTo(rows.get(1).hashCode());
+        assertThat(rows.get(0).toString()).isEqualTo("MemberSummary{age=30, name=kim}");
+    }
+
+    @Test
+    public void getter가_아닌_추상_메서드는_매퍼_생성_시점에_거부() {
+        // given, when, then
+        assertThrows(SpringException.class, () -> new ProjectionMapper<>(InvalidProjection.class));
+    }
+
+    private static List<MemberSummary> map(String sql) throws Exception {
+        ProjectionMapper<MemberSummary> mapper = new ProjectionMapper<>(MemberSummary.class);
+        List<MemberSummary> rows = new ArrayList<>();
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:projection", "sa", "");
+            Statement statement = connection.createStatement();
+            ResultSet rs = statement.executeQuery(sql)) {
+            while (rs.next()) {
+                rows.add(mapper.mapRow(rs));
+            }
+        }
+        return rows;
+    }
+
+    public interface MemberSummary {
+
+        int getAge();
+
+        String getName();
+
+        default String label() {
+            return getName() + "(" + getAge() + ")";
+        }
+    }
+
+    public interface InvalidProjection {
+
+        String getName();
+
+        String greet(String other);
+    }
+}
@@ -0,0 +1,96 @@
+package com.spring.sprout.data.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.spring.sprout.JdbcTemplate;
+import com.spring.sprout.JpaRepository;
+import com.spring.sprout.data.config.JdbcTemplateImpl;
+import com.spring.sprout.data.config.SimpleDataSource;
+import com.spring.sprout.data.metrics.SqlMetrics;
+import com.spring.sprout.global.annotation.db.Entity;
+import com.spring.sprout.global.error.ErrorMessage;
+import com.spring.sprout.global.error.SpringException;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class RepositoryHandlerTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    public void setUp() {
+        SimpleDataSource dataSource = new SimpleDataSource("jdbc:h2:mem:repository_handler;DB_CLOSE_DELAY=-1", "sa",
+            "", "org.h2.Driver");
+        jdbcTemplate = new JdbcTemplateImpl(dataSource, new SqlMetrics(key -> null, dataSource));
+        jdbcTemplate.execute("DROP TABLE IF EXISTS notes", ps -> ps.execute());
+        jdbcTemplate.execute("CREATE TABLE notes (id INT PRIMARY KEY, title VARCHAR(255))", ps -> ps.execute());
+    }
+
+    @Test
+    public void static과_default_메서드는_파생_쿼리로_해석하지_않음() {
+        // when
+        NoteRepository repository = proxy();
+        repository.save(new Note(1, "a"));
+
+        // then
+        assertThat(NoteRepository.titleOf(new Note(2, "b"))).isEqualTo("b");
+        assertThat(repository.countAll()).isEqualTo(1);
+    }
+
+    @Test
+    public void 다시_선언한_기본_메서드는_기본_경로로_처리() {
+        // given
+        NoteRepository repository = proxy();
+        repository.save(new Note(1, "a"));
+
+        // when
+        SpringException e = assertThrows(SpringException.class, () -> repository.findById(2));
+
+        // then (파생 쿼리로 처리되었다면 null을 반환)
+        assertThat(e.getErrorMessage()).isEqualTo(ErrorMessage.ENTITY_NOT_FOUND);
+        assertThat(repository.findById(1).title).isEqualTo("a");
+        assertThat(repository.findAll()).hasSize(1);
+    }
+
+    private NoteRepository proxy() {
+        RepositoryHandler handler = new RepositoryHandler(jdbcTemplate, null, NoteRepository.class, Note.class,
+            null);
+        return (NoteRepository) Proxy.newProxyInstance(getClass().getClassLoader(),
+            new Class[]{NoteRepository.class}, handler);
+    }
+
+    public interface NoteRepository extends JpaRepository<Note, Integer> {
+
+        Note findById(Integer id);
+
+        List<Note> findAll();
+
+        long countByIdGreaterThan(int id);
+
+        default long countAll() {
+            return countByIdGreaterThan(Integer.MIN_VALUE);
+        }
+
+        static String titleOf(Note note) {
+            return note.title;
+        }
+    }
+
+    @Entity(table = "notes")
+    public static class Note {
+
+        private Integer id;
+        private String title;
+
+        public Note() {
+        }
+
+        Note(int id, String title) {
+            this.id = id;
+            this.title = title;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.spring.sprout.data.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.spring.sprout.JpaRepository;
+import com.spring.sprout.data.metrics.SqlMetrics;
+import com.spring.sprout.data.sharding.ShardRouter;
+import com.spring.sprout.global.annotation.db.Entity;
+import com.spring.sprout.global.error.ErrorMessage;
+import com.spring.sprout.global.error.SpringException;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ShardedRepositoryTest {
+
+    private ShardRouter shardRouter;
+    private OrderRepository repository;
+
+    @BeforeEach
+    public void setUp() {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("db.shards", "s0,s1,s2");
+        properties.put("db.driver-class-name", "org.h2.Driver");
+        for (String name : List.of("s0", "s1", "s2")) {
+            properties.put("db.shards." + name + ".url", "jdbc:h2:mem:sharded_" + name + ";DB_CLOSE_DELAY=-1");
+            properties.put("db.shards." + name + ".username", "sa");
+            properties.put("db.shards." + name + ".password", "");
+        }
+        shardRouter = new ShardRouter(properties::get, new SqlMetrics(key -> null, null));
+        for (ShardRouter.Shard shard : shardRouter.getShards()) {
+            shard.jdbcTemplate().execute("DROP TABLE IF EXISTS orders", ps -> ps.execute());
+            shard.jdbcTemplate().execute("CREATE TABLE orders (id INT PRIMARY KEY, name VARCHAR(255), amount INT)",
+                ps -> ps.execute());
+        }
+        repository = proxy(OrderRepository.class);
+
+        for (int id = 1; id <= 30; id++) {
+            repository.save(new Order(id, "o" + id, (id * 7) % 31));
+        }
+    }
+
+    @Test
+    public void OrderBy_결과는_샤드를_합쳐_정렬() {
+        // when
+        List<Order> orders = repository.findAllByOrderByAmountDesc();
+
+        // then
+        assertThat(orders).hasSize(30);
+        assertThat(orders).extracting(order -> order.amount)
+            .isSortedAccordingTo((a, b) -> Integer.compare(b, a));
+    }
+
+    @Test
+    public void 단건_조회는_전체_샤드_기준의_첫_행() {
+        // when
+        Order first = repository.findFirstByOrderByAmount();
+        Optional<Order> last = repository.findTopByAmountGreaterThanOrderByAmountDesc(0);
+
+        // then (amount = id * 7 mod 31 이므로 1 ~ 30이 한 번씩 등장)
+        assertThat(first.amount).isEqualTo(1);
+        assertThat(last).get().extracting(order -> order.amount).isEqualTo(30);
+    }
+
+    @Test
+    public void 집계는_샤드별_결과를_합산() {
+        // when, then
+        assertThat(repository.countByAmountGreaterThan(20)).isEqualTo(10L);
+        assertThat(repository.existsByName("o17")).isTrue();
+    }
+
+    @Test
+    public void 없는_id는_샤딩하지_않은_조회와_같은_예외() {
+        // when
+        SpringException e = assertThrows(SpringException.class, () -> repository.findById(999));
+
+        // then
+        assertThat(e.getErrorMessage()).isEqualTo(ErrorMessage.ENTITY_NOT_FOUND);
+        assertThat(((Order) repository.findById(17)).name).isEqualTo("o17");
+    }
+
+    @Test
+    public void 프로젝션에_없는_프로퍼티로_정렬하면_생성_시점에_거부() {
+        // when, then
+        assertThrows(SpringException.class, () -> proxy(UnmergeableRepository.class));
+    }
+
+    private <R> R proxy(Class<R> repositoryInterface) {
+        RepositoryHandler handler = new RepositoryHandler(shardRouter.getShards().getFirst().jdbcTemplate(), null,
+            repositoryInterface, Order.class, shardRouter);
+        return repositoryInterface.cast(Proxy.newProxyInstance(getClass().getClassLoader(),
+            new Class[]{repositoryInterface}, handler));
+    }
+
+    public interface OrderRepository extends JpaRepository<Order, Integer> {
+
+        List<Order> findAllByOrderByAmountDesc();
+
+        Order findFirstByOrderByAmount();
+
+        Optional<Order> findTopByAmountGreaterThanOrderByAmountDesc(int amount);
+
+        long countByAmountGreaterThan(int amount);
+
+        boolean existsByName(String name);
+    }
+
+    public interface UnmergeableRepository extends JpaRepository<Order, Integer> {
+
+        List<NameOnly> findAllByOrderByAmount();
+    }
+
+    public record NameOnly(String name) {
+
+    }
+
+    @Entity(table = "orders", shardKey = "id")
+    public static class Order {
+
+        private Integer id;
+        private String name;
+        private Integer amount;
+
+        public Order() {
+        }
+
+        Order(int id, String name, int amount) {
+            this.id = id;
+            this.name = name;
+            this.amount = amount;
+        }
+    }
+}
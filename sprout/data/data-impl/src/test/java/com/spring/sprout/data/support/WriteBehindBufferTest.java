@@ -0,0 +1,188 @@
+package com.spring.sprout.data.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.spring.sprout.JdbcTemplate;
+import com.spring.sprout.JpaRepository;
+import com.spring.sprout.data.config.JdbcTemplateImpl;
+import com.spring.sprout.data.config.SimpleDataSource;
+import com.spring.sprout.data.metrics.SqlMetrics;
+import com.spring.sprout.global.annotation.db.WriteBehind;
+import com.spring.sprout.global.error.SpringException;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class WriteBehindBufferTest {
+
+    private static final String INSERT_SQL = "INSERT INTO event (id, name) VALUES (?, ?)";
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    public void setUp() {
+        SimpleDataSource dataSource = new SimpleDataSource("jdbc:h2:mem:write_behind;DB_CLOSE_DELAY=-1", "sa", "",
+            "org.h2.Driver");
+        jdbcTemplate = new JdbcTemplateImpl(dataSource, new SqlMetrics(key -> null, dataSource));
+        jdbcTemplate.execute("DROP TABLE IF EXISTS event", ps -> ps.execute());
+        createTable();
+    }
+
+    @Test
+    public void 저장_직후_같은_리포지토리의_조회는_버퍼를_먼저_비움() {
+        // given
+        RepositoryHandler handler = new RepositoryHandler(jdbcTemplate, null, EventRepository.class,
+            Event.class, null);
+        EventRepository repository = (EventRepository) Proxy.newProxyInstance(getClass().getClassLoader(),
+            new Class[]{EventRepository.class}, handler);
+
+        // when
+        for (int i = 1; i <= 3; i++) {
+            repository.save(new Event(i, "e" + i));
+        }
+
+        // then (maxDelayMillis가 길어 플러셔가 스스로 비우기 전에 조회)
+        assertThat(repository.findAll()).hasSize(3);
+    }
+
+    @Test
+    public void 실패한_배치는_버리지_않고_재시도() {
+        // given
+        jdbcTemplate.execute("DROP TABLE event", ps -> ps.execute());
+        WriteBehindBuffer buffer = newBuffer();
+        for (int i = 1; i <= 5; i++) {
+            buffer.enqueue(new Object[]{i, "e" + i});
+        }
+
+        // when
+        assertThrows(SpringException.class, buffer::flush);
+        boolean healthyWhileFailing = buffer.isHealthy();
+        createTable();
+        buffer.flush();
+
+        // then
+        assertThat(healthyWhileFailing).isFalse();
+        assertThat(buffer.isHealthy()).isTrue();
+        assertThat(buffer.getFailedBatches()).isPositive();
+        assertThat(count()).isEqualTo(5);
+        buffer.close();
+    }
+
+    @Test
+    public void 제약_조건을_위반한_행만_데드레터로_옮기고_나머지는_기록() {
+        // given
+        jdbcTemplate.execute("INSERT INTO event (id, name) VALUES (3, 'existing')", ps -> ps.executeUpdate());
+        WriteBehindBuffer buffer = newBuffer();
+
+        // when
+        for (int i = 1; i <= 6; i++) {
+            buffer.enqueue(new Object[]{i, "e" + i});
+        }
+        buffer.flush();
+
+        // then
+        assertThat(count()).isEqualTo(6);
+        assertThat(buffer.isHealthy()).isTrue();
+        assertThat(buffer.getDeadLetterCount()).isEqualTo(1);
+        assertThat(buffer.takeDeadLetters()).singleElement().satisfies(row -> assertThat(row[0]).isEqualTo(3));
+        buffer.close();
+    }
+
+    @Test
+    public void 재시도를_기다리는_동안_버퍼가_가득_차면_저장이_바로_실패() {
+        // given
+        jdbcTemplate.execute("DROP TABLE event", ps -> ps.execute());
+        WriteBehindBuffer buffer = newBuffer(); // capacity 10
+        for (int i = 1; i <= 10; i++) {
+            buffer.enqueue(new Object[]{i, "e" + i});
+        }
+        assertThrows(SpringException.class, buffer::flush);
+
+        // when, then
+        assertThrows(SpringException.class, () -> buffer.enqueue(new Object[]{11, "e11"}));
+        createTable();
+        buffer.close();
+        assertThat(count()).isEqualTo(10);
+    }
+
+    @Test
+    public void 종료와_동시에_저장해도_수락된_행은_모두_기록() throws Exception {
+        // given
+        WriteBehindBuffer buffer = newBuffer();
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger ids = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(4);
+        List<Thread> producers = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            Thread producer = new Thread(() -> {
+                started.countDown();
+                while (true) {
+                    int id = ids.incrementAndGet();
+                    try {
+                        buffer.enqueue(new Object[]{id, "e" + id});
+                    } catch (SpringException e) {
+                        return; // 종료됨
+                    }
+                    accepted.incrementAndGet();
+                }
+            });
+            producer.start();
+            producers.add(producer);
+        }
+        started.await(5, TimeUnit.SECONDS);
+        Thread.sleep(50);
+
+        // when
+        buffer.close();
+        for (Thread producer : producers) {
+            producer.join(TimeUnit.SECONDS.toMillis(10));
+        }
+
+        // then
+        assertThat(accepted.get()).isPositive();
+        assertThat(count()).isEqualTo(accepted.get());
+    }
+
+    private WriteBehindBuffer newBuffer() {
+        return new WriteBehindBuffer(jdbcTemplate, INSERT_SQL, Event.class.getAnnotation(WriteBehind.class), "event");
+    }
+
+    private void createTable() {
+        jdbcTemplate.execute("CREATE TABLE event (id INT PRIMARY KEY, name VARCHAR(255))", ps -> ps.execute());
+    }
+
+    private int count() {
+        return jdbcTemplate.execute("SELECT COUNT(*) FROM event", ps -> {
+            try (ResultSet rs = ps.executeQuery()) {
+                rs.next();
+                return rs.getInt(1);
+            }
+        });
+    }
+
+    public interface EventRepository extends JpaRepository<Event, Integer> {
+
+    }
+
+    @WriteBehind(batchSize = 4, maxDelayMillis = 60_000, capacity = 10)
+    public static class Event {
+
+        private Integer id;
+        private String name;
+
+        public Event() {
+        }
+
+        Event(int id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+}
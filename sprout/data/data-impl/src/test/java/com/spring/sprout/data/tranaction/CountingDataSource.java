@@ -0,0 +1,104 @@
+package com.spring.sprout.data.tranaction;
+
+import com.spring.sprout.data.config.SimpleDataSource;
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+import javax.sql.DataSource;
+
+/**
+ * 커넥션 획득, 커밋/롤백, 배치 실행 횟수를 세는 테스트용 데이터소스
+ */
+class CountingDataSource implements DataSource {
+
+    private final SimpleDataSource delegate;
+
+    final AtomicInteger connections = new AtomicInteger();
+    final AtomicInteger commits = new AtomicInteger();
+    final AtomicInteger rollbacks = new AtomicInteger();
+    final AtomicInteger batches = new AtomicInteger();
+
+    CountingDataSource(String name) {
+        this.delegate = new SimpleDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "",
+            "org.h2.Driver");
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        connections.incrementAndGet();
+        Connection connection = delegate.getConnection();
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class[]{Connection.class},
+            (p, m, a) -> {
+                if (m.getName().equals("commit")) {
+                    commits.incrementAndGet();
+                } else if (m.getName().equals("rollback") && (a == null || a.length == 0)) {
+                    rollbacks.incrementAndGet();
+                }
+                Object result = invoke(connection, m, a);
+                return result instanceof PreparedStatement ps ? countBatches(ps) : result;
+            });
+    }
+
+    private PreparedStatement countBatches(PreparedStatement statement) {
+        return (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(),
+            new Class[]{PreparedStatement.class}, (p, m, a) -> {
+                if (m.getName().equals("executeBatch")) {
+                    batches.incrementAndGet();
+                }
+                return invoke(statement, m, a);
+            });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return getConnection();
+    }
+
+    @Override
+    public PrintWriter getLogWriter() {
+        return null;
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) {
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) {
+    }
+
+    @Override
+    public int getLoginTimeout() {
+        return 0;
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        throw new SQLException("not a wrapper");
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) {
+        return false;
+    }
+}
@@ -0,0 +1,90 @@
+package com.spring.sprout.data.tranaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.spring.sprout.JdbcTemplate;
+import com.spring.sprout.data.config.JdbcTemplateImpl;
+import com.spring.sprout.data.metrics.SqlMetrics;
+import com.spring.sprout.data.support.TransactionBeanPostProcessor;
+import com.spring.sprout.global.annotation.db.Transactional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TransactionManagerTest {
+
+    private CountingDataSource dataSource;
+    private SampleService service;
+
+    public static class SampleService {
+
+        JdbcTemplate jdbcTemplate;
+
+        @Transactional
+        public String withoutStatement() {
+            return "ok";
+        }
+
+        @Transactional
+        public void failWithoutStatement() {
+            throw new IllegalStateException("business");
+        }
+
+        @Transactional
+        public boolean withStatement() {
+            return jdbcTemplate.execute("SELECT 1", ps -> ps.execute());
+        }
+    }
+
+    @BeforeEach
+    public void setUp() {
+        dataSource = new CountingDataSource("transaction_manager");
+        SampleService target = new SampleService();
+        target.jdbcTemplate = new JdbcTemplateImpl(dataSource, new SqlMetrics(key -> null, dataSource));
+        service = (SampleService) new TransactionBeanPostProcessor(new TransactionManager(dataSource))
+            .postProcess(target, "sampleService");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        TransactionSynchronizationManager.clear();
+    }
+
+    @Test
+    public void SQL이_없는_트랜잭션은_커넥션을_얻지_않고_커밋도_하지_않음() {
+        // when
+        String result = service.withoutStatement();
+
+        // then
+        assertThat(result).isEqualTo("ok");
+        assertThat(dataSource.connections.get()).isZero();
+        assertThat(dataSource.commits.get()).isZero();
+        assertThat(dataSource.rollbacks.get()).isZero();
+        assertThat(TransactionSynchronizationManager.getResource()).isNull();
+    }
+
+    @Test
+    public void SQL이_없는_트랜잭션이_실패해도_롤백_왕복이_없음() {
+        // when
+        assertThrows(IllegalStateException.class, () -> service.failWithoutStatement());
+
+        // then
+        assertThat(dataSource.connections.get()).isZero();
+        assertThat(dataSource.commits.get()).isZero();
+        assertThat(dataSource.rollbacks.get()).isZero();
+        assertThat(TransactionSynchronizationManager.getResource()).isNull();
+    }
+
+    @Test
+    public void SQL을_실행하면_커넥션_하나로_한_번_커밋() {
+        // when
+        service.withStatement();
+
+        // then
+        assertThat(dataSource.connections.get()).isEqualTo(1);
+        assertThat(dataSource.commits.get()).isEqualTo(1);
+        assertThat(dataSource.rollbacks.get()).isZero();
+        assertThat(TransactionSynchronizationManager.getResource()).isNull();
+    }
+}
@@ -0,0 +1,142 @@
+package com.spring.sprout.data.tranaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.spring.sprout.JdbcTemplate;
+import com.spring.sprout.JpaRepository;
+import com.spring.sprout.data.config.JdbcTemplateImpl;
+import com.spring.sprout.data.metrics.SqlMetrics;
+import com.spring.sprout.data.support.RepositoryHandler;
+import com.spring.sprout.global.annotation.db.Entity;
+import java.lang.reflect.Proxy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class UnitOfWorkTest {
+
+    private CountingDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionManager transactionManager;
+    private ItemRepository repository;
+
+    @BeforeEach
+    public void setUp() {
+        dataSource = new CountingDataSource("unit_of_work");
+        jdbcTemplate = new JdbcTemplateImpl(dataSource, new SqlMetrics(key -> null, dataSource));
+        jdbcTemplate.execute("DROP TABLE IF EXISTS items", ps -> ps.execute());
+        jdbcTemplate.execute("CREATE TABLE items (id INT PRIMARY KEY, name VARCHAR(255))", ps -> ps.execute());
+        transactionManager = new TransactionManager(dataSource);
+        repository = (ItemRepository) Proxy.newProxyInstance(getClass().getClassLoader(),
+            new Class[]{ItemRepository.class},
+            new RepositoryHandler(jdbcTemplate, null, ItemRepository.class, Item.class, null));
+        dataSource.connections.set(0);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        TransactionSynchronizationManager.clear();
+    }
+
+    @Test
+    public void 커밋_시점에_한_번의_배치로_반영() {
+        // given
+        transactionManager.begin();
+        for (int i = 1; i <= 3; i++) {
+            repository.save(new Item(i, "i" + i));
+        }
+        int connectionsBeforeCommit = dataSource.connections.get();
+
+        // when
+        transactionManager.commit();
+
+        // then
+        assertThat(connectionsBeforeCommit).isZero();
+        assertThat(dataSource.batches.get()).isEqualTo(1);
+        assertThat(dataSource.commits.get()).isEqualTo(1);
+        assertThat(count()).isEqualTo(3);
+    }
+
+    @Test
+    public void 플러시_전_findById는_대기_중인_엔티티를_반환() {
+        // given
+        transactionManager.begin();
+        Item saved = new Item(1, "a");
+        repository.save(saved);
+
+        // when
+        Item found = repository.findById(1);
+
+        // then (DB에 가지 않고 대기열에서 찾음)
+        assertThat(found).isSameAs(saved);
+        assertThat(dataSource.connections.get()).isZero();
+        transactionManager.commit();
+        assertThat(count()).isEqualTo(1);
+    }
+
+    @Test
+    public void 파생_쿼리는_대기_중인_INSERT를_먼저_반영() {
+        // given
+        transactionManager.begin();
+        repository.save(new Item(1, "a"));
+        repository.save(new Item(2, "b"));
+
+        // when
+        long count = repository.countByIdGreaterThan(0);
+
+        // then
+        assertThat(count).isEqualTo(2);
+        assertThat(dataSource.batches.get()).isEqualTo(1);
+        transactionManager.rollback();
+        assertThat(dataSource.rollbacks.get()).isEqualTo(1);
+        assertThat(count()).isZero(); // 플러시된 INSERT도 트랜잭션과 함께 취소
+    }
+
+    @Test
+    public void 커밋_전_플러시가_실패하면_롤백하고_예외를_전달() {
+        // given
+        jdbcTemplate.execute("INSERT INTO items (id, name) VALUES (1, 'existing')", ps -> ps.executeUpdate());
+        transactionManager.begin();
+        repository.save(new Item(2, "b"));
+        repository.save(new Item(1, "duplicate"));
+
+        // when
+        assertThrows(RuntimeException.class, transactionManager::commit);
+
+        // then
+        assertThat(dataSource.rollbacks.get()).isEqualTo(1);
+        assertThat(dataSource.commits.get()).isZero();
+        assertThat(TransactionSynchronizationManager.getResource()).isNull();
+        assertThat(count()).isEqualTo(1);
+    }
+
+    private long count() {
+        return jdbcTemplate.execute("SELECT COUNT(*) FROM items", ps -> {
+            try (var rs = ps.executeQuery()) {
+                rs.next();
+                return rs.getLong(1);
+            }
+        });
+    }
+
+    public interface ItemRepository extends JpaRepository<Item, Integer> {
+
+        long countByIdGreaterThan(int id);
+    }
+
+    @Entity(table = "items")
+    public static class Item {
+
+        private Integer id;
+        private String name;
+
+        public Item() {
+        }
+
+        Item(int id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+}
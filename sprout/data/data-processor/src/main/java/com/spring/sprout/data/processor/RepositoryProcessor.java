@@ -0,0 +1,266 @@
+package com.spring.sprout.data.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.JavaFileObject;
+
+/**
+ * [리포지토리 구현체 생성기 (Annotation Processor)]
+ *
+ * <p>{@code @Repository} 인터페이스마다 SQL과 필드 접근을 코드로 고정한 구현 클래스({@code <인터페이스명>_Impl})를 컴파일 시점에 생성합니다.
+ * {@code DefaultBeanFactory}는 이 클래스가 있으면 JDK 동적 프록시 대신 사용하므로, 자주 호출되는 CRUD 경로에서
+ * 메서드 이름 분기, {@code Object[]} 인자 포장, 리플렉션 필드 접근이 사라지고 JIT가 호출 전체를 인라인할 수 있습니다.</p>
+ *
+ * <p>생성 범위:</p>
+ * <ul>
+ * <li><b>직접 구현:</b> {@code save}, {@code flush}, {@code findById}, {@code findAll()} - 고정 SQL과 {@code static final VarHandle}로
+ * 필드를 읽고 씁니다.</li>
+ * <li><b>위임:</b> 파생 쿼리, 페이징, 비동기 조회는 런타임 구현({@code RepositoryContext#delegate})에 맡깁니다.
+ * 파생 쿼리의 SQL은 애플리케이션 시작 시 한 번만 해석되므로 호출 비용은 메서드 조회 한 번입니다.</li>
+ * </ul>
+ *
+ * <p>다음 경우에는 구현체를 생성하지 않고(NOTE 진단만 남김) 동적 프록시를 그대로 사용합니다.</p>
+ * <ul>
+ * <li>엔티티에 {@code @WriteBehind} 또는 {@code @Entity(shardKey)}가 선언된 경우 (런타임 라우팅이 필요)</li>
+ * <li>엔티티가 public 클래스가 아니거나 public 기본 생성자가 없는 경우</li>
+ * <li>리포지토리에 제네릭 메서드가 선언된 경우</li>
+ * </ul>
+ *
+ * <p>프레임워크 런타임 모듈에 의존하지 않도록 어노테이션과 타입은 모두 이름으로 식별합니다.</p>
+ *
+ * @see RepositorySourceWriter
+ */
+@SupportedAnnotationTypes(RepositoryProcessor.REPOSITORY)
+public class RepositoryProcessor extends AbstractProcessor {
+
+    static final String REPOSITORY = "com.spring.sprout.global.annotation.db.Repository";
+    static final String ENTITY = "com.spring.sprout.global.annotation.db.Entity";
+    static final String WRITE_BEHIND = "com.spring.sprout.global.annotation.db.WriteBehind";
+    static final String JPA_REPOSITORY = "com.spring.sprout.JpaRepository";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.INTERFACE) {
+                    generate((TypeElement) element);
+                }
+            }
+        }
+        return false; // @Repository는 컴포넌트 스캔에서도 사용하므로 다른 프로세서에 양보
+    }
+
+    private void generate(TypeElement repository) {
+        DeclaredType jpaRepository = findJpaRepository(repository.asType());
+        if (jpaRepository == null || jpaRepository.getTypeArguments().size() != 2
+            || jpaRepository.getTypeArguments().getFirst().getKind() != TypeKind.DECLARED) {
+            skip(repository, "JpaRepository<엔티티, ID>를 상속하지 않습니다.");
+            return;
+        }
+        TypeElement entity = (TypeElement) ((DeclaredType) jpaRepository.getTypeArguments().getFirst())
+            .asElement();
+
+        String reason = checkEntity(entity);
+        if (reason == null) {
+            reason = checkMethods(repository);
+        }
+        if (reason != null) {
+            skip(repository, reason);
+            return;
+        }
+
+        RepositorySourceWriter writer = new RepositorySourceWriter(processingEnv, repository, entity,
+            resolveTableName(entity), collectFields(entity), collectMethods(repository));
+        try {
+            JavaFileObject file = processingEnv.getFiler()
+                .createSourceFile(writer.getQualifiedName(), repository, entity);
+            try (Writer out = file.openWriter()) {
+                out.write(writer.write());
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Kind.ERROR,
+                "리포지토리 구현체를 생성하지 못했습니다: " + e.getMessage(), repository);
+        }
+    }
+
+    private void skip(TypeElement repository, String reason) {
+        processingEnv.getMessager().printMessage(Kind.NOTE,
+            repository.getQualifiedName() + "은(는) 동적 프록시를 사용합니다: " + reason, repository);
+    }
+
+    /**
+     * 상위 타입을 따라 올라가며 {@code JpaRepository<T, ID>}를 찾습니다. 타입 인자는 하위 인터페이스의 선언으로 치환된 상태입니다.
+     */
+    private DeclaredType findJpaRepository(TypeMirror type) {
+        for (TypeMirror supertype : processingEnv.getTypeUtils().directSupertypes(type)) {
+            if (supertype instanceof DeclaredType declared) {
+                TypeElement element = (TypeElement) declared.asElement();
+                if (element.getQualifiedName().contentEquals(JPA_REPOSITORY)) {
+                    return declared;
+                }
+                DeclaredType found = findJpaRepository(supertype);
+                if (found != null) {
+                    return found;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 생성된 코드가 엔티티를 직접 다룰 수 있는지 확인합니다.
+     *
+     * @return 생성할 수 없는 이유 (가능하면 null)
+     */
+    private String checkEntity(TypeElement entity) {
+        if (findAnnotation(entity, WRITE_BEHIND) != null) {
+            return "@WriteBehind 엔티티는 런타임 쓰기 지연 버퍼를 사용합니다.";
+        }
+        Object shardKey = annotationValue(entity, ENTITY, "shardKey");
+        if (shardKey != null && !shardKey.toString().isEmpty()) {
+            return "샤딩된 엔티티는 런타임 라우팅을 사용합니다.";
+        }
+        if (!entity.getModifiers().contains(Modifier.PUBLIC)
+            || entity.getModifiers().contains(Modifier.ABSTRACT)
+            || (entity.getNestingKind().isNested() && !entity.getModifiers().contains(Modifier.STATIC))) {
+            return entity.getSimpleName() + "은(는) 생성 코드에서 인스턴스를 만들 수 있는 public 클래스가 아닙니다.";
+        }
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(entity.getEnclosedElements())) {
+            if (constructor.getParameters().isEmpty() && constructor.getModifiers().contains(Modifier.PUBLIC)) {
+                return null;
+            }
+        }
+        return entity.getSimpleName() + "에 public 기본 생성자가 없습니다.";
+    }
+
+    private String checkMethods(TypeElement repository) {
+        for (ExecutableElement method : abstractMethods(repository)) {
+            if (!method.getTypeParameters().isEmpty()) {
+                return "제네릭 메서드 " + method.getSimpleName() + "은(는) 생성할 수 없습니다.";
+            }
+        }
+        return null;
+    }
+
+    /**
+     * {@code @Entity(table)} 또는 클래스 이름의 스네이크 케이스를 테이블 이름으로 사용합니다. (런타임 규칙과 동일)
+     */
+    private String resolveTableName(TypeElement entity) {
+        Object table = annotationValue(entity, ENTITY, "table");
+        if (table != null && !table.toString().isEmpty()) {
+            return table.toString();
+        }
+        return RepositorySourceWriter.toSnakeCase(entity.getSimpleName().toString());
+    }
+
+    /**
+     * 인스턴스 필드를 이름순으로 모읍니다. 런타임의 {@code RepositoryHandler}도 이름순을 사용하므로 두 경로의 INSERT 문이 같습니다.
+     * ({@code getDeclaredFields()}의 순서는 명세상 보장되지 않으므로 선언 순서에 의존하지 않음)
+     */
+    private List<VariableElement> collectFields(TypeElement entity) {
+        List<VariableElement> fields = new ArrayList<>();
+        for (VariableElement field : ElementFilter.fieldsIn(entity.getEnclosedElements())) {
+            if (!field.getModifiers().contains(Modifier.STATIC)) {
+                fields.add(field);
+            }
+        }
+        fields.sort(Comparator.comparing(field -> field.getSimpleName().toString()));
+        return fields;
+    }
+
+    /**
+     * 구현해야 할 추상 메서드를 시그니처별로 하나씩, 리포지토리 인터페이스 기준으로 타입 인자를 치환하여 모읍니다.
+     */
+    private Map<ExecutableElement, ExecutableType> collectMethods(TypeElement repository) {
+        Map<ExecutableElement, ExecutableType> methods = new LinkedHashMap<>();
+        DeclaredType repositoryType = (DeclaredType) repository.asType();
+        for (ExecutableElement method : abstractMethods(repository)) {
+            methods.put(method, (ExecutableType) processingEnv.getTypeUtils().asMemberOf(repositoryType, method));
+        }
+        return methods;
+    }
+
+    private List<ExecutableElement> abstractMethods(TypeElement repository) {
+        Map<String, ExecutableElement> bySignature = new LinkedHashMap<>();
+        DeclaredType repositoryType = (DeclaredType) repository.asType();
+        for (ExecutableElement method : ElementFilter.methodsIn(
+            processingEnv.getElementUtils().getAllMembers(repository))) {
+            if (!method.getModifiers().contains(Modifier.ABSTRACT)
+                || method.getEnclosingElement().getKind() != ElementKind.INTERFACE) {
+                continue;
+            }
+            ExecutableType type = (ExecutableType) processingEnv.getTypeUtils().asMemberOf(repositoryType, method);
+            StringBuilder signature = new StringBuilder(method.getSimpleName()).append('(');
+            for (TypeMirror parameter : type.getParameterTypes()) {
+                signature.append(processingEnv.getTypeUtils().erasure(parameter)).append(',');
+            }
+            bySignature.putIfAbsent(signature.toString(), method);
+        }
+        return new ArrayList<>(bySignature.values());
+    }
+
+    private static AnnotationMirror findAnnotation(Element element, String annotationName) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            TypeElement type = (TypeElement) mirror.getAnnotationType().asElement();
+            if (type.getQualifiedName().contentEquals(annotationName)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 어노테이션 속성 값을 읽습니다. 명시하지 않은 속성이나 어노테이션이 없으면 null을 반환합니다.
+     */
+    private static Object annotationValue(Element element, String annotationName, String attribute) {
+        AnnotationMirror mirror = findAnnotation(element, annotationName);
+        if (mirror == null) {
+            return null;
+        }
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+            : mirror.getElementValues().entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(attribute)) {
+                return entry.getValue().getValue();
+            }
+        }
+        return null;
+    }
+
+    static String packageOf(TypeElement type) {
+        Element element = type;
+        while (!(element instanceof PackageElement)) {
+            element = element.getEnclosingElement();
+        }
+        return ((PackageElement) element).getQualifiedName().toString();
+    }
+}
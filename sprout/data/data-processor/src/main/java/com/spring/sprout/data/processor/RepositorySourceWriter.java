@@ -0,0 +1,376 @@
+package com.spring.sprout.data.processor;
+
+import java.util.List;
+import java.util.Map;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Types;
+
+/**
+ * [리포지토리 구현체 소스 작성기]
+ *
+ * <p>{@link RepositoryProcessor}가 검증을 마친 리포지토리 하나에 대해 구현 클래스의 자바 소스를 만듭니다.
+ * 생성 코드의 SQL과 컬럼 이름은 런타임 {@code RepositoryHandler}, {@code EntityMapper}의 규칙과 같습니다.</p>
+ *
+ * <ul>
+ * <li><b>INSERT 컬럼:</b> 필드 이름 그대로, 필드 이름순 (런타임과 같은 SQL이 되도록 선언 순서에 의존하지 않음)</li>
+ * <li><b>조회 컬럼:</b> 필드 이름의 스네이크 케이스, NULL 값은 주입하지 않음. {@code EntityMapper}처럼 결과에 없는 컬럼은 건너뛰며,
+ * 컬럼 위치는 ResultSet마다 메타데이터로 한 번만 찾고 행마다 위치로 읽습니다.</li>
+ * <li><b>findById 미스:</b> 런타임과 같이 {@code ENTITY_NOT_FOUND} {@code SpringException}</li>
+ * <li><b>필드 접근:</b> {@code MethodHandles.privateLookupIn}으로 만든 {@code static final VarHandle} (JIT가 상수로 취급하여 직접 접근으로 컴파일)</li>
+ * </ul>
+ */
+final class RepositorySourceWriter {
+
+    private static final String CONTEXT = "com.spring.sprout.RepositoryContext";
+    private static final String SPRING_EXCEPTION = "com.spring.sprout.global.error.SpringException";
+    private static final String ERROR_MESSAGE = "com.spring.sprout.global.error.ErrorMessage";
+
+    private final Types types;
+    private final TypeElement repository;
+    private final String tableName;
+    private final List<VariableElement> fields;
+    private final Map<ExecutableElement, ExecutableType> methods;
+
+    private final String packageName;
+    private final String simpleName;
+    private final String entityName;
+    private final boolean hasIdField;
+
+    private final StringBuilder out = new StringBuilder();
+
+    RepositorySourceWriter(ProcessingEnvironment env, TypeElement repository, TypeElement entity,
+        String tableName, List<VariableElement> fields, Map<ExecutableElement, ExecutableType> methods) {
+        this.types = env.getTypeUtils();
+        this.repository = repository;
+        this.tableName = tableName;
+        this.fields = fields;
+        this.methods = methods;
+        this.packageName = RepositoryProcessor.packageOf(repository);
+        String nestedName = packageName.isEmpty() ? repository.getQualifiedName().toString()
+            : repository.getQualifiedName().toString().substring(packageName.length() + 1);
+        this.simpleName = nestedName.replace('.', '_') + "_Impl";
+        this.entityName = entity.getQualifiedName().toString();
+        this.hasIdField = fields.stream().anyMatch(f -> f.getSimpleName().contentEquals("id"));
+    }
+
+    String getQualifiedName() {
+        return packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+    }
+
+    String write() {
+        if (!packageName.isEmpty()) {
+            line(0, "package " + packageName + ";");
+            line(0, "");
+        }
+        line(0, "/**");
+        line(0, " * {@link " + repository.getQualifiedName() + "}의 컴파일 시점 생성 구현체입니다. 직접 수정하지 않습니다.");
+        line(0, " */");
+        line(0, "@javax.annotation.processing.Generated(\"" + RepositoryProcessor.class.getName() + "\")");
+        line(0, "@SuppressWarnings({\"unchecked\", \"rawtypes\"})");
+        line(0, "public final class " + simpleName + " implements " + repository.getQualifiedName() + " {");
+        line(0, "");
+        writeConstants();
+        line(1, "private final " + CONTEXT + "<" + entityName + "> context;");
+        line(0, "");
+        line(1, "public " + simpleName + "(" + CONTEXT + "<" + entityName + "> context) {");
+        line(2, "this.context = context;");
+        line(1, "}");
+
+        int delegateIndex = 0;
+        for (Map.Entry<ExecutableElement, ExecutableType> method : methods.entrySet()) {
+            line(0, "");
+            if (!writeCoreMethod(method.getKey(), method.getValue())) {
+                writeDelegateMethod(method.getKey(), method.getValue(), delegateIndex++);
+            }
+        }
+
+        writeHelpers();
+        line(0, "}");
+        return out.toString();
+    }
+
+    private void writeConstants() {
+        StringBuilder columns = new StringBuilder();
+        StringBuilder placeholders = new StringBuilder();
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                columns.append(", ");
+                placeholders.append(", ");
+            }
+            columns.append(fields.get(i).getSimpleName());
+            placeholders.append('?');
+        }
+        line(1, "private static final String INSERT_SQL = \"INSERT INTO " + tableName + " ("
+            + columns + ") VALUES (" + placeholders + ")\";");
+        line(1, "private static final String FIND_BY_ID_SQL = \"SELECT * FROM " + tableName + " WHERE id = ?\";");
+        line(1, "private static final String FIND_ALL_SQL = \"SELECT * FROM " + tableName + "\";");
+        line(0, "");
+        for (VariableElement field : fields) {
+            line(1, "private static final java.lang.invoke.VarHandle " + handleName(field) + " = field(\""
+                + field.getSimpleName() + "\", " + erasure(field.asType()) + ".class);");
+        }
+        line(0, "");
+        int delegateIndex = 0;
+        for (Map.Entry<ExecutableElement, ExecutableType> method : methods.entrySet()) {
+            if (isCoreMethod(method.getKey())) {
+                continue;
+            }
+            // Method 조회는 선언 시점의 소거 타입을 사용 (JpaRepository의 ID는 Object로 소거됨)
+            StringBuilder parameterTypes = new StringBuilder();
+            for (VariableElement parameter : method.getKey().getParameters()) {
+                parameterTypes.append(", ").append(erasure(parameter.asType())).append(".class");
+            }
+            line(1, "private static final java.lang.reflect.Method METHOD_" + delegateIndex++ + " = method(\""
+                + method.getKey().getSimpleName() + "\"" + parameterTypes + ");");
+        }
+        line(0, "");
+    }
+
+    private boolean isCoreMethod(ExecutableElement method) {
+        String name = method.getSimpleName().toString();
+        int parameterCount = method.getParameters().size();
+        return (name.equals("save") && parameterCount == 1)
+            || (name.equals("flush") && parameterCount == 0)
+            || (name.equals("findById") && parameterCount == 1)
+            || (name.equals("findAll") && parameterCount == 0);
+    }
+
+    /**
+     * 고정 SQL로 직접 구현하는 CRUD 메서드를 작성합니다.
+     *
+     * @return 직접 구현했다면 true, 위임해야 한다면 false
+     */
+    private boolean writeCoreMethod(ExecutableElement method, ExecutableType type) {
+        if (!isCoreMethod(method)) {
+            return false;
+        }
+        line(1, "@Override");
+        line(1, "public " + signature(method, type) + " {");
+        switch (method.getSimpleName().toString()) {
+            case "save" -> line(2, "context.insert(INSERT_SQL, p0, " + simpleName + "::insertParams);");
+            case "flush" -> line(2, "context.flush();");
+            case "findById" -> {
+                if (hasIdField) {
+                    line(2, entityName + " pending = context.findPending(p0, " + simpleName + "::idOf);");
+                    line(2, "if (pending != null) {");
+                    line(3, "return pending;");
+                    line(2, "}");
+                }
+                line(2, "context.flushPending();");
+                line(2, "java.util.List<" + entityName + "> rows = context.getJdbcTemplate()"
+                    + ".query(FIND_BY_ID_SQL, new Mapper(), p0);");
+                line(2, "if (rows.isEmpty()) {");
+                line(3, "throw new " + SPRING_EXCEPTION + "(" + ERROR_MESSAGE + ".ENTITY_NOT_FOUND, \""
+                    + tableName + " id=\" + p0);");
+                line(2, "}");
+                line(2, "return rows.getFirst();");
+            }
+            default -> {
+                line(2, "context.flushPending();");
+                line(2, "return context.getJdbcTemplate().query(FIND_ALL_SQL, new Mapper());");
+            }
+        }
+        line(1, "}");
+        return true;
+    }
+
+    private void writeDelegateMethod(ExecutableElement method, ExecutableType type, int index) {
+        StringBuilder args = new StringBuilder();
+        for (int i = 0; i < type.getParameterTypes().size(); i++) {
+            args.append(i == 0 ? "" : ", ").append('p').append(i);
+        }
+        // 프록시와 동일하게 인자가 없으면 null을 전달
+        String argArray = args.isEmpty() ? "null" : "new Object[]{" + args + "}";
+        String call = "context.delegate(this, METHOD_" + index + ", " + argArray + ")";
+
+        line(1, "@Override");
+        line(1, "public " + signature(method, type) + " {");
+        TypeMirror returnType = type.getReturnType();
+        if (returnType.getKind() == TypeKind.VOID) {
+            line(2, call + ";");
+        } else {
+            line(2, "return (" + returnType + ") " + call + ";");
+        }
+        line(1, "}");
+    }
+
+    private String signature(ExecutableElement method, ExecutableType type) {
+        StringBuilder signature = new StringBuilder();
+        signature.append(type.getReturnType()).append(' ').append(method.getSimpleName()).append('(');
+        List<? extends TypeMirror> parameters = type.getParameterTypes();
+        for (int i = 0; i < parameters.size(); i++) {
+            if (i > 0) {
+                signature.append(", ");
+            }
+            signature.append(parameters.get(i)).append(" p").append(i);
+        }
+        signature.append(')');
+        List<? extends TypeMirror> thrown = type.getThrownTypes();
+        for (int i = 0; i < thrown.size(); i++) {
+            signature.append(i == 0 ? " throws " : ", ").append(thrown.get(i));
+        }
+        return signature.toString();
+    }
+
+    private void writeHelpers() {
+        // INSERT 파라미터: INSERT_SQL과 같은 필드 순서
+        line(0, "");
+        line(1, "private static Object[] insertParams(" + entityName + " entity) {");
+        line(2, "return new Object[]{");
+        for (int i = 0; i < fields.size(); i++) {
+            VariableElement field = fields.get(i);
+            line(3, "(" + erasure(field.asType()) + ") " + handleName(field) + ".get(entity)"
+                + (i < fields.size() - 1 ? "," : ""));
+        }
+        line(2, "};");
+        line(1, "}");
+
+        if (hasIdField) {
+            VariableElement idField = fields.stream()
+                .filter(f -> f.getSimpleName().contentEquals("id")).findFirst().orElseThrow();
+            line(0, "");
+            line(1, "private static Object idOf(" + entityName + " entity) {");
+            line(2, "return (" + erasure(idField.asType()) + ") " + handleName(idField) + ".get(entity);");
+            line(1, "}");
+        }
+
+        writeMapper();
+
+        line(0, "");
+        line(1, "private static java.lang.invoke.VarHandle field(String name, Class<?> type) {");
+        line(2, "try {");
+        line(3, "return java.lang.invoke.MethodHandles.privateLookupIn(" + entityName
+            + ".class, java.lang.invoke.MethodHandles.lookup())");
+        line(4, ".findVarHandle(" + entityName + ".class, name, type);");
+        line(2, "} catch (ReflectiveOperationException e) {");
+        line(3, "throw new ExceptionInInitializerError(e);");
+        line(2, "}");
+        line(1, "}");
+
+        line(0, "");
+        line(1, "private static java.lang.reflect.Method method(String name, Class<?>... parameterTypes) {");
+        line(2, "try {");
+        line(3, "return " + repository.getQualifiedName() + ".class.getMethod(name, parameterTypes);");
+        line(2, "} catch (NoSuchMethodException e) {");
+        line(3, "throw new ExceptionInInitializerError(e);");
+        line(2, "}");
+        line(1, "}");
+    }
+
+    /**
+     * 조회 매핑 클래스를 작성합니다. EntityMapper와 같이 스네이크 케이스 컬럼을 읽고, NULL이거나 결과에 없는 컬럼은 건너뜁니다.
+     * 쿼리마다 새로 만들며, 컬럼 위치는 처음 보는 ResultSet에서 한 번만 찾습니다.
+     */
+    private void writeMapper() {
+        line(0, "");
+        line(1, "private static final class Mapper implements com.spring.sprout.RowMapper<" + entityName + "> {");
+        line(0, "");
+        line(2, "private final int[] columns = new int[" + fields.size() + "];");
+        line(2, "private java.sql.ResultSet resolved;");
+        line(0, "");
+        line(2, "@Override");
+        line(2, "public " + entityName + " mapRow(java.sql.ResultSet rs) throws java.sql.SQLException {");
+        line(3, "if (rs != resolved) {");
+        line(4, "resolve(rs);");
+        line(3, "}");
+        line(3, entityName + " entity = new " + entityName + "();");
+        for (int i = 0; i < fields.size(); i++) {
+            writeColumnRead(fields.get(i), i);
+        }
+        line(3, "return entity;");
+        line(2, "}");
+        line(0, "");
+        line(2, "private void resolve(java.sql.ResultSet rs) throws java.sql.SQLException {");
+        line(3, "java.sql.ResultSetMetaData meta = rs.getMetaData();");
+        line(3, "java.util.Arrays.fill(columns, 0);");
+        line(3, "for (int i = meta.getColumnCount(); i >= 1; i--) { // 같은 이름이 여럿이면 첫 컬럼 (findColumn 규칙)");
+        line(4, "switch (meta.getColumnLabel(i).toLowerCase(java.util.Locale.ROOT)) {");
+        for (int i = 0; i < fields.size(); i++) {
+            line(5, "case \"" + toSnakeCase(fields.get(i).getSimpleName().toString()) + "\" -> columns[" + i + "] = i;");
+        }
+        line(5, "default -> {");
+        line(5, "}");
+        line(4, "}");
+        line(3, "}");
+        line(3, "resolved = rs;");
+        line(2, "}");
+        line(1, "}");
+    }
+
+    private void writeColumnRead(VariableElement field, int index) {
+        String type = erasure(field.asType());
+        String column = "columns[" + index + "]";
+        String variable = "v" + index;
+        String handle = handleName(field);
+        String primitive = switch (type) {
+            case "int", "java.lang.Integer" -> "int";
+            case "long", "java.lang.Long" -> "long";
+            case "double", "java.lang.Double" -> "double";
+            case "float", "java.lang.Float" -> "float";
+            case "short", "java.lang.Short" -> "short";
+            case "byte", "java.lang.Byte" -> "byte";
+            case "boolean", "java.lang.Boolean" -> "boolean";
+            default -> null;
+        };
+        line(3, "if (" + column + " > 0) {");
+        if (primitive != null) {
+            String getter = "get" + Character.toUpperCase(primitive.charAt(0)) + primitive.substring(1);
+            line(4, primitive + " " + variable + " = rs." + getter + "(" + column + ");");
+            line(4, "if (!rs.wasNull()) {");
+            // 박싱 타입 필드는 VarHandle 시그니처를 맞추기 위해 명시적으로 박싱
+            line(5, handle + ".set(entity, " + (type.equals(primitive) ? "" : "(" + type + ") ") + variable + ");");
+            line(4, "}");
+        } else {
+            String read = switch (type) {
+                case "java.lang.String" -> "rs.getString(" + column + ")";
+                case "java.math.BigDecimal" -> "rs.getBigDecimal(" + column + ")";
+                default -> "rs.getObject(" + column + ", " + type + ".class)";
+            };
+            line(4, type + " " + variable + " = " + read + ";");
+            line(4, "if (" + variable + " != null) {");
+            line(5, handle + ".set(entity, " + variable + ");");
+            line(4, "}");
+        }
+        line(3, "}");
+    }
+
+    private String handleName(VariableElement field) {
+        return "FIELD_" + toSnakeCase(field.getSimpleName().toString()).toUpperCase();
+    }
+
+    private String erasure(TypeMirror type) {
+        return types.erasure(type).toString();
+    }
+
+    private void line(int indent, String text) {
+        if (!text.isEmpty()) {
+            out.append("    ".repeat(indent)).append(text);
+        }
+        out.append('\n');
+    }
+
+    /**
+     * 런타임 {@code TranslatorToSnake}와 같은 규칙으로 카멜 케이스를 스네이크 케이스로 변환합니다.
+     */
+    static String toSnakeCase(String camelCase) {
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < camelCase.length(); i++) {
+            char c = camelCase.charAt(i);
+            if (Character.isUpperCase(c)) {
+                if (i > 0) {
+                    result.append('_');
+                }
+                result.append(Character.toLowerCase(c));
+            } else {
+                result.append(c);
+            }
+        }
+        return result.toString();
+    }
+}
@@ -0,0 +1,230 @@
+package com.spring.sprout.data.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class RepositoryProcessorTest {
+
+    /**
+     * 생성 코드가 참조하는 프레임워크 타입의 최소 선언 (프로세서 모듈은 런타임 모듈에 의존하지 않음)
+     */
+    private static final Map<String, String> SOURCES = Map.of(
+        "com/spring/sprout/global/annotation/db/Repository.java", """
+            package com.spring.sprout.global.annotation.db;
+            public @interface Repository {}
+            """,
+        "com/spring/sprout/global/annotation/db/Entity.java", """
+            package com.spring.sprout.global.annotation.db;
+            public @interface Entity { String table() default ""; String shardKey() default ""; }
+            """,
+        "com/spring/sprout/global/error/ErrorMessage.java", """
+            package com.spring.sprout.global.error;
+            public enum ErrorMessage { ENTITY_NOT_FOUND }
+            """,
+        "com/spring/sprout/global/error/SpringException.java", """
+            package com.spring.sprout.global.error;
+            public class SpringException extends RuntimeException {
+                public SpringException(ErrorMessage message, String detail) { super(message + " [" + detail + "]"); }
+            }
+            """,
+        "com/spring/sprout/RowMapper.java", """
+            package com.spring.sprout;
+            public interface RowMapper<T> { T mapRow(java.sql.ResultSet rs) throws java.sql.SQLException; }
+            """,
+        "com/spring/sprout/JdbcTemplate.java", """
+            package com.spring.sprout;
+            public interface JdbcTemplate { <T> java.util.List<T> query(String sql, RowMapper<T> mapper, Object... args); }
+            """,
+        "com/spring/sprout/RepositoryContext.java", """
+            package com.spring.sprout;
+            import java.util.function.Function;
+            public interface RepositoryContext<T> {
+                JdbcTemplate getJdbcTemplate();
+                void insert(String insertSql, T entity, Function<T, Object[]> paramExtractor);
+                T findPending(Object id, Function<T, Object> idExtractor);
+                void flushPending();
+                void flush();
+                Object delegate(Object repository, java.lang.reflect.Method method, Object[] args);
+            }
+            """,
+        "com/spring/sprout/JpaRepository.java", """
+            package com.spring.sprout;
+            public interface JpaRepository<T, ID> {
+                void save(T entity);
+                void flush();
+                T findById(ID id);
+                java.util.List<T> findAll();
+            }
+            """,
+        "sample/Item.java", """
+            package sample;
+            @com.spring.sprout.global.annotation.db.Entity(table = "items")
+            public class Item {
+                private Integer id;
+                private String fullName;
+                private int quantity;
+                public Item() {}
+                public Integer getId() { return id; }
+                public String getFullName() { return fullName; }
+                public int getQuantity() { return quantity; }
+            }
+            """,
+        "sample/ItemRepository.java", """
+            package sample;
+            @com.spring.sprout.global.annotation.db.Repository
+            public interface ItemRepository extends com.spring.sprout.JpaRepository<Item, Integer> {}
+            """
+    );
+
+    @TempDir
+    Path dir;
+
+    private URLClassLoader loader;
+    private String generated;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        Path src = dir.resolve("src");
+        Path classes = Files.createDirectories(dir.resolve("classes"));
+        Path gen = Files.createDirectories(dir.resolve("gen"));
+        List<Path> files = new ArrayList<>();
+        for (Map.Entry<String, String> source : SOURCES.entrySet()) {
+            Path file = src.resolve(source.getKey());
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, source.getValue(), StandardCharsets.UTF_8);
+            files.add(file);
+        }
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null,
+            StandardCharsets.UTF_8)) {
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics,
+                List.of("-d", classes.toString(), "-s", gen.toString(), "-proc:full"), null,
+                fileManager.getJavaFileObjectsFromPaths(files));
+            task.setProcessors(List.of(new RepositoryProcessor()));
+            assertThat(task.call()).as(diagnostics.getDiagnostics().toString()).isTrue();
+        }
+
+        generated = Files.readString(gen.resolve("sample/ItemRepository_Impl.java"));
+        loader = new URLClassLoader(new java.net.URL[]{classes.toUri().toURL()}, getClass().getClassLoader());
+    }
+
+    @Test
+    public void INSERT_컬럼은_선언_순서가_아닌_필드_이름순() {
+        assertThat(generated).contains(
+            "\"INSERT INTO items (fullName, id, quantity) VALUES (?, ?, ?)\"");
+    }
+
+    @Test
+    public void 결과에_없는_컬럼은_건너뛰고_위치로_읽음() throws Exception {
+        // given (quantity 컬럼 없음, 라벨은 대문자)
+        ResultSet rs = resultSet(new String[]{"ID", "FULL_NAME"}, new Object[]{7, "Widget"});
+
+        // when
+        Object item = newMapper().mapRow(rs);
+
+        // then
+        assertThat(read(item, "id")).isEqualTo(7);
+        assertThat(read(item, "fullName")).isEqualTo("Widget");
+        assertThat(read(item, "quantity")).isEqualTo(0);
+    }
+
+    @Test
+    public void findById_미스는_SpringException() throws Exception {
+        // given
+        Class<?> contextType = loader.loadClass("com.spring.sprout.RepositoryContext");
+        Class<?> templateType = loader.loadClass("com.spring.sprout.JdbcTemplate");
+        Object template = Proxy.newProxyInstance(loader, new Class[]{templateType}, (p, m, a) -> List.of());
+        Object context = Proxy.newProxyInstance(loader, new Class[]{contextType},
+            (p, m, a) -> m.getName().equals("getJdbcTemplate") ? template : null);
+        Class<?> implType = loader.loadClass("sample.ItemRepository_Impl");
+        Object repository = implType.getConstructor(contextType).newInstance(context);
+
+        // when
+        InvocationTargetException e = org.junit.jupiter.api.Assertions.assertThrows(InvocationTargetException.class,
+            () -> implType.getMethod("findById", Integer.class).invoke(repository, 1));
+
+        // then
+        assertThat(e.getCause().getClass().getName()).isEqualTo("com.spring.sprout.global.error.SpringException");
+        assertThat(e.getCause().getMessage()).endsWith("[items id=1]");
+    }
+
+    private MapperCall newMapper() throws Exception {
+        Class<?> mapperType = loader.loadClass("sample.ItemRepository_Impl$Mapper");
+        Constructor<?> constructor = mapperType.getDeclaredConstructor();
+        constructor.setAccessible(true);
+        Object mapper = constructor.newInstance();
+        Method mapRow = mapperType.getMethod("mapRow", ResultSet.class);
+        mapRow.setAccessible(true);
+        return rs -> mapRow.invoke(mapper, rs);
+    }
+
+    private static Object read(Object entity, String field) throws ReflectiveOperationException {
+        Field f = entity.getClass().getDeclaredField(field);
+        f.setAccessible(true);
+        return f.get(entity);
+    }
+
+    /**
+     * 한 행짜리 ResultSet. 위치 기반 getter와 메타데이터만 구현합니다.
+     */
+    private static ResultSet resultSet(String[] labels, Object[] values) {
+        boolean[] lastNull = new boolean[1];
+        ResultSetMetaData meta = (ResultSetMetaData) Proxy.newProxyInstance(ResultSetMetaData.class.getClassLoader(),
+            new Class[]{ResultSetMetaData.class}, (p, m, a) -> switch (m.getName()) {
+                case "getColumnCount" -> labels.length;
+                case "getColumnLabel" -> labels[(int) a[0] - 1];
+                default -> throw new UnsupportedOperationException(m.getName());
+            });
+        return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class[]{ResultSet.class},
+            (p, m, a) -> {
+                if (m.getName().equals("getMetaData")) {
+                    return meta;
+                }
+                if (m.getName().equals("wasNull")) {
+                    return lastNull[0];
+                }
+                if (a != null && a.length == 1 && a[0] instanceof Integer index) {
+                    Object value = values[index - 1];
+                    lastNull[0] = value == null;
+                    return switch (m.getName()) {
+                        case "getInt" -> value == null ? 0 : value;
+                        case "getString" -> value == null ? null : value.toString();
+                        default -> throw new UnsupportedOperationException(m.getName());
+                    };
+                }
+                throw new UnsupportedOperationException(m.getName() + " " + Stream.of(a == null ? new Object[0] : a).toList());
+            });
+    }
+
+    @FunctionalInterface
+    private interface MapperCall {
+
+        Object mapRow(ResultSet rs) throws Exception;
+    }
+}
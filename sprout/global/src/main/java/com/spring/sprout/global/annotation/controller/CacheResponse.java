@@ -0,0 +1,39 @@
+package com.spring.sprout.global.annotation.controller;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+
+/**
+ * [응답 캐시]
+ *
+ * <p>{@link GetMapping} 메서드에 붙이면 직렬화된 응답 본문(바이트)을 경로, 쿼리 문자열, {@link #varyHeaders()}의 값을 키로
+ * 캐시합니다. 캐시가 유효한 동안에는 컨트롤러 메서드와 JSON 직렬화를 모두 건너뛰고 저장된 바이트를 그대로 씁니다.</p>
+ *
+ * <ul>
+ * <li><b>TTL:</b> {@link #ttlSeconds()} 동안은 캐시된 본문으로 응답합니다.</li>
+ * <li><b>stale-while-revalidate:</b> TTL이 지난 뒤 {@link #staleWhileRevalidateSeconds()} 동안은 한 요청만 핸들러를 다시 실행하고,
+ * 나머지 요청은 이전 본문으로 즉시 응답합니다.</li>
+ * <li><b>단일 갱신 (single-flight):</b> 캐시가 비었거나 완전히 만료된 키에 동시에 들어온 요청은 먼저 온 요청의 결과를 기다려 함께 씁니다.</li>
+ * </ul>
+ *
+ * <p>200 응답만 저장하며, 비동기 결과({@code CompletionStage}, {@code Callable})와 {@code web.response-cache.max-entry-bytes}를
+ * 넘는 본문은 캐시하지 않습니다.</p>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CacheResponse {
+
+    /**
+     * 캐시된 본문을 그대로 쓰는 시간(초)
+     */
+    long ttlSeconds();
+
+    /**
+     * TTL이 지난 뒤 갱신하는 동안 이전 본문으로 응답할 수 있는 시간(초). 0이면 만료 즉시 갱신을 기다립니다.
+     */
+    long staleWhileRevalidateSeconds() default 0;
+
+    /**
+     * 캐시 키에 포함할 요청 헤더 (예: {@code Accept}, {@code Accept-Language})
+     */
+    String[] varyHeaders() default {};
+}
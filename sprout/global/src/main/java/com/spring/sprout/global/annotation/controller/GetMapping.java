@@ -7,4 +7,11 @@ import java.lang.annotation.RetentionPolicy;
 public @interface GetMapping {
 
     String value() default "";
+
+    /**
+     * 이 경로의 요청 처리 기한(ms)입니다. -1이면 {@code web.request-timeout-ms} 기본값을, 0이면 기한 없이 처리합니다.
+     * <p>{@code queryForStream}/{@code queryForJson}으로 결과를 흘려보내는 경로는 쿼리 실행까지만 기한이 걸리므로 기본값을
+     * 그대로 써도 됩니다. {@code execute} 콜백 안에서 응답을 쓰는 내보내기 경로는 기한이 전송 시간까지 덮으므로 0으로 둡니다.</p>
+     */
+    long timeoutMillis() default -1;
 }
@@ -7,4 +7,9 @@ import java.lang.annotation.RetentionPolicy;
 public @interface PostMapping {
 
     String value();
+
+    /**
+     * 이 경로의 요청 처리 기한(ms)입니다. -1이면 {@code web.request-timeout-ms} 기본값을, 0이면 기한 없이 처리합니다.
+     */
+    long timeoutMillis() default -1;
 }
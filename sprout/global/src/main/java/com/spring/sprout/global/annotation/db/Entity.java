@@ -10,4 +10,9 @@ import java.lang.annotation.Target;
 public @interface Entity {
 
     String table() default "";
+
+    /**
+     * 샤드를 결정할 필드 이름입니다. 지정하면 {@code db.shards}에 설정된 데이터소스 중 하나로 분산 저장됩니다. (비어 있으면 단일 DB)
+     */
+    String shardKey() default "";
 }
\ No newline at end of file
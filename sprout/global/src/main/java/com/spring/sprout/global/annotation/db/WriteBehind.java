@@ -0,0 +1,39 @@
+package com.spring.sprout.global.annotation.db;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * [쓰기 지연 엔티티]
+ *
+ * <p>{@link Entity}에 함께 선언하면 리포지토리의 {@code save}가 INSERT를 즉시 실행하지 않고 버퍼에 모았다가, 백그라운드 스레드가
+ * JDBC 배치로 한꺼번에 기록합니다. 로그, 이벤트처럼 저장 직후 다른 요청이 읽지 않는 대량 쓰기에 적합합니다.</p>
+ *
+ * <ul>
+ * <li>버퍼링된 INSERT는 호출자의 트랜잭션에 참여하지 않습니다.</li>
+ * <li>같은 리포지토리의 조회와 {@code flush()}는 버퍼를 먼저 비우므로 저장한 행을 바로 볼 수 있습니다.</li>
+ * <li>기록에 실패한 배치는 재시도하며, 재시도를 기다리는 동안 버퍼가 가득 차면 {@code save}가 예외로 실패합니다.</li>
+ * <li>샤딩({@code @Entity(shardKey = ...)})과 함께 사용할 수 없습니다.</li>
+ * </ul>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface WriteBehind {
+
+    /**
+     * 한 번에 기록할 최대 행 수
+     */
+    int batchSize() default 500;
+
+    /**
+     * 배치가 차지 않아도 기록을 시작하기까지 기다리는 최대 시간(ms)
+     */
+    long maxDelayMillis() default 50;
+
+    /**
+     * 버퍼에 담을 수 있는 최대 행 수. 가득 차면 {@code save}가 자리가 날 때까지 기다립니다.
+     */
+    int capacity() default 10_000;
+}
@@ -27,15 +27,43 @@ public enum ErrorMessage {
 
     // 웹 오류
     NOT_FOUND("NOT FOUND"),
+    ASYNC_TIMEOUT("비동기 요청이 처리 기한 안에 완료되지 않았습니다."),
+    TOO_MANY_REQUESTS("요청이 너무 많습니다. 잠시 후 다시 시도해 주세요."),
+    OVERLOADED("서버가 요청을 처리할 수 없는 상태입니다. 잠시 후 다시 시도해 주세요."),
 
     // -- data --
     SQL_EXECUTION_FILED("SQL 실행 중 오류 발생"),
+    DEADLINE_EXCEEDED("요청 처리 기한이 지나 쿼리를 실행하지 않았습니다."),
+    QUERY_TIMEOUT("쿼리가 요청 처리 기한 안에 끝나지 않아 취소되었습니다."),
 
     // 객체 매핑 실패
     ENTITY_MAPPING_FILED("객체 매핑에 실패했습니다."),
 
     // 엔티티 오류
-    ENTITY_TYPE_NOT_FOUND("엔티티 타입을 찾을 수 없습니다");
+    ENTITY_TYPE_NOT_FOUND("엔티티 타입을 찾을 수 없습니다"),
+    ENTITY_NOT_FOUND("식별자에 해당하는 엔티티가 없습니다."),
+
+    // 쿼리 메서드 오류
+    INVALID_QUERY_METHOD("쿼리 메서드를 해석할 수 없습니다."),
+
+    // 페이징 오류
+    INVALID_PAGE_TOKEN("페이지 토큰이 올바르지 않습니다."),
+    INVALID_SORT_PROPERTY("정렬할 수 없는 프로퍼티입니다."),
+
+    // 쓰기 지연 오류
+    WRITE_BEHIND_CLOSED("쓰기 지연 버퍼가 이미 종료되었습니다."),
+    WRITE_BEHIND_FAILED("쓰기 지연 버퍼의 기록이 실패하여 재시도를 기다리고 있습니다."),
+
+    // 대량 적재 오류
+    BULK_LOAD_FAILED("대량 적재에 실패했습니다."),
+
+    // 내보내기 오류
+    EXPORT_FAILED("데이터 내보내기에 실패했습니다."),
+
+    // 샤딩 오류
+    INVALID_SHARD_CONFIG("샤드 설정이 올바르지 않습니다."),
+    INVALID_SHARD_KEY("샤드 키를 사용할 수 없습니다."),
+    SHARD_QUERY_FAILED("샤드 쿼리 실행에 실패했습니다.");
 
     private final String message;
 
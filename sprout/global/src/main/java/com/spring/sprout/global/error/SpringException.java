@@ -2,7 +2,19 @@ package com.spring.sprout.global.error;
 
 public class SpringException extends RuntimeException {
 
+    private final ErrorMessage errorMessage;
+
     public SpringException(ErrorMessage message) {
         super(message.getMessage());
+        this.errorMessage = message;
+    }
+
+    public SpringException(ErrorMessage message, String detail) {
+        super(message.getMessage() + " [" + detail + "]");
+        this.errorMessage = message;
+    }
+
+    public ErrorMessage getErrorMessage() {
+        return errorMessage;
     }
 }
@@ -0,0 +1,14 @@
+package com.spring.sprout.global.metrics;
+
+/**
+ * [지표 제공자]
+ *
+ * <p>이 인터페이스를 구현한 빈은 웹 계층의 {@code /metrics} 응답에 자기 지표를 덧붙입니다. 데이터 계층처럼 웹 모듈이 의존하지 않는
+ * 모듈의 지표를 노출하기 위해 공용 모듈(global)에 위치합니다.</p>
+ *
+ * <p>스크레이프마다 호출되므로 누적값을 읽기만 하고, 요청 처리 경로에는 영향을 주지 않아야 합니다.</p>
+ */
+public interface MetricsSource {
+
+    void writeMetrics(PrometheusWriter writer);
+}
@@ -0,0 +1,94 @@
+package com.spring.sprout.global.metrics;
+
+/**
+ * [Prometheus 텍스트 형식 작성기]
+ *
+ * <p>{@code /metrics} 응답 본문을 Prometheus 텍스트 노출 형식(0.0.4)으로 만듭니다. 지표 이름마다 {@link #family}로 HELP/TYPE 줄을
+ * 한 번 쓰고, 같은 이름의 표본을 이어서 씁니다. 시간 값은 Prometheus 관례에 따라 초 단위로 씁니다.</p>
+ *
+ * <p>사용 예시:</p>
+ * <pre>
+ * writer.family("sprout_sql_errors_total", "counter", "SQL 실행 실패 횟수");
+ * writer.sample("sprout_sql_errors_total", PrometheusWriter.labels("sql", sql), errors);
+ * </pre>
+ *
+ * @see MetricsSource
+ */
+public class PrometheusWriter {
+
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final StringBuilder out = new StringBuilder(16 * 1024);
+
+    /**
+     * 지표의 HELP/TYPE 줄을 씁니다.
+     *
+     * @param type counter, gauge, histogram 중 하나
+     */
+    public void family(String name, String type, String help) {
+        out.append("# HELP ").append(name).append(' ').append(help.replace("\\", "\\\\").replace("\n", "\\n"))
+            .append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    /**
+     * 표본 한 줄을 씁니다.
+     *
+     * @param labels {@link #labels(String...)}로 만든 레이블 (없으면 빈 문자열)
+     */
+    public void sample(String name, String labels, long value) {
+        out.append(name).append(labels).append(' ').append(value).append('\n');
+    }
+
+    public void sample(String name, String labels, double value) {
+        out.append(name).append(labels).append(' ').append(value).append('\n');
+    }
+
+    /**
+     * 히스토그램의 누적 버킷, 합계, 개수를 초 단위로 씁니다. HELP/TYPE은 호출하는 쪽에서 {@code histogram}으로 먼저 써야 합니다.
+     *
+     * <p>버킷 값과 개수를 따로 읽으므로 기록 중에는 {@code _count}와 {@code +Inf} 버킷이 잠시 어긋날 수 있습니다.
+     * 어긋나지 않도록 {@code _count}는 버킷 합으로 씁니다.</p>
+     */
+    public void histogram(String name, String labels, LatencyHistogram histogram) {
+        String bucketPrefix = labels.isEmpty() ? "{" : labels.substring(0, labels.length() - 1) + ",";
+        long cumulative = 0;
+        for (int i = 0; i < histogram.bucketCount(); i++) {
+            cumulative += histogram.bucketValue(i);
+            long upperBound = histogram.upperBoundNanos(i);
+            out.append(name).append("_bucket").append(bucketPrefix).append("le=\"")
+                .append(upperBound == Long.MAX_VALUE ? "+Inf" : Double.toString(upperBound / 1e9))
+                .append("\"} ").append(cumulative).append('\n');
+        }
+        sample(name + "_sum", labels, histogram.getSumNanos() / 1e9);
+        sample(name + "_count", labels, cumulative);
+    }
+
+    /**
+     * 이름/값 쌍으로 레이블 문자열을 만듭니다. 값의 역슬래시, 따옴표, 줄바꿈은 이스케이프합니다.
+     *
+     * @param keyValues 이름, 값, 이름, 값, ...
+     * @return {@code {name="value",...}}, 쌍이 없으면 빈 문자열
+     */
+    public static String labels(String... keyValues) {
+        if (keyValues.length == 0) {
+            return "";
+        }
+        StringBuilder labels = new StringBuilder("{");
+        for (int i = 0; i + 1 < keyValues.length; i += 2) {
+            if (i > 0) {
+                labels.append(',');
+            }
+            String value = keyValues[i + 1] == null ? "" : keyValues[i + 1];
+            labels.append(keyValues[i]).append("=\"")
+                .append(value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n"))
+                .append('"');
+        }
+        return labels.append('}').toString();
+    }
+
+    @Override
+    public String toString() {
+        return out.toString();
+    }
+}
@@ -0,0 +1,96 @@
+package com.spring.sprout.global.metrics;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * [요청 단위 쿼리 추적기]
+ *
+ * <p>HTTP 요청 하나가 처리되는 동안 실행된 SQL 문을 세고, 같은 형태(정규화된 SQL)가 몇 번 반복되었는지 기록합니다.
+ * 웹 계층이 요청 시작 시 {@link #start()}로 현재 스레드에 바인딩하고, 데이터 계층은 SQL을 실행할 때마다 {@link #current()}로 조회하여
+ * 기록합니다. 두 계층이 서로의 구현 모듈에 의존하지 않도록 공용 모듈(global)에 위치합니다.</p>
+ *
+ * <p>N+1 문제 탐지 예시: 목록 조회 후 각 항목마다 {@code findById}를 호출하면,
+ * {@code SELECT * FROM users WHERE id = ?} 형태가 목록 크기만큼 반복되어 {@link #getMaxRepeatCount()}에 드러납니다.</p>
+ *
+ * <p><b>주의:</b> 스레드 로컬 기반이므로 비동기 템플릿처럼 다른 스레드에서 실행된 SQL은 집계되지 않습니다.
+ * 하나의 요청 스레드에서만 접근하므로 내부 상태는 동기화하지 않습니다.</p>
+ */
+public final class QueryTracker {
+
+    private static final ThreadLocal<QueryTracker> currentTracker = new ThreadLocal<>();
+
+    private final Map<String, Integer> counts = new HashMap<>();
+    private int statementCount;
+    private int maxRepeatCount;
+    private String mostRepeatedSql;
+
+    private QueryTracker() {
+    }
+
+    /**
+     * 새 추적기를 생성하여 현재 스레드에 바인딩합니다.
+     *
+     * @return 바인딩된 추적기
+     */
+    public static QueryTracker start() {
+        QueryTracker tracker = new QueryTracker();
+        currentTracker.set(tracker);
+        return tracker;
+    }
+
+    /**
+     * 현재 스레드에 바인딩된 추적기를 반환합니다.
+     *
+     * @return 추적 중인 요청이 없으면 {@code null}
+     */
+    public static QueryTracker current() {
+        return currentTracker.get();
+    }
+
+    /**
+     * 현재 스레드의 추적을 종료합니다. 스레드 풀 환경에서 다음 요청으로 상태가 새지 않도록 반드시 finally에서 호출해야 합니다.
+     */
+    public static void end() {
+        currentTracker.remove();
+    }
+
+    /**
+     * 실행된 SQL 한 건을 기록합니다.
+     *
+     * @param sqlShape 리터럴이 제거된 정규화 SQL
+     */
+    public void record(String sqlShape) {
+        statementCount++;
+        int repeat = counts.merge(sqlShape, 1, Integer::sum);
+        if (repeat > maxRepeatCount) {
+            maxRepeatCount = repeat;
+            mostRepeatedSql = sqlShape;
+        }
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    /**
+     * 가장 많이 반복된 SQL 형태의 실행 횟수를 반환합니다.
+     */
+    public int getMaxRepeatCount() {
+        return maxRepeatCount;
+    }
+
+    /**
+     * 가장 많이 반복된 SQL 형태를 반환합니다. 실행된 SQL이 없으면 {@code null}입니다.
+     */
+    public String getMostRepeatedSql() {
+        return mostRepeatedSql;
+    }
+
+    /**
+     * 서로 다른 SQL 형태의 개수를 반환합니다.
+     */
+    public int getDistinctCount() {
+        return counts.size();
+    }
+}
@@ -0,0 +1,53 @@
+package com.spring.sprout.global.web;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.IOException;
+
+/**
+ * [JSON 스트리밍 응답]
+ *
+ * <p>컨트롤러가 이 객체를 반환하면 DispatcherServlet은 응답 출력 스트림 위에 {@link JsonGenerator}를 열어 {@link JsonBodyWriter}에
+ * 넘깁니다. 반환값을 객체로 만든 뒤 직렬화하는 대신 본문을 직접 쓰므로, 조회 결과를 그대로 내보내는 목록 API에서
+ * 엔티티/DTO 생성 없이 {@code JdbcTemplate#queryForJson}으로 ResultSet을 바로 흘려보낼 수 있습니다.</p>
+ *
+ * <p>사용 예시:</p>
+ * <pre>
+ * &#64;GetMapping("/users")
+ * public JsonStreamingResponse findAll() {
+ *     return JsonStreamingResponse.of(
+ *         generator -&gt; jdbcTemplate.queryForJson("SELECT id, name, age FROM users", generator));
+ * }
+ * </pre>
+ *
+ * @see StreamingResponse
+ */
+public final class JsonStreamingResponse {
+
+    /**
+     * 응답 본문을 JSON 생성기에 쓰는 콜백
+     */
+    @FunctionalInterface
+    public interface JsonBodyWriter {
+
+        void writeTo(JsonGenerator generator) throws IOException;
+    }
+
+    private final JsonBodyWriter bodyWriter;
+
+    private JsonStreamingResponse(JsonBodyWriter bodyWriter) {
+        this.bodyWriter = bodyWriter;
+    }
+
+    /**
+     * JSON 스트리밍 응답을 생성합니다.
+     *
+     * @param bodyWriter 본문을 JSON 생성기에 쓰는 콜백
+     */
+    public static JsonStreamingResponse of(JsonBodyWriter bodyWriter) {
+        return new JsonStreamingResponse(bodyWriter);
+    }
+
+    public JsonBodyWriter getBodyWriter() {
+        return bodyWriter;
+    }
+}
@@ -0,0 +1,93 @@
+package com.spring.sprout.global.web;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * [요청 처리 기한]
+ *
+ * <p>HTTP 요청 하나에 허용된 처리 시간의 종료 시각입니다. 웹 계층이 요청 시작 시 {@link #start(long)}로 현재 스레드에 바인딩하고,
+ * 데이터 계층은 SQL을 실행할 때마다 {@link #current()}로 조회하여 남은 시간만큼만 쿼리 타임아웃을 겁니다.
+ * {@link com.spring.sprout.global.metrics.QueryTracker}와 같은 이유로 공용 모듈(global)에 위치합니다.</p>
+ *
+ * <p>다른 스레드에서 실행되는 작업(비동기 템플릿, 샤드 팬아웃)은 {@link #propagate(Supplier)}로 감싸 같은 기한을 이어받습니다.</p>
+ */
+public final class RequestDeadline {
+
+    private static final ThreadLocal<RequestDeadline> currentDeadline = new ThreadLocal<>();
+
+    private final long timeoutMillis;
+    private final long deadlineNanos;
+
+    private RequestDeadline(long timeoutMillis) {
+        this.timeoutMillis = timeoutMillis;
+        this.deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+    }
+
+    /**
+     * 지금부터 주어진 시간 뒤를 기한으로 하여 현재 스레드에 바인딩합니다.
+     *
+     * @param timeoutMillis 허용 처리 시간
+     * @return 바인딩된 기한
+     */
+    public static RequestDeadline start(long timeoutMillis) {
+        RequestDeadline deadline = new RequestDeadline(timeoutMillis);
+        currentDeadline.set(deadline);
+        return deadline;
+    }
+
+    /**
+     * 현재 스레드에 바인딩된 기한을 반환합니다.
+     *
+     * @return 기한이 없는 스레드라면 {@code null}
+     */
+    public static RequestDeadline current() {
+        return currentDeadline.get();
+    }
+
+    /**
+     * 현재 스레드의 기한을 해제합니다. 스레드 풀 환경에서 다음 요청으로 새지 않도록 반드시 finally에서 호출해야 합니다.
+     */
+    public static void end() {
+        currentDeadline.remove();
+    }
+
+    /**
+     * 현재 스레드의 기한을 다른 스레드에서 실행될 작업에 전달합니다. 기한이 없다면 작업을 그대로 반환합니다.
+     */
+    public static <T> Supplier<T> propagate(Supplier<T> task) {
+        RequestDeadline deadline = currentDeadline.get();
+        if (deadline == null) {
+            return task;
+        }
+        return () -> {
+            RequestDeadline previous = currentDeadline.get();
+            currentDeadline.set(deadline);
+            try {
+                return task.get();
+            } finally {
+                if (previous == null) {
+                    currentDeadline.remove();
+                } else {
+                    currentDeadline.set(previous);
+                }
+            }
+        };
+    }
+
+    public long remainingNanos() {
+        return deadlineNanos - System.nanoTime();
+    }
+
+    public long remainingMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(remainingNanos());
+    }
+
+    public boolean isExpired() {
+        return remainingNanos() <= 0;
+    }
+
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+}
@@ -0,0 +1,75 @@
+package com.spring.sprout.global.web;
+
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * [스트리밍 응답]
+ *
+ * <p>컨트롤러가 이 객체를 반환하면 DispatcherServlet은 JSON 직렬화 대신 {@link BodyWriter}에 응답 채널을 넘겨,
+ * 본문을 생성되는 즉시 클라이언트로 흘려보냅니다. 대용량 내보내기처럼 결과 전체를 메모리에 올릴 수 없는 응답에 사용합니다.</p>
+ *
+ * <p>사용 예시:</p>
+ * <pre>
+ * &#64;GetMapping("/users/export")
+ * public StreamingResponse export() {
+ *     return StreamingResponse.of("application/x-ndjson", userService::exportAll)
+ *         .attachment("users.jsonl");
+ * }
+ * </pre>
+ */
+public final class StreamingResponse {
+
+    /**
+     * 응답 본문을 채널에 쓰는 콜백
+     */
+    @FunctionalInterface
+    public interface BodyWriter {
+
+        void writeTo(WritableByteChannel channel) throws IOException;
+    }
+
+    private final String contentType;
+    private final BodyWriter bodyWriter;
+    private final String filename;
+
+    private StreamingResponse(String contentType, BodyWriter bodyWriter, String filename) {
+        this.contentType = contentType;
+        this.bodyWriter = bodyWriter;
+        this.filename = filename;
+    }
+
+    /**
+     * 스트리밍 응답을 생성합니다.
+     *
+     * @param contentType 응답 Content-Type (예: "text/csv;charset=UTF-8")
+     * @param bodyWriter  본문을 채널에 쓰는 콜백
+     */
+    public static StreamingResponse of(String contentType, BodyWriter bodyWriter) {
+        return new StreamingResponse(contentType, bodyWriter, null);
+    }
+
+    /**
+     * 브라우저가 파일로 내려받도록 {@code Content-Disposition: attachment} 헤더를 추가한 새 응답을 반환합니다.
+     *
+     * @param filename 내려받을 파일 이름
+     */
+    public StreamingResponse attachment(String filename) {
+        return new StreamingResponse(contentType, bodyWriter, filename);
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public BodyWriter getBodyWriter() {
+        return bodyWriter;
+    }
+
+    /**
+     * 첨부 파일 이름을 반환합니다. 첨부가 아니면 {@code null}입니다.
+     */
+    public String getFilename() {
+        return filename;
+    }
+}
@@ -0,0 +1,50 @@
+package com.spring.sprout.global.web;
+
+import java.util.function.Supplier;
+
+/**
+ * [버전 응답]
+ *
+ * <p>핸들러가 응답 본문의 버전을 싸게 알 수 있을 때 반환합니다. DispatcherServlet은 버전으로 약한 ETag를 만들어 요청의
+ * {@code If-None-Match}와 비교하고, 일치하면 본문 공급자를 호출하지 않고 {@code 304 Not Modified}로 응답합니다.
+ * 일치하지 않으면 공급자의 결과를 일반 반환값과 같은 방식으로 씁니다. ({@link StreamingResponse}, {@link JsonStreamingResponse} 포함)</p>
+ *
+ * <p>본문을 만드는 조회가 무거울수록 이득이 크며, 버전은 본문이 바뀌면 반드시 달라져야 합니다. (갱신 카운터, 최대 수정 시각 등)</p>
+ *
+ * <p>사용 예시:</p>
+ * <pre>
+ * &#64;GetMapping("/users")
+ * public VersionedResponse findAll() {
+ *     return VersionedResponse.of(userService.usersVersion(),
+ *         () -&gt; JsonStreamingResponse.of(userService::writeAll));
+ * }
+ * </pre>
+ */
+public final class VersionedResponse {
+
+    private final Object version;
+    private final Supplier<?> body;
+
+    private VersionedResponse(Object version, Supplier<?> body) {
+        this.version = version;
+        this.body = body;
+    }
+
+    /**
+     * 버전 응답을 생성합니다.
+     *
+     * @param version 본문 버전 ({@code toString()}이 ETag의 재료가 됨)
+     * @param body    버전이 달라졌을 때만 호출되는 본문 공급자
+     */
+    public static VersionedResponse of(Object version, Supplier<?> body) {
+        return new VersionedResponse(version, body);
+    }
+
+    public Object getVersion() {
+        return version;
+    }
+
+    public Supplier<?> getBody() {
+        return body;
+    }
+}
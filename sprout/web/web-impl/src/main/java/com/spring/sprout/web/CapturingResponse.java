@@ -0,0 +1,196 @@
+package com.spring.sprout.web;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+
+/**
+ * [본문 캡처 응답 래퍼]
+ *
+ * <p>{@link ResponseCache}가 캐시할 본문을 얻기 위해 핸들러에 넘기는 응답입니다. 본문을 클라이언트로 보내지 않고 메모리에 모으며,
+ * 헤더와 상태 코드는 원래 응답에 그대로 설정합니다.</p>
+ *
+ * <ul>
+ * <li><b>최대 크기 초과:</b> 모은 본문을 원래 응답으로 내보내고, 이후 본문은 그대로 씁니다. (캐시하지 않음)</li>
+ * <li><b>비동기 결과:</b> {@link #bypass()}로 캡처를 중단하고 원래 응답을 돌려받습니다.</li>
+ * </ul>
+ *
+ * <p>캡처 중의 {@code flushBuffer()}는 무시되므로, 헤더는 본문 길이가 정해질 때까지 전송되지 않습니다.</p>
+ */
+class CapturingResponse extends HttpServletResponseWrapper {
+
+    private final HttpServletResponse response;
+    private final int maxBytes;
+
+    /**
+     * 모은 본문. 최대 크기를 넘었거나 캡처를 중단했으면 null
+     */
+    private ByteArrayOutputStream captured = new ByteArrayOutputStream();
+    private CapturingOutputStream outputStream;
+    private PrintWriter writer;
+    private long declaredContentLength = -1;
+
+    CapturingResponse(HttpServletResponse response, int maxBytes) {
+        super(response);
+        this.response = response;
+        this.maxBytes = maxBytes;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() {
+        if (writer != null) {
+            throw new IllegalStateException("getWriter() has already been called");
+        }
+        if (outputStream == null) {
+            outputStream = new CapturingOutputStream();
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() {
+        if (writer == null) {
+            if (outputStream != null) {
+                throw new IllegalStateException("getOutputStream() has already been called");
+            }
+            outputStream = new CapturingOutputStream();
+            writer = new PrintWriter(
+                new OutputStreamWriter(outputStream, Charset.forName(response.getCharacterEncoding())));
+        }
+        return writer;
+    }
+
+    /**
+     * 캡처 중에는 길이를 보관만 합니다. 캡처가 끝나면 실제 본문 길이를 쓰기 때문입니다.
+     */
+    @Override
+    public void setContentLength(int length) {
+        setContentLengthLong(length);
+    }
+
+    @Override
+    public void setContentLengthLong(long length) {
+        if (captured != null) {
+            declaredContentLength = length;
+        } else {
+            response.setContentLengthLong(length);
+        }
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        if (captured == null) {
+            super.flushBuffer();
+        }
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        resetCapture();
+        declaredContentLength = -1;
+    }
+
+    @Override
+    public void resetBuffer() {
+        super.resetBuffer();
+        resetCapture();
+    }
+
+    /**
+     * 캡처를 중단합니다. 모은 본문이 있으면 내보내고, 이후 쓰기에 사용할 원래 응답을 반환합니다.
+     */
+    HttpServletResponse bypass() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        spill();
+        return response;
+    }
+
+    /**
+     * 핸들러가 끝난 뒤 모은 본문을 반환합니다. 원래 응답에는 아직 쓰지 않았습니다.
+     *
+     * @return 모은 본문, 캡처하지 못했으면 null
+     */
+    byte[] finishCapture() {
+        if (writer != null) {
+            writer.flush();
+        }
+        return captured == null ? null : captured.toByteArray();
+    }
+
+    private void resetCapture() {
+        if (captured != null) {
+            captured.reset();
+        }
+        outputStream = null;
+        writer = null;
+    }
+
+    /**
+     * 모은 본문을 원래 응답으로 내보내고 이후에는 그대로 씁니다.
+     */
+    private void spill() throws IOException {
+        if (captured == null) {
+            return;
+        }
+        ByteArrayOutputStream pending = captured;
+        captured = null;
+        if (declaredContentLength >= 0) {
+            response.setContentLengthLong(declaredContentLength);
+        }
+        if (pending.size() > 0) {
+            pending.writeTo(response.getOutputStream());
+        }
+    }
+
+    private final class CapturingOutputStream extends ServletOutputStream {
+
+        private final byte[] singleByte = new byte[1];
+
+        @Override
+        public void write(int b) throws IOException {
+            singleByte[0] = (byte) b;
+            write(singleByte, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (captured != null && captured.size() + len > maxBytes) {
+                spill();
+            }
+            if (captured != null) {
+                captured.write(b, off, len);
+            } else {
+                response.getOutputStream().write(b, off, len);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (captured == null) {
+                response.getOutputStream().flush();
+            }
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            throw new UnsupportedOperationException("캡처 중인 응답은 논블로킹 쓰기를 지원하지 않습니다.");
+        }
+    }
+}
@@ -0,0 +1,315 @@
+package com.spring.sprout.web;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * [압축 응답 래퍼]
+ *
+ * <p>본문을 처음 {@code min-size} 바이트까지 버퍼에 모았다가 압축 여부를 결정합니다.</p>
+ * <ul>
+ * <li><b>임계치 이전에 끝난 응답:</b> 압축하지 않고 정확한 Content-Length와 함께 그대로 씁니다.</li>
+ * <li><b>임계치를 넘은 응답:</b> Content-Type이 압축 대상이면 {@code Content-Encoding}을 설정하고, 이후 본문을 풀에서 빌린
+ * {@link Deflater}로 압축하며 씁니다. 대상이 아니면 버퍼를 비우고 그대로 씁니다.</li>
+ * </ul>
+ *
+ * <p>스트리밍 응답의 {@code flush()}는 {@link Deflater#SYNC_FLUSH}로 전달되므로, 압축 중에도 요소 단위 전송이 유지됩니다.
+ * 결정 전의 {@code flush()}는 버퍼를 유지합니다. (작은 응답을 압축하지 않기 위함)</p>
+ *
+ * @see ResponseCompressor
+ */
+class CompressingResponse extends HttpServletResponseWrapper {
+
+    private static final byte[] GZIP_HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+    private static final int OUTPUT_BUFFER_SIZE = 8 * 1024;
+
+    private final HttpServletResponse response;
+    private final ResponseCompressor compressor;
+    private final String encoding;
+
+    private CompressingOutputStream outputStream;
+    private PrintWriter writer;
+    private long declaredContentLength = -1;
+
+    CompressingResponse(HttpServletResponse response, ResponseCompressor compressor, String encoding) {
+        super(response);
+        this.response = response;
+        this.compressor = compressor;
+        this.encoding = encoding;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() {
+        if (writer != null) {
+            throw new IllegalStateException("getWriter() has already been called");
+        }
+        if (outputStream == null) {
+            outputStream = new CompressingOutputStream();
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() {
+        if (writer == null) {
+            if (outputStream != null) {
+                throw new IllegalStateException("getOutputStream() has already been called");
+            }
+            outputStream = new CompressingOutputStream();
+            writer = new PrintWriter(
+                new OutputStreamWriter(outputStream, Charset.forName(response.getCharacterEncoding())));
+        }
+        return writer;
+    }
+
+    /**
+     * 압축 여부가 정해지기 전까지는 길이를 보관만 합니다. 압축하면 본문 길이가 달라지기 때문입니다.
+     */
+    @Override
+    public void setContentLength(int length) {
+        this.declaredContentLength = length;
+    }
+
+    @Override
+    public void setContentLengthLong(long length) {
+        this.declaredContentLength = length;
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        if (outputStream != null) {
+            outputStream.flush();
+        }
+        if (outputStream == null || outputStream.decided) {
+            super.flushBuffer();
+        }
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        discard();
+        declaredContentLength = -1;
+    }
+
+    @Override
+    public void resetBuffer() {
+        super.resetBuffer();
+        if (outputStream != null && outputStream.deflater != null) {
+            response.setHeader("Content-Encoding", null);
+        }
+        discard();
+    }
+
+    /**
+     * 남은 본문을 쓰고, 압축 중이었다면 스트림을 끝맺은 뒤 Deflater를 풀에 반환합니다.
+     */
+    void finish() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        if (outputStream != null) {
+            outputStream.finish();
+        }
+    }
+
+    private void discard() {
+        if (outputStream != null) {
+            outputStream.release();
+        }
+        outputStream = null;
+        writer = null;
+    }
+
+    private final class CompressingOutputStream extends ServletOutputStream {
+
+        private final byte[] singleByte = new byte[1];
+        private byte[] pending = new byte[compressor.getMinSize()];
+        private int pendingCount;
+
+        private boolean decided;
+        private boolean finished;
+        private ServletOutputStream target;
+        private Deflater deflater;
+        private CRC32 crc;
+        private byte[] buffer;
+
+        private long bytesIn;
+        private long bytesOut;
+        private long cpuNanos;
+
+        @Override
+        public void write(int b) throws IOException {
+            singleByte[0] = (byte) b;
+            write(singleByte, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (finished) {
+                throw new IOException("응답 본문이 이미 완료되었습니다.");
+            }
+            if (!decided) {
+                if (pendingCount + len <= pending.length) {
+                    System.arraycopy(b, off, pending, pendingCount, len);
+                    pendingCount += len;
+                    return;
+                }
+                decide(true);
+            }
+            if (deflater != null) {
+                deflate(b, off, len);
+            } else {
+                target.write(b, off, len);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (!decided || finished) {
+                return;
+            }
+            if (deflater != null) {
+                long start = compressor.cpuTimeNanos();
+                while (drain(Deflater.SYNC_FLUSH) == buffer.length) {
+                    // 출력 버퍼가 가득 찼다면 남은 압축 데이터가 있음
+                }
+                cpuNanos += compressor.cpuTimeNanos() - start;
+            }
+            target.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            finish();
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            throw new UnsupportedOperationException("압축 응답은 논블로킹 쓰기를 지원하지 않습니다.");
+        }
+
+        /**
+         * 압축 여부를 결정하고 모아 둔 본문을 내보냅니다.
+         *
+         * @param overThreshold 본문이 임계치를 넘었는지 여부
+         */
+        private void decide(boolean overThreshold) throws IOException {
+            decided = true;
+            target = response.getOutputStream();
+            boolean compressible = compressor.isCompressible(response.getContentType())
+                && !response.containsHeader("Content-Encoding");
+            if (compressible) {
+                response.addHeader("Vary", "Accept-Encoding");
+            }
+
+            if (overThreshold && compressible) {
+                response.setHeader("Content-Encoding", encoding);
+                deflater = compressor.borrowDeflater(encoding);
+                buffer = new byte[OUTPUT_BUFFER_SIZE];
+                if (encoding.equals("gzip")) {
+                    crc = new CRC32();
+                    target.write(GZIP_HEADER);
+                    bytesOut += GZIP_HEADER.length;
+                }
+                deflate(pending, 0, pendingCount);
+            } else {
+                compressor.recordUncompressed();
+                if (!overThreshold && pendingCount > 0) {
+                    response.setContentLength(pendingCount); // 본문 없는 응답(304 등)에는 길이를 붙이지 않음
+                } else if (declaredContentLength >= 0) {
+                    response.setContentLengthLong(declaredContentLength);
+                }
+                target.write(pending, 0, pendingCount);
+            }
+            pending = null;
+        }
+
+        private void deflate(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return;
+            }
+            long start = compressor.cpuTimeNanos();
+            if (crc != null) {
+                crc.update(b, off, len);
+            }
+            bytesIn += len;
+            deflater.setInput(b, off, len);
+            while (!deflater.needsInput()) {
+                drain(Deflater.NO_FLUSH);
+            }
+            cpuNanos += compressor.cpuTimeNanos() - start;
+        }
+
+        private int drain(int flushMode) throws IOException {
+            int length = deflater.deflate(buffer, 0, buffer.length, flushMode);
+            if (length > 0) {
+                target.write(buffer, 0, length);
+                bytesOut += length;
+            }
+            return length;
+        }
+
+        private void finish() throws IOException {
+            if (finished) {
+                return;
+            }
+            finished = true;
+            if (!decided) {
+                decide(false);
+                return;
+            }
+            if (deflater == null) {
+                return;
+            }
+            try {
+                long start = compressor.cpuTimeNanos();
+                deflater.finish();
+                while (!deflater.finished()) {
+                    drain(Deflater.NO_FLUSH);
+                }
+                if (crc != null) {
+                    writeIntLE((int) crc.getValue());
+                    writeIntLE((int) bytesIn); // ISIZE: 원본 길이 mod 2^32
+                }
+                cpuNanos += compressor.cpuTimeNanos() - start;
+                compressor.recordCompressed(bytesIn, bytesOut, cpuNanos);
+            } finally {
+                release();
+            }
+        }
+
+        private void writeIntLE(int value) throws IOException {
+            byte[] bytes = {(byte) value, (byte) (value >> 8), (byte) (value >> 16), (byte) (value >> 24)};
+            target.write(bytes);
+            bytesOut += bytes.length;
+        }
+
+        /**
+         * 빌린 Deflater를 반환합니다. 연결이 끊겨 압축을 끝맺지 못한 경우에도 호출됩니다.
+         */
+        private void release() {
+            finished = true;
+            if (deflater != null) {
+                compressor.returnDeflater(encoding, deflater);
+                deflater = null;
+            }
+        }
+    }
+}
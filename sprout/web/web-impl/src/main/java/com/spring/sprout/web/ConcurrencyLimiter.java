@@ -0,0 +1,198 @@
+package com.spring.sprout.web;
+
+import com.spring.sprout.bundle.api.Environment;
+import com.spring.sprout.global.metrics.MetricsSource;
+import com.spring.sprout.global.metrics.PrometheusWriter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * [적응형 동시 처리 한도]
+ *
+ * <p>동시에 실행 중인 핸들러 수의 상한을 관측한 응답 시간으로 계속 조정합니다. 한도를 넘은 요청은 대기하지 않고 즉시 503으로 거절되므로,
+ * 포화된 데이터베이스 앞에 요청이 쌓이지 않습니다. 고정된 스레드/커넥션 수와 달리 시간대별 부하 변화에 따라 한도가 움직입니다.</p>
+ *
+ * <p>조정 방식 (Vegas/Gradient 계열):</p>
+ * <ul>
+ * <li><b>무부하 응답 시간:</b> 경로마다 관측한 최소 응답 시간을 무부하 RTT로 추정합니다. 경로별로 두는 이유는 빠른 경로와 느린 경로가
+ * 섞여도 부풀림 정도를 같은 기준으로 재기 위함입니다. 데이터가 늘어 응답이 영구히 느려지는 경우를 위해 구간마다 아주 조금씩 올립니다.</li>
+ * <li><b>부풀림:</b> 일정 구간({@code window-ms})마다 요청별 {@code 응답 시간 / 경로의 무부하 RTT}를 평균합니다.</li>
+ * <li>{@code 기울기 = clamp(1.5 / 부풀림, 0.5, 1.0)}, {@code 새 한도 = 한도 x 기울기 + sqrt(한도)}.
+ * 응답 시간이 부풀면 한도가 줄고, 그대로면 sqrt(한도)만큼 늘어납니다. 급변을 막기 위해 새 한도의 20%만 반영합니다.</li>
+ * <li>503/504(기한 초과)로 끝난 요청이 있던 구간은 한도를 10% 줄입니다.</li>
+ * <li>동시 처리 수가 한도의 절반에 못 미친 구간은 한도를 키울 근거가 없으므로 조정하지 않습니다.</li>
+ * </ul>
+ *
+ * <p>설정 (application.properties): {@code web.concurrency-limit.enabled} (기본 false), {@code .initial} (20),
+ * {@code .min} (5), {@code .max} (200), {@code .window-ms} (100)</p>
+ *
+ * <p>처리 기한이 없는 경로({@code timeoutMillis = 0})는 내보내기처럼 오래 걸리는 요청이고, 응답 캐시 경로는 적중과 갱신의 응답
+ * 시간이 수백 배 차이 나므로 둘 다 한도와 응답 시간 측정에서 제외합니다.</p>
+ */
+class ConcurrencyLimiter implements MetricsSource {
+
+    private static final double TOLERANCE = 1.5;
+    private static final double SMOOTHING = 0.2;
+    private static final double BACKOFF_RATIO = 0.9;
+    private static final long RATIO_SCALE = 1000;
+
+    /**
+     * 무부하 RTT를 구간마다 올리는 비율 (1/10000, 분당 약 6%)
+     */
+    private static final long NO_LOAD_DRIFT = 10_000;
+
+    private final boolean enabled;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long windowNanos;
+
+    /**
+     * 한도를 받는 경로의 무부하 RTT(ns). 초기화 시점에 구성된 뒤 읽기만 합니다.
+     */
+    private final Map<HandlerKey, AtomicLong> noLoadRtts = new HashMap<>();
+
+    private volatile int limit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+
+    // 현재 구간의 표본 (구간이 끝날 때 한 스레드가 모아서 초기화)
+    private final LongAdder ratioSum = new LongAdder();
+    private final LongAdder samples = new LongAdder();
+    private final LongAdder drops = new LongAdder();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+    private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+
+    // 구간을 마감한 스레드만 갱신
+    private volatile double estimatedLimit;
+
+    ConcurrencyLimiter(Environment env) {
+        this.enabled = Boolean.parseBoolean(env.getProperty("web.concurrency-limit.enabled"));
+        this.minLimit = intProperty(env, "web.concurrency-limit.min", 5);
+        this.maxLimit = intProperty(env, "web.concurrency-limit.max", 200);
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(intProperty(env, "web.concurrency-limit.window-ms", 100));
+        this.estimatedLimit = intProperty(env, "web.concurrency-limit.initial", 20);
+        this.limit = (int) estimatedLimit;
+    }
+
+    private static int intProperty(Environment env, String key, int defaultValue) {
+        String value = env.getProperty(key);
+        return value == null || value.isBlank() ? defaultValue : Integer.parseInt(value.trim());
+    }
+
+    /**
+     * 한도를 받는 경로를 등록합니다.
+     */
+    void register(HandlerKey route) {
+        noLoadRtts.put(route, new AtomicLong(Long.MAX_VALUE));
+    }
+
+    /**
+     * 이 경로의 요청이 한도를 받는지 여부
+     */
+    boolean appliesTo(HandlerKey route) {
+        return enabled && noLoadRtts.containsKey(route);
+    }
+
+    /**
+     * 한도 안이면 실행 중 요청 수를 늘리고 {@code true}를 반환합니다. 기다리지 않습니다.
+     */
+    boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                rejected.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                if (current + 1 > peakInFlight.get()) {
+                    peakInFlight.accumulateAndGet(current + 1, Math::max);
+                }
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 요청이 끝나면 호출합니다. 응답 시간을 표본에 더하고, 구간이 끝났으면 한도를 조정합니다.
+     *
+     * @param route      요청 경로 ({@link #appliesTo(HandlerKey)}가 참인 경로)
+     * @param startNanos 요청 시작 시각
+     * @param status     응답 상태 코드 (503/504는 과부하 신호로 봄)
+     */
+    void release(HandlerKey route, long startNanos, int status) {
+        inFlight.decrementAndGet();
+        long now = System.nanoTime();
+        long rtt = Math.max(1, now - startNanos);
+        AtomicLong noLoadRtt = noLoadRtts.get(route);
+        long noLoad = noLoadRtt.get();
+        if (rtt < noLoad) {
+            noLoad = noLoadRtt.accumulateAndGet(rtt, Math::min);
+        }
+        ratioSum.add(rtt * RATIO_SCALE / noLoad);
+        samples.increment();
+        if (status == 503 || status == 504) {
+            drops.increment();
+        }
+        long start = windowStart.get();
+        if (now - start >= windowNanos && windowStart.compareAndSet(start, now)) {
+            update();
+        }
+    }
+
+    private void update() {
+        long count = samples.sumThenReset();
+        long sum = ratioSum.sumThenReset();
+        long dropCount = drops.sumThenReset();
+        int peak = peakInFlight.getAndSet(inFlight.get());
+        if (count == 0) {
+            return;
+        }
+
+        for (AtomicLong noLoadRtt : noLoadRtts.values()) {
+            long noLoad = noLoadRtt.get();
+            if (noLoad != Long.MAX_VALUE) {
+                noLoadRtt.compareAndSet(noLoad, noLoad + noLoad / NO_LOAD_DRIFT + 1);
+            }
+        }
+        double inflation = (double) sum / count / RATIO_SCALE;
+
+        double newLimit;
+        if (dropCount > 0) {
+            newLimit = estimatedLimit * BACKOFF_RATIO;
+        } else if (peak < estimatedLimit / 2) {
+            return; // 한도까지 쓰지 않은 구간
+        } else {
+            double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE / inflation));
+            newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+            newLimit = estimatedLimit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+        }
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        limit = (int) estimatedLimit;
+    }
+
+    @Override
+    public void writeMetrics(PrometheusWriter writer) {
+        writer.family("sprout_concurrency_limit", "gauge", "현재 동시 처리 한도");
+        writer.sample("sprout_concurrency_limit", "", getLimit());
+        writer.family("sprout_concurrency_in_flight", "gauge", "한도를 받는 처리 중 요청 수");
+        writer.sample("sprout_concurrency_in_flight", "", getInFlight());
+        writer.family("sprout_concurrency_rejected_total", "counter", "동시 처리 한도로 거절된 요청 수");
+        writer.sample("sprout_concurrency_rejected_total", "", getRejected());
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+}
@@ -1,21 +1,52 @@
 package com.spring.sprout.web;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.spring.sprout.bundle.api.Environment;
 import com.spring.sprout.bundle.beanfactory.BeanFactory;
 import com.spring.sprout.global.annotation.Component;
+import com.spring.sprout.global.annotation.controller.CacheResponse;
 import com.spring.sprout.global.annotation.controller.Controller;
 import com.spring.sprout.global.annotation.controller.GetMapping;
 import com.spring.sprout.global.annotation.controller.PostMapping;
 import com.spring.sprout.global.annotation.controller.RequestBody;
 import com.spring.sprout.global.error.ErrorMessage;
+import com.spring.sprout.global.error.SpringException;
+import com.spring.sprout.global.metrics.MetricsSource;
+import com.spring.sprout.global.metrics.PrometheusWriter;
+import com.spring.sprout.global.web.JsonStreamingResponse;
+import com.spring.sprout.global.web.RequestDeadline;
+import com.spring.sprout.global.web.StreamingResponse;
+import com.spring.sprout.global.web.VersionedResponse;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
 import jakarta.servlet.http.HttpServlet;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 /**
  * [프론트 컨트롤러 (Front Controller) 서블릿]
@@ -27,8 +58,26 @@ import java.util.Map;
  * <ul>
  * <li><b>요청 라우팅 (Routing):</b> 요청 URI와 HTTP 메서드를 분석하여 처리할 핸들러를 찾습니다. (HandlerMapping)</li>
  * <li><b>핸들러 실행 (Execution):</b> 리플렉션을 통해 실제 컨트롤러의 비즈니스 로직을 호출합니다. (HandlerAdapter)</li>
- * <li><b>응답 처리 (View Rendering):</b> 핸들러의 반환값을 JSON으로 직렬화하여 응답 본문에 씁니다. (REST API 지원)</li>
+ * <li><b>응답 처리 (View Rendering):</b> 핸들러의 반환값을 JSON으로 직렬화하여 응답 본문에 씁니다. (REST API 지원)
+ * {@link StreamingResponse}를 반환하면 직렬화 없이 본문을 응답 스트림에 바로 흘려보내고, {@link Stream}이나 {@link Iterator}를
+ * 반환하면 요소를 하나씩 직렬화하여 JSON 배열(또는 {@code Accept: application/x-ndjson}이면 NDJSON)로 씁니다.
+ * {@link JsonStreamingResponse}는 응답 스트림 위의 JSON 생성기를 핸들러 콜백에 넘겨 본문을 직접 쓰게 합니다.</li>
+ * <li><b>비동기 처리 (Async):</b> 핸들러가 {@link CompletionStage}나 {@link Callable}을 반환하면 {@code startAsync()}로 전환하여
+ * 톰캣 작업 스레드를 즉시 반환하고, 결과가 준비되면 같은 방식으로 응답을 씁니다.</li>
  * <li><b>예외 처리 (Exception Handling):</b> 요청 처리 중 발생하는 예외를 잡아 적절한 HTTP 상태 코드(500 등)로 변환합니다.</li>
+ * <li><b>조건부 GET (ETag):</b> GET 응답에 본문 해시 또는 핸들러가 준 버전({@link VersionedResponse})으로 약한 ETag를 붙이고,
+ * {@code If-None-Match}가 일치하면 본문 없이 304로 응답합니다.</li>
+ * <li><b>수락 제어 (Admission):</b> 경로별/전체 토큰 버킷으로 초과 요청을 429로, 작업 스레드를 너무 오래 기다린 요청을 503으로
+ * 핸들러 실행 전에 거절합니다. ({@link RequestAdmission}) 동시 처리 수는 응답 시간으로 조정되는 한도를 넘으면 503으로 즉시 거절합니다.
+ * ({@link ConcurrencyLimiter})</li>
+ * <li><b>응답 캐시 (Response Cache):</b> {@link CacheResponse}가 붙은 GET 경로의 직렬화된 본문을 저장해 두고, 컨트롤러를 호출하지 않고
+ * 응답합니다. ({@link ResponseCache})</li>
+ * <li><b>응답 압축 (Compression):</b> {@code Accept-Encoding}에 따라 본문을 gzip/deflate로 압축합니다. ({@link ResponseCompressor})</li>
+ * <li><b>지표 (Metrics):</b> 경로별 요청 수, 상태 코드 계열, 처리 중 요청 수, 지연 시간 히스토그램을 기록하고
+ * {@code web.metrics.path}(기본 {@code /metrics})에서 Prometheus 텍스트 형식으로 노출합니다. ({@link RequestMetrics}, {@link MetricsSource})</li>
+ * <li><b>쿼리 추적 (Query Tracking):</b> 요청마다 실행된 SQL을 집계하여 N+1 등 과다 쿼리를 탐지합니다. ({@link QueryInspector})</li>
+ * <li><b>요청 기한 (Deadline):</b> 요청마다 처리 기한({@code web.request-timeout-ms}, 경로별 {@code timeoutMillis})을
+ * {@link RequestDeadline}으로 바인딩하여 JDBC 쿼리 타임아웃까지 전달합니다. 기한 초과는 503/504로 응답합니다.</li>
  * </ul>
  *
  * @see jakarta.servlet.http.HttpServlet
@@ -36,27 +85,115 @@ import java.util.Map;
 @Component
 public class DispatcherServlet extends HttpServlet {
 
+    /**
+     * 스트림 응답에서 이만큼의 요소를 쓸 때마다 클라이언트로 전송합니다.
+     */
+    private static final int STREAM_FLUSH_INTERVAL = 100;
+
+    private static final String NDJSON = "application/x-ndjson";
+
+    private static final int SC_TOO_MANY_REQUESTS = 429;
+
     private final BeanFactory beanFactory;
+    private final QueryInspector queryInspector;
+    private final ResponseCompressor responseCompressor;
+    private final ResponseCache responseCache;
+    private final RequestAdmission requestAdmission;
+    private final ConcurrencyLimiter concurrencyLimiter;
+    private final RequestMetrics requestMetrics;
+
+    /**
+     * {@code /metrics}에 지표를 쓰는 웹 계층 구성 요소와 {@link MetricsSource} 빈
+     */
+    private final List<MetricsSource> metricsSources = new ArrayList<>();
+
+    /**
+     * 지표 노출 경로 ({@code web.metrics.path}, 기본 {@code /metrics}). {@code web.metrics.enabled=false}이면 null
+     */
+    private final String metricsPath;
 
     /**
      * JSON 직렬화를 위한 매퍼
      */
     ObjectMapper objectMapper = new ObjectMapper();
 
+    /**
+     * 스트림 요소 직렬화용 작성기. 요소마다 flush하면 청크가 잘게 나뉘고 압축 효율이 떨어지므로, 전송 시점은 {@code ElementWriter}가 정합니다.
+     */
+    private final ObjectWriter elementWriter = objectMapper.writer()
+        .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
     /**
      * URL+Method 조합을 키로 하고, 실행 로직(Handler)을 값으로 가지는 라우팅 테이블. 초기화 시점에 미리 구성되어 런타임 성능을 보장합니다.
      */
     private Map<HandlerKey, Handler> handlerMapping = new HashMap<>();
 
-    public DispatcherServlet(BeanFactory beanFactory) {
+    /**
+     * 기본값과 다른 처리 기한이 지정된 경로의 기한(ms). 0이면 기한 없이 처리합니다.
+     */
+    private Map<HandlerKey, Long> routeTimeouts = new HashMap<>();
+
+    /**
+     * 응답 캐시가 지정된 GET 경로의 캐시 정책
+     */
+    private Map<HandlerKey, CacheResponse> cachePolicies = new HashMap<>();
+
+    /**
+     * 경로별 지정이 없을 때의 요청 처리 기한(ms). 0이면 기한을 두지 않습니다.
+     */
+    private final long defaultTimeoutMillis;
+
+    /**
+     * GET 응답에 ETag를 붙이고 {@code If-None-Match}에 304로 응답할지 여부 ({@code web.etag.enabled}, 기본 true).
+     * 끄면 {@link VersionedResponse}의 버전 ETag도 쓰지 않습니다.
+     */
+    private final boolean etagEnabled;
+
+    /**
+     * {@link Callable}을 반환한 핸들러의 작업을 실행할 스레드 풀. {@code web.async.pool-size}가 없거나 0이면 작업마다 가상 스레드를 사용합니다.
+     */
+    private final ExecutorService asyncExecutor;
+
+    public DispatcherServlet(BeanFactory beanFactory, Environment env) {
         this.beanFactory = beanFactory;
+        this.queryInspector = new QueryInspector(env);
+        this.responseCompressor = new ResponseCompressor(env);
+        this.responseCache = new ResponseCache(env);
+        this.requestAdmission = new RequestAdmission(env);
+        this.concurrencyLimiter = new ConcurrencyLimiter(env);
+        this.requestMetrics = new RequestMetrics();
+        String path = env.getProperty("web.metrics.path");
+        this.metricsPath = "false".equalsIgnoreCase(env.getProperty("web.metrics.enabled")) ? null
+            : path == null || path.isBlank() ? "/metrics" : path.trim();
+        this.etagEnabled = !"false".equalsIgnoreCase(env.getProperty("web.etag.enabled"));
+        String timeout = env.getProperty("web.request-timeout-ms");
+        this.defaultTimeoutMillis = timeout == null || timeout.isBlank() ? 30_000L : Long.parseLong(timeout.trim());
+        String poolSize = env.getProperty("web.async.pool-size");
+        int threads = poolSize == null || poolSize.isBlank() ? 0 : Integer.parseInt(poolSize.trim());
+        this.asyncExecutor = threads > 0 ? Executors.newFixedThreadPool(threads)
+            : Executors.newVirtualThreadPerTaskExecutor();
     }
 
     /**
-     * 서블릿 초기화 단계에서 호출됩니다. 컨테이너에 등록된 모든 빈을 검색하여 매핑 정보를 구축합니다.
+     * 서블릿 초기화 단계에서 호출됩니다. 컨테이너에 등록된 모든 빈을 검색하여 매핑 정보와 지표 제공자 목록을 구축합니다.
      */
     public void init() {
         registerHandlers();
+        metricsSources.addAll(List.of(requestMetrics, requestAdmission, concurrencyLimiter, responseCache,
+            responseCompressor, queryInspector));
+        for (Object bean : beanFactory.getAllBeans().values()) {
+            if (bean instanceof MetricsSource source) {
+                metricsSources.add(source);
+            }
+        }
+    }
+
+    /**
+     * 서블릿 종료 시 비동기 작업 스레드 풀을 정리합니다.
+     */
+    @Override
+    public void destroy() {
+        asyncExecutor.shutdown();
     }
 
     /**
@@ -81,17 +218,30 @@ public class DispatcherServlet extends HttpServlet {
             for (Method method : clazz.getMethods()) {
                 String url = null;
                 RequestMethod requestMethod = null;
+                long timeoutMillis = -1;
 
                 if (method.isAnnotationPresent(GetMapping.class)) {
                     url = method.getAnnotation(GetMapping.class).value();
                     requestMethod = RequestMethod.GET;
+                    timeoutMillis = method.getAnnotation(GetMapping.class).timeoutMillis();
                 } else if (method.isAnnotationPresent(PostMapping.class)) {
                     url = method.getAnnotation(PostMapping.class).value();
                     requestMethod = RequestMethod.POST;
+                    timeoutMillis = method.getAnnotation(PostMapping.class).timeoutMillis();
                 }
 
                 if (url != null && requestMethod != null) {
                     HandlerKey handlerKey = new HandlerKey(url, requestMethod);
+                    requestAdmission.register(handlerKey);
+                    requestMetrics.register(handlerKey);
+                    if (timeoutMillis >= 0) {
+                        routeTimeouts.put(handlerKey, timeoutMillis);
+                    }
+                    if (requestMethod == RequestMethod.GET && method.isAnnotationPresent(CacheResponse.class)) {
+                        cachePolicies.put(handlerKey, method.getAnnotation(CacheResponse.class));
+                    } else if (timeoutMillis != 0) {
+                        concurrencyLimiter.register(handlerKey); // 기한 없는 긴 요청과 캐시 경로는 응답 시간 표본을 왜곡함
+                    }
 
                     // 리플렉션 호출 로직을 람다로 캡슐화하여 등록
                     handlerMapping.put(handlerKey, (request, response) -> {
@@ -106,11 +256,15 @@ public class DispatcherServlet extends HttpServlet {
 
                         Object result = method.invoke(bean, args);
 
-                        response.setContentType("application/json;charset=UTF-8");
-                        if (result != null) {
-                            String jsonResult = objectMapper.writeValueAsString(result);
-                            response.getWriter().write(jsonResult);
+                        if (result instanceof CompletionStage<?> stage) {
+                            startAsync(stage.toCompletableFuture(), request, ResponseCache.bypass(response));
+                            return;
                         }
+                        if (result instanceof Callable<?> callable) {
+                            startAsync(submit(callable), request, ResponseCache.bypass(response));
+                            return;
+                        }
+                        writeResult(result, request, response);
                     });
                     System.out.println("Mapped URL path [" + url + "] to method [" + method + "]");
                 }
@@ -118,6 +272,156 @@ public class DispatcherServlet extends HttpServlet {
         }
     }
 
+    /**
+     * 핸들러의 반환값을 종류에 맞게 응답 본문으로 씁니다. 비동기 핸들러는 결과가 준비된 뒤 이 메서드를 호출합니다.
+     */
+    private void writeResult(Object result, HttpServletRequest request, HttpServletResponse response)
+        throws Exception {
+        if (result instanceof VersionedResponse versioned) {
+            if (etagEnabled && notModified(request, response, ETags.ofVersion(versioned.getVersion()))) {
+                return; // 본문 공급자(DB 조회)를 호출하지 않음
+            }
+            writeResult(versioned.getBody().get(), request, response);
+            return;
+        }
+        if (result instanceof StreamingResponse streaming) {
+            writeStreaming(streaming, response);
+            return;
+        }
+        if (result instanceof JsonStreamingResponse json) {
+            writeJson(json, response);
+            return;
+        }
+        if (result instanceof Stream<?> stream) {
+            writeStream(stream, request, response);
+            return;
+        }
+        if (result instanceof Iterator<?> iterator) {
+            writeIterator(iterator, request, response);
+            return;
+        }
+
+        if (result == null) {
+            response.setContentType("application/json;charset=UTF-8");
+            return;
+        }
+        byte[] body = objectMapper.writeValueAsBytes(result);
+        if (etagEnabled && !response.containsHeader("ETag") && notModified(request, response, ETags.of(body))) {
+            return;
+        }
+        response.setContentType("application/json;charset=UTF-8");
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    /**
+     * GET 요청이면 ETag 헤더를 설정하고, {@code If-None-Match}와 일치하면 304로 응답합니다.
+     *
+     * @return 304로 응답했으면 {@code true} (본문을 쓰지 않아야 함)
+     */
+    private boolean notModified(HttpServletRequest request, HttpServletResponse response, String etag) {
+        if (!"GET".equals(request.getMethod())) {
+            return false;
+        }
+        response.setHeader("ETag", etag);
+        if (ETags.matches(request.getHeader("If-None-Match"), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 요청을 비동기 모드로 전환하고, Future가 끝나면 결과를 쓰고 요청을 완료합니다. 호출한 톰캣 작업 스레드는 바로 반환됩니다.
+     *
+     * <p>비동기 타임아웃은 요청 기한의 남은 시간입니다. (기한이 없으면 타임아웃 없음) 타임아웃, 완료, 연결 오류 중 먼저 일어난 쪽만
+     * 응답을 쓰며, 타임아웃이나 연결 오류 시에는 Future를 취소합니다.</p>
+     */
+    private void startAsync(CompletableFuture<?> future, HttpServletRequest request,
+        HttpServletResponse response) {
+        AsyncContext asyncContext = request.startAsync();
+        RequestDeadline deadline = RequestDeadline.current();
+        asyncContext.setTimeout(deadline == null ? 0 : Math.max(1, deadline.remainingMillis()));
+
+        AtomicBoolean done = new AtomicBoolean();
+        asyncContext.addListener(new AsyncListener() {
+            @Override
+            public void onTimeout(AsyncEvent event) throws IOException {
+                if (done.compareAndSet(false, true)) {
+                    future.cancel(true);
+                    handleException(new SpringException(ErrorMessage.ASYNC_TIMEOUT, request.getRequestURI()),
+                        response);
+                    completeAsync(asyncContext, response);
+                }
+            }
+
+            @Override
+            public void onError(AsyncEvent event) {
+                if (done.compareAndSet(false, true)) {
+                    future.cancel(true);
+                    completeAsync(asyncContext, response);
+                }
+            }
+
+            @Override
+            public void onComplete(AsyncEvent event) {
+            }
+
+            @Override
+            public void onStartAsync(AsyncEvent event) {
+            }
+        });
+
+        future.whenComplete((result, error) -> {
+            if (!done.compareAndSet(false, true)) {
+                return; // 이미 타임아웃으로 응답함
+            }
+            try {
+                if (error != null) {
+                    handleException(error, response);
+                } else {
+                    writeResult(result, request, response);
+                }
+            } catch (Exception e) {
+                try {
+                    handleException(e, response);
+                } catch (IOException ignored) {
+                    // 클라이언트 연결 종료
+                }
+            } finally {
+                completeAsync(asyncContext, response);
+            }
+        });
+    }
+
+    /**
+     * 압축 중인 본문을 마무리하고 비동기 요청을 완료합니다.
+     */
+    private void completeAsync(AsyncContext asyncContext, HttpServletResponse response) {
+        try {
+            responseCompressor.finish(response);
+        } catch (IOException e) {
+            // 클라이언트 연결 종료
+        } finally {
+            asyncContext.complete();
+        }
+    }
+
+    /**
+     * {@link Callable} 핸들러 결과를 비동기 스레드 풀에서 실행합니다. 요청 기한은 작업 스레드로 이어집니다.
+     */
+    private CompletableFuture<Object> submit(Callable<?> callable) {
+        return CompletableFuture.supplyAsync(RequestDeadline.propagate(() -> {
+            try {
+                return callable.call();
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+        }), asyncExecutor);
+    }
+
     /**
      * 실제 HTTP 요청이 들어올 때마다 실행되는 메인 메서드입니다. HttpServlet의 service 메서드를 오버라이딩하여 모든 요청(GET, POST 등)을
      * 처리합니다.
@@ -125,6 +429,9 @@ public class DispatcherServlet extends HttpServlet {
     @Override
     protected void service(HttpServletRequest req, HttpServletResponse resp) throws IOException {
 
+        // 작업 스레드를 기다린 시간 (같은 작업의 다음 요청으로 넘어가지 않도록 먼저 가져감)
+        long queuedNanos = QueueTimingExecutor.takeQueuedNanos();
+
         String requestUri = req.getRequestURI();
         String requestMethodString = req.getMethod();
 
@@ -137,34 +444,319 @@ public class DispatcherServlet extends HttpServlet {
         // 핸들러 조회 (HandlerMapping 역할)
         Handler handler = handlerMapping.get(handlerKey);
 
-        // 매핑되는 핸들러가 없는 경우 404 처리
-        if (handler == null) {
-            resp.setStatus(HttpServletResponse.SC_NOT_FOUND);
-            resp.setContentType("application/json;charset=UTF-8");
+        if (handler == null && metricsPath != null && requestUri.equals(metricsPath)
+            && "GET".equals(requestMethodString)) {
+            writeMetrics(resp);
+            return;
+        }
+
+        RequestMetrics.RouteStats stats = requestMetrics.begin(handlerKey);
+        long startNanos = System.nanoTime();
+        try {
+            if (handler == null) {
+                // 매핑되는 핸들러가 없는 경우 404 처리
+                resp.setStatus(HttpServletResponse.SC_NOT_FOUND);
+                resp.setContentType("application/json;charset=UTF-8");
+
+                String jsonResponse = String.format("{\"message\": \"%s\"}",
+                    ErrorMessage.NOT_FOUND.getMessage());
+                resp.getWriter().write(jsonResponse);
+                return;
+            }
+            dispatch(handler, handlerKey, queuedNanos, startNanos, req, resp);
+        } finally {
+            if (req.isAsyncStarted()) {
+                whenAsyncComplete(req.getAsyncContext(), () -> stats.end(startNanos, resp.getStatus()));
+            } else {
+                stats.end(startNanos, resp.getStatus());
+            }
+        }
+    }
 
-            String jsonResponse = String.format("{\"message\": \"%s\"}",
-                ErrorMessage.NOT_FOUND.getMessage());
-            resp.getWriter().write(jsonResponse);
+    /**
+     * 수락 제어를 통과한 요청에 처리 기한, 압축, 쿼리 추적을 걸고 핸들러를 실행합니다.
+     */
+    private void dispatch(Handler handler, HandlerKey handlerKey, long queuedNanos, long startNanos,
+        HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        RequestAdmission.Verdict verdict = requestAdmission.admit(handlerKey, queuedNanos);
+        if (verdict != RequestAdmission.Verdict.ADMITTED) {
+            reject(verdict, resp);
+            return;
+        }
+        boolean limited = concurrencyLimiter.appliesTo(handlerKey);
+        if (limited && !concurrencyLimiter.tryAcquire()) {
+            reject(RequestAdmission.Verdict.OVERLOADED, resp);
             return;
         }
 
+        long timeoutMillis = routeTimeouts.getOrDefault(handlerKey, defaultTimeoutMillis);
+        if (timeoutMillis > 0) {
+            RequestDeadline.start(timeoutMillis);
+        }
+        HttpServletResponse response = responseCompressor.wrap(req, resp);
+        boolean tracking = queryInspector.begin();
         try {
             // 핸들러 실행 (비즈니스 로직 수행 및 응답 작성)
-            handler.handle(req, resp);
+            CacheResponse cachePolicy = cachePolicies.get(handlerKey);
+            if (cachePolicy != null) {
+                responseCache.handle(handlerKey, cachePolicy, req, response, handler);
+            } else {
+                handler.handle(req, response);
+            }
         } catch (Exception e) {
-            // 예외 발생 시 500 처리 (Global Exception Handling)
-            resp.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
-            resp.setContentType("application/json;charset=UTF-8");
+            handleException(e, response);
+        } finally {
+            if (tracking) {
+                queryInspector.finish(req, response);
+            }
+            RequestDeadline.end();
+            if (!req.isAsyncStarted()) {
+                try {
+                    responseCompressor.finish(response); // 비동기 요청은 완료 시점에 마무리
+                } finally {
+                    // 클라이언트가 끊겨 마무리 쓰기가 실패해도 자리는 반환해야 함
+                    if (limited) {
+                        concurrencyLimiter.release(handlerKey, startNanos, resp.getStatus());
+                    }
+                }
+            } else if (limited) {
+                whenAsyncComplete(req.getAsyncContext(),
+                    () -> concurrencyLimiter.release(handlerKey, startNanos, resp.getStatus()));
+            }
+        }
+    }
+
+    /**
+     * 비동기 요청이 끝날 때(정상 완료, 타임아웃, 오류 모두 {@code complete()}로 끝남) 작업을 실행합니다.
+     */
+    private void whenAsyncComplete(AsyncContext asyncContext, Runnable task) {
+        asyncContext.addListener(new AsyncListener() {
+            @Override
+            public void onComplete(AsyncEvent event) {
+                task.run();
+            }
+
+            @Override
+            public void onTimeout(AsyncEvent event) {
+            }
+
+            @Override
+            public void onError(AsyncEvent event) {
+            }
+
+            @Override
+            public void onStartAsync(AsyncEvent event) {
+            }
+        });
+    }
+
+    /**
+     * 웹 계층과 {@link MetricsSource} 빈들의 지표를 Prometheus 텍스트 형식으로 씁니다.
+     */
+    private void writeMetrics(HttpServletResponse resp) throws IOException {
+        PrometheusWriter writer = new PrometheusWriter();
+        for (MetricsSource source : metricsSources) {
+            source.writeMetrics(writer);
+        }
+        resp.setContentType(PrometheusWriter.CONTENT_TYPE);
+        resp.getWriter().write(writer.toString());
+    }
+
+    /**
+     * 수락하지 않은 요청에 응답합니다. 초과 트래픽마다 호출되므로 예외를 만들거나 로그를 남기지 않습니다.
+     */
+    private void reject(RequestAdmission.Verdict verdict, HttpServletResponse resp) throws IOException {
+        ErrorMessage errorMessage;
+        if (verdict == RequestAdmission.Verdict.RATE_LIMITED) {
+            resp.setStatus(SC_TOO_MANY_REQUESTS);
+            errorMessage = ErrorMessage.TOO_MANY_REQUESTS;
+        } else {
+            resp.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            errorMessage = ErrorMessage.OVERLOADED;
+        }
+        resp.setHeader("Retry-After", "1");
+        resp.setContentType("application/json;charset=UTF-8");
+        resp.getWriter().write(String.format("{\"message\": \"%s\"}", errorMessage.getMessage()));
+    }
+
+    /**
+     * 핸들러 예외를 HTTP 응답으로 변환합니다. (Global Exception Handling)
+     *
+     * <ul>
+     * <li>쿼리를 보내기 전에 기한이 지난 경우 503 + {@code Retry-After} - 서버가 밀려 있으니 잠시 후 재시도하라는 신호</li>
+     * <li>실행 중인 쿼리가 기한을 넘겨 취소된 경우 504</li>
+     * <li>비동기 핸들러가 기한 안에 완료되지 않은 경우 503</li>
+     * <li>그 외 500</li>
+     * </ul>
+     *
+     * <p>스트리밍 응답처럼 이미 헤더가 전송된 경우에는 상태 코드를 바꿀 수 없으므로 로그만 남깁니다.</p>
+     */
+    private void handleException(Throwable e, HttpServletResponse resp) throws IOException {
+        Throwable cause = e;
+        while ((cause instanceof InvocationTargetException || cause instanceof CompletionException
+            || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        ErrorMessage errorMessage = cause instanceof SpringException spring ? spring.getErrorMessage() : null;
 
-            resp.getWriter().write("{\"message\": \"Internal Server Error\"}");
+        if (errorMessage == ErrorMessage.DEADLINE_EXCEEDED || errorMessage == ErrorMessage.QUERY_TIMEOUT
+            || errorMessage == ErrorMessage.ASYNC_TIMEOUT) {
+            System.out.println("⚠️ [Deadline] " + cause.getMessage());
+        } else {
             e.printStackTrace();
         }
+        if (resp.isCommitted()) {
+            return;
+        }
+
+        resp.reset();
+        String message = "Internal Server Error";
+        if (errorMessage == ErrorMessage.DEADLINE_EXCEEDED) {
+            resp.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            resp.setHeader("Retry-After", "1");
+            message = errorMessage.getMessage();
+        } else if (errorMessage == ErrorMessage.QUERY_TIMEOUT) {
+            resp.setStatus(HttpServletResponse.SC_GATEWAY_TIMEOUT);
+            message = errorMessage.getMessage();
+        } else if (errorMessage == ErrorMessage.ASYNC_TIMEOUT) {
+            resp.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            message = errorMessage.getMessage();
+        } else {
+            resp.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+        }
+        resp.setContentType("application/json;charset=UTF-8");
+        resp.getWriter().write(String.format("{\"message\": \"%s\"}", message));
+    }
+
+    /**
+     * 스트리밍 응답의 본문을 응답 출력 스트림에 직접 씁니다. 서블릿 버퍼가 찰 때마다 클라이언트로 전송되므로 전체 본문을 메모리에 모으지 않습니다.
+     */
+    private void writeStreaming(StreamingResponse streaming, HttpServletResponse response)
+        throws IOException {
+        response.setContentType(streaming.getContentType());
+        if (streaming.getFilename() != null) {
+            response.setHeader("Content-Disposition",
+                "attachment; filename=\"" + streaming.getFilename() + "\"");
+        }
+        WritableByteChannel channel = Channels.newChannel(response.getOutputStream());
+        streaming.getBodyWriter().writeTo(channel);
+        response.flushBuffer();
+    }
+
+    /**
+     * 응답 출력 스트림 위에 JSON 생성기를 열어 핸들러 콜백이 본문을 직접 쓰게 합니다. 생성기 버퍼가 찰 때마다 서블릿 버퍼로,
+     * 서블릿 버퍼가 찰 때마다 클라이언트로 전송되므로 본문 전체를 메모리에 모으지 않습니다.
+     */
+    private void writeJson(JsonStreamingResponse json, HttpServletResponse response) throws IOException {
+        response.setContentType("application/json;charset=UTF-8");
+        try (JsonGenerator generator = objectMapper.createGenerator(response.getOutputStream())
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT)) {
+            json.getBodyWriter().writeTo(generator);
+            generator.flush();
+        }
+    }
+
+    /**
+     * 스트림의 요소를 하나씩 직렬화하여 씁니다. 다 쓰거나 클라이언트 연결이 끊겨 쓰기에 실패하면 스트림을 닫아
+     * 리포지토리 커서 같은 하부 JDBC 리소스를 즉시 반환합니다.
+     *
+     * <p>{@code forEach}로 밀어 넣는 방식이라 {@code flatMap}으로 이어 붙인 스트림도 요소 단위로 흘러갑니다.</p>
+     */
+    private void writeStream(Stream<?> stream, HttpServletRequest request, HttpServletResponse response)
+        throws IOException {
+        try (stream; ElementWriter writer = new ElementWriter(request, response)) {
+            stream.forEach(element -> {
+                try {
+                    writer.write(element);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.finish();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * 이터레이터의 요소를 하나씩 직렬화하여 씁니다. 이터레이터가 {@link AutoCloseable}이면 끝난 뒤 닫습니다.
+     */
+    private void writeIterator(Iterator<?> iterator, HttpServletRequest request,
+        HttpServletResponse response) throws Exception {
+        try (ElementWriter writer = new ElementWriter(request, response)) {
+            while (iterator.hasNext()) {
+                writer.write(iterator.next());
+            }
+            writer.finish();
+        } finally {
+            if (iterator instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    /**
+     * 요소 단위 응답 작성기. 요소마다 응답 출력 스트림에 바로 직렬화하고, {@link #STREAM_FLUSH_INTERVAL}개마다 전송하므로
+     * 전체 결과를 메모리에 모으지 않습니다.
+     *
+     * <ul>
+     * <li><b>JSON 배열 (기본):</b> {@code [} 요소, 요소, ... {@code ]}</li>
+     * <li><b>NDJSON:</b> 요청의 Accept 헤더에 {@code application/x-ndjson}이 있으면 요소마다 한 줄</li>
+     * </ul>
+     *
+     * <p>중간에 실패하면 배열을 닫지 않고 끝내므로, 클라이언트는 잘린 응답을 정상 결과로 오인하지 않습니다.</p>
+     */
+    private final class ElementWriter implements AutoCloseable {
+
+        private final HttpServletResponse response;
+        private final JsonGenerator generator;
+        private final boolean ndjson;
+        private int unflushed;
+
+        ElementWriter(HttpServletRequest request, HttpServletResponse response) throws IOException {
+            String accept = request.getHeader("Accept");
+            this.ndjson = accept != null && accept.contains(NDJSON);
+            this.response = response;
+            response.setContentType(ndjson ? NDJSON + ";charset=UTF-8" : "application/json;charset=UTF-8");
+            this.generator = objectMapper.createGenerator(response.getOutputStream())
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+            generator.setRootValueSeparator(null);
+            if (!ndjson) {
+                generator.writeStartArray();
+            }
+        }
+
+        void write(Object element) throws IOException {
+            elementWriter.writeValue(generator, element);
+            if (ndjson) {
+                generator.writeRaw('\n');
+            }
+            if (++unflushed == STREAM_FLUSH_INTERVAL) {
+                generator.flush();
+                response.flushBuffer();
+                unflushed = 0;
+            }
+        }
+
+        void finish() throws IOException {
+            if (!ndjson) {
+                generator.writeEndArray();
+            }
+            generator.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.close();
+        }
     }
 
     /**
      * 핸들러 실행을 위한 함수형 인터페이스. 람다식을 통해 메서드 호출 로직을 추상화합니다.
      */
-    private interface Handler {
+    interface Handler {
 
         void handle(HttpServletRequest request, HttpServletResponse response) throws Exception;
     }
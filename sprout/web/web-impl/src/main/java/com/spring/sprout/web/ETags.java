@@ -0,0 +1,70 @@
+package com.spring.sprout.web;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * [약한 ETag 계산 및 비교]
+ *
+ * <p>ETag는 변경 감지용이므로 암호학적 해시가 필요 없습니다. 직렬화된 본문이나 핸들러가 준 버전을 64비트 FNV-1a로 해시하고
+ * 분산을 높이는 마무리 단계(murmur3 fmix64)를 거쳐 {@code W/"..."} 형태로 만듭니다. 본문 바이트마다 곱셈 한 번이므로
+ * 직렬화 비용에 비해 무시할 만합니다.</p>
+ *
+ * <p>약한 ETag를 쓰는 이유는 같은 내용이 압축 여부에 따라 다른 바이트로 전송되기 때문입니다.</p>
+ */
+final class ETags {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private ETags() {
+    }
+
+    /**
+     * 직렬화된 본문으로 약한 ETag를 만듭니다.
+     */
+    static String of(byte[] body) {
+        long hash = FNV_OFFSET_BASIS;
+        for (byte b : body) {
+            hash ^= b & 0xff;
+            hash *= FNV_PRIME;
+        }
+        return "W/\"" + Long.toHexString(fmix64(hash)) + "\"";
+    }
+
+    /**
+     * 핸들러가 준 버전으로 약한 ETag를 만듭니다. 같은 경로에서 본문 해시와 겹치지 않도록 접두사를 붙입니다.
+     */
+    static String ofVersion(Object version) {
+        return "W/\"v" + of(String.valueOf(version).getBytes(StandardCharsets.UTF_8)).substring(3);
+    }
+
+    /**
+     * {@code If-None-Match} 헤더가 주어진 ETag와 일치하는지 약한 비교로 확인합니다. ({@code *}는 모두 일치)
+     */
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        String opaque = opaque(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.equals("*") || opaque(trimmed).equals(opaque)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String opaque(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    private static long fmix64(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
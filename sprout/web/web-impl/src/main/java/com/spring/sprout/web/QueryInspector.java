@@ -0,0 +1,132 @@
+package com.spring.sprout.web;
+
+import com.spring.sprout.bundle.api.Environment;
+import com.spring.sprout.global.metrics.MetricsSource;
+import com.spring.sprout.global.metrics.PrometheusWriter;
+import com.spring.sprout.global.metrics.QueryTracker;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * [요청 단위 쿼리 검사기 (N+1 탐지)]
+ *
+ * <p>{@link DispatcherServlet}이 요청마다 {@link QueryTracker}를 시작하고, 요청이 끝나면 이 검사기가 집계 결과를 판정합니다.
+ * 요청 하나가 너무 많은 SQL을 실행했거나(Chatty Request), 같은 형태의 SQL을 반복 실행했다면(N+1) 경고 로그를 남기고 카운터를 올립니다.</p>
+ *
+ * <p>설정 (application.properties):</p>
+ * <ul>
+ * <li>{@code web.query-tracker.sample-rate}: 추적할 요청의 비율 (0.0 ~ 1.0, 기본 1.0). 0이면 추적하지 않습니다.</li>
+ * <li>{@code web.query-tracker.max-statements}: 요청당 허용 SQL 수 (기본 50)</li>
+ * <li>{@code web.query-tracker.max-repeats}: 같은 형태 SQL의 허용 반복 수 (기본 10)</li>
+ * <li>{@code web.query-tracker.expose-header}: {@code true}이면 응답 헤더 {@code X-Query-Count}, {@code X-Query-Max-Repeat}를 추가합니다.
+ * 개발 환경 전용이며, 응답이 이미 커밋된 경우(버퍼 초과)에는 추가되지 않습니다.</li>
+ * </ul>
+ *
+ * <p>추적 비용은 SQL 한 건당 해시맵 갱신 한 번이므로 운영 환경에서도 샘플링과 함께 켜 둘 수 있습니다.</p>
+ *
+ * @see QueryTracker
+ */
+class QueryInspector implements MetricsSource {
+
+    private static final String QUERY_COUNT_HEADER = "X-Query-Count";
+    private static final String MAX_REPEAT_HEADER = "X-Query-Max-Repeat";
+
+    private final double sampleRate;
+    private final int maxStatements;
+    private final int maxRepeats;
+    private final boolean exposeHeader;
+
+    private final LongAdder inspectedRequests = new LongAdder();
+    private final LongAdder chattyRequests = new LongAdder();
+    private final LongAdder repeatedQueryRequests = new LongAdder();
+
+    QueryInspector(Environment env) {
+        this.sampleRate = parseDouble(env.getProperty("web.query-tracker.sample-rate"), 1.0);
+        this.maxStatements = parseInt(env.getProperty("web.query-tracker.max-statements"), 50);
+        this.maxRepeats = parseInt(env.getProperty("web.query-tracker.max-repeats"), 10);
+        this.exposeHeader = Boolean.parseBoolean(env.getProperty("web.query-tracker.expose-header"));
+    }
+
+    /**
+     * 샘플링 대상이면 현재 스레드에 추적기를 바인딩합니다.
+     *
+     * @return 추적을 시작했으면 {@code true}
+     */
+    boolean begin() {
+        if (sampleRate <= 0 || (sampleRate < 1 && ThreadLocalRandom.current().nextDouble() >= sampleRate)) {
+            return false;
+        }
+        QueryTracker.start();
+        return true;
+    }
+
+    /**
+     * 추적을 종료하고 임계치를 넘었는지 판정합니다.
+     */
+    void finish(HttpServletRequest req, HttpServletResponse resp) {
+        QueryTracker tracker = QueryTracker.current();
+        QueryTracker.end();
+        if (tracker == null) {
+            return;
+        }
+        inspectedRequests.increment();
+
+        int statements = tracker.getStatementCount();
+        int repeats = tracker.getMaxRepeatCount();
+
+        if (exposeHeader && !resp.isCommitted()) {
+            resp.setHeader(QUERY_COUNT_HEADER, String.valueOf(statements));
+            resp.setHeader(MAX_REPEAT_HEADER, String.valueOf(repeats));
+        }
+
+        String request = req.getMethod() + " " + req.getRequestURI();
+        if (repeats > maxRepeats) {
+            repeatedQueryRequests.increment();
+            System.out.println("⚠️ [N+1 의심] " + request + " - 같은 SQL " + repeats + "회 반복: "
+                + tracker.getMostRepeatedSql());
+        }
+        if (statements > maxStatements) {
+            chattyRequests.increment();
+            System.out.println("⚠️ [과다 쿼리] " + request + " - SQL " + statements + "건 실행 ("
+                + tracker.getDistinctCount() + "개 형태)");
+        }
+    }
+
+    @Override
+    public void writeMetrics(PrometheusWriter writer) {
+        writer.family("sprout_query_inspected_requests_total", "counter", "쿼리 추적 대상이 된 요청 수");
+        writer.sample("sprout_query_inspected_requests_total", "", getInspectedRequests());
+        writer.family("sprout_query_chatty_requests_total", "counter", "허용 SQL 수를 넘긴 요청 수");
+        writer.sample("sprout_query_chatty_requests_total", "", getChattyRequests());
+        writer.family("sprout_query_repeated_requests_total", "counter", "같은 형태 SQL을 반복 실행한(N+1 의심) 요청 수");
+        writer.sample("sprout_query_repeated_requests_total", "", getRepeatedQueryRequests());
+    }
+
+    public long getInspectedRequests() {
+        return inspectedRequests.sum();
+    }
+
+    public long getChattyRequests() {
+        return chattyRequests.sum();
+    }
+
+    public long getRepeatedQueryRequests() {
+        return repeatedQueryRequests.sum();
+    }
+
+    private static int parseInt(String value, int defaultValue) {
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        return Integer.parseInt(value.trim());
+    }
+
+    private static double parseDouble(String value, double defaultValue) {
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        return Double.parseDouble(value.trim());
+    }
+}
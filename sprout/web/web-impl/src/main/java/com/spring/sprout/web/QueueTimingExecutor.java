@@ -0,0 +1,64 @@
+package com.spring.sprout.web;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import org.apache.tomcat.util.threads.TaskQueue;
+import org.apache.tomcat.util.threads.ThreadPoolExecutor;
+
+/**
+ * [대기 시간을 기록하는 톰캣 작업 스레드 풀]
+ *
+ * <p>톰캣 커넥터가 소켓 처리 작업을 넘길 때의 시각을 작업에 붙여 두었다가, 작업 스레드가 실행을 시작하면 스레드 로컬에 옮깁니다.
+ * {@link DispatcherServlet}은 {@link #takeQueuedNanos()}로 요청이 스레드를 기다린 시간을 얻어 부하 차단에 사용합니다.
+ * 서블릿 API로는 작업 큐에서 기다린 시간을 알 수 없기 때문입니다.</p>
+ *
+ * <p>톰캣 기본 풀과 같은 {@link TaskQueue}를 사용하므로, 최대 스레드 수까지 스레드를 먼저 늘린 뒤에 큐에 쌓는 동작은 그대로입니다.</p>
+ */
+class QueueTimingExecutor extends ThreadPoolExecutor {
+
+    private static final ThreadLocal<long[]> queuedAt = ThreadLocal.withInitial(() -> new long[1]);
+
+    private QueueTimingExecutor(int minSpareThreads, int maxThreads, TaskQueue taskQueue, ThreadFactory threadFactory) {
+        super(minSpareThreads, maxThreads, 60, TimeUnit.SECONDS, taskQueue, threadFactory);
+    }
+
+    /**
+     * 톰캣 커넥터용 스레드 풀을 생성합니다.
+     */
+    static QueueTimingExecutor create(int minSpareThreads, int maxThreads, ThreadFactory threadFactory) {
+        TaskQueue taskQueue = new TaskQueue();
+        QueueTimingExecutor executor = new QueueTimingExecutor(minSpareThreads, maxThreads, taskQueue, threadFactory);
+        taskQueue.setParent(executor);
+        return executor;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        long submittedAt = System.nanoTime();
+        super.execute(() -> {
+            long[] slot = queuedAt.get();
+            slot[0] = submittedAt;
+            try {
+                command.run();
+            } finally {
+                slot[0] = 0;
+            }
+        });
+    }
+
+    /**
+     * 현재 작업이 큐에서 기다린 시간을 반환하고 지웁니다. 한 작업이 같은 연결의 요청을 여러 개 처리할 수 있으므로
+     * 첫 요청에만 대기 시간을 돌려줍니다.
+     *
+     * @return 대기 시간(ns), 이미 가져갔거나 이 풀의 스레드가 아니면 0
+     */
+    static long takeQueuedNanos() {
+        long[] slot = queuedAt.get();
+        long submittedAt = slot[0];
+        if (submittedAt == 0) {
+            return 0;
+        }
+        slot[0] = 0;
+        return System.nanoTime() - submittedAt;
+    }
+}
@@ -0,0 +1,196 @@
+package com.spring.sprout.web;
+
+import com.spring.sprout.bundle.api.Environment;
+import com.spring.sprout.global.metrics.MetricsSource;
+import com.spring.sprout.global.metrics.PrometheusWriter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * [요청 수락 제어 (Rate Limiting / Load Shedding)]
+ *
+ * <p>핸들러를 실행하기 전에 요청을 받을지 정합니다. 트래픽이 몰릴 때 모든 요청이 톰캣 작업 큐 뒤에 쌓여 다 같이 느려지는 대신,
+ * 초과분을 즉시 거절하여 나머지 요청의 지연 시간을 지킵니다.</p>
+ *
+ * <ul>
+ * <li><b>대기 시간 차단 (503):</b> 작업 스레드를 기다린 시간({@link QueueTimingExecutor})이 {@code web.load-shedding.max-queue-ms}를
+ * 넘은 요청은 처리하지 않습니다. 클라이언트가 이미 포기했을 가능성이 높은 요청에 스레드를 쓰지 않기 위함입니다.</li>
+ * <li><b>경로별 제한 (429):</b> {@code web.rate-limit.route.<METHOD>.<경로>.rps}, {@code .burst}
+ * (예: {@code web.rate-limit.route.GET./users.rps=100})</li>
+ * <li><b>전체 제한 (429):</b> {@code web.rate-limit.global.rps}, {@code web.rate-limit.global.burst}</li>
+ * <li><b>중요 경로:</b> {@code web.rate-limit.route.<METHOD>.<경로>.critical=true}인 경로는 대기 시간 차단을 받지 않고,
+ * 전체 버킷의 {@code web.rate-limit.reserved-percent}(기본 20)만큼을 예약해 둡니다. 일반 경로는 예약분을 남기고만 토큰을 씁니다.</li>
+ * </ul>
+ *
+ * <p>예약은 중요 경로가 하나라도 등록되어 있을 때만 적용하며, 일반 경로가 쓸 토큰이 최소 하나는 남도록 예약분을 버킷 크기에서 토큰 하나를
+ * 뺀 값으로 제한합니다. 전체 버스트가 2 미만이면 하나뿐인 토큰을 예약할 수 없으므로 예약하지 않습니다.</p>
+ *
+ * <p>버스트 기본값은 초당 허용량과 같습니다. 설정이 없으면 해당 제한은 꺼져 있습니다.</p>
+ */
+class RequestAdmission implements MetricsSource {
+
+    /**
+     * 수락 판정 결과
+     */
+    enum Verdict {
+        ADMITTED, RATE_LIMITED, OVERLOADED
+    }
+
+    private final Environment env;
+    private final long maxQueueNanos;
+    private final int reservedPercent;
+    private final TokenBucket globalBucket;
+
+    /**
+     * 초기화 시점에 구성된 뒤 읽기만 하므로 동기화하지 않습니다.
+     */
+    private final Map<HandlerKey, TokenBucket> routeBuckets = new HashMap<>();
+    private final Map<HandlerKey, Boolean> criticalRoutes = new HashMap<>();
+
+    /**
+     * 일반 경로가 전체 버킷에 남겨 두어야 하는 토큰 양 (시간 단위). 중요 경로가 등록될 때 정해집니다.
+     */
+    private long reservedNanos;
+
+    private final LongAdder rateLimited = new LongAdder();
+    private final LongAdder shed = new LongAdder();
+
+    RequestAdmission(Environment env) {
+        this.env = env;
+        String maxQueue = env.getProperty("web.load-shedding.max-queue-ms");
+        this.maxQueueNanos = maxQueue == null || maxQueue.isBlank() ? 0
+            : TimeUnit.MILLISECONDS.toNanos(Long.parseLong(maxQueue.trim()));
+        String reserved = env.getProperty("web.rate-limit.reserved-percent");
+        this.reservedPercent = reserved == null || reserved.isBlank() ? 20 : Integer.parseInt(reserved.trim());
+        this.globalBucket = TokenBucket.of(env.getProperty("web.rate-limit.global.rps"),
+            env.getProperty("web.rate-limit.global.burst"));
+    }
+
+    /**
+     * 핸들러 등록 시 경로별 설정을 읽습니다.
+     */
+    void register(HandlerKey route) {
+        String prefix = "web.rate-limit.route." + route.getRequestMethod() + "." + route.getUrl();
+        TokenBucket bucket = TokenBucket.of(env.getProperty(prefix + ".rps"), env.getProperty(prefix + ".burst"));
+        if (bucket != null) {
+            routeBuckets.put(route, bucket);
+        }
+        if (Boolean.parseBoolean(env.getProperty(prefix + ".critical"))) {
+            if (criticalRoutes.isEmpty()) {
+                reservedNanos = reserve(globalBucket);
+            }
+            criticalRoutes.put(route, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * 중요 경로 몫으로 예약할 토큰 양을 구합니다. 일반 경로가 쓸 토큰 하나는 항상 남깁니다.
+     */
+    private long reserve(TokenBucket bucket) {
+        if (bucket == null || reservedPercent <= 0) {
+            return 0;
+        }
+        if (bucket.capacityNanos < 2 * bucket.intervalNanos) {
+            System.out.println("⚠️ [RateLimit] web.rate-limit.global.burst가 2 미만이라 중요 경로 예약분을 두지 않습니다.");
+            return 0;
+        }
+        return Math.min(bucket.capacityNanos / 100 * reservedPercent, bucket.capacityNanos - bucket.intervalNanos);
+    }
+
+    /**
+     * 요청을 받을지 판정합니다. 락 없이 원자 변수만 사용합니다.
+     *
+     * @param queuedNanos 요청이 작업 스레드를 기다린 시간
+     */
+    Verdict admit(HandlerKey route, long queuedNanos) {
+        boolean critical = criticalRoutes.containsKey(route);
+        if (!critical && maxQueueNanos > 0 && queuedNanos > maxQueueNanos) {
+            shed.increment();
+            return Verdict.OVERLOADED;
+        }
+        TokenBucket routeBucket = routeBuckets.get(route);
+        if (routeBucket != null && !routeBucket.tryAcquire(0)) {
+            rateLimited.increment();
+            return Verdict.RATE_LIMITED;
+        }
+        if (globalBucket != null
+            && !globalBucket.tryAcquire(critical ? 0 : reservedNanos)) {
+            rateLimited.increment();
+            return Verdict.RATE_LIMITED;
+        }
+        return Verdict.ADMITTED;
+    }
+
+    @Override
+    public void writeMetrics(PrometheusWriter writer) {
+        writer.family("sprout_http_rejected_requests_total", "counter", "수락 제어로 거절된 요청 수");
+        writer.sample("sprout_http_rejected_requests_total", PrometheusWriter.labels("reason", "rate_limit"),
+            getRateLimited());
+        writer.sample("sprout_http_rejected_requests_total", PrometheusWriter.labels("reason", "queue_time"),
+            getShed());
+    }
+
+    public long getRateLimited() {
+        return rateLimited.sum();
+    }
+
+    public long getShed() {
+        return shed.sum();
+    }
+
+    /**
+     * [토큰 버킷]
+     *
+     * <p>토큰 수 대신 "버킷이 다시 가득 차는 시각"(GCRA의 theoretical arrival time) 하나만 원자 변수로 두어, 토큰 차감과 충전을
+     * CAS 한 번으로 처리합니다. 토큰 하나는 {@code intervalNanos}에 해당하고, 버킷 크기는 {@code capacityNanos}입니다.</p>
+     */
+    private static final class TokenBucket {
+
+        private final long intervalNanos;
+        private final long capacityNanos;
+        private final AtomicLong theoreticalArrival = new AtomicLong(System.nanoTime());
+
+        private TokenBucket(double permitsPerSecond, double burst) {
+            this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+            this.capacityNanos = (long) (intervalNanos * burst);
+        }
+
+        /**
+         * @return 초당 허용량이 없으면 null (제한 없음)
+         */
+        static TokenBucket of(String rps, String burst) {
+            if (rps == null || rps.isBlank()) {
+                return null;
+            }
+            double permitsPerSecond = Double.parseDouble(rps.trim());
+            if (permitsPerSecond <= 0) {
+                return null;
+            }
+            double size = burst == null || burst.isBlank() ? Math.max(1, permitsPerSecond)
+                : Double.parseDouble(burst.trim());
+            return new TokenBucket(permitsPerSecond, size);
+        }
+
+        /**
+         * 토큰 하나를 가져갑니다.
+         *
+         * @param reservedNanos 남겨 두어야 하는 토큰 양 (시간 단위)
+         */
+        boolean tryAcquire(long reservedNanos) {
+            long now = System.nanoTime();
+            while (true) {
+                long arrival = theoreticalArrival.get();
+                long next = (arrival - now > 0 ? arrival : now) + intervalNanos;
+                if (next - now > capacityNanos - reservedNanos) {
+                    return false;
+                }
+                if (theoreticalArrival.compareAndSet(arrival, next)) {
+                    return true;
+                }
+            }
+        }
+    }
+}
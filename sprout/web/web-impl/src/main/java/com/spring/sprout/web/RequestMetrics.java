@@ -0,0 +1,106 @@
+package com.spring.sprout.web;
+
+import com.spring.sprout.global.metrics.LatencyHistogram;
+import com.spring.sprout.global.metrics.MetricsSource;
+import com.spring.sprout.global.metrics.PrometheusWriter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * [경로별 요청 지표]
+ *
+ * <p>경로(HTTP 메서드 + 매핑 URL)마다 상태 코드 계열(2xx, 4xx 등)별 요청 수, 처리 중인 요청 수, 지연 시간 히스토그램을 기록합니다.
+ * 경로 통계는 핸들러 등록 시점에 만들어 두고 읽기만 하므로, 기록은 해시맵 조회 한 번과 {@link LongAdder}/{@link LatencyHistogram}
+ * 갱신뿐이며 락이 없습니다. 매핑되지 않은 요청은 레이블 종류가 늘지 않도록 {@code (unmatched)} 하나로 합산합니다.</p>
+ *
+ * <p>지연 시간은 수락 제어에서 거절된 요청을 포함하며, 비동기 요청은 {@code complete()} 시점까지입니다.</p>
+ */
+class RequestMetrics implements MetricsSource {
+
+    private static final String[] STATUS_CLASSES = {"1xx", "2xx", "3xx", "4xx", "5xx"};
+
+    /**
+     * 초기화 시점에 구성된 뒤 읽기만 하므로 동기화하지 않습니다.
+     */
+    private final Map<HandlerKey, RouteStats> routes = new HashMap<>();
+    private final List<RouteStats> allRoutes = new ArrayList<>();
+    private final RouteStats unmatched = new RouteStats("", "(unmatched)");
+
+    RequestMetrics() {
+        allRoutes.add(unmatched);
+    }
+
+    void register(HandlerKey route) {
+        RouteStats stats = new RouteStats(route.getRequestMethod().name(), route.getUrl());
+        routes.put(route, stats);
+        allRoutes.add(stats);
+    }
+
+    /**
+     * 요청 시작을 기록하고, 끝날 때 {@link RouteStats#end(long, int)}를 호출할 통계를 반환합니다.
+     */
+    RouteStats begin(HandlerKey route) {
+        RouteStats stats = routes.getOrDefault(route, unmatched);
+        stats.inFlight.increment();
+        return stats;
+    }
+
+    @Override
+    public void writeMetrics(PrometheusWriter writer) {
+        writer.family("sprout_http_requests_total", "counter", "경로, 상태 코드 계열별 요청 수");
+        for (RouteStats stats : allRoutes) {
+            for (int i = 0; i < STATUS_CLASSES.length; i++) {
+                long count = stats.statusCounts[i].sum();
+                if (count > 0) {
+                    writer.sample("sprout_http_requests_total", PrometheusWriter.labels("method", stats.method,
+                        "route", stats.route, "status", STATUS_CLASSES[i]), count);
+                }
+            }
+        }
+        writer.family("sprout_http_requests_in_flight", "gauge", "경로별 처리 중인 요청 수");
+        for (RouteStats stats : allRoutes) {
+            writer.sample("sprout_http_requests_in_flight", stats.labels, stats.inFlight.sum());
+        }
+        writer.family("sprout_http_request_duration_seconds", "histogram", "경로별 요청 처리 시간");
+        for (RouteStats stats : allRoutes) {
+            writer.histogram("sprout_http_request_duration_seconds", stats.labels, stats.latency);
+        }
+    }
+
+    /**
+     * 경로 하나의 누적 지표
+     */
+    static final class RouteStats {
+
+        private final String method;
+        private final String route;
+        private final String labels;
+        private final LongAdder[] statusCounts = new LongAdder[STATUS_CLASSES.length];
+        private final LongAdder inFlight = new LongAdder();
+        private final LatencyHistogram latency = new LatencyHistogram();
+
+        private RouteStats(String method, String route) {
+            this.method = method;
+            this.route = route;
+            this.labels = PrometheusWriter.labels("method", method, "route", route);
+            for (int i = 0; i < statusCounts.length; i++) {
+                statusCounts[i] = new LongAdder();
+            }
+        }
+
+        /**
+         * 요청 종료를 기록합니다.
+         *
+         * @param startNanos 요청 시작 시각
+         * @param status     응답 상태 코드
+         */
+        void end(long startNanos, int status) {
+            latency.record(System.nanoTime() - startNanos);
+            statusCounts[Math.max(0, Math.min(STATUS_CLASSES.length - 1, status / 100 - 1))].increment();
+            inFlight.decrement();
+        }
+    }
+}
@@ -0,0 +1,407 @@
+package com.spring.sprout.web;
+
+import com.spring.sprout.bundle.api.Environment;
+import com.spring.sprout.global.annotation.controller.CacheResponse;
+import com.spring.sprout.global.error.ErrorMessage;
+import com.spring.sprout.global.error.SpringException;
+import com.spring.sprout.global.metrics.MetricsSource;
+import com.spring.sprout.global.metrics.PrometheusWriter;
+import com.spring.sprout.global.web.RequestDeadline;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * [경로별 응답 캐시]
+ *
+ * <p>{@link CacheResponse}가 붙은 GET 핸들러의 응답 본문을 직렬화된 바이트로 저장합니다. 캐시 적중 시에는 컨트롤러 호출과 JSON 직렬화 없이
+ * 저장된 바이트와 미리 계산한 ETag로 바로 응답합니다. 압축은 바깥의 {@link CompressingResponse}가 하므로 원본 바이트를 저장합니다.</p>
+ *
+ * <p>설정 (application.properties):</p>
+ * <ul>
+ * <li>{@code web.response-cache.max-bytes}: 전체 캐시 본문 크기 상한 (기본 64MB). 넘으면 stale 기간까지 지난 항목,
+ * 가장 오래 쓰이지 않은 항목 순으로 상한의 90%까지 제거합니다.</li>
+ * <li>{@code web.response-cache.max-entry-bytes}: 항목 하나의 최대 크기 (기본 1MB). 넘는 본문은 캡처를 멈추고 그대로 전송합니다.</li>
+ * <li>{@code web.response-cache.uncacheable-ms}: 캐시하지 못한 키를 기억하는 시간 (기본 1000ms). 이 동안은 single-flight 없이
+ * 바로 핸들러를 실행합니다.</li>
+ * </ul>
+ *
+ * <p>같은 키를 동시에 갱신하지 않도록 키마다 진행 중인 로드를 하나만 둡니다. (single-flight) 로드 중인 키에 온 요청은 stale 본문이
+ * 있으면 그것으로 즉시 응답하고, 없으면 로드 결과를 요청 기한까지 기다립니다.</p>
+ *
+ * <p>로드 결과를 캐시하지 못했다면 (실패, 200 아님, 크기 초과, 비동기 결과 등) 그 키를 잠시 "캐시 불가"로 표시합니다. 기다리던 요청과
+ * 표시가 남아 있는 동안 온 요청은 서로 기다리지 않고 각자 핸들러를 실행하므로, 캐시되지 않는 경로가 한 번에 하나씩 처리되지 않습니다.</p>
+ *
+ * @see CapturingResponse
+ */
+class ResponseCache implements MetricsSource {
+
+    private static final long DEFAULT_MAX_BYTES = 64L * 1024 * 1024;
+    private static final int DEFAULT_MAX_ENTRY_BYTES = 1024 * 1024;
+    private static final long DEFAULT_UNCACHEABLE_MILLIS = 1000;
+    private static final int MAX_UNCACHEABLE_KEYS = 10_000;
+
+    private final long maxBytes;
+    private final int maxEntryBytes;
+    private final long uncacheableNanos;
+    private final boolean etagEnabled;
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, CompletableFuture<Entry>> loading = new ConcurrentHashMap<>();
+
+    /**
+     * 캐시하지 못한 키와 그 표시가 끝나는 시각
+     */
+    private final ConcurrentHashMap<String, Long> uncacheable = new ConcurrentHashMap<>();
+    private final AtomicLong totalBytes = new AtomicLong();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder coalescedHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder bypassed = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    ResponseCache(Environment env) {
+        String maxBytesValue = env.getProperty("web.response-cache.max-bytes");
+        this.maxBytes = maxBytesValue == null || maxBytesValue.isBlank() ? DEFAULT_MAX_BYTES
+            : Long.parseLong(maxBytesValue.trim());
+        String maxEntryValue = env.getProperty("web.response-cache.max-entry-bytes");
+        this.maxEntryBytes = maxEntryValue == null || maxEntryValue.isBlank() ? DEFAULT_MAX_ENTRY_BYTES
+            : Integer.parseInt(maxEntryValue.trim());
+        String uncacheableValue = env.getProperty("web.response-cache.uncacheable-ms");
+        this.uncacheableNanos = TimeUnit.MILLISECONDS.toNanos(uncacheableValue == null || uncacheableValue.isBlank()
+            ? DEFAULT_UNCACHEABLE_MILLIS : Long.parseLong(uncacheableValue.trim()));
+        this.etagEnabled = !"false".equalsIgnoreCase(env.getProperty("web.etag.enabled"));
+    }
+
+    /**
+     * 캐시된 본문으로 응답하거나, 핸들러를 실행하여 본문을 캐시한 뒤 응답합니다.
+     */
+    void handle(HandlerKey route, CacheResponse policy, HttpServletRequest req, HttpServletResponse resp,
+        DispatcherServlet.Handler handler) throws Exception {
+        String key = keyOf(route, policy, req);
+        long now = System.nanoTime();
+        Entry entry = entries.get(key);
+        if (entry != null && now < entry.expiresAt) {
+            hits.increment();
+            entry.lastAccess = now;
+            write(entry, req, resp);
+            return;
+        }
+        if (isUncacheable(key, now)) {
+            bypassed.increment();
+            handler.handle(req, resp);
+            return;
+        }
+
+        CompletableFuture<Entry> flight = new CompletableFuture<>();
+        CompletableFuture<Entry> inFlight = loading.putIfAbsent(key, flight);
+        if (inFlight != null) {
+            if (entry != null && now < entry.staleUntil) {
+                staleHits.increment();
+                entry.lastAccess = now;
+                write(entry, req, resp);
+                return;
+            }
+            Entry loaded = await(inFlight, req);
+            if (loaded != null) {
+                coalescedHits.increment();
+                write(loaded, req, resp);
+            } else {
+                handler.handle(req, resp); // 먼저 온 요청의 결과를 캐시하지 못함, 다른 대기자와 동시에 실행
+            }
+            return;
+        }
+
+        misses.increment();
+        Entry loaded = null;
+        try {
+            loaded = load(key, policy, req, resp, handler);
+        } finally {
+            if (loaded == null) {
+                markUncacheable(key);
+            } else {
+                uncacheable.remove(key);
+            }
+            loading.remove(key, flight);
+            flight.complete(loaded);
+        }
+    }
+
+    /**
+     * 비동기 결과처럼 캐시할 수 없는 응답이면 캡처를 중단하고 원래 응답을 반환합니다.
+     */
+    static HttpServletResponse bypass(HttpServletResponse response) throws IOException {
+        return response instanceof CapturingResponse capturing ? capturing.bypass() : response;
+    }
+
+    /**
+     * 핸들러를 실행하여 본문을 캡처하고, 캐시할 수 있으면 저장한 뒤 클라이언트에 씁니다.
+     *
+     * <p>핸들러에는 {@code If-None-Match}를 숨긴 요청을 넘깁니다. 클라이언트의 ETag가 최신이면 핸들러가 본문 없는 304로 답해
+     * 항목을 갱신하지 못하기 때문입니다. 조건부 응답은 저장한 항목으로 {@link #write}에서 판정합니다.</p>
+     *
+     * @return 저장한 항목, 캐시할 수 없었으면 null
+     */
+    private Entry load(String key, CacheResponse policy, HttpServletRequest req, HttpServletResponse resp,
+        DispatcherServlet.Handler handler) throws Exception {
+        CapturingResponse capturing = new CapturingResponse(resp, maxEntryBytes);
+        handler.handle(new UnconditionalRequest(req), capturing);
+        byte[] body = capturing.finishCapture();
+        if (body == null) {
+            return null; // 이미 원래 응답으로 전송됨
+        }
+
+        Entry entry = null;
+        if (resp.getStatus() == HttpServletResponse.SC_OK) {
+            String etag = resp.getHeader("ETag");
+            long now = System.nanoTime();
+            long expiresAt = now + TimeUnit.SECONDS.toNanos(policy.ttlSeconds());
+            entry = new Entry(key, body, resp.getContentType(), resp.getHeader("Content-Disposition"),
+                etag != null ? etag : ETags.of(body), expiresAt,
+                expiresAt + TimeUnit.SECONDS.toNanos(policy.staleWhileRevalidateSeconds()), now);
+            put(entry);
+            write(entry, req, resp);
+            return entry;
+        }
+        if (body.length > 0) {
+            resp.setContentLength(body.length);
+            resp.getOutputStream().write(body);
+        }
+        return entry;
+    }
+
+    private boolean isUncacheable(String key, long now) {
+        Long until = uncacheable.get(key);
+        if (until == null) {
+            return false;
+        }
+        if (now - until < 0) {
+            return true;
+        }
+        uncacheable.remove(key, until);
+        return false;
+    }
+
+    /**
+     * 키를 잠시 캐시 불가로 표시합니다. 쿼리 문자열마다 키가 달라질 수 있으므로, 표시가 너무 많으면 끝난 표시부터 정리합니다.
+     */
+    private void markUncacheable(String key) {
+        if (uncacheableNanos <= 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (uncacheable.size() >= MAX_UNCACHEABLE_KEYS) {
+            uncacheable.values().removeIf(until -> now - until >= 0);
+            if (uncacheable.size() >= MAX_UNCACHEABLE_KEYS) {
+                return;
+            }
+        }
+        uncacheable.put(key, now + uncacheableNanos);
+    }
+
+    private Entry await(CompletableFuture<Entry> inFlight, HttpServletRequest req) throws Exception {
+        RequestDeadline deadline = RequestDeadline.current();
+        try {
+            return deadline == null ? inFlight.get()
+                : inFlight.get(Math.max(0, deadline.remainingMillis()), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new SpringException(ErrorMessage.DEADLINE_EXCEEDED, req.getRequestURI());
+        } catch (ExecutionException e) {
+            return null;
+        }
+    }
+
+    private void write(Entry entry, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        if (etagEnabled) {
+            resp.setHeader("ETag", entry.etag);
+            if (ETags.matches(req.getHeader("If-None-Match"), entry.etag)) {
+                resp.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                return;
+            }
+        }
+        resp.setContentType(entry.contentType);
+        if (entry.contentDisposition != null) {
+            resp.setHeader("Content-Disposition", entry.contentDisposition);
+        }
+        resp.setContentLength(entry.body.length);
+        resp.getOutputStream().write(entry.body);
+    }
+
+    private static String keyOf(HandlerKey route, CacheResponse policy, HttpServletRequest req) {
+        StringBuilder key = new StringBuilder(route.getUrl());
+        String query = req.getQueryString();
+        if (query != null) {
+            key.append('?').append(query);
+        }
+        for (String header : policy.varyHeaders()) {
+            String value = req.getHeader(header);
+            key.append('\n').append(header).append(':').append(value == null ? "" : value);
+        }
+        return key.toString();
+    }
+
+    private void put(Entry entry) {
+        Entry previous = entries.put(entry.key, entry);
+        totalBytes.addAndGet(entry.size() - (previous == null ? 0 : previous.size()));
+        if (totalBytes.get() > maxBytes) {
+            evict();
+        }
+    }
+
+    private void remove(Entry entry) {
+        if (entries.remove(entry.key, entry)) {
+            totalBytes.addAndGet(-entry.size());
+            evictions.increment();
+        }
+    }
+
+    /**
+     * 캐시 크기를 상한의 90%까지 줄입니다. 다른 스레드가 이미 정리 중이면 기다리지 않고 돌아갑니다.
+     */
+    private void evict() {
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            long now = System.nanoTime();
+            entries.values().forEach(entry -> {
+                if (now >= entry.staleUntil) {
+                    remove(entry);
+                }
+            });
+            long target = maxBytes / 10 * 9;
+            if (totalBytes.get() <= target) {
+                return;
+            }
+            // 정렬 중 값이 바뀌지 않도록 마지막 사용 시각을 먼저 복사
+            List<long[]> order = new ArrayList<>();
+            List<Entry> candidates = new ArrayList<>(entries.values());
+            for (int i = 0; i < candidates.size(); i++) {
+                order.add(new long[]{candidates.get(i).lastAccess, i});
+            }
+            order.sort(Comparator.comparingLong(pair -> pair[0]));
+            for (long[] pair : order) {
+                if (totalBytes.get() <= target) {
+                    break;
+                }
+                remove(candidates.get((int) pair[1]));
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    @Override
+    public void writeMetrics(PrometheusWriter writer) {
+        writer.family("sprout_response_cache_requests_total", "counter", "응답 캐시 조회 결과별 요청 수");
+        writer.sample("sprout_response_cache_requests_total", PrometheusWriter.labels("result", "hit"), getHits());
+        writer.sample("sprout_response_cache_requests_total", PrometheusWriter.labels("result", "stale"),
+            getStaleHits());
+        writer.sample("sprout_response_cache_requests_total", PrometheusWriter.labels("result", "coalesced"),
+            getCoalescedHits());
+        writer.sample("sprout_response_cache_requests_total", PrometheusWriter.labels("result", "miss"),
+            getMisses());
+        writer.sample("sprout_response_cache_requests_total", PrometheusWriter.labels("result", "uncacheable"),
+            getBypassed());
+        writer.family("sprout_response_cache_evictions_total", "counter", "크기 제한으로 제거된 캐시 항목 수");
+        writer.sample("sprout_response_cache_evictions_total", "", getEvictions());
+        writer.family("sprout_response_cache_size_bytes", "gauge", "캐시된 본문 크기");
+        writer.sample("sprout_response_cache_size_bytes", "", getSizeBytes());
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getStaleHits() {
+        return staleHits.sum();
+    }
+
+    public long getCoalescedHits() {
+        return coalescedHits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getBypassed() {
+        return bypassed.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    public long getSizeBytes() {
+        return totalBytes.get();
+    }
+
+    /**
+     * 조건부 요청 헤더를 숨긴 요청. 캐시를 채우는 핸들러가 항상 전체 본문을 만들게 합니다.
+     */
+    private static final class UnconditionalRequest extends HttpServletRequestWrapper {
+
+        UnconditionalRequest(HttpServletRequest request) {
+            super(request);
+        }
+
+        @Override
+        public String getHeader(String name) {
+            return "If-None-Match".equalsIgnoreCase(name) ? null : super.getHeader(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(String name) {
+            return "If-None-Match".equalsIgnoreCase(name) ? Collections.emptyEnumeration() : super.getHeaders(name);
+        }
+    }
+
+    /**
+     * 캐시 항목. 본문은 저장 후 바뀌지 않으며, 마지막 사용 시각만 적중할 때마다 갱신됩니다.
+     */
+    private static final class Entry {
+
+        private final String key;
+        private final byte[] body;
+        private final String contentType;
+        private final String contentDisposition;
+        private final String etag;
+        private final long expiresAt;
+        private final long staleUntil;
+        private volatile long lastAccess;
+
+        Entry(String key, byte[] body, String contentType, String contentDisposition, String etag,
+            long expiresAt, long staleUntil, long lastAccess) {
+            this.key = key;
+            this.body = body;
+            this.contentType = contentType;
+            this.contentDisposition = contentDisposition;
+            this.etag = etag;
+            this.expiresAt = expiresAt;
+            this.staleUntil = staleUntil;
+            this.lastAccess = lastAccess;
+        }
+
+        long size() {
+            return body.length + 2L * key.length();
+        }
+    }
+}
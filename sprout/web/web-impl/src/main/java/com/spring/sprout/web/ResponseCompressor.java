@@ -0,0 +1,247 @@
+package com.spring.sprout.web;
+
+import com.spring.sprout.bundle.api.Environment;
+import com.spring.sprout.global.metrics.MetricsSource;
+import com.spring.sprout.global.metrics.PrometheusWriter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.Deflater;
+
+/**
+ * [응답 압축기]
+ *
+ * <p>요청의 {@code Accept-Encoding}을 보고 응답 본문을 gzip 또는 deflate로 압축합니다. {@link DispatcherServlet}이 핸들러에 넘기는 응답을
+ * {@link CompressingResponse}로 감싸므로, JSON 직렬화와 스트리밍 응답 모두 별도 처리 없이 압축됩니다.</p>
+ *
+ * <p>설정 (application.properties):</p>
+ * <ul>
+ * <li>{@code web.compression.enabled}: {@code true}이면 압축합니다. (기본 false)</li>
+ * <li>{@code web.compression.min-size}: 이 크기(바이트) 미만의 본문은 압축하지 않습니다. (기본 2048) 작은 응답은 압축 이득보다
+ * 헤더와 CPU 비용이 더 큽니다.</li>
+ * <li>{@code web.compression.mime-types}: 압축할 Content-Type 목록 (쉼표 구분, 기본 JSON/NDJSON/CSV/텍스트)</li>
+ * <li>{@code web.compression.level}: 압축 레벨 1~9 (기본 6). 낮을수록 CPU를 덜 쓰고 덜 줄어듭니다.</li>
+ * </ul>
+ *
+ * <p>{@link Deflater}는 생성할 때마다 네이티브 zlib 상태(수백 KB)를 할당하므로, 인코딩별 풀에 보관하여 동시 압축 수만큼만 만들고 재사용합니다.
+ * 압축 전후 바이트 수와 압축에 쓴 CPU 시간을 누적하므로 압축률과 비용을 보고 레벨과 임계치를 조정할 수 있습니다.</p>
+ *
+ * @see CompressingResponse
+ */
+class ResponseCompressor implements MetricsSource {
+
+    private static final int MAX_POOLED_DEFLATERS = 64;
+    private static final Set<String> DEFAULT_MIME_TYPES = Set.of("application/json", "application/x-ndjson",
+        "text/csv", "text/plain", "text/html");
+
+    private final boolean enabled;
+    private final int minSize;
+    private final Set<String> mimeTypes;
+    private final int level;
+
+    private final ConcurrentLinkedQueue<Deflater> gzipDeflaters = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<Deflater> deflateDeflaters = new ConcurrentLinkedQueue<>();
+
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    private final boolean cpuTimeSupported;
+
+    private final LongAdder compressedResponses = new LongAdder();
+    private final LongAdder uncompressedResponses = new LongAdder();
+    private final LongAdder bytesBeforeCompression = new LongAdder();
+    private final LongAdder bytesAfterCompression = new LongAdder();
+    private final LongAdder compressionCpuNanos = new LongAdder();
+
+    ResponseCompressor(Environment env) {
+        this.enabled = Boolean.parseBoolean(env.getProperty("web.compression.enabled"));
+        String minSizeValue = env.getProperty("web.compression.min-size");
+        this.minSize = minSizeValue == null || minSizeValue.isBlank() ? 2048 : Integer.parseInt(minSizeValue.trim());
+        String levelValue = env.getProperty("web.compression.level");
+        this.level = levelValue == null || levelValue.isBlank() ? 6 : Integer.parseInt(levelValue.trim());
+        this.mimeTypes = parseMimeTypes(env.getProperty("web.compression.mime-types"));
+        this.cpuTimeSupported = threadMXBean.isCurrentThreadCpuTimeSupported();
+    }
+
+    /**
+     * 압축을 사용할 수 있는 요청이면 응답을 압축 래퍼로 감싸고, 아니면 원래 응답을 그대로 반환합니다.
+     */
+    HttpServletResponse wrap(HttpServletRequest req, HttpServletResponse resp) {
+        if (!enabled) {
+            return resp;
+        }
+        String encoding = negotiate(req.getHeader("Accept-Encoding"));
+        if (encoding == null) {
+            return resp;
+        }
+        return new CompressingResponse(resp, this, encoding);
+    }
+
+    /**
+     * 압축 래퍼라면 남은 본문과 압축 트레일러를 씁니다. 응답이 끝날 때 한 번 호출해야 합니다.
+     */
+    void finish(HttpServletResponse resp) throws IOException {
+        if (resp instanceof CompressingResponse compressing) {
+            compressing.finish();
+        }
+    }
+
+    /**
+     * {@code Accept-Encoding}에서 사용할 인코딩을 고릅니다. gzip을 우선하고, {@code q=0}으로 거부된 인코딩은 제외합니다.
+     *
+     * <p>{@code *}는 따로 적히지 않은 인코딩에만 적용됩니다. {@code gzip;q=0, *}처럼 gzip을 명시적으로 거부했다면
+     * {@code *}가 있어도 gzip을 고르지 않습니다.</p>
+     *
+     * @return "gzip", "deflate" 또는 압축할 수 없으면 null
+     */
+    static String negotiate(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return null;
+        }
+        Boolean gzip = null;
+        Boolean deflate = null;
+        boolean wildcard = false;
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            boolean accepted = !isRejected(parts);
+            if (coding.equals("gzip")) {
+                gzip = accepted;
+            } else if (coding.equals("deflate")) {
+                deflate = accepted;
+            } else if (coding.equals("*")) {
+                wildcard = accepted;
+            }
+        }
+        if (gzip == null ? wildcard : gzip) {
+            return "gzip";
+        }
+        return (deflate == null ? wildcard : deflate) ? "deflate" : null;
+    }
+
+    private static boolean isRejected(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String param = parts[i].trim();
+            if (param.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(param.substring(2)) <= 0;
+                } catch (NumberFormatException e) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    boolean isCompressible(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        int separator = contentType.indexOf(';');
+        String mimeType = (separator < 0 ? contentType : contentType.substring(0, separator)).trim();
+        return mimeTypes.contains(mimeType.toLowerCase(Locale.ROOT));
+    }
+
+    int getMinSize() {
+        return minSize;
+    }
+
+    Deflater borrowDeflater(String encoding) {
+        ConcurrentLinkedQueue<Deflater> pool = encoding.equals("gzip") ? gzipDeflaters : deflateDeflaters;
+        Deflater deflater = pool.poll();
+        if (deflater == null) {
+            // gzip은 헤더/트레일러를 직접 쓰므로 zlib 래퍼 없이(nowrap) 생성
+            deflater = new Deflater(level, encoding.equals("gzip"));
+        }
+        return deflater;
+    }
+
+    void returnDeflater(String encoding, Deflater deflater) {
+        ConcurrentLinkedQueue<Deflater> pool = encoding.equals("gzip") ? gzipDeflaters : deflateDeflaters;
+        deflater.reset();
+        if (pool.size() < MAX_POOLED_DEFLATERS) {
+            pool.offer(deflater);
+        } else {
+            deflater.end(); // 네이티브 메모리 즉시 해제
+        }
+    }
+
+    /**
+     * 압축 시간 측정용 현재 시각. 스레드 CPU 시간을 지원하지 않으면(가상 스레드 등) 경과 시간으로 대신합니다.
+     */
+    long cpuTimeNanos() {
+        long cpuTime = cpuTimeSupported ? threadMXBean.getCurrentThreadCpuTime() : -1;
+        return cpuTime >= 0 ? cpuTime : System.nanoTime();
+    }
+
+    void recordCompressed(long bytesIn, long bytesOut, long cpuNanos) {
+        compressedResponses.increment();
+        bytesBeforeCompression.add(bytesIn);
+        bytesAfterCompression.add(bytesOut);
+        compressionCpuNanos.add(cpuNanos);
+    }
+
+    void recordUncompressed() {
+        uncompressedResponses.increment();
+    }
+
+    @Override
+    public void writeMetrics(PrometheusWriter writer) {
+        writer.family("sprout_http_compressed_responses_total", "counter", "압축하여 보낸 응답 수");
+        writer.sample("sprout_http_compressed_responses_total", "", getCompressedResponses());
+        writer.family("sprout_http_uncompressed_responses_total", "counter", "압축 대상이었으나 압축하지 않은 응답 수");
+        writer.sample("sprout_http_uncompressed_responses_total", "", getUncompressedResponses());
+        writer.family("sprout_http_compression_input_bytes_total", "counter", "압축 전 본문 바이트 수");
+        writer.sample("sprout_http_compression_input_bytes_total", "", getBytesBeforeCompression());
+        writer.family("sprout_http_compression_output_bytes_total", "counter", "압축 후 본문 바이트 수");
+        writer.sample("sprout_http_compression_output_bytes_total", "", getBytesAfterCompression());
+        writer.family("sprout_http_compression_cpu_seconds_total", "counter", "압축에 사용한 CPU 시간");
+        writer.sample("sprout_http_compression_cpu_seconds_total", "", getCompressionCpuNanos() / 1e9);
+    }
+
+    public long getCompressedResponses() {
+        return compressedResponses.sum();
+    }
+
+    public long getUncompressedResponses() {
+        return uncompressedResponses.sum();
+    }
+
+    public long getBytesBeforeCompression() {
+        return bytesBeforeCompression.sum();
+    }
+
+    public long getBytesAfterCompression() {
+        return bytesAfterCompression.sum();
+    }
+
+    public long getCompressionCpuNanos() {
+        return compressionCpuNanos.sum();
+    }
+
+    /**
+     * 압축된 응답 전체의 압축률 (압축 후 / 압축 전). 압축한 응답이 없으면 1.0입니다.
+     */
+    public double getCompressionRatio() {
+        long before = bytesBeforeCompression.sum();
+        return before == 0 ? 1.0 : (double) bytesAfterCompression.sum() / before;
+    }
+
+    private static Set<String> parseMimeTypes(String value) {
+        if (value == null || value.isBlank()) {
+            return DEFAULT_MIME_TYPES;
+        }
+        Set<String> mimeTypes = new HashSet<>();
+        for (String mimeType : value.split(",")) {
+            if (!mimeType.isBlank()) {
+                mimeTypes.add(mimeType.trim().toLowerCase(Locale.ROOT));
+            }
+        }
+        return Set.copyOf(mimeTypes);
+    }
+}
@@ -5,9 +5,11 @@ import com.spring.sprout.web.api.WebServer;
 import java.io.File;
 import org.apache.catalina.Context;
 import org.apache.catalina.LifecycleException;
+import org.apache.catalina.Wrapper;
 import org.apache.catalina.connector.Connector;
 import org.apache.catalina.startup.Tomcat;
 import org.apache.coyote.AbstractProtocol;
+import org.apache.tomcat.util.threads.TaskThreadFactory;
 
 
 /**
@@ -20,8 +22,10 @@ import org.apache.coyote.AbstractProtocol;
  * <p>주요 설정:</p>
  * <ul>
  * <li><b>포트 설정:</b> 기본 8080 포트를 사용하여 리스닝합니다.</li>
- * <li><b>서블릿 등록:</b> {@link DispatcherServlet}을 루트 컨텍스트("/")에 매핑하여 모든 요청을 처리하게 합니다.</li>
- * <li><b>스레드 풀 튜닝:</b> 동시 접속 처리를 위해 MaxThreads, MinSpareThreads, AcceptCount 등을 직접 제어합니다.</li>
+ * <li><b>서블릿 등록:</b> {@link DispatcherServlet}을 루트 컨텍스트("/")에 매핑하여 모든 요청을 처리하게 합니다.
+ * 비동기 핸들러를 위해 Servlet 비동기 모드를 허용합니다.</li>
+ * <li><b>스레드 풀 튜닝:</b> 동시 접속 처리를 위해 MaxThreads, MinSpareThreads, AcceptCount 등을 직접 제어합니다.
+ * 작업 스레드 풀은 요청의 큐 대기 시간을 기록하는 {@link QueueTimingExecutor}를 사용합니다.</li>
  * </ul>
  *
  * @see WebServer
@@ -32,8 +36,12 @@ public class TomcatWebServer implements WebServer {
 
     private final int PORT = 8080;
 
+    private final int MAX_THREADS = 50;
+    private final int MIN_SPARE_THREADS = 10;
+
     private final Tomcat tomcat;
     private final DispatcherServlet dispatcherServlet;
+    private QueueTimingExecutor executor;
 
     /**
      * 톰캣 인스턴스를 생성하고, 요청 처리를 위임할 디스패처 서블릿을 주입받습니다.
@@ -55,6 +63,7 @@ public class TomcatWebServer implements WebServer {
      * <ul>
      * <li>MaxThreads(50): 동시에 처리 가능한 최대 요청 수</li>
      * <li>MinSpareThreads(10): 유휴 상태일 때도 유지할 최소 스레드 수 (빠른 응답 보장)</li>
+     * <li>외부 스레드 풀을 지정하면 커넥터의 MaxThreads 설정은 무시되므로 두 값은 {@link QueueTimingExecutor}에 직접 넘깁니다.</li>
      * <li>AcceptCount(100): 작업 큐가 꽉 찼을 때 대기열(Backlog)의 크기</li>
      * </ul>
      * </li>
@@ -70,16 +79,18 @@ public class TomcatWebServer implements WebServer {
         Connector connector = tomcat.getConnector();
         AbstractProtocol<?> protocol = (AbstractProtocol<?>) connector.getProtocolHandler();
 
-        // 동시성 제어를 위한 스레드 풀 튜닝
-        protocol.setMaxThreads(50);      // 최대 활성 스레드
-        protocol.setMinSpareThreads(10); // 최소 유휴 스레드
+        // 동시성 제어를 위한 스레드 풀 튜닝 (최대 활성 스레드, 최소 유휴 스레드)
+        executor = QueueTimingExecutor.create(MIN_SPARE_THREADS, MAX_THREADS,
+            new TaskThreadFactory("http-exec-", true, Thread.NORM_PRIORITY));
+        protocol.setExecutor(executor);
         protocol.setAcceptCount(100);    // OS 레벨의 연결 대기 큐 크기
 
         // 톰캣 컨텍스트 생성 (docBase는 현재 디렉토리로 설정)
         Context context = tomcat.addContext("", new File(".").getAbsolutePath());
 
         // 서블릿 등록 및 URL 매핑 (모든 요청 "/" -> dispatcher)
-        Tomcat.addServlet(context, "dispatcher", dispatcherServlet);
+        Wrapper wrapper = Tomcat.addServlet(context, "dispatcher", dispatcherServlet);
+        wrapper.setAsyncSupported(true); // CompletableFuture/Callable 핸들러의 startAsync() 허용
         context.addServletMappingDecoded("/", "dispatcher");
     }
 
@@ -107,6 +118,9 @@ public class TomcatWebServer implements WebServer {
         try {
             tomcat.stop();
             tomcat.destroy();
+            if (executor != null) {
+                executor.shutdown();
+            }
         } catch (LifecycleException e) {
             throw new RuntimeException("Tomcat Server Stop Failed", e);
         }
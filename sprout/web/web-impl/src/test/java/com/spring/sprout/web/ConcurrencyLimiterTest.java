@@ -0,0 +1,137 @@
+package com.spring.sprout.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+public class ConcurrencyLimiterTest {
+
+    private static final HandlerKey ROUTE = new HandlerKey("/users", RequestMethod.GET);
+
+    @Test
+    public void 한도를_넘으면_기다리지_않고_거절() {
+        // given
+        ConcurrencyLimiter limiter = limiter(Map.of("web.concurrency-limit.initial", "2"));
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+
+        // when
+        boolean third = limiter.tryAcquire();
+
+        // then
+        assertThat(third).isFalse();
+        assertThat(limiter.getRejected()).isEqualTo(1);
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+    }
+
+    @Test
+    public void 꺼져_있거나_등록되지_않은_경로는_한도를_받지_않음() {
+        // given
+        ConcurrencyLimiter disabled = new ConcurrencyLimiter(new HashMap<String, String>()::get);
+        disabled.register(ROUTE);
+        ConcurrencyLimiter enabled = limiter(Map.of());
+
+        // when & then
+        assertThat(disabled.appliesTo(ROUTE)).isFalse();
+        assertThat(enabled.appliesTo(ROUTE)).isTrue();
+        assertThat(enabled.appliesTo(new HandlerKey("/export", RequestMethod.GET))).isFalse();
+    }
+
+    @Test
+    public void 응답_시간이_그대로면_한도를_늘림() {
+        // given
+        ConcurrencyLimiter limiter = limiter(Map.of("web.concurrency-limit.max", "22"));
+        acquire(limiter, 20);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            limiter.release(ROUTE, ago(10), 200);
+        }
+
+        // then
+        assertThat(limiter.getLimit()).isGreaterThan(20).isLessThanOrEqualTo(22);
+    }
+
+    @Test
+    public void 응답_시간이_부풀면_한도를_줄임() {
+        // given
+        ConcurrencyLimiter limiter = limiter(Map.of());
+        acquire(limiter, 20);
+        limiter.release(ROUTE, ago(1), 200);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            limiter.release(ROUTE, ago(100), 200);
+        }
+
+        // then
+        assertThat(limiter.getLimit()).isLessThan(20);
+    }
+
+    @Test
+    public void 기한_초과_응답이_있던_구간은_10퍼센트_줄임() {
+        // given
+        ConcurrencyLimiter limiter = limiter(Map.of());
+        acquire(limiter, 20);
+
+        // when
+        limiter.release(ROUTE, ago(1), 503);
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(18);
+    }
+
+    @Test
+    public void 한도의_절반도_쓰지_않은_구간은_조정하지_않음() {
+        // given
+        ConcurrencyLimiter limiter = limiter(Map.of());
+        acquire(limiter, 3);
+        limiter.release(ROUTE, ago(1), 200);
+
+        // when
+        limiter.release(ROUTE, ago(100), 200);
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(20);
+    }
+
+    @Test
+    public void 한도는_최소값_아래로_내려가지_않음() {
+        // given
+        ConcurrencyLimiter limiter = limiter(Map.of("web.concurrency-limit.initial", "6"));
+        acquire(limiter, 6);
+
+        // when
+        for (int i = 0; i < 6; i++) {
+            limiter.release(ROUTE, ago(1), 504);
+        }
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(5);
+    }
+
+    /**
+     * 구간을 0ms로 두어 요청이 끝날 때마다 한도를 조정하게 합니다.
+     */
+    private static ConcurrencyLimiter limiter(Map<String, String> properties) {
+        Map<String, String> env = new HashMap<>(properties);
+        env.put("web.concurrency-limit.enabled", "true");
+        env.put("web.concurrency-limit.window-ms", "0");
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(env::get);
+        limiter.register(ROUTE);
+        return limiter;
+    }
+
+    private static void acquire(ConcurrencyLimiter limiter, int count) {
+        for (int i = 0; i < count; i++) {
+            assertThat(limiter.tryAcquire()).isTrue();
+        }
+    }
+
+    private static long ago(long millis) {
+        return System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+}
@@ -0,0 +1,208 @@
+package com.spring.sprout.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.spring.sprout.bundle.beanfactory.BeanFactory;
+import com.spring.sprout.global.annotation.controller.Controller;
+import com.spring.sprout.global.annotation.controller.GetMapping;
+import com.spring.sprout.global.error.ErrorMessage;
+import com.spring.sprout.global.error.SpringException;
+import com.spring.sprout.global.web.RequestDeadline;
+import com.spring.sprout.global.web.VersionedResponse;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public class DispatcherServletTest {
+
+    @Controller
+    public static class SampleController {
+
+        @GetMapping("/items")
+        public List<String> items() {
+            return List.of("a", "b");
+        }
+    }
+
+    @Controller
+    public static class DeadlineController {
+
+        @GetMapping("/deadline/exceeded")
+        public String exceeded() {
+            throw new SpringException(ErrorMessage.DEADLINE_EXCEEDED, "test");
+        }
+
+        @GetMapping("/deadline/query-timeout")
+        public String queryTimeout() {
+            throw new SpringException(ErrorMessage.QUERY_TIMEOUT, "test");
+        }
+
+        @GetMapping(value = "/deadline/bound", timeoutMillis = 250)
+        public long bound() {
+            return RequestDeadline.current().getTimeoutMillis();
+        }
+
+        @GetMapping(value = "/deadline/none", timeoutMillis = 0)
+        public boolean none() {
+            return RequestDeadline.current() == null;
+        }
+    }
+
+    @Controller
+    public static class VersionedController {
+
+        private final AtomicInteger bodyCalls = new AtomicInteger();
+
+        @GetMapping("/versioned")
+        public VersionedResponse versioned() {
+            return VersionedResponse.of(7L, () -> {
+                bodyCalls.incrementAndGet();
+                return List.of("a", "b");
+            });
+        }
+    }
+
+    @Test
+    public void 압축_마무리_쓰기가_실패해도_동시_처리_자리를_반환() throws Exception {
+        // given (한도 1, 압축과 한도 모두 켬)
+        DispatcherServlet servlet = servlet(Map.of(
+            "web.compression.enabled", "true",
+            "web.concurrency-limit.enabled", "true",
+            "web.concurrency-limit.initial", "1",
+            "web.concurrency-limit.min", "1"));
+        StubServlet.Response aborted = StubServlet.response().failWrites();
+        assertThrows(IOException.class, () -> servlet.service(
+            StubServlet.request("GET", "/items", Map.of("Accept-Encoding", "gzip")), aborted.servlet()));
+
+        // when
+        StubServlet.Response next = StubServlet.response();
+        servlet.service(StubServlet.request("GET", "/items", Map.of()), next.servlet());
+
+        // then
+        assertThat(next.status()).isEqualTo(HttpServletResponse.SC_OK);
+        assertThat(next.body()).isEqualTo("[\"a\",\"b\"]");
+    }
+
+    @Test
+    public void 기한_초과는_503과_Retry_After() throws Exception {
+        // when
+        StubServlet.Response response = get(servlet(Map.of(), new DeadlineController()), "/deadline/exceeded",
+            Map.of());
+
+        // then
+        assertThat(response.status()).isEqualTo(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        assertThat(response.header("Retry-After")).isEqualTo("1");
+        assertThat(response.body()).contains(ErrorMessage.DEADLINE_EXCEEDED.getMessage());
+    }
+
+    @Test
+    public void 쿼리_시간_초과는_504() throws Exception {
+        // when
+        StubServlet.Response response = get(servlet(Map.of(), new DeadlineController()), "/deadline/query-timeout",
+            Map.of());
+
+        // then
+        assertThat(response.status()).isEqualTo(HttpServletResponse.SC_GATEWAY_TIMEOUT);
+        assertThat(response.header("Retry-After")).isNull();
+    }
+
+    @Test
+    public void 경로별_기한을_핸들러_스레드에_바인딩하고_끝나면_해제() throws Exception {
+        // given
+        DispatcherServlet servlet = servlet(Map.of("web.request-timeout-ms", "5000"), new DeadlineController());
+
+        // when
+        StubServlet.Response bound = get(servlet, "/deadline/bound", Map.of());
+        StubServlet.Response none = get(servlet, "/deadline/none", Map.of());
+
+        // then
+        assertThat(bound.body()).isEqualTo("250");
+        assertThat(none.body()).isEqualTo("true");
+        assertThat(RequestDeadline.current()).isNull();
+    }
+
+    @Test
+    public void 본문_해시_ETag가_일치하면_본문_없이_304() throws Exception {
+        // given
+        DispatcherServlet servlet = servlet(Map.of(), new SampleController());
+        String etag = get(servlet, "/items", Map.of()).header("ETag");
+
+        // when
+        StubServlet.Response response = get(servlet, "/items", Map.of("If-None-Match", etag));
+
+        // then
+        assertThat(etag).isNotNull();
+        assertThat(response.status()).isEqualTo(HttpServletResponse.SC_NOT_MODIFIED);
+        assertThat(response.header("ETag")).isEqualTo(etag);
+        assertThat(response.body()).isEmpty();
+    }
+
+    @Test
+    public void 버전_ETag가_일치하면_본문_공급자를_호출하지_않음() throws Exception {
+        // given
+        VersionedController controller = new VersionedController();
+        DispatcherServlet servlet = servlet(Map.of(), controller);
+        StubServlet.Response first = get(servlet, "/versioned", Map.of());
+
+        // when
+        StubServlet.Response response = get(servlet, "/versioned", Map.of("If-None-Match", first.header("ETag")));
+
+        // then
+        assertThat(first.header("ETag")).isEqualTo(ETags.ofVersion(7L));
+        assertThat(first.body()).isEqualTo("[\"a\",\"b\"]");
+        assertThat(response.status()).isEqualTo(HttpServletResponse.SC_NOT_MODIFIED);
+        assertThat(response.body()).isEmpty();
+        assertThat(controller.bodyCalls).hasValue(1);
+    }
+
+    @Test
+    public void ETag를_끄면_헤더도_304도_없이_본문을_만듦() throws Exception {
+        // given
+        VersionedController controller = new VersionedController();
+        DispatcherServlet servlet = servlet(Map.of("web.etag.enabled", "false"), controller, new SampleController());
+
+        // when
+        StubServlet.Response versioned = get(servlet, "/versioned", Map.of("If-None-Match", "*"));
+        StubServlet.Response items = get(servlet, "/items", Map.of("If-None-Match", "*"));
+
+        // then
+        assertThat(versioned.status()).isEqualTo(HttpServletResponse.SC_OK);
+        assertThat(versioned.header("ETag")).isNull();
+        assertThat(versioned.body()).isEqualTo("[\"a\",\"b\"]");
+        assertThat(controller.bodyCalls).hasValue(1);
+        assertThat(items.status()).isEqualTo(HttpServletResponse.SC_OK);
+        assertThat(items.header("ETag")).isNull();
+    }
+
+    static StubServlet.Response get(DispatcherServlet servlet, String uri, Map<String, String> headers)
+        throws Exception {
+        StubServlet.Response response = StubServlet.response();
+        servlet.service(StubServlet.request("GET", uri, headers), response.servlet());
+        return response;
+    }
+
+    static DispatcherServlet servlet(Map<String, String> properties, Object... controllers) {
+        Map<String, String> env = new HashMap<>(properties);
+        env.putIfAbsent("web.query-tracker.sample-rate", "0");
+        Map<String, Object> beans = new HashMap<>();
+        for (Object controller : controllers.length == 0 ? new Object[]{new SampleController()} : controllers) {
+            beans.put(controller.getClass().getSimpleName(), controller);
+        }
+        BeanFactory beanFactory = (BeanFactory) Proxy.newProxyInstance(BeanFactory.class.getClassLoader(),
+            new Class[]{BeanFactory.class}, (p, m, a) -> {
+                if (m.getName().equals("getAllBeans")) {
+                    return beans;
+                }
+                throw new UnsupportedOperationException(m.getName());
+            });
+        DispatcherServlet servlet = new DispatcherServlet(beanFactory, env::get);
+        servlet.init();
+        return servlet;
+    }
+}
@@ -0,0 +1,60 @@
+package com.spring.sprout.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+public class ETagsTest {
+
+    @Test
+    public void 본문_해시는_약한_ETag_형식이고_같은_본문이면_같음() {
+        // given
+        byte[] body = "[\"a\",\"b\"]".getBytes(StandardCharsets.UTF_8);
+
+        // when
+        String etag = ETags.of(body);
+
+        // then
+        assertThat(etag).matches("W/\"[0-9a-f]+\"");
+        assertThat(ETags.of(body.clone())).isEqualTo(etag);
+        assertThat(ETags.of("[\"a\",\"c\"]".getBytes(StandardCharsets.UTF_8))).isNotEqualTo(etag);
+    }
+
+    @Test
+    public void 버전_ETag는_같은_문자열의_본문_해시와_겹치지_않음() {
+        // given
+        String etag = ETags.ofVersion(42L);
+
+        // then
+        assertThat(etag).matches("W/\"v[0-9a-f]+\"");
+        assertThat(ETags.ofVersion(42L)).isEqualTo(etag);
+        assertThat(ETags.ofVersion(43L)).isNotEqualTo(etag);
+        assertThat(etag).isNotEqualTo(ETags.of("42".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void 와일드카드는_모두_일치() {
+        assertThat(ETags.matches("*", "W/\"abc\"")).isTrue();
+        assertThat(ETags.matches("\"x\", *", "W/\"abc\"")).isTrue();
+    }
+
+    @Test
+    public void 목록_중_하나라도_일치하면_일치() {
+        assertThat(ETags.matches("W/\"x\", W/\"abc\" ,W/\"y\"", "W/\"abc\"")).isTrue();
+        assertThat(ETags.matches("W/\"x\", W/\"y\"", "W/\"abc\"")).isFalse();
+    }
+
+    @Test
+    public void 약한_비교라_W_접두사_유무는_무시() {
+        assertThat(ETags.matches("\"abc\"", "W/\"abc\"")).isTrue();
+        assertThat(ETags.matches("W/\"abc\"", "\"abc\"")).isTrue();
+        assertThat(ETags.matches("W/\"abcd\"", "W/\"abc\"")).isFalse();
+    }
+
+    @Test
+    public void 헤더가_없거나_비어_있으면_불일치() {
+        assertThat(ETags.matches(null, "W/\"abc\"")).isFalse();
+        assertThat(ETags.matches(" ", "W/\"abc\"")).isFalse();
+    }
+}
@@ -0,0 +1,109 @@
+package com.spring.sprout.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.spring.sprout.web.RequestAdmission.Verdict;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+public class RequestAdmissionTest {
+
+    private static final HandlerKey NORMAL = new HandlerKey("/users", RequestMethod.GET);
+    private static final HandlerKey CRITICAL = new HandlerKey("/pay", RequestMethod.POST);
+
+    @Test
+    public void 일반_경로는_예약분을_남기고_중요_경로가_나머지를_사용() {
+        // given (초당 1개, 버스트 5, 예약 20% = 토큰 1개)
+        RequestAdmission admission = admission(Map.of(
+            "web.rate-limit.global.rps", "1",
+            "web.rate-limit.global.burst", "5",
+            "web.rate-limit.route.POST./pay.critical", "true"));
+
+        // when
+        int admitted = admitAll(admission, NORMAL);
+
+        // then
+        assertThat(admitted).isEqualTo(4);
+        assertThat(admission.admit(CRITICAL, 0)).isEqualTo(Verdict.ADMITTED);
+        assertThat(admission.admit(CRITICAL, 0)).isEqualTo(Verdict.RATE_LIMITED);
+    }
+
+    @Test
+    public void 중요_경로가_없으면_예약하지_않음() {
+        // given
+        RequestAdmission admission = admission(Map.of(
+            "web.rate-limit.global.rps", "1",
+            "web.rate-limit.global.burst", "5"));
+
+        // when
+        int admitted = admitAll(admission, NORMAL);
+
+        // then
+        assertThat(admitted).isEqualTo(5);
+    }
+
+    @Test
+    public void 버스트가_1이면_하나뿐인_토큰을_예약하지_않음() {
+        // given
+        RequestAdmission admission = admission(Map.of(
+            "web.rate-limit.global.rps", "1",
+            "web.rate-limit.route.POST./pay.critical", "true"));
+
+        // when
+        int admitted = admitAll(admission, NORMAL);
+
+        // then
+        assertThat(admitted).isEqualTo(1);
+    }
+
+    @Test
+    public void 예약_비율이_커도_일반_경로에_토큰_하나는_남김() {
+        // given
+        RequestAdmission admission = admission(Map.of(
+            "web.rate-limit.global.rps", "1",
+            "web.rate-limit.global.burst", "2",
+            "web.rate-limit.reserved-percent", "100",
+            "web.rate-limit.route.POST./pay.critical", "true"));
+
+        // when
+        int admitted = admitAll(admission, NORMAL);
+
+        // then
+        assertThat(admitted).isEqualTo(1);
+        assertThat(admission.admit(CRITICAL, 0)).isEqualTo(Verdict.ADMITTED);
+    }
+
+    @Test
+    public void 오래_기다린_요청은_중요_경로만_받음() {
+        // given
+        RequestAdmission admission = admission(Map.of(
+            "web.load-shedding.max-queue-ms", "100",
+            "web.rate-limit.route.POST./pay.critical", "true"));
+        long queued = TimeUnit.MILLISECONDS.toNanos(500);
+
+        // when & then
+        assertThat(admission.admit(NORMAL, queued)).isEqualTo(Verdict.OVERLOADED);
+        assertThat(admission.admit(CRITICAL, queued)).isEqualTo(Verdict.ADMITTED);
+        assertThat(admission.getShed()).isEqualTo(1);
+    }
+
+    private static RequestAdmission admission(Map<String, String> properties) {
+        RequestAdmission admission = new RequestAdmission(new HashMap<>(properties)::get);
+        admission.register(NORMAL);
+        admission.register(CRITICAL);
+        return admission;
+    }
+
+    /**
+     * 거절될 때까지 수락된 요청 수 (초당 1개라 테스트 중에는 다시 차지 않음)
+     */
+    private static int admitAll(RequestAdmission admission, HandlerKey route) {
+        int admitted = 0;
+        while (admission.admit(route, 0) == Verdict.ADMITTED) {
+            admitted++;
+        }
+        return admitted;
+    }
+}
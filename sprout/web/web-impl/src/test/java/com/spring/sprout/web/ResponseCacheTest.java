@@ -0,0 +1,226 @@
+package com.spring.sprout.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.spring.sprout.global.annotation.controller.CacheResponse;
+import jakarta.servlet.http.HttpServletResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public class ResponseCacheTest {
+
+    private static final HandlerKey ROUTE = new HandlerKey("/users", RequestMethod.GET);
+
+    @CacheResponse(ttlSeconds = 60)
+    private static final class Cached {
+    }
+
+    @CacheResponse(ttlSeconds = 0)
+    private static final class Expiring {
+    }
+
+    private static final CacheResponse POLICY = Cached.class.getAnnotation(CacheResponse.class);
+    private static final CacheResponse EXPIRING = Expiring.class.getAnnotation(CacheResponse.class);
+
+    @Test
+    public void 동시_요청은_핸들러를_한_번만_실행() throws Exception {
+        // given
+        ResponseCache cache = new ResponseCache(Map.<String, String>of()::get);
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        DispatcherServlet.Handler handler = (req, resp) -> {
+            calls.incrementAndGet();
+            entered.countDown();
+            release.await();
+            resp.setContentType("application/json");
+            resp.getOutputStream().write("[1,2]".getBytes(StandardCharsets.UTF_8));
+        };
+        List<StubServlet.Response> responses = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        threads.add(start(cache, handler, responses));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 0; i < 3; i++) {
+            threads.add(start(cache, handler, responses));
+        }
+        awaitBlocked(threads.subList(1, threads.size()));
+
+        // when
+        release.countDown();
+        join(threads);
+
+        // then
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(cache.getMisses()).isEqualTo(1);
+        assertThat(cache.getCoalescedHits()).isEqualTo(3);
+        assertThat(responses).extracting(StubServlet.Response::body).containsOnly("[1,2]");
+    }
+
+    @Test
+    public void 캐시할_수_없는_결과를_기다린_요청은_동시에_핸들러를_실행() throws Exception {
+        // given
+        ResponseCache cache = new ResponseCache(Map.<String, String>of()::get);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CyclicBarrier waiters = new CyclicBarrier(2);
+        AtomicInteger calls = new AtomicInteger();
+        DispatcherServlet.Handler handler = (req, resp) -> {
+            if (calls.incrementAndGet() == 1) {
+                entered.countDown();
+                release.await();
+            } else {
+                waiters.await(5, TimeUnit.SECONDS); // 두 대기자가 동시에 실행 중이어야 통과
+            }
+            resp.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        };
+        List<StubServlet.Response> responses = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        threads.add(start(cache, handler, responses));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+        threads.add(start(cache, handler, responses));
+        threads.add(start(cache, handler, responses));
+        awaitBlocked(threads.subList(1, threads.size()));
+
+        // when
+        release.countDown();
+        join(threads);
+
+        // then
+        assertThat(calls.get()).isEqualTo(3);
+        assertThat(waiters.isBroken()).isFalse();
+        assertThat(responses).extracting(StubServlet.Response::status)
+            .containsOnly(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+    }
+
+    @Test
+    public void 캐시_불가_표시가_남아_있는_동안은_single_flight_없이_실행() throws Exception {
+        // given
+        ResponseCache cache = new ResponseCache(Map.of("web.response-cache.uncacheable-ms", "200")::get);
+        DispatcherServlet.Handler failing = (req, resp) -> resp.setStatus(HttpServletResponse.SC_BAD_GATEWAY);
+        handle(cache, failing);
+
+        // when
+        handle(cache, failing);
+        Thread.sleep(300);
+        handle(cache, failing);
+
+        // then
+        assertThat(cache.getBypassed()).isEqualTo(1);
+        assertThat(cache.getMisses()).isEqualTo(2);
+    }
+
+    @Test
+    public void 표시가_끝난_뒤_캐시에_성공하면_적중() throws Exception {
+        // given
+        ResponseCache cache = new ResponseCache(Map.of("web.response-cache.uncacheable-ms", "100")::get);
+        AtomicInteger calls = new AtomicInteger();
+        DispatcherServlet.Handler flaky = (req, resp) -> {
+            if (calls.incrementAndGet() == 1) {
+                resp.setStatus(HttpServletResponse.SC_BAD_GATEWAY);
+                return;
+            }
+            resp.getOutputStream().write("ok".getBytes(StandardCharsets.UTF_8));
+        };
+        handle(cache, flaky);
+        Thread.sleep(200);
+
+        // when
+        handle(cache, flaky);
+        StubServlet.Response hit = handle(cache, flaky);
+
+        // then
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(cache.getBypassed()).isZero();
+        assertThat(cache.getHits()).isEqualTo(1);
+        assertThat(hit.body()).isEqualTo("ok");
+    }
+
+    @Test
+    public void 만료된_항목을_조건부_요청이_갱신해도_304로_응답하고_캐시함() throws Exception {
+        // given (핸들러는 DispatcherServlet처럼 If-None-Match가 맞으면 본문 없이 304로 답함)
+        ResponseCache cache = new ResponseCache(Map.<String, String>of()::get);
+        List<String> seenConditions = new ArrayList<>();
+        DispatcherServlet.Handler versioned = (req, resp) -> {
+            String condition = req.getHeader("If-None-Match");
+            seenConditions.add(String.valueOf(condition));
+            resp.setHeader("ETag", "W/\"v1\"");
+            if ("W/\"v1\"".equals(condition)) {
+                resp.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                return;
+            }
+            resp.setContentType("application/json");
+            resp.getOutputStream().write("[1]".getBytes(StandardCharsets.UTF_8));
+        };
+        StubServlet.Response first = StubServlet.response();
+        cache.handle(ROUTE, EXPIRING, StubServlet.request("GET", "/users", Map.of()), first.servlet(), versioned);
+
+        // when (TTL 0이라 항목은 이미 만료됨)
+        StubServlet.Response polled = StubServlet.response();
+        cache.handle(ROUTE, EXPIRING, StubServlet.request("GET", "/users", Map.of("If-None-Match", "W/\"v1\"")),
+            polled.servlet(), versioned);
+        StubServlet.Response polledAgain = StubServlet.response();
+        cache.handle(ROUTE, EXPIRING, StubServlet.request("GET", "/users", Map.of("If-None-Match", "W/\"v1\"")),
+            polledAgain.servlet(), versioned);
+
+        // then
+        assertThat(seenConditions).containsExactly("null", "null", "null");
+        assertThat(first.body()).isEqualTo("[1]");
+        assertThat(polled.status()).isEqualTo(HttpServletResponse.SC_NOT_MODIFIED);
+        assertThat(polled.body()).isEmpty();
+        assertThat(polled.header("ETag")).isEqualTo("W/\"v1\"");
+        assertThat(polledAgain.status()).isEqualTo(HttpServletResponse.SC_NOT_MODIFIED);
+        assertThat(cache.getBypassed()).isZero();
+        assertThat(cache.getMisses()).isEqualTo(3);
+    }
+
+    private static StubServlet.Response handle(ResponseCache cache, DispatcherServlet.Handler handler)
+        throws Exception {
+        StubServlet.Response response = StubServlet.response();
+        cache.handle(ROUTE, POLICY, StubServlet.request("GET", "/users", Map.of()), response.servlet(), handler);
+        return response;
+    }
+
+    private static Thread start(ResponseCache cache, DispatcherServlet.Handler handler,
+        List<StubServlet.Response> responses) {
+        StubServlet.Response response = StubServlet.response();
+        synchronized (responses) {
+            responses.add(response);
+        }
+        Thread thread = new Thread(() -> {
+            try {
+                cache.handle(ROUTE, POLICY, StubServlet.request("GET", "/users", Map.of()), response.servlet(),
+                    handler);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        thread.start();
+        return thread;
+    }
+
+    /**
+     * 스레드가 모두 로드 결과를 기다리는 상태가 될 때까지 기다립니다.
+     */
+    private static void awaitBlocked(List<Thread> threads) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        for (Thread thread : threads) {
+            while (thread.getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+        }
+    }
+
+    private static void join(List<Thread> threads) throws InterruptedException {
+        for (Thread thread : threads) {
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+            assertThat(thread.isAlive()).isFalse();
+        }
+    }
+}
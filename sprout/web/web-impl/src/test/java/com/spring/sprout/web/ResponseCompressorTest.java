@@ -0,0 +1,32 @@
+package com.spring.sprout.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+public class ResponseCompressorTest {
+
+    @Test
+    public void gzip을_deflate보다_우선() {
+        assertThat(ResponseCompressor.negotiate("deflate, gzip")).isEqualTo("gzip");
+    }
+
+    @Test
+    public void q0으로_거부된_gzip은_와일드카드가_있어도_고르지_않음() {
+        assertThat(ResponseCompressor.negotiate("gzip;q=0, *")).isEqualTo("deflate");
+        assertThat(ResponseCompressor.negotiate("*, gzip;q=0")).isEqualTo("deflate");
+        assertThat(ResponseCompressor.negotiate("gzip;q=0, deflate;q=0, *")).isNull();
+    }
+
+    @Test
+    public void 와일드카드만_있으면_gzip() {
+        assertThat(ResponseCompressor.negotiate("*")).isEqualTo("gzip");
+        assertThat(ResponseCompressor.negotiate("*;q=0")).isNull();
+    }
+
+    @Test
+    public void 헤더가_없거나_모르는_인코딩만_있으면_압축하지_않음() {
+        assertThat(ResponseCompressor.negotiate(null)).isNull();
+        assertThat(ResponseCompressor.negotiate("br, identity")).isNull();
+    }
+}
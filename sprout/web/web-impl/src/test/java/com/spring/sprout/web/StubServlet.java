@@ -0,0 +1,153 @@
+package com.spring.sprout.web;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 테스트용 요청/응답. 캐시와 수락 제어가 사용하는 메서드만 구현합니다.
+ */
+final class StubServlet {
+
+    private StubServlet() {
+    }
+
+    static HttpServletRequest request(String method, String uri, Map<String, String> headers) {
+        return (HttpServletRequest) Proxy.newProxyInstance(StubServlet.class.getClassLoader(),
+            new Class[]{HttpServletRequest.class}, (p, m, a) -> switch (m.getName()) {
+                case "getMethod" -> method;
+                case "getRequestURI" -> uri;
+                case "getQueryString" -> null;
+                case "isAsyncStarted" -> false;
+                case "getHeader" -> headers.get((String) a[0]);
+                default -> throw new UnsupportedOperationException(m.getName());
+            });
+    }
+
+    static Response response() {
+        return new Response();
+    }
+
+    /**
+     * 상태, 헤더, 본문을 메모리에 기록하는 응답
+     */
+    static final class Response {
+
+        private final Map<String, String> headers = new HashMap<>();
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        private int status = HttpServletResponse.SC_OK;
+        private String contentType;
+        private boolean failWrites;
+        private PrintWriter writer;
+
+        private final ServletOutputStream outputStream = new ServletOutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                if (failWrites) {
+                    throw new IOException("Broken pipe");
+                }
+                body.write(b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                if (failWrites) {
+                    throw new IOException("Broken pipe");
+                }
+                body.write(b, off, len);
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                throw new UnsupportedOperationException();
+            }
+        };
+
+        private final HttpServletResponse servlet = (HttpServletResponse) Proxy.newProxyInstance(
+            StubServlet.class.getClassLoader(), new Class[]{HttpServletResponse.class}, (p, m, a) -> {
+                switch (m.getName()) {
+                    case "getStatus" -> {
+                        return status;
+                    }
+                    case "setStatus" -> status = (int) a[0];
+                    case "setHeader", "addHeader" -> headers.put((String) a[0], (String) a[1]);
+                    case "getHeader" -> {
+                        return headers.get((String) a[0]);
+                    }
+                    case "containsHeader" -> {
+                        return headers.containsKey((String) a[0]);
+                    }
+                    case "setContentType" -> contentType = (String) a[0];
+                    case "getContentType" -> {
+                        return contentType;
+                    }
+                    case "isCommitted" -> {
+                        return false;
+                    }
+                    case "getCharacterEncoding" -> {
+                        return StandardCharsets.UTF_8.name();
+                    }
+                    case "getOutputStream" -> {
+                        return outputStream;
+                    }
+                    case "getWriter" -> {
+                        if (writer == null) {
+                            writer = new PrintWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+                        }
+                        return writer;
+                    }
+                    case "reset" -> {
+                        status = HttpServletResponse.SC_OK;
+                        headers.clear();
+                        contentType = null;
+                        body.reset();
+                    }
+                    case "setContentLength", "setContentLengthLong", "flushBuffer" -> {
+                    }
+                    default -> throw new UnsupportedOperationException(m.getName());
+                }
+                return null;
+            });
+
+        /**
+         * 클라이언트 연결이 끊긴 것처럼 이후 본문 쓰기를 {@link IOException}으로 실패시킵니다.
+         */
+        Response failWrites() {
+            this.failWrites = true;
+            return this;
+        }
+
+        HttpServletResponse servlet() {
+            return servlet;
+        }
+
+        int status() {
+            return status;
+        }
+
+        String header(String name) {
+            return headers.get(name);
+        }
+
+        String body() {
+            if (writer != null) {
+                writer.flush();
+            }
+            return body.toString(StandardCharsets.UTF_8);
+        }
+    }
+}